@@ -0,0 +1,286 @@
+package io.sirix.benchmark;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.json.JsonIndexController;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.path.json.JsonPCRCollector;
+import org.sirix.io.StorageType;
+import org.sirix.service.json.BasicJsonDiff;
+import org.sirix.service.json.serialize.JsonSerializer;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+import org.sirix.settings.VersioningType;
+import org.sirix.xquery.json.JsonDBArray;
+import org.sirix.xquery.json.JsonDBCollection;
+import org.sirix.xquery.json.JsonDBObject;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.brackit.xquery.util.path.Path.parse;
+
+/**
+ * Benchmarks of JSON workloads: importing, serializing, navigating, index scans and diffing of
+ * generated documents, which are updated in {@link #REVISIONS} revisions, such that old revisions have
+ * to be reconstructed depending on the versioning type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx4G" })
+public class JsonBench {
+
+  /** The number of revisions of the update workload, including the initial import. */
+  static final int REVISIONS = 10;
+
+  /** The number of records updated in each revision. */
+  static final int UPDATES_PER_REVISION = 100;
+
+  private static final Path DATABASE_PATH = XMarkBench.SIRIX_DATA_LOCATION.resolve("json-bench-database");
+
+  private static final String RESOURCE = "resource";
+
+  private static final String IMPORT_RESOURCE = "import";
+
+  private static final QNm NAME = new QNm("name");
+
+  @Param({ "FILE", "FILE_CHANNEL", "IN_MEMORY" })
+  StorageType storageType;
+
+  @Param({ "FULL", "DIFFERENTIAL", "INCREMENTAL", "SLIDING_SNAPSHOT" })
+  VersioningType versioningType;
+
+  @Param({ "3" })
+  int revisionsToRestore;
+
+  @Param({ "ROLLING", "NONE" })
+  HashType hashType;
+
+  @Param({ "1000", "10000" })
+  int records;
+
+  private String corpus;
+
+  private Database<JsonResourceManager> database;
+
+  private JsonResourceManager manager;
+
+  private JsonDBCollection collection;
+
+  private IndexDef casIndexDef;
+
+  private IndexDef pathIndexDef;
+
+  @Setup(Level.Trial)
+  public void doSetup() {
+    if (Databases.existsDatabase(DATABASE_PATH))
+      Databases.removeDatabase(DATABASE_PATH);
+
+    Databases.createJsonDatabase(new DatabaseConfiguration(DATABASE_PATH));
+    database = Databases.openJsonDatabase(DATABASE_PATH);
+    database.createResource(createResourceConfiguration(RESOURCE));
+    manager = database.openResourceManager(RESOURCE);
+    collection = new JsonDBCollection("json-bench", database);
+    corpus = JsonCorpus.generate(records);
+
+    try (final var wtx = manager.beginNodeTrx()) {
+      final JsonIndexController indexController = manager.getWtxIndexController(wtx.getRevisionNumber() - 1);
+      casIndexDef = IndexDefs.createCASIdxDef(false, Type.STR, Set.of(parse("/__array__/category")), 0);
+      pathIndexDef = IndexDefs.createPathIdxDef(Set.of(parse("/__array__/price")), 1);
+      indexController.createIndexes(Set.of(casIndexDef, pathIndexDef), wtx);
+
+      new JsonShredder.Builder(wtx, JsonShredder.createStringReader(corpus), InsertPosition.AS_FIRST_CHILD)
+          .commitAfterwards()
+          .build()
+          .call();
+
+      for (int revision = 2; revision <= REVISIONS; revision++) {
+        update(wtx, revision);
+        wtx.commit();
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void doTearDown() {
+    manager.close();
+    // Closes the database.
+    collection.close();
+
+    Databases.removeDatabase(DATABASE_PATH);
+  }
+
+  private ResourceConfiguration createResourceConfiguration(final String resource) {
+    return ResourceConfiguration.newBuilder(resource)
+                                .storageType(storageType)
+                                .versioningApproach(versioningType)
+                                .revisionsToRestore(revisionsToRestore)
+                                .hashKind(hashType)
+                                .buildPathSummary(true)
+                                .build();
+  }
+
+  /**
+   * Change the prices of {@link #UPDATES_PER_REVISION} records spread over the array and insert a new
+   * record at the front.
+   */
+  private void update(final JsonNodeTrx wtx, final int revision) {
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    final long arrayNodeKey = wtx.getNodeKey();
+
+    final int stride = Math.max(1, records / UPDATES_PER_REVISION);
+    int id = 0;
+    for (boolean moved = wtx.moveToFirstChild().hasMoved(); moved; moved = wtx.moveToRightSibling().hasMoved()) {
+      if (id % stride == revision % stride) {
+        final long recordNodeKey = wtx.getNodeKey();
+        wtx.moveToFirstChild();
+        for (int i = 0; i < JsonCorpus.PRICE_FIELD; i++)
+          wtx.moveToRightSibling();
+        wtx.moveToFirstChild();
+        wtx.setNumberValue(JsonCorpus.price(id, revision));
+        wtx.moveTo(recordNodeKey);
+      }
+      id++;
+    }
+
+    wtx.moveTo(arrayNodeKey);
+    wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(JsonCorpus.generateRecord(records + revision)),
+        false);
+  }
+
+  /**
+   * Holds a fresh resource for each import.
+   */
+  @State(Scope.Thread)
+  public static class ImportState {
+    private JsonResourceManager manager;
+
+    private Database<JsonResourceManager> database;
+
+    @Setup(Level.Invocation)
+    public void doSetup(final JsonBench bench) {
+      database = bench.database;
+      database.createResource(bench.createResourceConfiguration(IMPORT_RESOURCE));
+      manager = database.openResourceManager(IMPORT_RESOURCE);
+    }
+
+    @TearDown(Level.Invocation)
+    public void doTearDown() {
+      manager.close();
+      database.removeResource(IMPORT_RESOURCE);
+    }
+  }
+
+  @Benchmark
+  public void importJson(final ImportState state) {
+    try (final var wtx = state.manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(corpus));
+    }
+  }
+
+  @Benchmark
+  public String serializeLatestRevision() {
+    return serialize(manager.getMostRecentRevisionNumber());
+  }
+
+  @Benchmark
+  public String serializeOldestRevision() {
+    return serialize(1);
+  }
+
+  private String serialize(final int revision) {
+    final var out = new StringWriter();
+    JsonSerializer.newBuilder(manager, out, revision).build().call();
+    return out.toString();
+  }
+
+  @Benchmark
+  public long traverseOldestRevision() {
+    return traverse(1);
+  }
+
+  @Benchmark
+  public long traverseMiddleRevision() {
+    return traverse(REVISIONS / 2);
+  }
+
+  private long traverse(final int revision) {
+    long nodes = 0;
+    try (final var rtx = manager.beginNodeReadOnlyTrx(revision)) {
+      for (final var axis = new DescendantAxis(rtx); axis.hasNext(); axis.next())
+        nodes++;
+    }
+    return nodes;
+  }
+
+  @Benchmark
+  public void derefObjectFields(final Blackhole blackhole) {
+    try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+      final var array = new JsonDBArray(rtx, collection);
+      for (int i = 0, length = array.len(); i < length; i++)
+        blackhole.consume(((JsonDBObject) array.at(i)).get(NAME));
+    }
+  }
+
+  @Benchmark
+  public long scanCASIndex() {
+    try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+      final JsonIndexController indexController = manager.getRtxIndexController(rtx.getRevisionNumber());
+      final var indexDef = indexController.getIndexes().getIndexDef(casIndexDef.getID(), IndexType.CAS);
+      final var index = indexController.openCASIndex(rtx.getPageTrx(), indexDef,
+          indexController.createCASFilter(Set.of("/__array__/category"), new Str("category-3"), SearchMode.EQUAL,
+              new JsonPCRCollector(rtx)));
+      long nodes = 0;
+      while (index.hasNext())
+        nodes += index.next().getNodeKeys().size();
+      return nodes;
+    }
+  }
+
+  @Benchmark
+  public long scanPathIndex() {
+    try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+      final JsonIndexController indexController = manager.getRtxIndexController(rtx.getRevisionNumber());
+      final var indexDef = indexController.getIndexes().getIndexDef(pathIndexDef.getID(), IndexType.PATH);
+      final var index = indexController.openPathIndex(rtx.getPageTrx(), indexDef,
+          indexController.createPathFilter(Set.of("/__array__/price"), rtx));
+      long nodes = 0;
+      while (index.hasNext())
+        nodes += index.next().getNodeKeys().size();
+      return nodes;
+    }
+  }
+
+  @Benchmark
+  public String diffFirstAndLastRevision() {
+    return new BasicJsonDiff().generateDiff(manager, 1, manager.getMostRecentRevisionNumber());
+  }
+}
@@ -0,0 +1,85 @@
+package io.sirix.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates JSON documents for the benchmarks: an array of records with a fixed shape, such that the
+ * same record count always results in the same document.
+ */
+final class JsonCorpus {
+
+  /** The number of distinct categories. */
+  static final int CATEGORIES = 16;
+
+  /** The position of the price field in a record (id, name, category, price, tags, address). */
+  static final int PRICE_FIELD = 3;
+
+  private JsonCorpus() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Generate an array of records.
+   *
+   * @param records the number of records
+   * @return the JSON document
+   */
+  static String generate(final int records) {
+    final var random = new Random(records);
+    final var json = new StringBuilder(records * 160).append('[');
+    for (int i = 0; i < records; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      appendRecord(json, i, random);
+    }
+    return json.append(']').toString();
+  }
+
+  /**
+   * Generate a single record.
+   *
+   * @param id the ID of the record
+   * @return the JSON object
+   */
+  static String generateRecord(final int id) {
+    final var json = new StringBuilder(160);
+    appendRecord(json, id, new Random(id));
+    return json.toString();
+  }
+
+  /**
+   * Get the price of a record in a revision of the update workload.
+   *
+   * @param id       the ID of the record
+   * @param revision the revision
+   * @return the price
+   */
+  static double price(final int id, final int revision) {
+    return ((id * 31 + revision * 17) % 10_000) / 100.0;
+  }
+
+  private static void appendRecord(final StringBuilder json, final int id, final Random random) {
+    json.append("{\"id\":")
+        .append(id)
+        .append(",\"name\":\"name-")
+        .append(id)
+        .append("\",\"category\":\"category-")
+        .append(id % CATEGORIES)
+        .append("\",\"price\":")
+        .append(String.format(Locale.ROOT, "%.2f", price(id, 1)))
+        .append(",\"tags\":[");
+    final int tags = 1 + random.nextInt(4);
+    for (int i = 0; i < tags; i++) {
+      json.append(i == 0 ? "" : ",").append("\"tag-").append(random.nextInt(64)).append('"');
+    }
+    json.append("],\"address\":{\"street\":\"street-")
+        .append(random.nextInt(1_000))
+        .append("\",\"zip\":")
+        .append(10_000 + random.nextInt(90_000))
+        .append(",\"active\":")
+        .append(random.nextBoolean())
+        .append("}}");
+  }
+}
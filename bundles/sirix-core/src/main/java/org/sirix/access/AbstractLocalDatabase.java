@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -114,10 +115,13 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
 
       // Serialization of the config.
       resourceID.set(dbConfig.getMaxResourceID());
-      ResourceConfiguration.serialize(resConfig.setID(resourceID.getAndIncrement()));
+      ResourceConfiguration.serialize(resConfig.setID(resourceID.getAndIncrement()).setUUID(UUID.randomUUID()));
       dbConfig.setMaximumResourceID(resourceID.get());
       resourceIDsToResourceNames.forcePut(resourceID.get(), resConfig.getResource().getFileName().toString());
 
+      // Make sure no pages of a previously removed resource with the same name are still cached.
+      Databases.getGlobalBufferManager().removeResource(resConfig.getResource());
+
       returnVal = bootstrapResource(resConfig);
     }
 
@@ -162,7 +166,11 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
 
       // mReadSemaphores.remove(resourceFile);
       // mWriteSemaphores.remove(resourceFile);
-      bufferManagers.remove(resourceFile);
+      final BufferManager bufferManager = bufferManagers.remove(resourceFile);
+      if (bufferManager != null) {
+        bufferManager.close();
+      }
+      Databases.getGlobalBufferManager().removeResource(resourceFile);
     }
 
     return this;
@@ -8,6 +8,7 @@ import org.sirix.api.NodeTrx;
 import org.sirix.api.ResourceManager;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.cache.GlobalBufferManager;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.utils.SirixFiles;
@@ -42,6 +43,35 @@ public final class Databases {
   /** Central repository of all resource {@code <=>} write semaphore mappings. */
   static final ConcurrentMap<Path, Lock> RESOURCE_WRITE_SEMAPHORES = new ConcurrentHashMap<>();
 
+  /** The buffer manager, which caches the pages of all resources under one memory budget. */
+  private static volatile GlobalBufferManager globalBufferManager =
+      new GlobalBufferManager(GlobalBufferManager.DEFAULT_MAX_WEIGHT);
+
+  /**
+   * Get the buffer manager, which caches the pages of all resources.
+   *
+   * @return the global buffer manager
+   */
+  public static GlobalBufferManager getGlobalBufferManager() {
+    return globalBufferManager;
+  }
+
+  /**
+   * Set the memory budget of the buffer manager, which caches the pages of all resources. Must be
+   * called before any resource is opened, as resource managers keep the buffer manager they have been
+   * created with.
+   *
+   * @param maxWeight the memory budget in bytes
+   * @throws IllegalStateException if resource managers are still opened
+   */
+  public static synchronized void initializeGlobalBufferManager(final long maxWeight) {
+    if (RESOURCE_MANAGERS.values().stream().anyMatch(resourceManagers -> !resourceManagers.isEmpty())) {
+      throw new IllegalStateException("Opened resource managers found, must be closed first.");
+    }
+    globalBufferManager.clear();
+    globalBufferManager = new GlobalBufferManager(maxWeight);
+  }
+
   /**
    * Get the database type
    *
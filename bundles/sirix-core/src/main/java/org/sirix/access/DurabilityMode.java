@@ -0,0 +1,37 @@
+package org.sirix.access;
+
+import org.sirix.io.Writer;
+
+/**
+ * Determines if and how the pages written by a commit are forced to the storage device, before the
+ * commit returns.
+ */
+public enum DurabilityMode {
+  /**
+   * The pages are not forced, the operating system decides when to write them. A crash of the machine
+   * might lose the most recent commits, but never corrupts older revisions.
+   */
+  NO_SYNC {
+    @Override
+    public void force(final Writer writer) {
+    }
+  },
+
+  /**
+   * The pages are forced by every commit on its own.
+   */
+  SYNC {
+    @Override
+    public void force(final Writer writer) {
+      writer.force();
+    }
+  };
+
+  /**
+   * Force everything written by the writer to the storage device, as determined by this mode.
+   *
+   * @param writer the writer of the committing resource
+   * @throws org.sirix.exception.SirixIOException if the writer couldn't be forced
+   */
+  public abstract void force(Writer writer);
+}
@@ -27,7 +27,6 @@ import org.sirix.api.Database;
 import org.sirix.api.ResourceManager;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
-import org.sirix.cache.BufferManagerImpl;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.utils.LogWrapper;
@@ -73,6 +72,12 @@ public final class LocalJsonDatabase extends AbstractLocalDatabase<JsonResourceM
     resourceStore.close();
     transactionManager.close();
 
+    // Remove the cached pages of the resources from the global buffer manager.
+    bufferManagers.forEach((resourceFile, bufferManager) -> {
+      bufferManager.close();
+      Databases.getGlobalBufferManager().removeResource(resourceFile);
+    });
+
     // Remove from database mapping.
     Databases.removeDatabase(dbConfig.getFile(), this);
 
@@ -104,7 +109,7 @@ public final class LocalJsonDatabase extends AbstractLocalDatabase<JsonResourceM
     resourceIDsToResourceNames.forcePut(resourceConfig.getID(), resourceConfig.getResource().getFileName().toString());
 
     if (!bufferManagers.containsKey(resourceFile))
-      bufferManagers.put(resourceFile, new BufferManagerImpl());
+      bufferManagers.put(resourceFile, Databases.getGlobalBufferManager().getResourceBufferManager(resourceFile));
 
     return resourceStore.openResource(this, resourceConfig, bufferManagers.get(resourceFile), resourceFile);
   }
@@ -26,7 +26,9 @@ import com.google.common.hash.Hashing;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.cache.TransactionIntentLog;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -48,6 +50,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -192,6 +195,13 @@ public final class ResourceConfiguration {
   /** Unique ID. */
   private long id;
 
+  /**
+   * Universally unique ID, which is created whenever the resource is created, such that a resource
+   * is distinguished from a removed resource with the same path and ID (the nil UUID for resources
+   * created by older versions).
+   */
+  private UUID uuid = new UUID(0, 0);
+
   /** Determines if dewey IDs are generated and stored or not. */
   public final boolean areDeweyIDsStored;
 
@@ -204,6 +214,24 @@ public final class ResourceConfiguration {
   /** Determines whether resource child count should be tracked */
   private boolean storeChildCount;
 
+  /** Determines if the records of a page are deserialized once they are requested for the first time. */
+  public final boolean lazyRecordDeserialization;
+
+  /** Determines if and how commits are forced to the storage device. */
+  public final DurabilityMode durabilityMode;
+
+  /** The maximum estimated size in bytes of the page containers of the transaction intent log on the heap. */
+  public final long intentLogHeapCapacity;
+
+  /** The maximum size in bytes of the serialized page containers of the transaction intent log off the heap. */
+  public final long intentLogOffHeapCapacity;
+
+  /** The checksum algorithm used to detect corrupt pages. */
+  public final ChecksumType checksumType;
+
+  /** Determines if the checksums of pages are verified, whenever the pages are read. */
+  public final boolean verifyChecksumsOnRead;
+
   // END MEMBERS FOR FIXED FIELDS
 
   /**
@@ -235,6 +263,12 @@ public final class ResourceConfiguration {
     resourceName = builder.resource;
     nodeHashFunction = builder.hashFunction;
     storeChildCount = builder.storeChildCount;
+    lazyRecordDeserialization = builder.lazyRecordDeserialization;
+    durabilityMode = builder.durabilityMode;
+    intentLogHeapCapacity = builder.intentLogHeapCapacity;
+    intentLogOffHeapCapacity = builder.intentLogOffHeapCapacity;
+    checksumType = builder.checksumType;
+    verifyChecksumsOnRead = builder.verifyChecksumsOnRead;
   }
 
   ResourceConfiguration setDatabaseConfiguration(final DatabaseConfiguration config) {
@@ -265,6 +299,26 @@ public final class ResourceConfiguration {
     return id;
   }
 
+  /**
+   * Set the universally unique ID.
+   *
+   * @param uuid the UUID to set
+   * @return this instance
+   */
+  public ResourceConfiguration setUUID(final UUID uuid) {
+    this.uuid = checkNotNull(uuid);
+    return this;
+  }
+
+  /**
+   * Get the universally unique ID, which differs for each creation of a resource.
+   *
+   * @return the universally unique resource ID
+   */
+  public UUID getUUID() {
+    return uuid;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(storageType, revisioningType, hashType, resourcePath, databaseConfig);
@@ -300,6 +354,15 @@ public final class ResourceConfiguration {
     return resourcePath;
   }
 
+  /**
+   * Get the configuration of the database, the resource belongs to.
+   *
+   * @return the database configuration
+   */
+  public DatabaseConfiguration getDatabaseConfig() {
+    return databaseConfig;
+  }
+
   /**
    * Get the resource name.
    *
@@ -336,7 +399,9 @@ public final class ResourceConfiguration {
    */
   private static final String[] JSONNAMES =
       {"revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses", "storageKind", "hashKind",
-          "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter"};
+          "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter",
+          "lazyRecordDeserialization", "durabilityMode", "intentLogHeapCapacity",
+          "intentLogOffHeapCapacity", "checksumType", "verifyChecksumsOnRead", "uuid"};
 
   /**
    * Serialize the configuration.
@@ -378,6 +443,18 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[10]).value(config.areDeweyIDsStored);
       // Persistenter.
       jsonWriter.name(JSONNAMES[11]).value(config.recordPersister.getClass().getName());
+      // Lazy record deserialization.
+      jsonWriter.name(JSONNAMES[12]).value(config.lazyRecordDeserialization);
+      // Durability mode.
+      jsonWriter.name(JSONNAMES[13]).value(config.durabilityMode.name());
+      // Transaction intent log capacities.
+      jsonWriter.name(JSONNAMES[14]).value(config.intentLogHeapCapacity);
+      jsonWriter.name(JSONNAMES[15]).value(config.intentLogOffHeapCapacity);
+      // Page checksums.
+      jsonWriter.name(JSONNAMES[16]).value(config.checksumType.name());
+      jsonWriter.name(JSONNAMES[17]).value(config.verifyChecksumsOnRead);
+      // UUID.
+      jsonWriter.name(JSONNAMES[18]).value(config.uuid.toString());
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -441,6 +518,10 @@ public final class ResourceConfiguration {
       final HashFunction hashFunction;
       switch (jsonReader.nextString()) {
         case "Hashing.sha256()":
+          hashFunction = Hashing.sha256();
+          break;
+        case "Hashing.murmur3_128(0)":
+          hashFunction = Hashing.murmur3_128();
           break;
         default:
           throw new IllegalStateException("Hashing function not supported.");
@@ -465,6 +546,49 @@ public final class ResourceConfiguration {
       final Class<?> persistenterClazz = Class.forName(jsonReader.nextString());
       final Constructor<?> persistenterConstr = persistenterClazz.getConstructors()[0];
       final RecordPersister persistenter = (RecordPersister) persistenterConstr.newInstance();
+      // Lazy record deserialization (not stored by older versions).
+      boolean lazyRecordDeserialization = false;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[12]);
+        lazyRecordDeserialization = jsonReader.nextBoolean();
+      }
+      // Durability mode (not stored by older versions).
+      DurabilityMode durabilityMode = DurabilityMode.NO_SYNC;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[13]);
+        durabilityMode = DurabilityMode.valueOf(jsonReader.nextString());
+      }
+      // Transaction intent log capacities (not stored by older versions).
+      long intentLogHeapCapacity = TransactionIntentLog.DEFAULT_MAX_HEAP_WEIGHT;
+      long intentLogOffHeapCapacity = TransactionIntentLog.DEFAULT_MAX_OFF_HEAP_WEIGHT;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[14]);
+        intentLogHeapCapacity = jsonReader.nextLong();
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[15]);
+        intentLogOffHeapCapacity = jsonReader.nextLong();
+      }
+      // Page checksums (not stored by older versions, which always hashed pages with SHA-256).
+      ChecksumType checksumType = ChecksumType.SHA256;
+      boolean verifyChecksumsOnRead = false;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[16]);
+        checksumType = ChecksumType.valueOf(jsonReader.nextString());
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[17]);
+        verifyChecksumsOnRead = jsonReader.nextBoolean();
+      }
+      // UUID (not stored by older versions).
+      UUID uuid = new UUID(0, 0);
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[18]);
+        uuid = UUID.fromString(jsonReader.nextString());
+      }
       jsonReader.endObject();
       jsonReader.close();
       fileReader.close();
@@ -476,18 +600,24 @@ public final class ResourceConfiguration {
       final ResourceConfiguration.Builder builder = ResourceConfiguration.newBuilder(file.getFileName().toString());
       builder.byteHandlerPipeline(pipeline)
              .hashKind(hashing)
+             .hashFunction(hashFunction)
              .versioningApproach(revisioning)
              .revisionsToRestore(revisionToRestore)
              .storageType(storage)
              .persistenter(persistenter)
              .useTextCompression(compression)
              .buildPathSummary(pathSummary)
-             .useDeweyIDs(deweyIDsStored);
+             .useDeweyIDs(deweyIDsStored)
+             .lazyRecordDeserialization(lazyRecordDeserialization)
+             .durabilityMode(durabilityMode)
+             .intentLogCapacity(intentLogHeapCapacity, intentLogOffHeapCapacity)
+             .checksumType(checksumType)
+             .verifyChecksumsOnRead(verifyChecksumsOnRead);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
       config.setDatabaseConfiguration(dbConfig);
-      return config.setID(ID);
+      return config.setID(ID).setUUID(uuid);
     } catch (IOException | ClassNotFoundException | IllegalArgumentException | InstantiationException
         | IllegalAccessException | InvocationTargetException e) {
       throw new SirixIOException(e);
@@ -535,6 +665,24 @@ public final class ResourceConfiguration {
     /** Determines whether child count should be tracked or not. */
     private boolean storeChildCount;
 
+    /** Determines if the records of a page are deserialized lazily. */
+    private boolean lazyRecordDeserialization;
+
+    /** Determines if and how commits are forced to the storage device. */
+    private DurabilityMode durabilityMode = DurabilityMode.NO_SYNC;
+
+    /** The maximum estimated size in bytes of the transaction intent log on the heap. */
+    private long intentLogHeapCapacity = TransactionIntentLog.DEFAULT_MAX_HEAP_WEIGHT;
+
+    /** The maximum size in bytes of the transaction intent log off the heap. */
+    private long intentLogOffHeapCapacity = TransactionIntentLog.DEFAULT_MAX_OFF_HEAP_WEIGHT;
+
+    /** The checksum algorithm used to detect corrupt pages. */
+    private ChecksumType checksumType = ChecksumType.CRC32C;
+
+    /** Determines if the checksums of pages are verified on read. */
+    private boolean verifyChecksumsOnRead;
+
     /**
      * Constructor, setting the mandatory fields.
      *
@@ -573,16 +721,22 @@ public final class ResourceConfiguration {
       return this;
     }
 
-//    /**
-//     * Set the hash function.
-//     *
-//     * @param hashFunction the hash function
-//     * @return reference to the builder object
-//     */
-//    public Builder hashFunction(final HashFunction hashFunction) {
-//      mHashFunction = checkNotNull(hashFunction);
-//      return this;
-//    }
+    /**
+     * Set the hash function used for hashing nodes. Supported are {@code Hashing.sha256()} (the
+     * default) and the considerably faster, non-cryptographic {@code Hashing.murmur3_128()}.
+     *
+     * @param hashFunction the hash function
+     * @return reference to the builder object
+     * @throws IllegalArgumentException if the hash function isn't supported
+     */
+    public Builder hashFunction(final HashFunction hashFunction) {
+      checkNotNull(hashFunction);
+      checkArgument(hashFunction.toString().equals(Hashing.sha256().toString())
+          || hashFunction.toString().equals(Hashing.murmur3_128().toString()), "Hash function not supported: %s",
+          hashFunction);
+      this.hashFunction = hashFunction;
+      return this;
+    }
 
     /**
      * Set the versioning algorithm to use.
@@ -666,6 +820,74 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Determines if the records of a page should be deserialized once they are requested for the
+     * first time instead of deserializing all records, when the page is read. The fragments of a page
+     * are merged without deserializing their records, thus it works with each versioning type.
+     *
+     * @param lazyRecordDeserialization deserialize records lazily or not (default: no)
+     * @return reference to the builder object
+     */
+    public Builder lazyRecordDeserialization(final boolean lazyRecordDeserialization) {
+      this.lazyRecordDeserialization = lazyRecordDeserialization;
+      return this;
+    }
+
+    /**
+     * Determines if and how the pages written by a commit are forced to the storage device, before the
+     * commit returns.
+     *
+     * @param durabilityMode the durability mode (default: {@link DurabilityMode#NO_SYNC})
+     * @return reference to the builder object
+     */
+    public Builder durabilityMode(final DurabilityMode durabilityMode) {
+      this.durabilityMode = checkNotNull(durabilityMode);
+      return this;
+    }
+
+    /**
+     * Set the capacities of the transaction intent log, which holds the pages modified by a write
+     * transaction until they are committed. Once the estimated size of the pages on the heap exceeds
+     * the heap capacity, the eldest pages are serialized into direct buffers. Once these exceed the
+     * off-heap capacity, the eldest serialized pages are spilled to a file.
+     *
+     * @param heapCapacity    the maximum estimated size in bytes of the pages on the heap
+     * @param offHeapCapacity the maximum size in bytes of the serialized pages off the heap, {@code 0}
+     *                        to spill pages to the file directly
+     * @return reference to the builder object
+     */
+    public Builder intentLogCapacity(final @Nonnegative long heapCapacity, final @Nonnegative long offHeapCapacity) {
+      checkArgument(heapCapacity >= 0, "heapCapacity must be >= 0!");
+      checkArgument(offHeapCapacity >= 0, "offHeapCapacity must be >= 0!");
+      intentLogHeapCapacity = heapCapacity;
+      intentLogOffHeapCapacity = offHeapCapacity;
+      return this;
+    }
+
+    /**
+     * Set the checksum algorithm, with which the written pages are checksummed. The checksum of a page
+     * is stored in the reference to the page.
+     *
+     * @param checksumType the checksum algorithm (default: {@link ChecksumType#CRC32C})
+     * @return reference to the builder object
+     */
+    public Builder checksumType(final ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType);
+      return this;
+    }
+
+    /**
+     * Determines if the checksums of pages are verified, whenever pages are read from the storage,
+     * such that reading a corrupt page fails instead of returning garbage.
+     *
+     * @param verifyChecksumsOnRead {@code true}, if checksums should be verified (default: {@code false})
+     * @return reference to the builder object
+     */
+    public Builder verifyChecksumsOnRead(final boolean verifyChecksumsOnRead) {
+      this.verifyChecksumsOnRead = verifyChecksumsOnRead;
+      return this;
+    }
+
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
@@ -675,6 +897,12 @@ public final class ResourceConfiguration {
                         .add("HashFunction", hashFunction)
                         .add("PathSummary", pathSummary)
                         .add("TextCompression", useTextCompression)
+                        .add("LazyRecordDeserialization", lazyRecordDeserialization)
+                        .add("DurabilityMode", durabilityMode)
+                        .add("IntentLogHeapCapacity", intentLogHeapCapacity)
+                        .add("IntentLogOffHeapCapacity", intentLogOffHeapCapacity)
+                        .add("ChecksumType", checksumType)
+                        .add("VerifyChecksumsOnRead", verifyChecksumsOnRead)
                         .toString();
     }
 
@@ -58,7 +58,7 @@ public final class JsonResourceStore extends AbstractResourceStore<JsonResourceM
 
       // Create the resource manager instance.
       final JsonResourceManager resourceManager = new JsonResourceManagerImpl(database, this, resourceConfig,
-          bufferManager, StorageType.getStorage(resourceConfig), uberPage, writeLock, user);
+          bufferManager, storage, uberPage, writeLock, user);
 
       // Put it in the databases cache.
       DatabasesInternals.putResourceManager(resourceFile, resourceManager);
@@ -3,6 +3,7 @@ package org.sirix.access.trx.node;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.Node;
@@ -13,14 +14,20 @@ import org.sirix.page.PageKind;
 import org.sirix.page.UnorderedKeyValuePage;
 
 import javax.annotation.Nonnegative;
-import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public abstract class AbstractNodeHashing {
 
   /**
    * Prime for computing the hash.
    */
-  private static final BigInteger PRIME = BigInteger.valueOf(77081);
+  private static final long PRIME = 77081;
 
   /**
    * The hash type.
@@ -42,6 +49,19 @@ public abstract class AbstractNodeHashing {
    */
   private boolean bulkInsert;
 
+  /**
+   * {@code true} if the rolling hashes and descendant counts are computed once per touched node on
+   * demand instead of with each modification, {@code false} otherwise
+   */
+  private boolean deferredHashing;
+
+  /**
+   * The pending changes of the hashes and descendant counts by node key (only if hashing is
+   * deferred). The keys are closed under ancestors, that is for each key the keys of all ancestors
+   * are included, too.
+   */
+  private final Map<Long, PendingChange> dirtyNodes;
+
   /**
    * Constructor.
    *
@@ -53,6 +73,7 @@ public abstract class AbstractNodeHashing {
     this.hashType = hashType;
     this.nodeReadOnlyTrx = nodeReadOnlyTrx;
     this.pageWriteTrx = pageWriteTrx;
+    this.dirtyNodes = new HashMap<>();
   }
 
   public AbstractNodeHashing setBulkInsert(boolean value) {
@@ -60,13 +81,37 @@ public abstract class AbstractNodeHashing {
     return this;
   }
 
+  /**
+   * Determines if rolling hashes and descendant counts are adapted with each modification (the
+   * default) or if only the modified nodes and their ancestors are recorded and the hashes and
+   * descendant counts are computed once per recorded node in {@link #adaptDeferredHashes()}. Has no
+   * effect for other hash types than {@link HashType#ROLLING}.
+   *
+   * @param value {@code true} to defer hashing, {@code false} otherwise
+   * @return this instance
+   */
+  public AbstractNodeHashing setDeferredHashing(boolean value) {
+    this.deferredHashing = value;
+    return this;
+  }
+
+  public boolean isDeferredHashing() {
+    return deferredHashing;
+  }
+
+  private boolean isDeferred() {
+    return deferredHashing && hashType == HashType.ROLLING;
+  }
+
   /**
    * Adapting the structure with a hash for all ancestors only with insert.
    *
    * @throws SirixIOException if an I/O error occurs
    */
   public void adaptHashesWithAdd() {
-    if (!bulkInsert) {
+    if (!bulkInsert && isDeferred()) {
+      deferredAdd();
+    } else if (!bulkInsert) {
       switch (hashType) {
         case ROLLING:
           rollingAdd();
@@ -86,7 +131,9 @@ public abstract class AbstractNodeHashing {
    * @throws SirixIOException if an I/O error occurs
    */
   public void adaptHashesWithRemove() {
-    if (!bulkInsert) {
+    if (!bulkInsert && isDeferred()) {
+      deferredRemove();
+    } else if (!bulkInsert) {
       switch (hashType) {
         case ROLLING:
           rollingRemove();
@@ -106,8 +153,10 @@ public abstract class AbstractNodeHashing {
    * @param oldHash pOldHash to be removed
    * @throws SirixIOException if an I/O error occurs
    */
-  public void adaptHashedWithUpdate(final BigInteger oldHash) {
-    if (!bulkInsert) {
+  public void adaptHashedWithUpdate(final Hash128 oldHash) {
+    if (!bulkInsert && isDeferred()) {
+      deferredUpdate(oldHash);
+    } else if (!bulkInsert) {
       switch (hashType) {
         case ROLLING:
           rollingUpdate(oldHash);
@@ -140,7 +189,7 @@ public abstract class AbstractNodeHashing {
     // start with hash to add
     final ImmutableNode startNode = getCurrentNode();
     // long for adapting the hash of the parent
-    BigInteger hashCodeForParent = BigInteger.ZERO;
+    Hash128 hashCodeForParent = Hash128.ZERO;
     // adapting the parent if the current node is no structural one.
     if (!(startNode instanceof StructNode)) {
       final Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
@@ -182,12 +231,219 @@ public abstract class AbstractNodeHashing {
 
       // setting hash and resetting hash
       cursorToRoot.setHash(hashCodeForParent);
-      hashCodeForParent = BigInteger.ZERO;
+      hashCodeForParent = Hash128.ZERO;
     } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()).hasMoved());
 
     setCurrentNode(startNode);
   }
 
+  /**
+   * The changes of the hash and the descendant count of a node, which have been recorded while
+   * hashing is deferred, but haven't been applied, yet.
+   */
+  private static final class PendingChange {
+    /** The change of the hash. */
+    private Hash128 hash = Hash128.ZERO;
+
+    /** The change of the descendant count. */
+    private long descendantCount;
+
+    /**
+     * {@code true}, if the node has been inserted, such that the hash of its parent doesn't include
+     * the hash of the node at all, {@code false} otherwise.
+     */
+    private boolean inserted;
+
+    private boolean isEmpty() {
+      return hash.isZero() && descendantCount == 0 && !inserted;
+    }
+  }
+
+  /**
+   * Record an insert of the current node like {@link #rollingAdd()} does, but only set the hash of
+   * the node itself. The hashes and descendant counts of the ancestors are adapted in
+   * {@link #adaptDeferredHashes()}.
+   */
+  private void deferredAdd() {
+    final ImmutableNode startNode = getCurrentNode();
+    final Node node = (Node) pageWriteTrx.prepareEntryForModification(startNode.getNodeKey(),
+        PageKind.RECORDPAGE, -1);
+    if (node.getHash() == null || node.getHash().isZero()) {
+      // The hash of the node at the time of insertion is kept, as with immediate rolling hashing.
+      node.setHash(startNode.computeHash());
+    }
+    addDirtyNodes(startNode.getNodeKey()).inserted = true;
+  }
+
+  /**
+   * Record a removal of the current node like {@link #rollingRemove()} does, but only reset the hash
+   * of the node itself. The hashes and descendant counts of the ancestors are adapted in
+   * {@link #adaptDeferredHashes()}.
+   */
+  private void deferredRemove() {
+    final ImmutableNode startNode = getCurrentNode();
+    if (dirtyNodes.containsKey(startNode.getNodeKey())) {
+      // Apply the pending changes of the subtree first, such that the hash to subtract is the one the
+      // parent includes.
+      adaptDeferredHashes();
+    }
+
+    final Node node = (Node) pageWriteTrx.prepareEntryForModification(startNode.getNodeKey(),
+        PageKind.RECORDPAGE, -1);
+    final Hash128 hashToRemove = node.getHash() == null ? Hash128.ZERO : node.getHash();
+    node.setHash(Hash128.ZERO);
+
+    if (startNode.hasParent()) {
+      final PendingChange parentChange = addDirtyNodes(startNode.getParentKey());
+      parentChange.hash = parentChange.hash.subtract(hashToRemove.multiply(PRIME));
+      if (node instanceof StructNode) {
+        parentChange.descendantCount -= ((StructNode) node).getDescendantCount() + 1;
+      }
+    }
+    setCurrentNode(startNode);
+  }
+
+  /**
+   * Record an update of the current node like {@link #rollingUpdate(Hash128)} does. The hashes of
+   * the node and its ancestors are adapted in {@link #adaptDeferredHashes()}.
+   *
+   * @param oldHash the hash to be removed
+   */
+  private void deferredUpdate(final Hash128 oldHash) {
+    final ImmutableNode startNode = getCurrentNode();
+    final PendingChange change = addDirtyNodes(startNode.getNodeKey());
+    change.hash = change.hash.subtract(oldHash).add(startNode.computeHash());
+  }
+
+  /**
+   * Record a node and all its ancestors, whose hashes and descendant counts have to be adapted.
+   *
+   * @param nodeKey the key of the node
+   * @return the pending change of the node
+   */
+  private PendingChange addDirtyNodes(final long nodeKey) {
+    final PendingChange change = dirtyNodes.computeIfAbsent(nodeKey, unused -> new PendingChange());
+    final ImmutableNode startNode = getCurrentNode();
+    if (nodeReadOnlyTrx.moveTo(nodeKey).hasMoved()) {
+      while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved()) {
+        if (dirtyNodes.putIfAbsent(getCurrentNode().getNodeKey(), new PendingChange()) != null) {
+          // The ancestors have already been recorded.
+          break;
+        }
+      }
+    }
+    setCurrentNode(startNode);
+    return change;
+  }
+
+  /**
+   * Apply the changes of the hashes and descendant counts, which have been recorded since deferred
+   * hashing has been enabled or since the last call. Each node is modified once, bottom up, such
+   * that the costs depend on the number of touched nodes instead of the number of modifications
+   * times the depth of the modified nodes. The changes are the same as the ones of immediate rolling
+   * hashing, such that the resulting hashes don't depend on whether hashing has been deferred or not.
+   */
+  public void adaptDeferredHashes() {
+    if (dirtyNodes.isEmpty()) {
+      return;
+    }
+
+    final ImmutableNode startNode = getCurrentNode();
+    final Map<Long, Integer> levels = new HashMap<>();
+    for (final long nodeKey : dirtyNodes.keySet()) {
+      // Removed nodes are skipped.
+      if (nodeReadOnlyTrx.moveTo(nodeKey).hasMoved()) {
+        computeLevel(levels);
+      }
+    }
+
+    // Children first.
+    final List<Long> nodeKeys = levels.keySet()
+                                      .stream()
+                                      .sorted(Comparator.comparing(levels::get, Comparator.reverseOrder()))
+                                      .collect(Collectors.toList());
+
+    for (final long nodeKey : nodeKeys) {
+      final PendingChange change = dirtyNodes.get(nodeKey);
+      if (!change.isEmpty()) {
+        applyPendingChange(nodeKey, change);
+      }
+    }
+
+    dirtyNodes.clear();
+    setCurrentNode(startNode);
+  }
+
+  /**
+   * Discard all recorded changes without applying them.
+   */
+  public void clearDeferredHashes() {
+    dirtyNodes.clear();
+  }
+
+  /**
+   * Compute the level of the current node and of its ancestors, whose levels haven't been computed so
+   * far.
+   *
+   * @param levels the levels computed so far
+   */
+  private void computeLevel(final Map<Long, Integer> levels) {
+    final Deque<Long> path = new ArrayDeque<>();
+    int level = 0;
+    do {
+      final Integer knownLevel = levels.get(getCurrentNode().getNodeKey());
+      if (knownLevel != null) {
+        level = knownLevel + 1;
+        break;
+      }
+      path.push(getCurrentNode().getNodeKey());
+    } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
+
+    while (!path.isEmpty()) {
+      final long nodeKey = path.pop();
+      if (dirtyNodes.containsKey(nodeKey)) {
+        levels.put(nodeKey, level);
+      }
+      level++;
+    }
+  }
+
+  /**
+   * Apply the pending change of a node and propagate it to the pending change of its parent, which
+   * is applied afterwards.
+   *
+   * @param nodeKey the key of the node
+   * @param change the pending change of the node
+   */
+  private void applyPendingChange(final long nodeKey, final PendingChange change) {
+    final Node node = (Node) pageWriteTrx.prepareEntryForModification(nodeKey, PageKind.RECORDPAGE, -1);
+    final Hash128 oldHash = node.getHash() == null ? Hash128.ZERO : node.getHash();
+    final Hash128 newHash = oldHash.add(change.hash);
+    node.setHash(newHash);
+
+    long newDescendantCount = 0;
+    if (node instanceof StructNode) {
+      final StructNode structNode = (StructNode) node;
+      newDescendantCount = structNode.getDescendantCount() + change.descendantCount;
+      structNode.setDescendantCount(newDescendantCount);
+    }
+
+    if (node.hasParent()) {
+      final PendingChange parentChange = dirtyNodes.get(node.getParentKey());
+      assert parentChange != null : "The recorded keys must be closed under ancestors.";
+      if (change.inserted) {
+        // The parent doesn't include the node so far.
+        parentChange.hash = parentChange.hash.add(newHash.multiply(PRIME));
+        if (node instanceof StructNode) {
+          parentChange.descendantCount += newDescendantCount + 1;
+        }
+      } else {
+        parentChange.hash = parentChange.hash.add(change.hash.multiply(PRIME));
+        parentChange.descendantCount += change.descendantCount;
+      }
+    }
+  }
+
   protected abstract StructNode getStructuralNode();
 
   protected abstract ImmutableNode getCurrentNode();
@@ -200,21 +456,21 @@ public abstract class AbstractNodeHashing {
    * @param oldHash pOldHash to be removed
    * @throws SirixIOException if anything weird happened
    */
-  private void rollingUpdate(final BigInteger oldHash) {
+  private void rollingUpdate(final Hash128 oldHash) {
     final ImmutableNode newNode = getCurrentNode();
-    final BigInteger hash = newNode.computeHash();
-    BigInteger resultNew;
+    final Hash128 hash = newNode.computeHash();
+    Hash128 resultNew;
 
     // go the path to the root
     do {
       final Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
           PageKind.RECORDPAGE, -1);
       if (node.getNodeKey() == newNode.getNodeKey()) {
-        resultNew = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(oldHash));
-        resultNew = Node.to128BitsAtMaximumBigInteger(resultNew.add(hash));
+        resultNew = node.getHash().subtract(oldHash);
+        resultNew = resultNew.add(hash);
       } else {
-        resultNew = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(oldHash.multiply(PRIME)));
-        resultNew = Node.to128BitsAtMaximumBigInteger(resultNew.add(hash.multiply(PRIME)));
+        resultNew = node.getHash().subtract(oldHash.multiply(PRIME));
+        resultNew = resultNew.add(hash.multiply(PRIME));
       }
       node.setHash(resultNew);
     } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
@@ -227,25 +483,25 @@ public abstract class AbstractNodeHashing {
    */
   private void rollingRemove() {
     final ImmutableNode startNode = getCurrentNode();
-    BigInteger hashToRemove = startNode.getHash();
-    BigInteger hashToAdd = BigInteger.ZERO;
-    BigInteger newHash;
+    Hash128 hashToRemove = startNode.getHash();
+    Hash128 hashToAdd = Hash128.ZERO;
+    Hash128 newHash;
     // go the path to the root
     do {
       final Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
           PageKind.RECORDPAGE, -1);
       if (node.getNodeKey() == startNode.getNodeKey()) {
         // the begin node is always null
-        newHash = BigInteger.ZERO;
+        newHash = Hash128.ZERO;
       } else if (node.getNodeKey() == startNode.getParentKey()) {
         // the parent node is just removed
-        newHash = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(hashToRemove.multiply(PRIME)));
-        hashToRemove = Node.to128BitsAtMaximumBigInteger(node.getHash());
+        newHash = node.getHash().subtract(hashToRemove.multiply(PRIME));
+        hashToRemove = node.getHash();
         setRemoveDescendants(startNode);
       } else {
         // the ancestors are all touched regarding the modification
-        newHash = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(hashToRemove.multiply(PRIME)));
-        newHash = Node.to128BitsAtMaximumBigInteger(newHash.add(hashToAdd.multiply(PRIME)));
+        newHash = node.getHash().subtract(hashToRemove.multiply(PRIME));
+        newHash = newHash.add(hashToAdd.multiply(PRIME));
         hashToRemove = node.getHash();
         setRemoveDescendants(startNode);
       }
@@ -279,11 +535,11 @@ public abstract class AbstractNodeHashing {
     final ImmutableNode startNode = getCurrentNode();
     final long oldDescendantCount = getStructuralNode().getDescendantCount();
     final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
-    BigInteger hashToAdd = startNode.getHash() == null || BigInteger.ZERO.equals(startNode.getHash())
+    Hash128 hashToAdd = startNode.getHash() == null || startNode.getHash().isZero()
         ? startNode.computeHash()
         : startNode.getHash();
-    BigInteger newHash;
-    BigInteger possibleOldHash = BigInteger.ZERO;
+    Hash128 newHash;
+    Hash128 possibleOldHash = Hash128.ZERO;
     // go the path to the root
     do {
       final Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
@@ -294,14 +550,14 @@ public abstract class AbstractNodeHashing {
       } else if (node.getNodeKey() == startNode.getParentKey()) {
         // at the parent level, just add the node
         possibleOldHash = node.getHash();
-        newHash = Node.to128BitsAtMaximumBigInteger(possibleOldHash.add(hashToAdd.multiply(PRIME)));
+        newHash = possibleOldHash.add(hashToAdd.multiply(PRIME));
         hashToAdd = newHash;
         setAddDescendants(startNode, node, descendantCount);
       } else {
         // at the rest, remove the existing old key for this element
         // and add the new one
-        newHash = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(possibleOldHash.multiply(PRIME)));
-        newHash = Node.to128BitsAtMaximumBigInteger(newHash.add(hashToAdd.multiply(PRIME)));
+        newHash = node.getHash().subtract(possibleOldHash.multiply(PRIME));
+        newHash = newHash.add(hashToAdd.multiply(PRIME));
         hashToAdd = newHash;
         possibleOldHash = node.getHash();
         setAddDescendants(startNode, node, descendantCount);
@@ -320,7 +576,7 @@ public abstract class AbstractNodeHashing {
   public void addParentHash(final ImmutableNode startNode) {
     switch (hashType) {
       case ROLLING:
-        final BigInteger hashToAdd = startNode.computeHash();
+        final Hash128 hashToAdd = startNode.computeHash();
         final Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
             PageKind.RECORDPAGE, -1);
         node.setHash(node.getHash().add(hashToAdd.multiply(PRIME)));
@@ -348,7 +604,7 @@ public abstract class AbstractNodeHashing {
         final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
 
         // Set start node.
-        final BigInteger hashToAdd = startNode.computeHash();
+        final Hash128 hashToAdd = startNode.computeHash();
         Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
             PageKind.RECORDPAGE, -1);
         node.setHash(hashToAdd);
@@ -358,8 +614,8 @@ public abstract class AbstractNodeHashing {
           nodeReadOnlyTrx.moveTo(startNode.getParentKey());
           node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(),
               PageKind.RECORDPAGE, -1);
-          final BigInteger hash =
-              node.getHash() == null || BigInteger.ZERO.equals(node.getHash()) ? node.computeHash() : node.getHash();
+          final Hash128 hash =
+              node.getHash() == null || node.getHash().isZero() ? node.computeHash() : node.getHash();
           node.setHash(hash.add(hashToAdd.multiply(PRIME)));
 
           setAddDescendants(startNode, node, descendantCount);
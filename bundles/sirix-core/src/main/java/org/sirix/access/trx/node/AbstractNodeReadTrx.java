@@ -6,6 +6,7 @@ import org.sirix.api.Move;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.NullNode;
 import org.sirix.node.SirixDeweyID;
@@ -18,7 +19,6 @@ import org.sirix.utils.NamePageHash;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -197,7 +197,7 @@ public abstract class AbstractNodeReadTrx<T extends NodeCursor> implements NodeC
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     assertNotClosed();
     return currentNode.getHash();
   }
@@ -1,5 +1,6 @@
 package org.sirix.access.trx.node;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.brackit.xquery.xdm.DocumentException;
 import org.sirix.access.*;
 import org.sirix.access.trx.node.xml.XmlResourceManagerImpl;
@@ -15,6 +16,7 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.index.path.summary.PathSummarySnapshot;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
 import org.sirix.node.interfaces.Node;
@@ -41,7 +43,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -49,11 +50,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
     implements ResourceManager<R, W>, InternalResourceManager<R, W> {
 
-  /**
-   * Thread pool.
-   */
-  final ExecutorService threadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
   /**
    * The database.
    */
@@ -99,6 +95,34 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    */
   final IOStorage storage;
 
+  /**
+   * Maximum number of cached path summary snapshots.
+   */
+  private static final int MAX_PATH_SUMMARY_SNAPSHOTS = 16;
+
+  /**
+   * The snapshots of the path summaries of recently used revisions, shared by all path summary
+   * readers.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummarySnapshot> pathSummarySnapshots;
+
+  /**
+   * The revisions in which the records have been changed, {@code null} if not opened yet.
+   */
+  private RecordChangeHistory recordChangeHistory;
+
+  /**
+   * The timestamps, users and commit messages of the revisions, which are opened eagerly, such that
+   * a missing index isn't rebuilt by the first commit while holding the commit lock.
+   */
+  private final RevisionIndex revisionIndex;
+
+  /**
+   * The symbol table of the text values, which is opened eagerly, as it's needed to deserialize
+   * each encoded value.
+   */
+  private final ValueDictionary valueDictionary;
+
   /**
    * Atomic counter for concurrent generation of node transaction id.
    */
@@ -162,11 +186,21 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     lastCommittedUberPage = new AtomicReference<>(uberPage);
     this.user = user;
 
+    pathSummarySnapshots = Caffeine.newBuilder().maximumSize(MAX_PATH_SUMMARY_SNAPSHOTS).build();
+
+    valueDictionary = ValueDictionary.open(
+        resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                   .resolve(ValueDictionary.FILE_NAME));
+
     isClosed = false;
-  }
 
-  private static long timeDiff(final long lhs, final long rhs) {
-    return Math.abs(lhs - rhs);
+    revisionIndex = RevisionIndex.open(
+        resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()),
+        uberPage.isBootstrap() ? -1 : uberPage.getRevisionNumber(), revision -> {
+          try (final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision)) {
+            return pageReadTrx.getActualRevisionRootPage();
+          }
+        });
   }
 
   protected void initializeIndexController(final int revision, IndexController<?, ?> controller) {
@@ -225,39 +259,29 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
     checkArgument(fromRevision > toRevision);
 
-    final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
+    final RevisionIndex index = getRevisionIndex();
+    final var revisionInfos = new ArrayList<RevisionInfo>();
 
     for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+      revisionInfos.add(index.getRevisionInfo(revision));
     }
 
-    return getResult(revisionInfos);
+    return revisionInfos;
   }
 
   private List<RevisionInfo> getHistoryInformations(int revisions) {
     checkArgument(revisions > 0);
 
+    final RevisionIndex index = getRevisionIndex();
     final int lastCommittedRevision = lastCommittedUberPage.get().getRevisionNumber();
-    final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
+    final var revisionInfos = new ArrayList<RevisionInfo>();
 
     for (int revision = lastCommittedRevision; revision > 0 && revision > lastCommittedRevision - revisions;
         revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+      revisionInfos.add(index.getRevisionInfo(revision));
     }
 
-    return getResult(revisionInfos);
-  }
-
-  private List<RevisionInfo> getResult(final ArrayList<Future<RevisionInfo>> revisionInfos) {
-    return revisionInfos.stream().map(this::getFromFuture).collect(Collectors.toList());
-  }
-
-  private RevisionInfo getFromFuture(Future<RevisionInfo> revisionInfo) {
-    try {
-      return revisionInfo.get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new IllegalStateException(e);
-    }
+    return revisionInfos;
   }
 
   @Override
@@ -385,13 +409,6 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   @Override
   public synchronized void close() {
     if (!isClosed) {
-      threadPool.shutdown();
-      try {
-        threadPool.awaitTermination(5, TimeUnit.SECONDS);
-      } catch (InterruptedException e) {
-        throw new IllegalStateException(e);
-      }
-
       // Close all open node transactions.
       for (NodeReadOnlyTrx rtx : nodeTrxMap.values()) {
         if (rtx instanceof XmlNodeTrx) {
@@ -414,6 +431,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
       nodeTrxMap.clear();
       pageTrxMap.clear();
       nodePageTrxMap.clear();
+      pathSummarySnapshots.invalidateAll();
       resourceStore.closeResource(resourceConfig.getResource());
 
       storage.close();
@@ -594,7 +612,45 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     assertAccess(revision);
 
     final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
-    return PathSummaryReader.getInstance(pageReadTrx, this);
+    final PathSummarySnapshot snapshot =
+        pathSummarySnapshots.get(revision, unused -> PathSummarySnapshot.create(pageReadTrx));
+    return PathSummaryReader.getInstance(pageReadTrx, this, snapshot);
+  }
+
+  @Override
+  public synchronized RecordChangeHistory getRecordChangeHistory() {
+    assertNotClosed();
+
+    if (recordChangeHistory == null) {
+      recordChangeHistory = RecordChangeHistory.open(
+          resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                     .resolve(RecordChangeHistory.FILE_NAME), getMostRecentRevisionNumber());
+    }
+    return recordChangeHistory;
+  }
+
+  @Override
+  public RevisionIndex getRevisionIndex() {
+    assertNotClosed();
+
+    return revisionIndex;
+  }
+
+  @Override
+  public ValueDictionary getValueDictionary() {
+    assertNotClosed();
+
+    return valueDictionary;
+  }
+
+  @Override
+  public Optional<PathSummarySnapshot> getPathSummarySnapshot(final @Nonnegative int revision) {
+    return Optional.ofNullable(pathSummarySnapshots.getIfPresent(revision));
+  }
+
+  @Override
+  public void putPathSummarySnapshot(final PathSummarySnapshot snapshot) {
+    pathSummarySnapshots.put(snapshot.getRevision(), snapshot);
   }
 
   @Override
@@ -685,56 +741,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
   @Override
   public R beginNodeReadOnlyTrx(final @Nonnull Instant pointInTime) {
-    checkNotNull(pointInTime);
-    assertNotClosed();
-
-    final long timestamp = pointInTime.toEpochMilli();
-
-    int revision = binarySearch(timestamp);
-
-    if (revision < 0) {
-      revision = -revision - 1;
-    }
-
-    if (revision == 0)
-      return beginNodeReadOnlyTrx(0);
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return beginNodeReadOnlyTrx();
-
-    final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-    final R rtxRevision = beginNodeReadOnlyTrx(revision);
-
-    if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-        rtxRevision.getRevisionTimestamp().toEpochMilli())) {
-      rtxRevision.close();
-      return rtxRevisionMinus1;
-    } else {
-      rtxRevisionMinus1.close();
-      return rtxRevision;
-    }
-  }
-
-  private int binarySearch(final long timestamp) {
-    int low = 0;
-    int high = getMostRecentRevisionNumber();
-
-    while (low <= high) {
-      final int mid = (low + high) >>> 1;
-
-      try (final PageReadOnlyTrx trx = beginPageReadOnlyTrx(mid)) {
-        final long midVal = trx.getActualRevisionRootPage().getRevisionTimestamp();
-        final int cmp = Instant.ofEpochMilli(midVal).compareTo(Instant.ofEpochMilli(timestamp));
-
-        if (cmp < 0)
-          low = mid + 1;
-        else if (cmp > 0)
-          high = mid - 1;
-        else
-          return mid; // key found
-      }
-    }
-
-    return -(low + 1); // key not found
+    return beginNodeReadOnlyTrx(getRevisionNumber(pointInTime));
   }
 
   @Override
@@ -742,32 +749,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     checkNotNull(pointInTime);
     assertNotClosed();
 
-    final long timestamp = pointInTime.toEpochMilli();
-
-    int revision = binarySearch(timestamp);
-
-    if (revision < 0) {
-      revision = -revision - 1;
-    }
-
-    if (revision == 0)
-      return 0;
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return getMostRecentRevisionNumber();
-
-    try (final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-         final R rtxRevision = beginNodeReadOnlyTrx(revision)) {
-      final int revisionNumber;
-
-      if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-          rtxRevision.getRevisionTimestamp().toEpochMilli())) {
-        revisionNumber = rtxRevisionMinus1.getRevisionNumber();
-      } else {
-        revisionNumber = rtxRevision.getRevisionNumber();
-      }
-
-      return revisionNumber;
-    }
+    return Math.min(getRevisionIndex().getNearestRevision(pointInTime.toEpochMilli()), getMostRecentRevisionNumber());
   }
 
   @Override
@@ -1,12 +1,14 @@
 package org.sirix.access.trx.node;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.api.ResourceManager;
+import org.sirix.index.path.summary.PathSummarySnapshot;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UberPage;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -44,4 +46,20 @@ public interface InternalResourceManager<R extends NodeReadOnlyTrx & NodeCursor,
   void closePageReadTransaction(long trxId);
 
   void closePageWriteTransaction(long transactionID);
+
+  /**
+   * Get the cached snapshot of the path summary of a revision.
+   *
+   * @param revision the revision
+   * @return the snapshot, if it is cached
+   */
+  Optional<PathSummarySnapshot> getPathSummarySnapshot(int revision);
+
+  /**
+   * Cache the snapshot of the path summary of a revision, which has been derived by a write
+   * transaction during the commit of the revision.
+   *
+   * @param snapshot the snapshot
+   */
+  void putPathSummarySnapshot(PathSummarySnapshot snapshot);
 }
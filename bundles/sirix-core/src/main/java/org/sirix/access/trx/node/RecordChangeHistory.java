@@ -0,0 +1,248 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.settings.Constants;
+
+import javax.annotation.Nonnegative;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The revisions in which the record pages of the document have been modified, that is the revisions in
+ * which a record might differ from the previous revision. A record, which lives in a record page not
+ * modified in a revision, is the same as in the previous revision. Thus, temporal axes are able to
+ * skip revisions without changes.
+ *
+ * <p>The modified record pages are appended to a file at each commit. Revisions committed before the
+ * file has been created, and revisions which have been committed by reverting to an older revision,
+ * are considered to change all records.</p>
+ */
+public final class RecordChangeHistory {
+
+  /** The name of the file in the data folder of a resource. */
+  public static final String FILE_NAME = "record-changes";
+
+  /** The sorted revisions in which a record page has been modified. */
+  private static final class Revisions {
+    private int[] revisions = new int[4];
+
+    private int size;
+
+    void add(final int revision) {
+      if (size == revisions.length) {
+        revisions = Arrays.copyOf(revisions, size << 1);
+      }
+      revisions[size++] = revision;
+    }
+
+    void removeFrom(final int revision) {
+      while (size > 0 && revisions[size - 1] >= revision) {
+        size--;
+      }
+    }
+
+    int next(final int revision) {
+      final int index = search(revision + 1);
+      return index < size ? revisions[index] : -1;
+    }
+
+    int previous(final int revision) {
+      final int index = search(revision + 1) - 1;
+      return index >= 0 ? revisions[index] : -1;
+    }
+
+    private int search(final int revision) {
+      final int index = Arrays.binarySearch(revisions, 0, size, revision);
+      return index >= 0 ? index : -(index + 1);
+    }
+  }
+
+  /** The file to append the modified record pages to. */
+  private final Path file;
+
+  /** The revisions of the record pages by their record page keys. */
+  private final Map<Long, Revisions> recordPageRevisions = new HashMap<>();
+
+  /** The revisions, in which all records are considered to be changed. */
+  private final Revisions fullChangeRevisions = new Revisions();
+
+  /** The first revision, for which the modified record pages are known. */
+  private int firstRevision;
+
+  /** The last revision, for which the modified record pages are known. */
+  private int lastRevision;
+
+  private RecordChangeHistory(final Path file, final int firstRevision) {
+    this.file = file;
+    this.firstRevision = firstRevision;
+    lastRevision = firstRevision - 1;
+  }
+
+  /**
+   * Open the history stored in a file or create it.
+   *
+   * @param file               the file
+   * @param mostRecentRevision the most recent revision of the resource, which is used as the last revision
+   *                           without known changes if the file doesn't exist yet
+   * @return the history
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static RecordChangeHistory open(final Path file, final @Nonnegative int mostRecentRevision) {
+    checkNotNull(file);
+    checkArgument(mostRecentRevision >= 0, "mostRecentRevision must be >= 0!");
+
+    try {
+      if (!Files.exists(file) || Files.size(file) < Integer.BYTES) {
+        try (final var out = new DataOutputStream(Files.newOutputStream(file))) {
+          out.writeInt(mostRecentRevision + 1);
+        }
+        return new RecordChangeHistory(file, mostRecentRevision + 1);
+      }
+
+      final RecordChangeHistory history;
+      long validLength;
+      try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+        history = new RecordChangeHistory(file, in.readInt());
+        validLength = Integer.BYTES;
+        try {
+          while (true) {
+            final int revision = in.readInt();
+            final boolean isFullChange = in.readBoolean();
+            final long[] recordPageKeys = new long[in.readInt()];
+            for (int i = 0; i < recordPageKeys.length; i++) {
+              recordPageKeys[i] = in.readLong();
+            }
+            history.apply(revision, isFullChange, recordPageKeys);
+            validLength += entryLength(recordPageKeys);
+          }
+        } catch (final EOFException e) {
+          // End of file or an entry, which hasn't been written completely.
+        }
+      }
+
+      if (validLength < Files.size(file)) {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+          channel.truncate(validLength);
+        }
+      }
+
+      return history;
+    } catch (final IOException e) {
+      throw new SirixIOException("Record change history couldn't be read!", e);
+    }
+  }
+
+  private static long entryLength(final long[] recordPageKeys) {
+    return Integer.BYTES + 1 + Integer.BYTES + (long) recordPageKeys.length * Long.BYTES;
+  }
+
+  /**
+   * Append the record pages modified in a committed revision.
+   *
+   * @param revision       the committed revision
+   * @param isFullChange   {@code true}, if all records have to be considered changed, for instance
+   *                       because the revision reverts to an older revision
+   * @param recordPageKeys the keys of the modified record pages
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void append(final @Nonnegative int revision, final boolean isFullChange,
+      final long[] recordPageKeys) {
+    checkArgument(revision >= 0, "revision must be >= 0!");
+    checkNotNull(recordPageKeys);
+
+    try (final var out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND)))) {
+      out.writeInt(revision);
+      out.writeBoolean(isFullChange);
+      out.writeInt(recordPageKeys.length);
+      for (final long recordPageKey : recordPageKeys) {
+        out.writeLong(recordPageKey);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException("Record change history couldn't be written!", e);
+    }
+
+    apply(revision, isFullChange, recordPageKeys);
+  }
+
+  private void apply(final int revision, final boolean isFullChange, final long[] recordPageKeys) {
+    if (revision > lastRevision + 1) {
+      // Changes in between are missing.
+      recordPageRevisions.clear();
+      fullChangeRevisions.removeFrom(0);
+      firstRevision = revision;
+    } else if (revision <= lastRevision) {
+      // The revisions have been truncated and are committed again.
+      recordPageRevisions.values().forEach(revisions -> revisions.removeFrom(revision));
+      fullChangeRevisions.removeFrom(revision);
+      firstRevision = Math.min(firstRevision, revision);
+    }
+    lastRevision = revision;
+
+    if (isFullChange) {
+      fullChangeRevisions.add(revision);
+    }
+    for (final long recordPageKey : recordPageKeys) {
+      recordPageRevisions.computeIfAbsent(recordPageKey, unused -> new Revisions()).add(revision);
+    }
+  }
+
+  /**
+   * Get the next revision after the given one, in which a record might have changed.
+   *
+   * @param recordKey the key of the record
+   * @param revision  the revision
+   * @return the next revision, in which the record might have changed, which might be greater than the
+   *     most recent revision
+   */
+  public synchronized int nextChange(final @Nonnegative long recordKey, final @Nonnegative int revision) {
+    if (revision < firstRevision || revision >= lastRevision) {
+      return revision + 1;
+    }
+
+    int next = lastRevision + 1;
+    final Revisions revisions = recordPageRevisions.get(recordKey >> Constants.NDP_NODE_COUNT_EXPONENT);
+    if (revisions != null) {
+      final int nextPageChange = revisions.next(revision);
+      if (nextPageChange != -1) {
+        next = nextPageChange;
+      }
+    }
+    final int nextFullChange = fullChangeRevisions.next(revision);
+    return nextFullChange == -1 ? next : Math.min(next, nextFullChange);
+  }
+
+  /**
+   * Get the revision, in which the record in the given revision has been changed for the last time.
+   *
+   * @param recordKey the key of the record
+   * @param revision  the revision
+   * @return the last revision up to the given one, in which the record might have changed
+   */
+  public synchronized int previousChange(final @Nonnegative long recordKey, final @Nonnegative int revision) {
+    if (revision < firstRevision || revision > lastRevision) {
+      return revision;
+    }
+
+    int previous = firstRevision - 1;
+    final Revisions revisions = recordPageRevisions.get(recordKey >> Constants.NDP_NODE_COUNT_EXPONENT);
+    if (revisions != null) {
+      previous = Math.max(previous, revisions.previous(revision));
+    }
+    return Math.max(previous, fullChangeRevisions.previous(revision));
+  }
+}
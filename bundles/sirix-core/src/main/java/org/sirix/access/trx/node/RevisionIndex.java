@@ -0,0 +1,366 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.access.User;
+import org.sirix.api.RevisionInfo;
+import org.sirix.exception.SirixIOException;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.settings.Constants;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The timestamps, users and commit messages of all revisions of a resource, kept in memory, such that
+ * point-in-time lookups and the history of a resource don't have to read revision root pages.
+ *
+ * <p>The timestamps are stored in a file with a fixed-size entry per revision, which is memory-mapped
+ * on open, the users and commit messages are stored in a second file. Both are appended to at each
+ * commit. Revisions missing in the files, for instance because they have been committed before the
+ * files have been created, are read from their revision root pages once.</p>
+ */
+public final class RevisionIndex {
+
+  /** The name of the file with the timestamps in the data folder of a resource. */
+  public static final String TIMESTAMPS_FILE_NAME = "revision-timestamps";
+
+  /** The name of the file with the users and commit messages in the data folder of a resource. */
+  public static final String COMMITS_FILE_NAME = "revision-commits";
+
+  /** Flag of a commit entry with a user. */
+  private static final byte HAS_USER = 1;
+
+  /** Flag of a commit entry with a commit message. */
+  private static final byte HAS_COMMIT_MESSAGE = 2;
+
+  /** The file with the timestamps. */
+  private final Path timestampsFile;
+
+  /** The file with the users and commit messages. */
+  private final Path commitsFile;
+
+  /** Reads the revision root page of a revision, which is missing in the files. */
+  private final IntFunction<RevisionRootPage> revisionRootPageReader;
+
+  /** The timestamps by revision. */
+  private long[] timestamps = new long[16];
+
+  /** The users by revision. */
+  private User[] users = new User[16];
+
+  /** The commit messages by revision. */
+  private String[] commitMessages = new String[16];
+
+  /** The offsets of the entries in the commits file by revision. */
+  private long[] commitOffsets = new long[16];
+
+  /** The length of the commits file. */
+  private long commitsLength;
+
+  /** The number of revisions. */
+  private int size;
+
+  private RevisionIndex(final Path timestampsFile, final Path commitsFile,
+      final IntFunction<RevisionRootPage> revisionRootPageReader) {
+    this.timestampsFile = timestampsFile;
+    this.commitsFile = commitsFile;
+    this.revisionRootPageReader = revisionRootPageReader;
+  }
+
+  /**
+   * Open the index stored in a directory or create it.
+   *
+   * @param directory              the directory of the files
+   * @param mostRecentRevision     the most recent revision of the resource or {@code -1}, if no revision has been
+   *                               committed yet
+   * @param revisionRootPageReader reads the revision root page of a revision, which is missing in the files
+   * @return the index
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static RevisionIndex open(final Path directory, final int mostRecentRevision,
+      final IntFunction<RevisionRootPage> revisionRootPageReader) {
+    checkNotNull(directory);
+    checkArgument(mostRecentRevision >= -1, "mostRecentRevision must be >= -1!");
+    checkNotNull(revisionRootPageReader);
+
+    final RevisionIndex index = new RevisionIndex(directory.resolve(TIMESTAMPS_FILE_NAME),
+        directory.resolve(COMMITS_FILE_NAME), revisionRootPageReader);
+
+    try {
+      final int timestampCount = index.readTimestamps();
+      final int commitCount = index.readCommits(mostRecentRevision + 1);
+      index.size = commitCount;
+      index.truncateTo(Math.min(timestampCount, commitCount));
+    } catch (final IOException e) {
+      throw new SirixIOException("Revision index couldn't be read!", e);
+    }
+
+    for (int revision = index.size; revision <= mostRecentRevision; revision++) {
+      index.append(revisionRootPageReader.apply(revision));
+    }
+
+    return index;
+  }
+
+  private int readTimestamps() throws IOException {
+    if (!Files.exists(timestampsFile)) {
+      Files.createFile(timestampsFile);
+      return 0;
+    }
+
+    try (final FileChannel channel = FileChannel.open(timestampsFile, StandardOpenOption.READ)) {
+      final int count = (int) (channel.size() / Long.BYTES);
+      ensureCapacity(count);
+      if (count > 0) {
+        channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * Long.BYTES)
+               .asLongBuffer()
+               .get(timestamps, 0, count);
+      }
+      return count;
+    }
+  }
+
+  private int readCommits(final int maxCount) throws IOException {
+    if (!Files.exists(commitsFile)) {
+      Files.createFile(commitsFile);
+      return 0;
+    }
+
+    int count = 0;
+    try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(commitsFile)))) {
+      while (count < maxCount) {
+        // An entry of another revision is left over from a truncation.
+        if (in.readInt() != count) {
+          break;
+        }
+        final byte flags = in.readByte();
+        User user = null;
+        if ((flags & HAS_USER) != 0) {
+          final String userName = readString(in);
+          user = new User(userName, new UUID(in.readLong(), in.readLong()));
+          // Most revisions are committed by the same user.
+          if (count > 0 && user.equals(users[count - 1])) {
+            user = users[count - 1];
+          }
+        }
+        final String commitMessage = (flags & HAS_COMMIT_MESSAGE) != 0 ? readString(in) : null;
+
+        ensureCapacity(count + 1);
+        users[count] = user;
+        commitMessages[count] = commitMessage;
+        commitOffsets[count] = commitsLength;
+        commitsLength += commitEntryLength(user, commitMessage);
+        count++;
+      }
+    } catch (final EOFException e) {
+      // End of file or an entry, which hasn't been written completely.
+    }
+    return count;
+  }
+
+  private static String readString(final DataInputStream in) throws IOException {
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, Constants.DEFAULT_ENCODING);
+  }
+
+  private static long commitEntryLength(final User user, final String commitMessage) {
+    long length = Integer.BYTES + 1;
+    if (user != null) {
+      length += Integer.BYTES + user.getName().getBytes(Constants.DEFAULT_ENCODING).length + 2 * Long.BYTES;
+    }
+    if (commitMessage != null) {
+      length += Integer.BYTES + commitMessage.getBytes(Constants.DEFAULT_ENCODING).length;
+    }
+    return length;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity > timestamps.length) {
+      final int newCapacity = Math.max(capacity, timestamps.length << 1);
+      timestamps = Arrays.copyOf(timestamps, newCapacity);
+      users = Arrays.copyOf(users, newCapacity);
+      commitMessages = Arrays.copyOf(commitMessages, newCapacity);
+      commitOffsets = Arrays.copyOf(commitOffsets, newCapacity);
+    }
+  }
+
+  /**
+   * Remove the revisions from the given one onwards, also from the files.
+   */
+  private void truncateTo(final int newSize) throws IOException {
+    if (newSize < size) {
+      commitsLength = commitOffsets[newSize];
+      size = newSize;
+    }
+    truncate(timestampsFile, (long) size * Long.BYTES);
+    truncate(commitsFile, commitsLength);
+  }
+
+  private static void truncate(final Path file, final long length) throws IOException {
+    if (Files.size(file) > length) {
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.truncate(length);
+      }
+    }
+  }
+
+  /**
+   * Append a committed revision.
+   *
+   * @param revisionRootPage the revision root page of the revision
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void append(final RevisionRootPage revisionRootPage) {
+    checkNotNull(revisionRootPage);
+    append(revisionRootPage.getRevision(), revisionRootPage.getRevisionTimestamp(),
+        revisionRootPage.getUser().orElse(null), revisionRootPage.getCommitCredentials().getMessage());
+  }
+
+  /**
+   * Append a committed revision. Revisions from the given one onwards are replaced, for instance
+   * because they have been truncated and are committed again.
+   *
+   * @param revision      the committed revision
+   * @param timestamp     the commit timestamp in milliseconds since the epoch
+   * @param user          the user, who committed the revision, or {@code null}
+   * @param commitMessage the commit message or {@code null}
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void append(final @Nonnegative int revision, final long timestamp, final @Nullable User user,
+      final @Nullable String commitMessage) {
+    checkArgument(revision >= 0, "revision must be >= 0!");
+
+    try {
+      truncateTo(revision);
+    } catch (final IOException e) {
+      throw new SirixIOException("Revision index couldn't be truncated!", e);
+    }
+
+    // Revisions in between are missing.
+    while (size < revision) {
+      append(revisionRootPageReader.apply(size));
+    }
+
+    try (final var out = new DataOutputStream(Files.newOutputStream(timestampsFile, StandardOpenOption.APPEND))) {
+      out.writeLong(timestamp);
+    } catch (final IOException e) {
+      throw new SirixIOException("Revision index couldn't be written!", e);
+    }
+
+    try (final var out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(commitsFile, StandardOpenOption.APPEND)))) {
+      out.writeInt(revision);
+      out.writeByte((user != null ? HAS_USER : 0) | (commitMessage != null ? HAS_COMMIT_MESSAGE : 0));
+      if (user != null) {
+        writeString(out, user.getName());
+        out.writeLong(user.getId().getMostSignificantBits());
+        out.writeLong(user.getId().getLeastSignificantBits());
+      }
+      if (commitMessage != null) {
+        writeString(out, commitMessage);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException("Revision index couldn't be written!", e);
+    }
+
+    ensureCapacity(size + 1);
+    timestamps[size] = timestamp;
+    users[size] = user;
+    commitMessages[size] = commitMessage;
+    commitOffsets[size] = commitsLength;
+    commitsLength += commitEntryLength(user, commitMessage);
+    size++;
+  }
+
+  private static void writeString(final DataOutputStream out, final String string) throws IOException {
+    final byte[] bytes = string.getBytes(Constants.DEFAULT_ENCODING);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Get the number of revisions.
+   *
+   * @return the number of revisions
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Get the commit timestamp of a revision.
+   *
+   * @param revision the revision
+   * @return the timestamp in milliseconds since the epoch
+   */
+  public synchronized long getTimestamp(final @Nonnegative int revision) {
+    checkElementIndex(revision, size, "revision");
+    return timestamps[revision];
+  }
+
+  /**
+   * Search a revision by its commit timestamp.
+   *
+   * @param timestamp the timestamp in milliseconds since the epoch
+   * @return the revision, if a revision has been committed at the timestamp, otherwise
+   *     {@code -(insertion point) - 1}, whereas the insertion point is the first revision committed
+   *     after the timestamp
+   */
+  public synchronized int binarySearch(final long timestamp) {
+    return Arrays.binarySearch(timestamps, 0, size, timestamp);
+  }
+
+  /**
+   * Get the revision committed closest to a point in time.
+   *
+   * @param timestamp the timestamp in milliseconds since the epoch
+   * @return the revision
+   */
+  public synchronized int getNearestRevision(final long timestamp) {
+    int revision = binarySearch(timestamp);
+
+    if (revision < 0) {
+      revision = -revision - 1;
+    }
+
+    if (revision == 0) {
+      return 0;
+    } else if (revision == size) {
+      return size - 1;
+    }
+
+    return Math.abs(timestamp - timestamps[revision - 1]) < Math.abs(timestamp - timestamps[revision])
+        ? revision - 1
+        : revision;
+  }
+
+  /**
+   * Get the information about a revision.
+   *
+   * @param revision the revision
+   * @return the information about the revision
+   */
+  public synchronized RevisionInfo getRevisionInfo(final @Nonnegative int revision) {
+    checkElementIndex(revision, size, "revision");
+    return new RevisionInfo(users[revision], revision, Instant.ofEpochMilli(timestamps[revision]),
+        commitMessages[revision]);
+  }
+}
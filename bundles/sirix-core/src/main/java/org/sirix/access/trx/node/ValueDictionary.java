@@ -0,0 +1,143 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.utils.SymbolTable;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The symbol table of the text values of a resource, which is trained from the first values
+ * inserted with text compression enabled. Values inserted before the table has been trained are
+ * stored uncompressed. Once trained, the table is stored in the data folder of the resource and
+ * never changes, such that all values of the resource are decoded with the same table.
+ */
+public final class ValueDictionary {
+
+  /** The name of the file with the symbol table in the data folder of a resource. */
+  public static final String FILE_NAME = "value-symbols";
+
+  /** The number of values, which are sampled to train the table. */
+  static final int SAMPLE_COUNT = 1024;
+
+  /** The maximum number of sampled bytes. */
+  private static final int MAX_SAMPLES_SIZE = 64 * 1024;
+
+  /** The file with the symbol table. */
+  private final Path file;
+
+  /**
+   * The symbol table or {@code null}, if it hasn't been trained, yet. It's read without locking, as
+   * it never changes once it's set.
+   */
+  private volatile SymbolTable symbolTable;
+
+  /** The sampled values. */
+  private List<byte[]> samples = new ArrayList<>();
+
+  /** The size of the sampled values. */
+  private int samplesSize;
+
+  private ValueDictionary(final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Open the dictionary stored in a file or create it.
+   *
+   * @param file the file of the symbol table
+   * @return the dictionary
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static ValueDictionary open(final Path file) {
+    final ValueDictionary dictionary = new ValueDictionary(checkNotNull(file));
+
+    if (Files.exists(file)) {
+      try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+        dictionary.symbolTable = SymbolTable.deserialize(in);
+        dictionary.samples = null;
+      } catch (final IOException e) {
+        throw new SirixIOException("Symbol table couldn't be read!", e);
+      }
+    }
+
+    return dictionary;
+  }
+
+  /**
+   * Get the symbol table.
+   *
+   * @return the symbol table or {@code null}, if it hasn't been trained, yet
+   */
+  public @Nullable SymbolTable getSymbolTable() {
+    return symbolTable;
+  }
+
+  /**
+   * Get the symbol table to encode a value with or sample the value, if the table hasn't been
+   * trained, yet. The table is trained and stored, once enough values have been sampled.
+   *
+   * @param value the value to encode
+   * @return the symbol table or {@code null}, if the value has to be stored uncompressed
+   * @throws SirixIOException if the trained table couldn't be stored
+   */
+  public @Nullable SymbolTable sample(final byte[] value) {
+    final SymbolTable trainedSymbolTable = symbolTable;
+    if (trainedSymbolTable != null) {
+      return trainedSymbolTable;
+    }
+    return sampleUntilTrained(value);
+  }
+
+  private synchronized @Nullable SymbolTable sampleUntilTrained(final byte[] value) {
+    if (symbolTable != null) {
+      return symbolTable;
+    }
+
+    samples.add(value.clone());
+    samplesSize += value.length;
+
+    if (samples.size() == SAMPLE_COUNT || samplesSize >= MAX_SAMPLES_SIZE) {
+      store(SymbolTable.train(samples));
+      samples = null;
+    }
+
+    return null;
+  }
+
+  /**
+   * Store the trained symbol table durably, before any value encoded with it is written.
+   */
+  private void store(final SymbolTable trainedSymbolTable) {
+    final Path tmpFile = file.resolveSibling(FILE_NAME + ".tmp");
+    try {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      trainedSymbolTable.serialize(new DataOutputStream(output));
+
+      try (final FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        channel.write(ByteBuffer.wrap(output.toByteArray()));
+        channel.force(true);
+      }
+      Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new SirixIOException("Symbol table couldn't be written!", e);
+    }
+
+    symbolTable = trainedSymbolTable;
+  }
+}
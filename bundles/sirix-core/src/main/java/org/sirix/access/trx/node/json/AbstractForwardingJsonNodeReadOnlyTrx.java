@@ -12,11 +12,11 @@ import org.sirix.api.json.JsonResourceManager;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.diff.DiffTuple;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
-import java.math.BigInteger;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -51,7 +51,7 @@ public abstract class AbstractForwardingJsonNodeReadOnlyTrx extends ForwardingOb
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return delegate().getHash();
   }
 
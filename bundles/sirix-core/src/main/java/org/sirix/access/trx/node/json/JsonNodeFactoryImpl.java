@@ -16,12 +16,11 @@ import org.sirix.page.PageKind;
 import org.sirix.page.PathSummaryPage;
 import org.sirix.page.UnorderedKeyValuePage;
 import org.sirix.settings.Fixed;
-import org.sirix.utils.Compression;
 import org.sirix.utils.NamePageHash;
+import org.sirix.utils.SymbolTable;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.zip.Deflater;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -125,11 +124,7 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
     final long revision = pageWriteTrx.getRevisionNumber();
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
         parentKey, hashFunction, null, revision, id);
-    final boolean compression = doCompress && value.length > 10;
-    final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.HUFFMAN_ONLY)
-        : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueDelegate(nodeDel, value, doCompress);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return (StringNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new StringNode(valDel, structDel),
@@ -174,11 +169,7 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
     final long revision = pageWriteTrx.getRevisionNumber();
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
                                                   parentKey, hashFunction, null, revision, id);
-    final boolean compression = doCompress && value.length > 40;
-    final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.BEST_COMPRESSION)
-        : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueDelegate(nodeDel, value, doCompress);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(), 0, 0);
     return (ObjectStringNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new ObjectStringNode(valDel, structDel),
@@ -206,4 +197,16 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
     return (ObjectNumberNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new ObjectNumberNode(value, structDel),
                                                   PageKind.RECORDPAGE, -1);
   }
+
+  /**
+   * Create the value delegate of a new node. If text compression is enabled, the value is encoded
+   * with the symbol table of the resource, once it has been trained from the first values.
+   */
+  private ValueNodeDelegate createValueDelegate(final NodeDelegate nodeDel, final byte[] value,
+      final boolean doCompress) {
+    final SymbolTable symbolTable = doCompress
+        ? pageWriteTrx.getResourceManager().getValueDictionary().sample(value)
+        : null;
+    return ValueNodeDelegate.encode(nodeDel, value, symbolTable);
+  }
 }
@@ -54,8 +54,10 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.index.path.summary.PathSummarySnapshot;
 import org.sirix.index.path.summary.PathSummaryWriter;
 import org.sirix.index.path.summary.PathSummaryWriter.OPType;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.immutable.json.ImmutableArrayNode;
@@ -81,7 +83,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -1197,7 +1198,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       checkAccessAndCommit();
 
       ObjectKeyNode node = (ObjectKeyNode) nodeReadOnlyTrx.getCurrentNode();
-      final BigInteger oldHash = node.computeHash();
+      final Hash128 oldHash = node.computeHash();
 
       // Remove old keys from mapping.
       final NodeKind nodeKind = node.getKind();
@@ -1276,12 +1277,14 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Remove old value from indexes.
       indexController.notifyChange(ChangeType.DELETE, getNode(), pathNodeKey);
 
-      final BigInteger oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
+      final Hash128 oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
       final byte[] byteVal = getBytes(value);
 
       final AbstractStringNode node = (AbstractStringNode) pageWriteTrx.prepareEntryForModification(
           nodeReadOnlyTrx.getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
-      node.setValue(byteVal);
+      // The value is encoded with the symbol table of the resource, even if the node has been read
+      // back uncompressed.
+      node.setValue(byteVal, useTextCompression ? resourceManager.getValueDictionary().sample(byteVal) : null);
 
       nodeReadOnlyTrx.setCurrentNode(node);
       nodeHashing.adaptHashedWithUpdate(oldHash);
@@ -1314,7 +1317,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Remove old value from indexes.
       indexController.notifyChange(ChangeType.DELETE, getNode(), pathNodeKey);
 
-      final BigInteger oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
+      final Hash128 oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
 
       final AbstractBooleanNode node = (AbstractBooleanNode) pageWriteTrx.prepareEntryForModification(
           nodeReadOnlyTrx.getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
@@ -1352,7 +1355,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Remove old value from indexes.
       indexController.notifyChange(ChangeType.DELETE, getNode(), pathNodeKey);
 
-      final BigInteger oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
+      final Hash128 oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
 
       final AbstractNumberNode node = (AbstractNumberNode) pageWriteTrx.prepareEntryForModification(
           nodeReadOnlyTrx.getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
@@ -1391,7 +1394,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
       resourceManager.setNodePageWriteTransaction(getId(), pageTrx);
 
+      final boolean deferredHashing = nodeHashing.isDeferredHashing();
       nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing.setDeferredHashing(deferredHashing);
 
       // Reset node factory.
       nodeFactory = null;
@@ -1474,6 +1479,10 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       nodeFactory = null;
       nodeFactory = new JsonNodeFactoryImpl(hashFunction, pageWriteTrx);
 
+      final boolean deferredHashing = nodeHashing.isDeferredHashing();
+      nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageWriteTrx);
+      nodeHashing.setDeferredHashing(deferredHashing);
+
       reInstantiateIndexes();
 
       return this;
@@ -1513,7 +1522,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
     nodeFactory = null;
     nodeFactory = new JsonNodeFactoryImpl(hashFunction, pageWriteTrx);
+    final boolean deferredHashing = nodeHashing.isDeferredHashing();
     nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageWriteTrx);
+    nodeHashing.setDeferredHashing(deferredHashing);
 
     updateOperationsUnordered.clear();
     updateOperationsOrdered.clear();
@@ -1525,8 +1536,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     // Get a new path summary instance.
     if (buildPathSummary) {
       pathSummaryWriter = null;
-      pathSummaryWriter = new PathSummaryWriter<>(pageWriteTrx, nodeReadOnlyTrx.getResourceManager(), nodeFactory,
-          nodeReadOnlyTrx);
+      pathSummaryWriter = new PathSummaryWriter<>(pageWriteTrx, resourceManager, nodeFactory, nodeReadOnlyTrx);
     }
 
     // Recreate index listeners.
@@ -1742,6 +1752,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     // Optionally lock while commiting and assigning new instances.
     acquireLock();
     try {
+      // Compute the outstanding hashes first, such that the hooks see the final state.
+      nodeHashing.adaptDeferredHashes();
+
       // Execute pre-commit hooks.
       for (final PreCommitHook hook : preCommitHooks) {
         hook.preCommit(this);
@@ -1750,11 +1763,18 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Reset modification counter.
       modificationCount = 0L;
 
+      // Derive the path summary of the new revision from the path summary of the old revision.
+      final PathSummarySnapshot pathSummarySnapshot = buildPathSummary ? pathSummaryWriter.createSnapshot() : null;
+
       final UberPage uberPage = commitMessage == null ? pageWriteTrx.commit() : pageWriteTrx.commit(commitMessage);
 
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
 
+      if (pathSummarySnapshot != null) {
+        resourceManager.putPathSummarySnapshot(pathSummarySnapshot);
+      }
+
       serializeUpdateDiffs();
 
       // Reinstantiate everything.
@@ -1812,6 +1832,33 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     return this;
   }
 
+  @Override
+  public JsonNodeTrx setDeferredHashing(final boolean deferredHashing) {
+    acquireLock();
+    try {
+      nodeReadOnlyTrx.assertNotClosed();
+      if (!deferredHashing) {
+        nodeHashing.adaptDeferredHashes();
+      }
+      nodeHashing.setDeferredHashing(deferredHashing);
+      return this;
+    } finally {
+      unLock();
+    }
+  }
+
+  @Override
+  public JsonNodeTrx adaptDeferredHashes() {
+    acquireLock();
+    try {
+      nodeReadOnlyTrx.assertNotClosed();
+      nodeHashing.adaptDeferredHashes();
+      return this;
+    } finally {
+      unLock();
+    }
+  }
+
   @Override
   public void adaptHashesInPostorderTraversal() {
     if (hashType != HashType.NONE) {
@@ -11,6 +11,7 @@ import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.immutable.ImmutableNameNode;
@@ -20,7 +21,6 @@ import org.sirix.service.xml.xpath.AtomicValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.math.BigInteger;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -370,7 +370,7 @@ public abstract class AbstractForwardingXmlNodeReadOnlyTrx extends ForwardingObj
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return delegate().getHash();
   }
 
@@ -153,4 +153,14 @@ public abstract class AbstractForwardingXmlNodeTrx extends AbstractForwardingXml
   public XmlNodeTrx remove() throws SirixException {
     return delegate().remove();
   }
+
+  @Override
+  public XmlNodeTrx setDeferredHashing(boolean deferredHashing) {
+    return delegate().setDeferredHashing(deferredHashing);
+  }
+
+  @Override
+  public XmlNodeTrx adaptDeferredHashes() {
+    return delegate().adaptDeferredHashes();
+  }
 }
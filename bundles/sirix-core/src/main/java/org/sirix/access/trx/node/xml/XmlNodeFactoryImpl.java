@@ -17,13 +17,12 @@ import org.sirix.page.PageKind;
 import org.sirix.page.PathSummaryPage;
 import org.sirix.page.UnorderedKeyValuePage;
 import org.sirix.settings.Fixed;
-import org.sirix.utils.Compression;
 import org.sirix.utils.NamePageHash;
+import org.sirix.utils.SymbolTable;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.zip.Deflater;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -113,11 +112,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     final long revision = pageWriteTrx.getRevisionNumber();
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
         parentKey, hashFunction, null, revision, id);
-    final boolean compression = isCompressed && value.length > 10;
-    final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.HUFFMAN_ONLY)
-        : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueDelegate(nodeDel, value, isCompressed);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return (TextNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new TextNode(valDel, structDel),
@@ -189,14 +184,22 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     final long revision = pageWriteTrx.getRevisionNumber();
     final NodeDelegate nodeDel = new NodeDelegate(pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1,
         parentKey, hashFunction, null, revision, id);
-    final boolean compression = isCompressed && value.length > 10;
-    final byte[] compressedValue = compression
-        ? Compression.compress(value, Deflater.HUFFMAN_ONLY)
-        : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueDelegate(nodeDel, value, isCompressed);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return (CommentNode) pageWriteTrx.createEntry(nodeDel.getNodeKey(), new CommentNode(valDel, structDel),
         PageKind.RECORDPAGE, -1);
   }
+
+  /**
+   * Create the value delegate of a new text or comment node, which is encoded with the symbol table
+   * of the resource, if text compression is enabled.
+   */
+  private ValueNodeDelegate createValueDelegate(final NodeDelegate nodeDel, final byte[] value,
+      final boolean doCompress) {
+    final SymbolTable symbolTable = doCompress
+        ? pageWriteTrx.getResourceManager().getValueDictionary().sample(value)
+        : null;
+    return ValueNodeDelegate.encode(nodeDel, value, symbolTable);
+  }
 }
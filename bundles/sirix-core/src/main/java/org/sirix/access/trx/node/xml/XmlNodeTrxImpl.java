@@ -42,8 +42,10 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.index.path.summary.PathSummarySnapshot;
 import org.sirix.index.path.summary.PathSummaryWriter;
 import org.sirix.index.path.summary.PathSummaryWriter.OPType;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.immutable.xml.ImmutableAttributeNode;
@@ -62,6 +64,7 @@ import org.sirix.service.xml.shredder.InsertPosition;
 import org.sirix.service.xml.shredder.XmlShredder;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
+import org.sirix.utils.SymbolTable;
 import org.sirix.utils.XMLToken;
 
 import javax.annotation.Nonnegative;
@@ -70,7 +73,6 @@ import javax.annotation.Nullable;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
-import java.math.BigInteger;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -744,7 +746,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
 
   private void nonElementHashes() {
     while (getCurrentNode().getKind() != NodeKind.ELEMENT) {
-      BigInteger hashToAdd = getCurrentNode().computeHash();
+      Hash128 hashToAdd = getCurrentNode().computeHash();
       Node node = (Node) pageTrx.prepareEntryForModification(nodeReadOnlyTrx.getCurrentNode().getNodeKey(),
           PageKind.RECORDPAGE, -1);
       node.setHash(hashToAdd);
@@ -1148,7 +1150,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
           moveTo(attKey.get());
           final QNm qName = getName();
           if (name.equals(qName)) {
-            if (getValue().equals(value)) {
+            if (((ValueNode) getCurrentNode()).valueEquals(getBytes(value))) {
               return this;
               // throw new SirixUsageException("Duplicate attribute!");
             } else {
@@ -1405,7 +1407,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
           checkAccessAndCommit();
 
           NameNode node = (NameNode) nodeReadOnlyTrx.getCurrentNode();
-          final BigInteger oldHash = node.computeHash();
+          final Hash128 oldHash = node.computeHash();
 
           // Remove old keys from mapping.
           final NodeKind nodeKind = node.getKind();
@@ -1478,13 +1480,19 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
         // Remove old value from indexes.
         indexController.notifyChange(ChangeType.DELETE, getNode(), pathNodeKey);
 
-        final BigInteger oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
+        final Hash128 oldHash = nodeReadOnlyTrx.getCurrentNode().computeHash();
         final byte[] byteVal = getBytes(value);
 
         final ValueNode node =
             (ValueNode) pageTrx.prepareEntryForModification(nodeReadOnlyTrx.getCurrentNode().getNodeKey(),
                 PageKind.RECORDPAGE, -1);
-        node.setValue(byteVal);
+        // Text and comment values are encoded with the symbol table of the resource, even if the node
+        // has been read back uncompressed.
+        final SymbolTable symbolTable =
+            useTextCompression && (node.getKind() == NodeKind.TEXT || node.getKind() == NodeKind.COMMENT)
+                ? resourceManager.getValueDictionary().sample(byteVal)
+                : null;
+        node.setValue(byteVal, symbolTable);
 
         nodeReadOnlyTrx.setCurrentNode((ImmutableXmlNode) node);
         nodeHashing.adaptHashedWithUpdate(oldHash);
@@ -1520,7 +1528,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
       resourceManager.setNodePageWriteTransaction(getId(), pageTrx);
 
+      final boolean deferredHashing = nodeHashing.isDeferredHashing();
       nodeHashing = new XmlNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing.setDeferredHashing(deferredHashing);
 
       // Reset node factory.
       nodeFactory = null;
@@ -1605,6 +1615,10 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       nodeFactory = null;
       nodeFactory = new XmlNodeFactoryImpl(resourceManager.getResourceConfig().nodeHashFunction, pageTrx);
 
+      final boolean deferredHashing = nodeHashing.isDeferredHashing();
+      nodeHashing = new XmlNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing.setDeferredHashing(deferredHashing);
+
       reInstantiateIndexes();
 
       return this;
@@ -1647,8 +1661,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     // Get a new path summary instance.
     if (buildPathSummary) {
       pathSummaryWriter = null;
-      pathSummaryWriter =
-          new PathSummaryWriter<>(pageTrx, nodeReadOnlyTrx.getResourceManager(), nodeFactory, nodeReadOnlyTrx);
+      pathSummaryWriter = new PathSummaryWriter<>(pageTrx, resourceManager, nodeFactory, nodeReadOnlyTrx);
     }
 
     // Recreate index listeners.
@@ -2051,6 +2064,33 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     return this;
   }
 
+  @Override
+  public XmlNodeTrx setDeferredHashing(final boolean deferredHashing) {
+    acquireLock();
+    try {
+      nodeReadOnlyTrx.assertNotClosed();
+      if (!deferredHashing) {
+        nodeHashing.adaptDeferredHashes();
+      }
+      nodeHashing.setDeferredHashing(deferredHashing);
+      return this;
+    } finally {
+      unLock();
+    }
+  }
+
+  @Override
+  public XmlNodeTrx adaptDeferredHashes() {
+    acquireLock();
+    try {
+      nodeReadOnlyTrx.assertNotClosed();
+      nodeHashing.adaptDeferredHashes();
+      return this;
+    } finally {
+      unLock();
+    }
+  }
+
   @Override
   public XmlNodeTrx replaceNode(final XmlNodeReadOnlyTrx rtx) {
     checkNotNull(rtx);
@@ -2247,6 +2287,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     // Optionally lock while commiting and assigning new instances.
     acquireLock();
     try {
+      // Compute the outstanding hashes first, such that the hooks see the final state.
+      nodeHashing.adaptDeferredHashes();
+
       // Execute pre-commit hooks.
       for (final PreCommitHook hook : mPreCommitHooks) {
         hook.preCommit(this);
@@ -2255,6 +2298,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       // Reset modification counter.
       modificationCount = 0L;
 
+      // Derive the path summary of the new revision from the path summary of the old revision.
+      final PathSummarySnapshot pathSummarySnapshot = buildPathSummary ? pathSummaryWriter.createSnapshot() : null;
+
       final UberPage uberPage = commitMessage == null
           ? pageTrx.commit()
           : pageTrx.commit(commitMessage);
@@ -2262,6 +2308,10 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
 
+      if (pathSummarySnapshot != null) {
+        resourceManager.putPathSummarySnapshot(pathSummarySnapshot);
+      }
+
       // Reinstantiate everything.
       reInstantiate(getId(), getRevisionNumber());
     } finally {
@@ -2292,7 +2342,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
 
     nodeFactory = null;
     nodeFactory = new XmlNodeFactoryImpl(resourceManager.getResourceConfig().nodeHashFunction, pageTrx);
+    final boolean deferredHashing = nodeHashing.isDeferredHashing();
     nodeHashing = new XmlNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+    nodeHashing.setDeferredHashing(deferredHashing);
 
     reInstantiateIndexes();
   }
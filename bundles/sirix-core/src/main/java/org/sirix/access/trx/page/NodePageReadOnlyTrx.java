@@ -232,7 +232,8 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
         throw new IllegalStateException();
     }
 
-    return page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey)).flatMap(this::checkItemIfDeleted);
+    return page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey, this))
+               .flatMap(this::checkItemIfDeleted);
   }
 
   /**
@@ -360,11 +361,19 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
     if (isMostRecentlyReadPage(indexLogKey)) {
       return Optional.of(mostRecentlyReadRecordPage.getPage());
-      //      final var page = mResourceBufferManager.getUnorderedKeyValuePageCache().get(indexLogKey);
-      //
-      //      if (page != null) {
-      //        return Optional.of(page);
-      //      }
+    }
+
+    // Try to get the reconstructed page of this revision, which might have been combined by another
+    // transaction, without traversing the tree of indirect pages. Committed revisions are immutable,
+    // thus only the transaction intent log of a write transaction might contain newer pages.
+    if (trxIntentLog == null) {
+      final Page page = resourceBufferManager.getUnorderedKeyValuePageCache().get(indexLogKey);
+
+      if (page != null) {
+        mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(),
+            indexLogKey.getRecordPageKey(), page);
+        return Optional.of(page);
+      }
     }
 
     final Optional<PageReference> pageReferenceToRecordPage = getLeafPageReference(
@@ -374,11 +383,14 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return Optional.empty();
     }
 
-    // Try to get from resource buffer manager.
+    // Try to get from resource buffer manager. The page is cached under its page reference before it's
+    // cached under the index log key, such that a buffer manager with a memory budget weighs it once.
     if (trxIntentLog == null) {
       final var page = pageReferenceToRecordPage.get().getPage();
 
       if (page != null) {
+        resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage.get(), page);
+        resourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, page);
         mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(),
             indexLogKey.getRecordPageKey(), page);
         return Optional.of(page);
@@ -387,6 +399,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage.get());
 
       if (recordPageFromBuffer != null) {
+        resourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, recordPageFromBuffer);
         mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(),
             indexLogKey.getRecordPageKey(), recordPageFromBuffer);
         return Optional.of(recordPageFromBuffer);
@@ -406,7 +419,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
     if (trxIntentLog == null) {
       resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage.get(), completePage);
-      //      mResourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, completePage);
+      resourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, completePage);
       pageReferenceToRecordPage.get().setPage(completePage);
     }
 
@@ -458,15 +471,21 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   private <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> List<T> getPreviousPageFragments(
       T page) {
-    return page.getPreviousReferenceKeys()
-               .stream()
-               .map(pageFragmentKey -> {
-                 try (final var pageTrx = resourceManager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
-                   return (T) pageTrx.getReader().read(new PageReference().setKey(pageFragmentKey.getKey()), pageTrx);
-                 }
-               })
-               .sorted(Comparator.<T, Integer>comparing(currentPage -> currentPage.getRevision()).reversed())
-               .collect(Collectors.toList());
+    final List<PageReference> pageFragmentReferences = page.getPreviousReferenceKeys()
+                                                           .stream()
+                                                           .map(pageFragmentKey -> new PageReference().setKey(
+                                                               pageFragmentKey.getKey()))
+                                                           .collect(Collectors.toList());
+
+    // The fragments are read at once, such that the reader is able to issue the reads concurrently. Records
+    // of the fragments might be deserialized lazily, that is once this transaction combines the fragments,
+    // thus the fragments are bound to this transaction instead of a transaction, which is opened just to
+    // read a single fragment.
+    return pageReader.readAll(pageFragmentReferences, this)
+                     .stream()
+                     .map(fragment -> (T) fragment)
+                     .sorted(Comparator.<T, Integer>comparing(currentPage -> currentPage.getRevision()).reversed())
+                     .collect(Collectors.toList());
   }
 
   /**
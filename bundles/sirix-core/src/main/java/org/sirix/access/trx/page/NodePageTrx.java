@@ -21,6 +21,7 @@
 
 package org.sirix.access.trx.page;
 
+import org.sirix.access.DurabilityMode;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.access.trx.node.IndexController;
@@ -43,15 +44,17 @@ import org.sirix.page.interfaces.Page;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
 import org.sirix.settings.VersioningType;
+import org.sirix.utils.SirixFiles;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,11 +74,27 @@ import static com.google.common.base.Preconditions.checkNotNull;
 final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     implements PageTrx<Long, DataRecord, UnorderedKeyValuePage> {
 
+  /**
+   * The maximum number of record pages per thread, which are serialized but not written yet during a
+   * commit.
+   */
+  private static final int MAX_PENDING_PAGES_PER_THREAD = 4;
+
   /**
    * Page writer to serialize.
    */
   private final Writer pageWriter;
 
+  /**
+   * Writes the pages of a commit, serializing the record pages concurrently.
+   */
+  private final PageCommitPipeline commitPipeline;
+
+  /**
+   * The keys of the record pages of the document, which are written during a commit.
+   */
+  private final List<Long> modifiedRecordPageKeys = new ArrayList<>();
+
   /**
    * Transaction intent log.
    */
@@ -138,6 +157,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       final IndexController<?, ?> indexController, final int representRevision, final boolean isBoundToNodeTrx) {
     this.treeModifier = checkNotNull(treeModifier);
     pageWriter = checkNotNull(writer);
+    commitPipeline = new PageCommitPipeline(pageWriter, PageCommitPipeline.SERIALIZATION_EXECUTOR,
+        MAX_PENDING_PAGES_PER_THREAD * PageCommitPipeline.PARALLELISM);
     this.log = checkNotNull(log);
     newRevisionRootPage = checkNotNull(revisionRootPage);
     this.pageRtx = checkNotNull(pageRtx);
@@ -300,12 +321,20 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
     reference.setPage(page);
 
-    // Recursively commit indirectly referenced pages and then write self.f
-    page.commit(this);
-    pageWriter.write(reference);
-
-    // Remove page reference.
-    reference.setPage(null);
+    // Record pages are the leaves of the page trees, thus only their overflow pages have to be written
+    // before them. Their records are serialized concurrently and the overflow pages are committed right
+    // before the page is appended. The page reference is removed once the page has been written.
+    if (page instanceof KeyValuePage) {
+      final KeyValuePage<?, ?> keyValuePage = (KeyValuePage<?, ?>) page;
+      if (keyValuePage.getPageKind() == PageKind.RECORDPAGE) {
+        modifiedRecordPageKeys.add(keyValuePage.getPageKey());
+      }
+      commitPipeline.writeAsync(reference, keyValuePage::serializeRecords, () -> keyValuePage.commit(this));
+    } else {
+      // Recursively commit indirectly referenced pages and then write self.
+      page.commit(this);
+      commitPipeline.write(reference);
+    }
   }
 
   @Override
@@ -314,6 +343,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
     pageRtx.resourceManager.getCommitLock().lock();
 
+    final ResourceConfiguration resourceConfig = pageRtx.getResourceManager().getResourceConfig();
+    final DurabilityMode durabilityMode = resourceConfig.durabilityMode;
+
     final Path commitFile = pageRtx.resourceManager.getCommitFile();
     commitFile.toFile().deleteOnExit();
     // Issues with windows that it's not created in the first time?
@@ -325,6 +357,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       }
     }
 
+    // The commit file has to be durable before any page is written, such that a crashed commit is detected.
+    if (durabilityMode != DurabilityMode.NO_SYNC) {
+      syncCommitFile(commitFile, true);
+    }
+
     final PageReference uberPageReference = new PageReference();
     final UberPage uberPage = getUberPage();
     uberPageReference.setPage(uberPage);
@@ -336,14 +373,24 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       getActualRevisionRootPage().setCommitMessage(commitMessage);
     }
 
+    // A revision, which reverts to an older revision, might change records without modifying their pages.
+    final boolean isFullChange = representRevision != pageRtx.resourceManager.getMostRecentRevisionNumber();
+    modifiedRecordPageKeys.clear();
+
     // Recursively write indirectly referenced pages.
     uberPage.commit(this);
+    commitPipeline.flush();
+
+    // The pages have to be durable, before the uber page referencing them is written.
+    durabilityMode.force(pageWriter);
 
     uberPageReference.setPage(uberPage);
     pageWriter.writeUberPageReference(uberPageReference);
     uberPageReference.setPage(null);
 
-    final Path indexes = pageRtx.getResourceManager().getResourceConfig().resourcePath.resolve(
+    durabilityMode.force(pageWriter);
+
+    final Path indexes = resourceConfig.resourcePath.resolve(
         ResourceConfiguration.ResourcePaths.INDEXES.getPath()).resolve(revision + ".xml");
 
     if (!Files.exists(indexes)) {
@@ -354,12 +401,25 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       }
     }
 
-    try (final OutputStream out = new FileOutputStream(indexes.toFile())) {
+    try (final FileOutputStream out = new FileOutputStream(indexes.toFile())) {
       indexController.serialize(out);
+      if (durabilityMode != DurabilityMode.NO_SYNC) {
+        out.getFD().sync();
+      }
     } catch (final IOException e) {
       throw new SirixIOException("Index definitions couldn't be serialized!", e);
     }
 
+    pageRtx.resourceManager.getRecordChangeHistory()
+                           .append(revision, isFullChange,
+                               modifiedRecordPageKeys.stream().mapToLong(Long::longValue).toArray());
+    modifiedRecordPageKeys.clear();
+    final RevisionRootPage revisionRootPage = getActualRevisionRootPage();
+    pageRtx.resourceManager.getRevisionIndex()
+                           .append(revision, revisionRootPage.getRevisionTimestamp(),
+                               revisionRootPage.getUser().orElse(null),
+                               revisionRootPage.getCommitCredentials().getMessage());
+
     log.truncate();
 
     // Delete commit file which denotes that a commit must write the log in the data file.
@@ -369,6 +429,10 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       throw new SirixIOException("Commit file couldn't be deleted!");
     }
 
+    if (durabilityMode != DurabilityMode.NO_SYNC) {
+      syncCommitFile(commitFile, false);
+    }
+
     final UberPage commitedUberPage = (UberPage) pageWriter.read(pageWriter.readUberPageReference(), pageRtx);
     pageRtx.resourceManager.getCommitLock().unlock();
     return commitedUberPage;
@@ -379,6 +443,23 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     return commit((String) null);
   }
 
+  /**
+   * Force the commit file (if it exists) and the entry of its directory to the storage device.
+   *
+   * @param commitFile the commit file
+   * @param exists {@code true}, if the commit file has been created, {@code false} if it has been deleted
+   */
+  private static void syncCommitFile(final Path commitFile, final boolean exists) {
+    try {
+      if (exists) {
+        SirixFiles.sync(commitFile);
+      }
+      SirixFiles.syncDirectory(commitFile.getParent());
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException("Commit file couldn't be synced!", e.getCause());
+    }
+  }
+
   @Override
   public UberPage rollback() {
     pageRtx.assertNotClosed();
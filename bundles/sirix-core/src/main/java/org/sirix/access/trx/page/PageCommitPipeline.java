@@ -0,0 +1,172 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Writer;
+import org.sirix.page.PageReference;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes the pages of a commit. Pages, which don't reference pages written afterwards (the record
+ * pages), are serialized and compressed concurrently on an executor, including their records, whereas
+ * the calling thread appends all pages in the order they have been passed in. Pages, which are
+ * referenced by a concurrently serialized page (the overflow pages of large records), are committed by
+ * the calling thread right before the page is appended. Thus, the offsets and the on-disk layout are the
+ * same as if the pages would have been written one after the other.
+ */
+final class PageCommitPipeline {
+
+  /** The number of threads, which serialize the pages of all commits. */
+  static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Serializes the pages of all commits. Serialization is CPU bound, thus it runs on its own threads
+   * instead of a pool shared with blocking reads or other work, such as the common fork-join pool.
+   */
+  static final Executor SERIALIZATION_EXECUTOR = createSerializationExecutor();
+
+  /** A page, which is being serialized. */
+  private static final class PendingPage {
+    private final PageReference reference;
+
+    /** The serialized page, or {@code null} if referenced pages have to be committed first. */
+    private final CompletableFuture<byte[]> serializedPage;
+
+    private final Runnable commitReferencedPages;
+
+    PendingPage(final PageReference reference, final CompletableFuture<byte[]> serializedPage,
+        final Runnable commitReferencedPages) {
+      this.reference = reference;
+      this.serializedPage = serializedPage;
+      this.commitReferencedPages = commitReferencedPages;
+    }
+  }
+
+  /** The writer, which appends the pages. */
+  private final Writer writer;
+
+  /** Executes the serialization of the pages. */
+  private final Executor executor;
+
+  /** The maximum number of pages, which are serialized but not appended yet. */
+  private final int maxPendingPages;
+
+  /** The pages in the order they have to be appended. */
+  private final Deque<PendingPage> pendingPages = new ArrayDeque<>();
+
+  /** Determines if the pages referenced by the page, which is appended next, are committed. */
+  private boolean isCommittingReferencedPages;
+
+  /**
+   * Constructor.
+   *
+   * @param writer          the writer, which appends the pages
+   * @param executor        executes the serialization of the pages
+   * @param maxPendingPages the maximum number of pages, which are serialized but not appended yet
+   */
+  PageCommitPipeline(final Writer writer, final Executor executor, final int maxPendingPages) {
+    checkArgument(maxPendingPages > 0, "maxPendingPages must be > 0!");
+    this.writer = checkNotNull(writer);
+    this.executor = checkNotNull(executor);
+    this.maxPendingPages = maxPendingPages;
+  }
+
+  private static Executor createSerializationExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "sirix-page-serializer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    // Threads are only kept while commits are in progress.
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Serialize the page of the reference concurrently and append it once all previously passed pages
+   * have been appended. The reference must not be needed to serialize any other page before
+   * {@link #flush()} has been called.
+   *
+   * @param reference             reference to the page to write
+   * @param prepare               prepares the page concurrently, for instance serializes its records, and
+   *                              returns {@code true}, if the page references pages, which have to be
+   *                              committed before it is serialized
+   * @param commitReferencedPages commits the pages referenced by the page in the calling thread, right
+   *                              before the page is appended
+   */
+  void writeAsync(final PageReference reference, final BooleanSupplier prepare,
+      final Runnable commitReferencedPages) {
+    if (pendingPages.size() >= maxPendingPages) {
+      appendNext();
+    }
+    final CompletableFuture<byte[]> serializedPage =
+        CompletableFuture.supplyAsync(() -> prepare.getAsBoolean() ? null : writer.serializePage(reference), executor);
+    pendingPages.add(new PendingPage(reference, serializedPage, commitReferencedPages));
+  }
+
+  /**
+   * Append all pending pages and afterwards the page of the reference. Pages, which are referenced by
+   * the page appended next, are appended directly.
+   *
+   * @param reference reference to the page to write
+   */
+  void write(final PageReference reference) {
+    if (!isCommittingReferencedPages) {
+      flush();
+    }
+    writer.write(reference);
+    reference.setPage(null);
+  }
+
+  /**
+   * Append all pending pages.
+   */
+  void flush() {
+    while (!pendingPages.isEmpty()) {
+      appendNext();
+    }
+  }
+
+  private void appendNext() {
+    final PendingPage pendingPage = pendingPages.remove();
+    try {
+      byte[] serializedPage = pendingPage.serializedPage.join();
+
+      // The referenced pages are appended first, as their offsets are serialized with the page.
+      isCommittingReferencedPages = true;
+      try {
+        pendingPage.commitReferencedPages.run();
+      } finally {
+        isCommittingReferencedPages = false;
+      }
+      if (serializedPage == null) {
+        serializedPage = writer.serializePage(pendingPage.reference);
+      }
+
+      writer.write(pendingPage.reference, serializedPage);
+      pendingPage.reference.setPage(null);
+    } catch (final CompletionException e) {
+      pendingPages.clear();
+      if (e.getCause() instanceof SirixIOException) {
+        throw (SirixIOException) e.getCause();
+      }
+      throw new SirixIOException("Page couldn't be serialized!", e.getCause());
+    } catch (final RuntimeException e) {
+      pendingPages.clear();
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package org.sirix.access.trx.page;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Reader;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Walks the page trees of all revisions of a resource and verifies the checksums of the pages
+ * against the checksums stored in their references, such that corrupt pages are detected before a
+ * transaction reads them. The overflow pages of large records are verified, too. Pages shared by
+ * several revisions are verified once. Submit the scrubber to an executor to scrub a resource in the
+ * background.
+ */
+public final class PageScrubber implements Callable<List<PageScrubber.CorruptPage>> {
+
+  /** {@link LogWrapper} reference. */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(PageScrubber.class));
+
+  /** A page, which doesn't match its checksum or can't be read. */
+  public static final class CorruptPage {
+    private final int revision;
+
+    private final long offset;
+
+    private final String reason;
+
+    CorruptPage(final int revision, final long offset, final String reason) {
+      this.revision = revision;
+      this.offset = offset;
+      this.reason = reason;
+    }
+
+    /**
+     * Get the first revision, in which the corrupt page has been found.
+     *
+     * @return the revision
+     */
+    public int getRevision() {
+      return revision;
+    }
+
+    /**
+     * Get the offset of the page in the data file.
+     *
+     * @return the offset
+     */
+    public long getOffset() {
+      return offset;
+    }
+
+    /**
+     * Get the reason, why the page is considered to be corrupt.
+     *
+     * @return the reason
+     */
+    public String getReason() {
+      return reason;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+                        .add("revision", revision)
+                        .add("offset", offset)
+                        .add("reason", reason)
+                        .toString();
+    }
+  }
+
+  /** The resource manager of the resource to scrub. */
+  private final ResourceManager<?, ?> resourceManager;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager of the resource to scrub
+   */
+  public PageScrubber(final ResourceManager<?, ?> resourceManager) {
+    this.resourceManager = checkNotNull(resourceManager);
+  }
+
+  /**
+   * Scrub all revisions, which have been committed when the scrub starts.
+   *
+   * @return the corrupt pages, which are also logged
+   */
+  @Override
+  public List<CorruptPage> call() {
+    final int mostRecentRevision = resourceManager.getMostRecentRevisionNumber();
+    final Set<Long> visitedPageKeys = new HashSet<>();
+    final List<CorruptPage> corruptPages = new ArrayList<>();
+
+    for (int revision = 0; revision <= mostRecentRevision; revision++) {
+      try (final PageReadOnlyTrx pageReadTrx = resourceManager.beginPageReadOnlyTrx(revision)) {
+        scrub(pageReadTrx, revision, visitedPageKeys, corruptPages);
+      }
+    }
+
+    return corruptPages;
+  }
+
+  private static void scrub(final PageReadOnlyTrx pageReadTrx, final int revision, final Set<Long> visitedPageKeys,
+      final List<CorruptPage> corruptPages) {
+    final Reader reader = pageReadTrx.getReader();
+    final Deque<PageReference> references =
+        new ArrayDeque<>(pageReadTrx.getActualRevisionRootPage().getReferences());
+
+    while (!references.isEmpty()) {
+      final PageReference reference = references.pop();
+      final long key = reference.getKey();
+      if (key == Constants.NULL_ID_LONG || !visitedPageKeys.add(key)) {
+        continue;
+      }
+
+      // Each page is read once, its checksum is verified and afterwards it's deserialized.
+      final Optional<Page> page;
+      try {
+        page = reader.readIfChecksumMatches(reference, pageReadTrx);
+      } catch (final SirixIOException | IllegalStateException | IndexOutOfBoundsException e) {
+        report(corruptPages, new CorruptPage(revision, key, "Page couldn't be read: " + e.getMessage()));
+        continue;
+      }
+
+      if (page.isEmpty()) {
+        report(corruptPages, new CorruptPage(revision, key, "Checksum mismatch."));
+        continue;
+      }
+
+      // Record pages reference the overflow pages of their large records, overflow pages are leaves.
+      final Collection<PageReference> childReferences;
+      if (page.get() instanceof KeyValuePage) {
+        childReferences = ((KeyValuePage<?, ?>) page.get()).referenceEntrySet()
+                                                           .stream()
+                                                           .map(Map.Entry::getValue)
+                                                           .collect(Collectors.toList());
+      } else if (page.get() instanceof OverflowPage) {
+        childReferences = List.of();
+      } else {
+        childReferences = page.get().getReferences();
+      }
+
+      for (final PageReference childReference : childReferences) {
+        if (childReference != null) {
+          references.push(childReference);
+        }
+      }
+    }
+  }
+
+  private static void report(final List<CorruptPage> corruptPages, final CorruptPage corruptPage) {
+    LOGWRAPPER.error("Corrupt page found: {}", corruptPage);
+    corruptPages.add(corruptPage);
+  }
+}
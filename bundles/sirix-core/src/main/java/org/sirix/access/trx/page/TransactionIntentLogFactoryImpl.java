@@ -73,7 +73,8 @@ final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFacto
 
       final PersistentFileCache persistentFileCache = new PersistentFileCache(fileWriter);
 
-      return new TransactionIntentLog(persistentFileCache, 1 << 11);
+      return new TransactionIntentLog(persistentFileCache, resourceConfig.intentLogHeapCapacity,
+          resourceConfig.intentLogOffHeapCapacity);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -2,8 +2,12 @@ package org.sirix.api;
 
 import org.sirix.api.json.JsonResourceManager;
 
+import java.io.Writer;
+
 public interface JsonDiff {
   String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber);
 
   String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber, long startNodeKey, long maxDepth);
+
+  void generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber, long startNodeKey, long maxDepth, Writer out);
 }
@@ -5,10 +5,10 @@ import org.sirix.access.User;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 
-import java.math.BigInteger;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -165,7 +165,7 @@ public interface NodeReadOnlyTrx extends AutoCloseable {
    *
    * @return the hash code
    */
-  BigInteger getHash();
+  Hash128 getHash();
 
   /**
    * Get the value of the current node or {@code null}.
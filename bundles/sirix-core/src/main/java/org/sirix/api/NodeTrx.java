@@ -99,4 +99,26 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
   Optional<User> getUserOfRevisionToRepresent();
 
   NodeTrx remove();
+
+  /**
+   * Determines if the rolling hashes and descendant counts of the ancestors of modified nodes are
+   * adapted with each modification (the default) or if they are computed once per touched node
+   * during the next commit or during a call of {@link #adaptDeferredHashes()}. Deferring pays off
+   * for many small modifications in deep subtrees, but the hashes and descendant counts of the
+   * touched nodes are outdated until they are computed. Once computed, they are the same as with
+   * immediate hashing. Has no effect if the resource doesn't use rolling hashes.
+   *
+   * @param deferredHashing {@code true} to defer hashing, {@code false} to adapt the hashes with
+   *        each modification (outstanding hashes are computed first)
+   * @return NodeTrx return current instance
+   */
+  NodeTrx setDeferredHashing(boolean deferredHashing);
+
+  /**
+   * Compute the hashes and descendant counts of all nodes touched since deferred hashing has been
+   * enabled, since the last commit or since the last call of this method.
+   *
+   * @return NodeTrx return current instance
+   */
+  NodeTrx adaptDeferredHashes();
 }
@@ -24,6 +24,9 @@ package org.sirix.api;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.IndexController;
+import org.sirix.access.trx.node.RecordChangeHistory;
+import org.sirix.access.trx.node.RevisionIndex;
+import org.sirix.access.trx.node.ValueDictionary;
 import org.sirix.access.trx.node.xml.XmlIndexController;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
@@ -272,6 +275,27 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
    */
   ResourceConfiguration getResourceConfig();
 
+  /**
+   * Get the revisions in which the records of the resource have been changed.
+   *
+   * @return the {@link RecordChangeHistory} instance
+   */
+  RecordChangeHistory getRecordChangeHistory();
+
+  /**
+   * Get the timestamps, users and commit messages of the revisions of the resource.
+   *
+   * @return the {@link RevisionIndex} instance
+   */
+  RevisionIndex getRevisionIndex();
+
+  /**
+   * Get the symbol table, with which text values are compressed, if text compression is enabled.
+   *
+   * @return the {@link ValueDictionary} instance
+   */
+  ValueDictionary getValueDictionary();
+
   /**
    * Get the index controller.
    *
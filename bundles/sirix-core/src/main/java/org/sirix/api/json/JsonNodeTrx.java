@@ -50,4 +50,8 @@ public interface JsonNodeTrx extends JsonNodeReadOnlyTrx, NodeTrx {
   JsonNodeTrx insertSubtreeAsFirstChild(JsonReader reader, boolean doImplicitCommit);
 
   JsonNodeTrx insertSubtreeAsRightSibling(JsonReader reader, boolean doImplicitCommit);
+
+  JsonNodeTrx setDeferredHashing(boolean deferredHashing);
+
+  JsonNodeTrx adaptDeferredHashes();
 }
@@ -26,6 +26,7 @@ import org.sirix.api.*;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.ValueNode;
@@ -37,7 +38,6 @@ import org.sirix.service.xml.xpath.AtomicValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.math.BigInteger;
 import java.util.List;
 
 /**
@@ -291,8 +291,6 @@ public interface XmlNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
    */
   int getLocalNameKey();
 
-
-
   // /**
   // * Clone an instance, that is just create a new instance and move the new
   // * {@link XdmNodeReadTrx} to the current node.
@@ -389,7 +387,7 @@ public interface XmlNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
    * @return hash value
    */
   @Override
-  BigInteger getHash();
+  Hash128 getHash();
 
   /**
    * Get all attributes of currently selected node (only for elements useful, otherwise returns an
@@ -541,4 +541,10 @@ public interface XmlNodeTrx extends XmlNodeReadOnlyTrx, NodeTrx {
 
   @Override
   XmlNodeTrx truncateTo(int revision);
+
+  @Override
+  XmlNodeTrx setDeferredHashing(boolean deferredHashing);
+
+  @Override
+  XmlNodeTrx adaptDeferredHashes();
 }
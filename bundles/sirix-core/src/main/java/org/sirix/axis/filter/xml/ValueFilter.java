@@ -25,6 +25,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.axis.filter.AbstractFilter;
 import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.immutable.ImmutableValueNode;
+import org.sirix.utils.SymbolTable;
 import org.sirix.utils.TypedValue;
 
 /**
@@ -37,6 +39,12 @@ public final class ValueFilter extends AbstractFilter<XmlNodeReadOnlyTrx> {
   /** Value test to do. */
   private final byte[] mValue;
 
+  /** The symbol table of the resource, with which {@link #mEncodedValue} has been encoded. */
+  private SymbolTable mSymbolTable;
+
+  /** The value encoded with the symbol table of the resource, once the table has been trained. */
+  private byte[] mEncodedValue;
+
   /**
    * Constructor initializing internal state.
    *
@@ -80,8 +88,20 @@ public final class ValueFilter extends AbstractFilter<XmlNodeReadOnlyTrx> {
 
   @Override
   public final boolean filter() {
-    return (getTrx().getKind() == NodeKind.TEXT || getTrx().getKind() == NodeKind.ATTRIBUTE)
-        && (TypedValue.equals(getTrx().getValue(), mValue));
+    if (getTrx().getKind() != NodeKind.TEXT && getTrx().getKind() != NodeKind.ATTRIBUTE) {
+      return false;
+    }
+
+    // The value is encoded once per symbol table, such that encoded values are compared without
+    // decoding them and without encoding the value for each node. The table might be trained while
+    // the filter is used.
+    final SymbolTable symbolTable = getTrx().getResourceManager().getValueDictionary().getSymbolTable();
+    if (symbolTable != null && symbolTable != mSymbolTable) {
+      mSymbolTable = symbolTable;
+      mEncodedValue = symbolTable.encode(mValue);
+    }
+
+    return ((ImmutableValueNode) getTrx().getNode()).valueEquals(mValue, mSymbolTable, mEncodedValue);
   }
 
 }
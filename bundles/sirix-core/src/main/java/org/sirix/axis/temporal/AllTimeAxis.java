@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
+import org.sirix.access.trx.node.RecordChangeHistory;
 import org.sirix.api.ResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.axis.AbstractTemporalAxis;
@@ -32,6 +33,15 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Determines if node has been found before and now has been deleted. */
   private boolean mHasMoved;
 
+  /** Determines which versions of the node are retrieved. */
+  private final Versions mVersions;
+
+  /**
+   * The revisions in which the records have been changed, or {@code null}, if the node is retrieved
+   * in all revisions.
+   */
+  private final RecordChangeHistory mChangeHistory;
+
   /**
    * Constructor.
    *
@@ -39,9 +49,30 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    * @param rtx the read only transactional cursor
    */
   public AllTimeAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+    this(resourceManager, rtx, Versions.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the read only transactional cursor
+   * @param versions determines if the node is retrieved in all revisions or only in the revisions
+   *        in which it might have changed
+   */
+  public AllTimeAxis(final ResourceManager<R, W> resourceManager, final R rtx, final Versions versions) {
     mResourceManager = checkNotNull(resourceManager);
-    mRevision = 1;
+    mVersions = checkNotNull(versions);
     mNodeKey = rtx.getNodeKey();
+    if (mVersions == Versions.DISTINCT) {
+      mChangeHistory = resourceManager.getRecordChangeHistory();
+      // The node can't exist before its record page has been modified for the first time.
+      mRevision = mChangeHistory.nextChange(mNodeKey, 0);
+    } else {
+      // Only consulted for distinct versions, as opening the history might create its file.
+      mChangeHistory = null;
+      mRevision = 1;
+    }
   }
 
   @Override
@@ -56,7 +87,7 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
         rtx = mResourceManager.beginNodeReadOnlyTrx(mRevision);
       }
 
-      mRevision++;
+      mRevision = mVersions == Versions.DISTINCT ? mChangeHistory.nextChange(mNodeKey, mRevision) : mRevision + 1;
 
       if (rtx.moveTo(mNodeKey).hasMoved()) {
         mHasMoved = true;
@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
+import org.sirix.access.trx.node.RecordChangeHistory;
 import org.sirix.api.ResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.axis.AbstractTemporalAxis;
@@ -31,6 +32,15 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Node key to lookup and retrieve. */
   private long mNodeKey;
 
+  /** Determines which versions of the node are retrieved. */
+  private final Versions mVersions;
+
+  /**
+   * The revisions in which the records have been changed, or {@code null}, if the node is retrieved
+   * in all revisions.
+   */
+  private final RecordChangeHistory mChangeHistory;
+
   /**
    * Constructor.
    *
@@ -49,11 +59,31 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    * @param includeSelf determines if current revision must be included or not
    */
   public FutureAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf) {
+    this(resourceManager, rtx, includeSelf, Versions.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the transactional read only cursor
+   * @param includeSelf determines if current revision must be included or not
+   * @param versions determines if the node is retrieved in all revisions or only in the revisions
+   *        in which it might have changed
+   */
+  public FutureAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf,
+      final Versions versions) {
     mResourceManager = checkNotNull(resourceManager);
+    mVersions = checkNotNull(versions);
     mNodeKey = rtx.getNodeKey();
+    mChangeHistory = mVersions == Versions.DISTINCT ? resourceManager.getRecordChangeHistory() : null;
     mRevision = checkNotNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
-        : rtx.getRevisionNumber() + 1;
+        : nextRevision(rtx.getRevisionNumber());
+  }
+
+  private int nextRevision(final int revision) {
+    return mVersions == Versions.DISTINCT ? mChangeHistory.nextChange(mNodeKey, revision) : revision + 1;
   }
 
   @Override
@@ -69,7 +99,7 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
         rtx = mResourceManager.beginNodeReadOnlyTrx(mRevision);
       }
 
-      mRevision++;
+      mRevision = nextRevision(mRevision);
 
       if (rtx.moveTo(mNodeKey).hasMoved()) {
         return rtx;
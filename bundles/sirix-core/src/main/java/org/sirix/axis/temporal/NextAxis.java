@@ -35,10 +35,23 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @param rtx Sirix {@link NodeReadOnlyTrx}
    */
   public NextAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+    this(resourceManager, rtx, Versions.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx Sirix {@link NodeReadOnlyTrx}
+   * @param versions determines if the node is retrieved in the next revision or in the next revision
+   *        in which it might have changed
+   */
+  public NextAxis(final ResourceManager<R, W> resourceManager, final R rtx, final Versions versions) {
     mResourceManager = checkNotNull(resourceManager);
-    mRevision = 0;
     mNodeKey = rtx.getNodeKey();
-    mRevision = rtx.getRevisionNumber() + 1;
+    mRevision = checkNotNull(versions) == Versions.DISTINCT
+        ? resourceManager.getRecordChangeHistory().nextChange(mNodeKey, rtx.getRevisionNumber())
+        : rtx.getRevisionNumber() + 1;
     mFirst = true;
   }
 
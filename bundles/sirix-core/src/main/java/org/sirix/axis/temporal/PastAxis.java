@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
+import org.sirix.access.trx.node.RecordChangeHistory;
 import org.sirix.api.ResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.axis.AbstractTemporalAxis;
@@ -31,6 +32,15 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private long mNodeKey;
 
+  /** Determines which versions of the node are retrieved. */
+  private final Versions mVersions;
+
+  /**
+   * The revisions in which the records have been changed, or {@code null}, if the node is retrieved
+   * in all revisions.
+   */
+  private final RecordChangeHistory mChangeHistory;
+
   /**
    * Constructor.
    *
@@ -49,12 +59,31 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @param includeSelf determines if current revision must be included or not
    */
   public PastAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf) {
+    this(resourceManager, rtx, includeSelf, Versions.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the transactional read only cursor
+   * @param includeSelf determines if current revision must be included or not
+   * @param versions determines if the node is retrieved in all revisions or only in the last revision
+   *        of each version, that is the revision before the next version might have been created
+   */
+  public PastAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf,
+      final Versions versions) {
     mResourceManager = checkNotNull(resourceManager);
-    mRevision = 0;
+    mVersions = checkNotNull(versions);
     mNodeKey = rtx.getNodeKey();
+    mChangeHistory = mVersions == Versions.DISTINCT ? resourceManager.getRecordChangeHistory() : null;
     mRevision = checkNotNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
-        : rtx.getRevisionNumber() - 1;
+        : previousRevision(rtx.getRevisionNumber());
+  }
+
+  private int previousRevision(final int revision) {
+    return mVersions == Versions.DISTINCT ? mChangeHistory.previousChange(mNodeKey, revision) - 1 : revision - 1;
   }
 
   @Override
@@ -69,7 +98,7 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
         rtx = mResourceManager.beginNodeReadOnlyTrx(mRevision);
       }
 
-      mRevision--;
+      mRevision = previousRevision(mRevision);
 
       if (rtx.moveTo(mNodeKey).hasMoved())
         return rtx;
@@ -35,9 +35,23 @@ public final class PreviousAxis<R extends NodeReadOnlyTrx & NodeCursor, W extend
    * @param rtx Sirix {@link NodeReadOnlyTrx}
    */
   public PreviousAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+    this(resourceManager, rtx, Versions.ALL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx Sirix {@link NodeReadOnlyTrx}
+   * @param versions determines if the node is retrieved in the previous revision or in the last
+   *        revision of its previous version, that is the revision before it might have changed
+   */
+  public PreviousAxis(final ResourceManager<R, W> resourceManager, final R rtx, final Versions versions) {
     mResourceManager = checkNotNull(resourceManager);
     mNodeKey = rtx.getNodeKey();
-    mRevision = rtx.getRevisionNumber() - 1;
+    mRevision = checkNotNull(versions) == Versions.DISTINCT
+        ? resourceManager.getRecordChangeHistory().previousChange(mNodeKey, rtx.getRevisionNumber()) - 1
+        : rtx.getRevisionNumber() - 1;
     mFirst = true;
   }
 
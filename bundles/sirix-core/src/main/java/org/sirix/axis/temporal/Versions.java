@@ -0,0 +1,13 @@
+package org.sirix.axis.temporal;
+
+/** Determines which versions of a node a temporal axis retrieves. */
+public enum Versions {
+  /** The node in each revision. */
+  ALL,
+
+  /**
+   * The node only in the revisions, in which it might have changed, such that identical versions
+   * in revisions in between are skipped.
+   */
+  DISTINCT
+}
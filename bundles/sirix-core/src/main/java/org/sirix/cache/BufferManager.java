@@ -12,4 +12,10 @@ public interface BufferManager {
   Cache<PageReference, Page> getPageCache();
 
   Cache<Integer, RevisionRootPage> getRevisionRootPageCache();
+
+  /**
+   * Release the buffer manager, once the resource isn't used anymore.
+   */
+  default void close() {
+  }
 }
@@ -0,0 +1,95 @@
+package org.sirix.cache;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counters of a single resource in the {@link GlobalBufferManager}.
+ */
+public final class BufferManagerStatistics {
+
+  /** Number of cache hits. */
+  private final LongAdder hits = new LongAdder();
+
+  /** Number of cache misses. */
+  private final LongAdder misses = new LongAdder();
+
+  /** Number of pages evicted, because the memory budget has been exceeded. */
+  private final LongAdder evictions = new LongAdder();
+
+  /** Accumulated weight in bytes of the evicted pages. */
+  private final LongAdder evictedWeight = new LongAdder();
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  void recordEviction(final int weight) {
+    evictions.increment();
+    evictedWeight.add(weight);
+  }
+
+  /**
+   * Get the number of cache hits.
+   *
+   * @return the number of cache hits
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of cache misses.
+   *
+   * @return the number of cache misses
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the number of pages evicted, because the memory budget has been exceeded.
+   *
+   * @return the number of evicted pages
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Get the accumulated (estimated) size in bytes of all evicted pages.
+   *
+   * @return the accumulated size in bytes of all evicted pages
+   */
+  public long getEvictionWeight() {
+    return evictedWeight.sum();
+  }
+
+  /**
+   * Get the ratio of cache hits to all requests.
+   *
+   * @return the hit ratio or {@code 1.0}, if no request has been made so far
+   */
+  public double getHitRate() {
+    final long hitCount = getHitCount();
+    final long requestCount = hitCount + getMissCount();
+    return requestCount == 0
+        ? 1.0
+        : (double) hitCount / requestCount;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("hits", getHitCount())
+                      .add("misses", getMissCount())
+                      .add("evictions", getEvictionCount())
+                      .add("evictionWeight", getEvictionWeight())
+                      .toString();
+  }
+}
@@ -0,0 +1,475 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.google.common.base.MoreObjects;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A buffer manager, which caches the pages of all resources in a single cache. Pages are weighted
+ * by their (estimated) size in bytes and evicted across all resources as soon as the configured
+ * memory budget is exceeded. That way a large hot resource is able to use the memory, which is not
+ * needed by the other resources. A page, which is cached under its page reference and under
+ * another key, for instance a record page also cached by its index log key, is weighed once: the
+ * other entry refers to the entry keyed by the page reference.
+ *
+ * <p>Each resource gets a view implementing the {@link BufferManager} interface through
+ * {@link #getResourceBufferManager(Path)}. Hits, misses and evictions are tracked per resource.</p>
+ *
+ * <p>Record pages grow once they are cached, as their records are deserialized lazily. Thus, the
+ * pages retrieved since the last put are weighed again with the next put, before the cache decides
+ * whether to evict pages.</p>
+ */
+public final class GlobalBufferManager {
+
+  /** The default memory budget in bytes: a fourth of the maximum heap size. */
+  public static final long DEFAULT_MAX_WEIGHT = Runtime.getRuntime().maxMemory() / 4;
+
+  /** Estimated fixed overhead of an in-memory page in bytes. */
+  private static final int PAGE_OVERHEAD = 1 << 10;
+
+  /** Estimated average size of a deserialized record in bytes. */
+  private static final int RECORD_WEIGHT = 1 << 7;
+
+  /** Estimated average size of a record, which hasn't been deserialized so far, in bytes. */
+  private static final int SERIALIZED_RECORD_WEIGHT = 1 << 5;
+
+  /** Estimated size of an entry in bytes, which refers to a page cached under its page reference. */
+  private static final int LINK_WEIGHT = 1 << 6;
+
+  /** The kinds of caches of a resource. */
+  private enum CacheKind {
+    PAGE,
+
+    RECORD_PAGE,
+
+    UNORDERED_KEY_VALUE_PAGE,
+
+    REVISION_ROOT_PAGE
+  }
+
+  /**
+   * The cache shared by all resources, which maps to the pages or to the key of a page cached under
+   * its page reference.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<CacheKey, Object> cache;
+
+  /** The keys of the pages cached under their page reference, looked up by the identity of the pages. */
+  private final com.github.benmanes.caffeine.cache.Cache<Page, CacheKey> pageReferenceKeys;
+
+  /** Statistics for each resource. */
+  private final ConcurrentMap<Path, BufferManagerStatistics> statistics;
+
+  /** The number of buffer managers of each resource, which haven't been closed so far. */
+  private final Map<Path, Integer> openBufferManagers;
+
+  /** The resources, which have been removed while buffer managers of them have been open. */
+  private final Set<Path> removedResources;
+
+  /**
+   * The keys of the record pages, which have been retrieved since the last put. Their records are
+   * usually deserialized, so they are weighed again with the next put.
+   */
+  private final Set<CacheKey> retrievedKeys;
+
+  /** The memory budget in bytes. */
+  private final long maxWeight;
+
+  /**
+   * Constructor.
+   *
+   * @param maxWeight the memory budget in bytes
+   */
+  public GlobalBufferManager(final @Nonnegative long maxWeight) {
+    checkArgument(maxWeight > 0, "The memory budget must be > 0.");
+    this.maxWeight = maxWeight;
+    statistics = new ConcurrentHashMap<>();
+    openBufferManagers = new HashMap<>();
+    removedResources = new HashSet<>();
+    retrievedKeys = ConcurrentHashMap.newKeySet();
+    pageReferenceKeys = Caffeine.newBuilder().weakKeys().build();
+
+    final RemovalListener<CacheKey, Object> removalListener = (CacheKey key, Object value, RemovalCause cause) -> {
+      assert key != null;
+      if (key.key instanceof PageReference) {
+        ((PageReference) key.key).setPage(null);
+        // The page might have been put again under the same key in the meantime.
+        if (value != null && this.cache.asMap().get(key) != value) {
+          pageReferenceKeys.asMap().remove(value, key);
+        }
+      }
+      if (cause.wasEvicted() && value != null) {
+        // The statistics of a removed resource are gone.
+        final BufferManagerStatistics resourceStatistics = statistics.get(key.resource);
+        if (resourceStatistics != null) {
+          resourceStatistics.recordEviction(weigh(key, value));
+        }
+      }
+    };
+
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maxWeight)
+                    .weigher(GlobalBufferManager::weigh)
+                    .removalListener(removalListener)
+                    .build();
+  }
+
+  /**
+   * Estimate the in-memory size of a page in bytes.
+   *
+   * @param key the cache key
+   * @param value the page to weigh or the key of the page cached under its page reference
+   * @return the estimated size of the page or of the link to the page in bytes
+   */
+  private static int weigh(final CacheKey key, final Object value) {
+    if (value instanceof CacheKey) {
+      return LINK_WEIGHT;
+    }
+    final Page page = (Page) value;
+    if (!(page instanceof KeyValuePage) && key.key instanceof PageReference) {
+      return PAGE_OVERHEAD + ((PageReference) key.key).getLength();
+    }
+    return weigh(page);
+  }
+
+  /**
+   * Estimate the in-memory size of a page in bytes, without knowing its serialized size.
+   *
+   * @param page the page to weigh
+   * @return the estimated size of the page in bytes
+   */
+  static int weigh(final Page page) {
+    if (page instanceof KeyValuePage) {
+      final int size = ((KeyValuePage<?, ?>) page).size();
+      final int deserializedRecordCount =
+          page instanceof UnorderedKeyValuePage ? ((UnorderedKeyValuePage) page).getDeserializedRecordCount() : size;
+      return PAGE_OVERHEAD + deserializedRecordCount * RECORD_WEIGHT
+          + (size - deserializedRecordCount) * SERIALIZED_RECORD_WEIGHT;
+    }
+    return PAGE_OVERHEAD;
+  }
+
+  /**
+   * Weigh the pages again, which have been retrieved since the last put. Computing the mapping of a
+   * key to the same page updates its weight without notifying the removal listener.
+   */
+  private void reweighRetrievedPages() {
+    for (final var iterator = retrievedKeys.iterator(); iterator.hasNext(); ) {
+      cache.asMap().computeIfPresent(iterator.next(), (key, value) -> value);
+      iterator.remove();
+    }
+  }
+
+  /**
+   * Get the buffer manager of a resource, which stores its pages in the shared cache.
+   *
+   * @param resource the path of the resource
+   * @return the buffer manager of the resource
+   */
+  public synchronized BufferManager getResourceBufferManager(final Path resource) {
+    checkNotNull(resource);
+    openBufferManagers.merge(resource, 1, Integer::sum);
+    // The resource is used again.
+    removedResources.remove(resource);
+    return new ResourceBufferManager(resource, getStatistics(resource));
+  }
+
+  /**
+   * Called once a buffer manager of a resource has been closed. The statistics of a removed resource
+   * are dropped once its last buffer manager has been closed.
+   */
+  private synchronized void closeResourceBufferManager(final Path resource) {
+    if (openBufferManagers.merge(resource, -1, Integer::sum) == 0) {
+      openBufferManagers.remove(resource);
+      if (removedResources.remove(resource)) {
+        statistics.remove(resource);
+      }
+    }
+  }
+
+  /**
+   * Get the statistics of a resource.
+   *
+   * @param resource the path of the resource
+   * @return the hit/miss/eviction statistics of the resource
+   */
+  public BufferManagerStatistics getStatistics(final Path resource) {
+    return statistics.computeIfAbsent(resource, path -> new BufferManagerStatistics());
+  }
+
+  /**
+   * Get the statistics of all resources, which used this buffer manager so far.
+   *
+   * @return the statistics mapped by the resource paths
+   */
+  public Map<Path, BufferManagerStatistics> getStatistics() {
+    return new HashMap<>(statistics);
+  }
+
+  /**
+   * Remove all pages of a resource from the cache and drop its statistics. The statistics are kept
+   * until all buffer managers of the resource have been closed, as they are still recorded.
+   *
+   * @param resource the path of the resource
+   */
+  public synchronized void removeResource(final Path resource) {
+    checkNotNull(resource);
+    cache.asMap().keySet().removeIf(key -> key.resource.equals(resource));
+    if (openBufferManagers.containsKey(resource)) {
+      removedResources.add(resource);
+    } else {
+      statistics.remove(resource);
+    }
+  }
+
+  /**
+   * Get the memory budget in bytes.
+   *
+   * @return the memory budget in bytes
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Get the estimated size in bytes of the cached pages of all resources.
+   *
+   * @return the estimated size of the cached pages in bytes
+   */
+  public long getWeight() {
+    cache.cleanUp();
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  /**
+   * Get the estimated number of cached pages of all resources.
+   *
+   * @return the estimated number of cached pages
+   */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Remove all pages of all resources.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("maxWeight", maxWeight)
+                      .add("size", cache.estimatedSize())
+                      .toString();
+  }
+
+  /**
+   * Key in the shared cache, combining the resource, the kind of cache and the key within the cache.
+   */
+  private static final class CacheKey {
+    private final Path resource;
+
+    private final CacheKind kind;
+
+    private final Object key;
+
+    private CacheKey(final Path resource, final CacheKind kind, final Object key) {
+      this.resource = resource;
+      this.kind = kind;
+      this.key = key;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(resource, kind, key);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+      if (obj instanceof CacheKey) {
+        final CacheKey other = (CacheKey) obj;
+        return kind == other.kind && resource.equals(other.resource) && key.equals(other.key);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * A view on the shared cache, which is restricted to one kind of cache of one resource.
+   *
+   * @param <K> the key type
+   * @param <V> the page type
+   */
+  private final class ResourceCache<K, V extends Page> implements Cache<K, V> {
+    private final Path resource;
+
+    private final CacheKind kind;
+
+    private final BufferManagerStatistics resourceStatistics;
+
+    private ResourceCache(final Path resource, final CacheKind kind,
+        final BufferManagerStatistics resourceStatistics) {
+      this.resource = resource;
+      this.kind = kind;
+      this.resourceStatistics = resourceStatistics;
+    }
+
+    private CacheKey newKey(final K key) {
+      return new CacheKey(resource, kind, checkNotNull(key));
+    }
+
+    @Override
+    public void clear() {
+      cache.asMap().keySet().removeIf(key -> key.kind == kind && key.resource.equals(resource));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(final K key) {
+      final CacheKey cacheKey = newKey(key);
+      final Object value = cache.getIfPresent(cacheKey);
+      final V page;
+      if (value instanceof CacheKey) {
+        page = (V) cache.getIfPresent((CacheKey) value);
+        if (page == null) {
+          cache.invalidate(cacheKey);
+        } else if (page instanceof KeyValuePage) {
+          retrievedKeys.add((CacheKey) value);
+        }
+      } else {
+        page = (V) value;
+        if (page instanceof KeyValuePage) {
+          retrievedKeys.add(cacheKey);
+        }
+      }
+      if (page == null) {
+        resourceStatistics.recordMiss();
+      } else {
+        resourceStatistics.recordHit();
+      }
+      return page;
+    }
+
+    @Override
+    public void put(final K key, final @Nonnull V value) {
+      reweighRetrievedPages();
+      final CacheKey cacheKey = newKey(key);
+      if (key instanceof PageReference) {
+        cache.put(cacheKey, value);
+        pageReferenceKeys.put(value, cacheKey);
+      } else {
+        // Refer to the entry of the page cached under its page reference, such that it's weighed once.
+        final CacheKey pageReferenceKey = pageReferenceKeys.getIfPresent(value);
+        cache.put(cacheKey,
+            pageReferenceKey != null && pageReferenceKey.resource.equals(resource) ? pageReferenceKey : value);
+      }
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> map) {
+      map.forEach(this::put);
+    }
+
+    @Override
+    public void toSecondCache() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<K, V> getAll(final Iterable<? extends K> keys) {
+      final Map<K, V> pages = new HashMap<>();
+      for (final K key : keys) {
+        final V page = get(key);
+        if (page != null) {
+          pages.put(key, page);
+        }
+      }
+      return pages;
+    }
+
+    @Override
+    public void remove(final K key) {
+      cache.invalidate(newKey(key));
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  /**
+   * The buffer manager of a single resource.
+   */
+  private final class ResourceBufferManager implements BufferManager {
+    private final Cache<PageReference, Page> pageCache;
+
+    private final Cache<PageReference, Page> recordPageCache;
+
+    private final Cache<IndexLogKey, Page> unorderedKeyValuePageCache;
+
+    private final Cache<Integer, RevisionRootPage> revisionRootPageCache;
+
+    private final Path resource;
+
+    private boolean isClosed;
+
+    private ResourceBufferManager(final Path resource, final BufferManagerStatistics resourceStatistics) {
+      this.resource = resource;
+      pageCache = new ResourceCache<>(resource, CacheKind.PAGE, resourceStatistics);
+      recordPageCache = new ResourceCache<>(resource, CacheKind.RECORD_PAGE, resourceStatistics);
+      unorderedKeyValuePageCache =
+          new ResourceCache<>(resource, CacheKind.UNORDERED_KEY_VALUE_PAGE, resourceStatistics);
+      revisionRootPageCache = new ResourceCache<>(resource, CacheKind.REVISION_ROOT_PAGE, resourceStatistics);
+    }
+
+    @Override
+    public Cache<PageReference, Page> getRecordPageCache() {
+      return recordPageCache;
+    }
+
+    @Override
+    public Cache<IndexLogKey, Page> getUnorderedKeyValuePageCache() {
+      return unorderedKeyValuePageCache;
+    }
+
+    @Override
+    public Cache<PageReference, Page> getPageCache() {
+      return pageCache;
+    }
+
+    @Override
+    public Cache<Integer, RevisionRootPage> getRevisionRootPageCache() {
+      return revisionRootPageCache;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (!isClosed) {
+        isClosed = true;
+        closeResourceBufferManager(resource);
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package org.sirix.cache;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Holds serialized page containers of the {@link TransactionIntentLog} in direct buffers, that is
+ * outside of the Java heap, between the in-memory map of the log and its persistent file. The entries
+ * are kept in insertion order, such that the eldest entries are spilled to the file first.
+ */
+final class OffHeapPageContainerCache {
+
+  /** A serialized page container. */
+  static final class Entry {
+    private final ByteBuffer modified;
+
+    private final ByteBuffer complete;
+
+    private Entry(final ByteBuffer modified, final @Nullable ByteBuffer complete) {
+      this.modified = modified;
+      this.complete = complete;
+    }
+
+    /**
+     * Get the serialized modified page.
+     *
+     * @return the serialized modified page
+     */
+    byte[] getModified() {
+      return toByteArray(modified);
+    }
+
+    /**
+     * Get the serialized complete page.
+     *
+     * @return the serialized complete page or {@code null}, if the complete page is the modified page
+     */
+    byte[] getComplete() {
+      return complete == null ? null : toByteArray(complete);
+    }
+
+    private int weight() {
+      return modified.capacity() + (complete == null ? 0 : complete.capacity());
+    }
+
+    private static ByteBuffer toDirectBuffer(final byte[] bytes) {
+      return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    private static byte[] toByteArray(final ByteBuffer buffer) {
+      final byte[] bytes = new byte[buffer.capacity()];
+      buffer.duplicate().get(bytes);
+      return bytes;
+    }
+  }
+
+  /** The serialized page containers mapped by the log keys. */
+  private final Map<Integer, Entry> entries = new LinkedHashMap<>();
+
+  /** The maximum number of bytes to hold. */
+  private final long maxWeight;
+
+  /** The number of bytes currently held. */
+  private long weight;
+
+  /**
+   * Constructor.
+   *
+   * @param maxWeight the maximum number of bytes to hold, {@code 0} disables the cache
+   */
+  OffHeapPageContainerCache(final @Nonnegative long maxWeight) {
+    checkArgument(maxWeight >= 0, "maxWeight must be >= 0!");
+    this.maxWeight = maxWeight;
+  }
+
+  /**
+   * Determines if the cache holds entries at all.
+   *
+   * @return {@code true}, if the maximum number of bytes is greater than {@code 0}
+   */
+  boolean isEnabled() {
+    return maxWeight > 0;
+  }
+
+  /**
+   * Determines if serialized page containers of the given size can be held at all.
+   *
+   * @param size the size in bytes of the serialized page container
+   * @return {@code true}, if it can be held, {@code false} otherwise
+   */
+  boolean accepts(final long size) {
+    return size <= maxWeight;
+  }
+
+  /**
+   * Add a serialized page container. Afterwards, the eldest entries might have to be spilled with
+   * {@link #removeEldestIfFull()}.
+   *
+   * @param logKey   the log key of the page container
+   * @param modified the serialized modified page
+   * @param complete the serialized complete page or {@code null}, if the complete page is the
+   *                 modified page
+   */
+  void put(final int logKey, final byte[] modified, final @Nullable byte[] complete) {
+    final Entry entry =
+        new Entry(Entry.toDirectBuffer(modified), complete == null ? null : Entry.toDirectBuffer(complete));
+    final Entry oldEntry = entries.put(logKey, entry);
+    if (oldEntry != null) {
+      weight -= oldEntry.weight();
+    }
+    weight += entry.weight();
+  }
+
+  /**
+   * Remove the serialized page container of a log key.
+   *
+   * @param logKey the log key of the page container
+   * @return the removed entry or {@code null}, if no entry is held for the log key
+   */
+  Entry remove(final int logKey) {
+    final Entry entry = entries.remove(logKey);
+    if (entry != null) {
+      weight -= entry.weight();
+    }
+    return entry;
+  }
+
+  /**
+   * Remove the eldest entry if more bytes than the maximum are held.
+   *
+   * @return the log key and the removed entry or {@code null}, if the maximum isn't exceeded
+   */
+  Map.Entry<Integer, Entry> removeEldestIfFull() {
+    if (weight <= maxWeight) {
+      return null;
+    }
+    final Iterator<Map.Entry<Integer, Entry>> iterator = entries.entrySet().iterator();
+    final Map.Entry<Integer, Entry> eldest = iterator.next();
+    iterator.remove();
+    weight -= eldest.getValue().weight();
+    return eldest;
+  }
+
+  /**
+   * Get the number of bytes currently held.
+   *
+   * @return the number of bytes held
+   */
+  long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Get the number of serialized page containers.
+   *
+   * @return the number of entries
+   */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Remove all entries. The direct buffers are freed once they are garbage collected.
+   */
+  void clear() {
+    entries.clear();
+    weight = 0;
+  }
+}
@@ -7,6 +7,8 @@ import org.sirix.page.PageReference;
 import org.sirix.page.interfaces.KeyValuePage;
 import org.sirix.page.interfaces.Page;
 
+import javax.annotation.Nullable;
+
 public final class PersistentFileCache implements AutoCloseable {
   /** Write to a persistent file. */
   private final Writer writer;
@@ -55,6 +57,56 @@ public final class PersistentFileCache implements AutoCloseable {
     return this;
   }
 
+  /**
+   * Serialize a page the same way it is written to the persistent file, but without writing it.
+   *
+   * @param reference the reference of the page
+   * @param page the page to serialize
+   * @return the serialized page
+   */
+  public byte[] serialize(final PageReference reference, final Page page) {
+    reference.setPage(page);
+    final byte[] serializedPage = writer.serializePage(reference);
+    reference.setPage(null);
+    return serializedPage;
+  }
+
+  /**
+   * Deserialize a page serialized by {@link #serialize(PageReference, Page)}.
+   *
+   * @param serializedPage the serialized page
+   * @param pageReadTrx the page read-only trx
+   * @return the deserialized page
+   */
+  public Page deserialize(final byte[] serializedPage, final PageReadOnlyTrx pageReadTrx) {
+    return writer.deserializePage(serializedPage, checkNotNull(pageReadTrx));
+  }
+
+  /**
+   * Write already serialized pages of a container.
+   *
+   * @param reference the reference, which gets the persistent key assigned
+   * @param modified the serialized modified page
+   * @param complete the serialized complete page or {@code null}, if the modified page isn't a
+   *        {@link KeyValuePage}
+   * @return this cache
+   */
+  public PersistentFileCache put(final PageReference reference, final byte[] modified,
+      final @Nullable byte[] complete) {
+    writer.write(reference, modified);
+
+    if (complete != null) {
+      final long offset = reference.getPersistentLogKey();
+      int length = reference.getLength();
+      writer.write(reference, complete);
+      length += reference.getLength();
+      reference.setPersistentLogKey(offset);
+      reference.setLength(length);
+    }
+
+    return this;
+  }
+
   public PersistentFileCache truncate() {
     writer.truncate();
     return this;
@@ -4,18 +4,35 @@ import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.page.*;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
 import org.sirix.settings.Constants;
 
 import javax.annotation.Nullable;
 import java.util.*;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
- * The transaction intent log, used for logging everything a write transaction changes.
+ * The transaction intent log, used for logging everything a write transaction changes. Page
+ * containers are kept on-heap until the estimated size of the in-memory map exceeds its budget. Then
+ * the eldest ones are serialized into an off-heap tier, from which they are deserialized once they
+ * are needed again, and only once the off-heap tier is full as well, they are spilled to a file.
  *
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  */
 public final class TransactionIntentLog implements AutoCloseable {
 
+  /**
+   * The default maximum estimated size in bytes of the on-heap page containers.
+   */
+  public static final long DEFAULT_MAX_HEAP_WEIGHT = Math.min(1L << 28, Runtime.getRuntime().maxMemory() / 8);
+
+  /**
+   * The default maximum size in bytes of the serialized page containers in the off-heap tier.
+   */
+  public static final long DEFAULT_MAX_OFF_HEAP_WEIGHT = 1L << 28;
+
   /**
    * The collection to hold the maps.
    */
@@ -31,6 +48,33 @@ public final class TransactionIntentLog implements AutoCloseable {
    */
   private final PersistentFileCache secondCache;
 
+  /**
+   * The off-heap tier between the in-memory map and the second cache.
+   */
+  private final OffHeapPageContainerCache offHeapCache;
+
+  /**
+   * The maximum estimated size in bytes of the page containers in the in-memory map.
+   */
+  private final long maxHeapWeight;
+
+  /**
+   * The estimated size in bytes of the page containers in the in-memory map.
+   */
+  private long heapWeight;
+
+  /**
+   * The estimated sizes in bytes of the page containers in the in-memory map, as they have been
+   * weighed the last time.
+   */
+  private final Map<PageReference, Long> weights;
+
+  /**
+   * The keys of the page containers, which have been retrieved from the in-memory map since the last
+   * put. Their pages are usually modified, so they are weighed again with the next put.
+   */
+  private final Set<PageReference> retrievedKeys;
+
   /**
    * The log key.
    */
@@ -39,41 +83,45 @@ public final class TransactionIntentLog implements AutoCloseable {
   /**
    * Creates a new transaction intent log.
    *
-   * @param secondCache         the reference to the second {@link Cache} where the data is stored when it
-   *                            gets removed from the first one.
-   * @param maxInMemoryCapacity the maximum size of the in-memory map
+   * @param secondCache      the reference to the second {@link Cache} where the data is stored when it
+   *                         gets removed from the first one and the off-heap tier.
+   * @param maxHeapWeight    the maximum estimated size in bytes of the page containers in the in-memory map
+   * @param maxOffHeapWeight the maximum size in bytes of the serialized page containers in the off-heap
+   *                         tier, {@code 0} to spill page containers directly to the second cache
    */
-  public TransactionIntentLog(final PersistentFileCache secondCache, final int maxInMemoryCapacity) {
+  public TransactionIntentLog(final PersistentFileCache secondCache, final long maxHeapWeight,
+      final long maxOffHeapWeight) {
     // Assertion instead of checkNotNull(...).
     assert secondCache != null;
+    checkArgument(maxHeapWeight >= 0, "maxHeapWeight must be >= 0!");
     logKey = 0;
     this.secondCache = secondCache;
-    mapToPersistentLogKey = HashBiMap.create(maxInMemoryCapacity >> 1);
-    map = new LinkedHashMap<>(maxInMemoryCapacity >> 1) {
+    this.maxHeapWeight = maxHeapWeight;
+    offHeapCache = new OffHeapPageContainerCache(maxOffHeapWeight);
+    mapToPersistentLogKey = HashBiMap.create();
+    weights = new HashMap<>();
+    retrievedKeys = new HashSet<>();
+    map = new LinkedHashMap<>() {
       private static final long serialVersionUID = 1;
 
       @Override
       protected boolean removeEldestEntry(final @Nullable Map.Entry<PageReference, PageContainer> eldest) {
-        if (size() > maxInMemoryCapacity) {
-          int i = 0;
+        if (heapWeight > maxHeapWeight) {
           final var iter = map.entrySet().iterator();
-          final int size = size();
-          while (iter.hasNext() && i < (size / 2)) {
+          while (iter.hasNext() && heapWeight > (maxHeapWeight / 2)) {
             final Map.Entry<PageReference, PageContainer> entry = iter.next();
 
             if (isImportant(entry))
               continue;
 
-            i++;
             final PageReference key = entry.getKey();
             assert key.getLogKey() != Constants.NULL_ID_INT;
-            PageContainer value = entry.getValue();
+            final PageContainer value = entry.getValue();
 
             if (value != null) {
               iter.remove();
-              TransactionIntentLog.this.secondCache.put(key, value);
-              value = null;
-              mapToPersistentLogKey.put(key.getLogKey(), key.getPersistentLogKey());
+              heapWeight -= weights.remove(key);
+              evict(key, value);
             }
           }
         }
@@ -94,6 +142,53 @@ public final class TransactionIntentLog implements AutoCloseable {
     };
   }
 
+  /**
+   * Move an entry from the in-memory map to the off-heap tier or, if it's too large or disabled, to the
+   * second cache.
+   */
+  private void evict(final PageReference key, final PageContainer value) {
+    final Page modifiedPage = value.getModified();
+    if (!offHeapCache.isEnabled()) {
+      secondCache.put(key, value);
+      mapToPersistentLogKey.put(key.getLogKey(), key.getPersistentLogKey());
+      return;
+    }
+
+    final byte[] modified = secondCache.serialize(key, modifiedPage);
+    final byte[] complete = modifiedPage instanceof KeyValuePage
+        ? secondCache.serialize(key, value.getComplete())
+        : null;
+
+    if (!offHeapCache.accepts(modified.length + (complete == null ? 0 : complete.length))) {
+      spill(key.getLogKey(), modified, complete);
+      return;
+    }
+
+    offHeapCache.put(key.getLogKey(), modified, complete);
+
+    Map.Entry<Integer, OffHeapPageContainerCache.Entry> eldest;
+    while ((eldest = offHeapCache.removeEldestIfFull()) != null) {
+      spill(eldest.getKey(), eldest.getValue().getModified(), eldest.getValue().getComplete());
+    }
+  }
+
+  /**
+   * Write a serialized page container to the second cache.
+   */
+  private void spill(final int logKey, final byte[] modified, final @Nullable byte[] complete) {
+    final PageReference reference = new PageReference();
+    reference.setLogKey(logKey);
+    secondCache.put(reference, modified, complete);
+    mapToPersistentLogKey.put(logKey, reference.getPersistentLogKey());
+  }
+
+  private static long weigh(final PageContainer container) {
+    final Page complete = container.getComplete();
+    final Page modified = container.getModified();
+    return (complete == null ? 0 : GlobalBufferManager.weigh(complete))
+        + (modified == null || modified == complete ? 0 : GlobalBufferManager.weigh(modified));
+  }
+
   /**
    * Retrieves an entry from the cache.<br>
    *
@@ -103,6 +198,20 @@ public final class TransactionIntentLog implements AutoCloseable {
    */
   public PageContainer get(final PageReference key, final PageReadOnlyTrx pageRtx) {
     PageContainer value = map.get(key);
+    if (value != null) {
+      retrievedKeys.add(key);
+    }
+    if (value == null && key.getLogKey() != Constants.NULL_ID_INT) {
+      final OffHeapPageContainerCache.Entry entry = offHeapCache.remove(key.getLogKey());
+      if (entry != null) {
+        final Page modified = secondCache.deserialize(entry.getModified(), pageRtx);
+        final byte[] complete = entry.getComplete();
+        value = PageContainer.getInstance(complete == null ? modified : secondCache.deserialize(complete, pageRtx),
+            modified);
+        put(key, value);
+        return value;
+      }
+    }
     if (value == null) {
       if (key.getLogKey() != Constants.NULL_ID_INT) {
         final Long persistentKey = mapToPersistentLogKey.get(key.getLogKey());
@@ -128,21 +237,48 @@ public final class TransactionIntentLog implements AutoCloseable {
    * @param value a value to be associated with the specified key
    */
   public void put(final PageReference key, final PageContainer value) {
-    map.remove(key);
+    reweighRetrievedEntries();
+    removeFromMap(key);
 
     key.setKey(Constants.NULL_ID_LONG);
     key.setLogKey(logKey++);
     key.setPersistentLogKey(Constants.NULL_ID_LONG);
+    final long weight = weigh(value);
+    weights.put(key, weight);
+    heapWeight += weight;
     map.put(key, value);
   }
 
+  /**
+   * Weigh the page containers again, which have been retrieved since the last put, as records are
+   * added to their pages after they have been put.
+   */
+  private void reweighRetrievedEntries() {
+    for (final PageReference key : retrievedKeys) {
+      final PageContainer value = map.get(key);
+      if (value != null) {
+        final long weight = weigh(value);
+        heapWeight += weight - weights.put(key, weight);
+      }
+    }
+    retrievedKeys.clear();
+  }
+
+  private void removeFromMap(final PageReference key) {
+    final PageContainer value = map.remove(key);
+    if (value != null) {
+      heapWeight = Math.max(0, heapWeight - weights.remove(key));
+    }
+  }
+
   /**
    * Removes an entry from this cache.
    *
    * @param key the key with which the specified value is to be associated
    */
   public void remove(final PageReference key) {
-    map.remove(key);
+    removeFromMap(key);
+    offHeapCache.remove(key.getLogKey());
     mapToPersistentLogKey.remove(key.getLogKey());
   }
 
@@ -152,6 +288,10 @@ public final class TransactionIntentLog implements AutoCloseable {
   public void clear() {
     logKey = 0;
     map.clear();
+    weights.clear();
+    retrievedKeys.clear();
+    heapWeight = 0;
+    offHeapCache.clear();
   }
 
   /**
@@ -163,6 +303,24 @@ public final class TransactionIntentLog implements AutoCloseable {
     return map.size();
   }
 
+  /**
+   * Returns the number of serialized entries in the off-heap tier.
+   *
+   * @return the number of entries currently in the off-heap tier
+   */
+  public int offHeapEntries() {
+    return offHeapCache.size();
+  }
+
+  /**
+   * Returns the size in bytes of the serialized entries in the off-heap tier.
+   *
+   * @return the size in bytes of the entries currently in the off-heap tier
+   */
+  public long offHeapWeight() {
+    return offHeapCache.getWeight();
+  }
+
   /**
    * Returns a {@code Collection} that contains a copy of all cache entries.
    *
@@ -195,12 +353,20 @@ public final class TransactionIntentLog implements AutoCloseable {
     secondCache.close();
     mapToPersistentLogKey.clear();
     map.clear();
+    weights.clear();
+    retrievedKeys.clear();
+    heapWeight = 0;
+    offHeapCache.clear();
     return this;
   }
 
   @Override
   public void close() {
     map.clear();
+    weights.clear();
+    retrievedKeys.clear();
+    heapWeight = 0;
+    offHeapCache.clear();
     secondCache.close();
   }
 }
@@ -167,11 +167,9 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     mSkipSubtrees = builder.mSkipSubtrees;
     mDiffKind = checkNotNull(builder).mKind;
     mOldMaxDepth = builder.mOldMaxDepth;
-    synchronized (builder.mResMgr) {
-      mNewRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mNewRev);
-      mOldRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mOldRev);
-      mHashKind = builder.mHashKind;
-    }
+    mNewRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mNewRev);
+    mOldRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mOldRev);
+    mHashKind = builder.mHashKind;
     mNewRtxMoved = mNewRtx.moveTo(builder.mNewStartKey).hasMoved();
     mOldRtxMoved = mOldRtx.moveTo(builder.mOldStartKey).hasMoved();
     if (mNewRtx.getKind() == documentNode()) {
@@ -284,6 +282,20 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     diffDone();
   }
 
+  /**
+   * Diff the start nodes only, that is without their descendants, and signal that the algorithm is
+   * done.
+   */
+  void diffStartNodes() {
+    if (mHashKind == HashType.NONE || mDiffKind == DiffOptimized.NO) {
+      mDiff = diff(mNewRtx, mOldRtx, mDepth);
+    } else {
+      mDiff = optimizedDiff(mNewRtx, mOldRtx, mDepth);
+    }
+
+    diffDone();
+  }
+
   /**
    * Done processing diffs. Fire remaining diffs and signal that the algorithm is done.
    *
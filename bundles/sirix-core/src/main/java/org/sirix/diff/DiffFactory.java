@@ -24,6 +24,8 @@ package org.sirix.diff;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import javax.annotation.Nonnegative;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.NodeCursor;
@@ -103,7 +105,7 @@ public final class DiffFactory {
         @SuppressWarnings("unchecked")
         final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> xmlDiffBuilder =
             (Builder<XmlNodeReadOnlyTrx, XmlNodeTrx>) builder;
-        new XmlFullDiff(xmlDiffBuilder).diffMovement();
+        diff(xmlDiffBuilder, XmlFullDiff::new);
       }
     },
 
@@ -117,7 +119,7 @@ public final class DiffFactory {
         @SuppressWarnings("unchecked")
         final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> xmlDiffBuilder =
             (Builder<XmlNodeReadOnlyTrx, XmlNodeTrx>) builder;
-        new XmlStructuralDiff(xmlDiffBuilder).diffMovement();
+        diff(xmlDiffBuilder, XmlStructuralDiff::new);
       }
     },
 
@@ -131,7 +133,7 @@ public final class DiffFactory {
         @SuppressWarnings("unchecked")
         final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> jsonDiffBuilder =
             (Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>) builder;
-        new JsonDiff(jsonDiffBuilder).diffMovement();
+        diff(jsonDiffBuilder, JsonDiff::new);
       }
     };
 
@@ -143,6 +145,21 @@ public final class DiffFactory {
      */
     abstract <R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> void invoke(
         final Builder<R, W> builder);
+
+    /**
+     * Diff sequentially or in parallel, depending on the builder settings.
+     *
+     * @param builder {@link Builder} reference
+     * @param diffFactory creates the diff implementation for a {@link Builder}
+     */
+    private static <R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> void diff(
+        final Builder<R, W> builder, final Function<Builder<R, W>, AbstractDiff<R, W>> diffFactory) {
+      if (builder.mPool == null) {
+        diffFactory.apply(builder).diffMovement();
+      } else {
+        new ParallelDiff<>(builder, diffFactory).diffMovement();
+      }
+    }
   }
 
   /**
@@ -206,6 +223,12 @@ public final class DiffFactory {
     /** The maximum depth. */
       transient long mOldMaxDepth;
 
+    /** The pool to diff subtrees on in parallel, or {@code null} to diff sequentially. */
+    transient ForkJoinPool mPool;
+
+    /** The minimum number of descendants of a subtree to split it up into parallel diffs. */
+    transient long mMinParallelSubtreeSize = ParallelDiff.DEFAULT_MIN_SUBTREE_SIZE;
+
     /**
      * Constructor.
      *
@@ -330,6 +353,32 @@ public final class DiffFactory {
       mSkipSubtrees = skipSubtrees;
       return this;
     }
+
+    /**
+     * Diff in parallel. Subtrees, whose hashes differ and whose children are the same in both
+     * revisions, are split up and the children are diffed on the given pool. The observers are still
+     * notified in document order on the calling thread. Only used for {@link DiffOptimized#HASHED}
+     * diffs without a maximum depth.
+     *
+     * @param pool the pool to diff subtrees on
+     * @return this builder
+     */
+    public Builder<R, W> parallel(final ForkJoinPool pool) {
+      mPool = checkNotNull(pool);
+      return this;
+    }
+
+    /**
+     * Set the minimum number of descendants of a subtree to split it up into parallel diffs.
+     *
+     * @param minParallelSubtreeSize the minimum number of descendants
+     * @return this builder
+     */
+    public Builder<R, W> minParallelSubtreeSize(final @Nonnegative long minParallelSubtreeSize) {
+      checkArgument(minParallelSubtreeSize >= 0, "minParallelSubtreeSize must be >= 0!");
+      mMinParallelSubtreeSize = minParallelSubtreeSize;
+      return this;
+    }
   }
 
   /**
@@ -345,7 +394,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+  public static void invokeJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
     DiffAlgorithm.JSON.invoke(builder);
   }
 
@@ -354,7 +403,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeFullXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+  public static void invokeFullXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
     DiffAlgorithm.XML_FULL.invoke(builder);
   }
 
@@ -363,7 +412,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeStructuralXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+  public static void invokeStructuralXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
     DiffAlgorithm.XML_STRUCTURAL.invoke(builder);
   }
 }
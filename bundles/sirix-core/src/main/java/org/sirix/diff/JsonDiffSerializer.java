@@ -1,8 +1,10 @@
 package org.sirix.diff;
 
 import com.google.api.client.util.Objects;
-import com.google.gson.JsonArray;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.node.NodeKind;
@@ -11,9 +13,15 @@ import org.sirix.service.json.serialize.JsonSerializer;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Collection;
 
 public final class JsonDiffSerializer {
+  /**
+   * Writes the single diffs, with the same output as {@link JsonObject#toString()}.
+   */
+  private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
+
   private final JsonResourceManager resourceManager;
   private final int oldRevisionNumber;
   private final int newRevisionNumber;
@@ -28,20 +36,47 @@ public final class JsonDiffSerializer {
   }
 
   public String serialize(boolean emitFromDiffAlgorithm) {
+    final var out = new StringWriter();
+    serialize(emitFromDiffAlgorithm, out);
+    return out.toString();
+  }
+
+  /**
+   * Serialize the diffs to the given writer. Each diff is written as soon as it is serialized, such that the output
+   * can be streamed.
+   *
+   * @param emitFromDiffAlgorithm {@code true}, if the diffs have been emitted by the diff algorithm, {@code false}
+   *                              if they are update operations
+   * @param out                   the writer to write to (it is flushed, but not closed)
+   */
+  public void serialize(boolean emitFromDiffAlgorithm, Writer out) {
     final var databaseName = resourceManager.getDatabase().getName();
     final var resourceName = resourceManager.getResourceConfig().getName();
 
-    final var json = createMetaInfo(databaseName, resourceName, oldRevisionNumber, newRevisionNumber);
+    final var jsonWriter = new JsonWriter(out);
+    jsonWriter.setLenient(true);
+
+    try {
+      jsonWriter.beginObject();
+      writeMetaInfo(jsonWriter, databaseName, resourceName, oldRevisionNumber, newRevisionNumber);
+      jsonWriter.name("diffs").beginArray();
+      writeDiffs(jsonWriter, emitFromDiffAlgorithm);
+      jsonWriter.endArray();
+      jsonWriter.endObject();
+      jsonWriter.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
+  private void writeDiffs(JsonWriter jsonDiffs, boolean emitFromDiffAlgorithm) {
     if (diffs.size() == 1) {
       final var tuple = diffs.iterator().next();
       if (tuple.getDiff() == DiffFactory.DiffType.SAME || tuple.getDiff() == DiffFactory.DiffType.SAMEHASH) {
-        return json.toString();
+        return;
       }
     }
 
-    final var jsonDiffs = json.getAsJsonArray("diffs");
-
     try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(oldRevisionNumber);
          final var newRtx = resourceManager.beginNodeReadOnlyTrx(newRevisionNumber)) {
       if (emitFromDiffAlgorithm) {
@@ -50,7 +85,7 @@ public final class JsonDiffSerializer {
       }
 
       if (diffs.isEmpty()) {
-        return json.toString();
+        return;
       }
 
       for (final var diffTuple : diffs) {
@@ -81,7 +116,7 @@ public final class JsonDiffSerializer {
             addTypeAndDataProperties(newRevisionNumber, resourceManager, newRtx, jsonInsertDiff);
 
             insertedJson.add("insert", jsonInsertDiff);
-            jsonDiffs.add(insertedJson);
+            GSON.toJson(insertedJson, jsonDiffs);
 
             break;
           case DELETED:
@@ -101,7 +136,7 @@ public final class JsonDiffSerializer {
               deletedJson.addProperty("delete", diffTuple.getOldNodeKey());
             }
 
-            jsonDiffs.add(deletedJson);
+            GSON.toJson(deletedJson, jsonDiffs);
             break;
           case REPLACEDNEW:
             final var replaceJson = new JsonObject();
@@ -120,7 +155,7 @@ public final class JsonDiffSerializer {
 
             addTypeAndDataProperties(newRevisionNumber, resourceManager, newRtx, jsonReplaceDiff);
 
-            jsonDiffs.add(replaceJson);
+            GSON.toJson(replaceJson, jsonDiffs);
             break;
           case UPDATED:
             final var updateJson = new JsonObject();
@@ -155,7 +190,7 @@ public final class JsonDiffSerializer {
             }
 
             updateJson.add("update", jsonUpdateDiff);
-            jsonDiffs.add(updateJson);
+            GSON.toJson(updateJson, jsonDiffs);
 
             // $CASES-OMITTED$
           default:
@@ -163,8 +198,6 @@ public final class JsonDiffSerializer {
         }
       }
     }
-
-    return json.toString();
   }
 
   private void insertBasedOnNewRtx(JsonNodeReadOnlyTrx newRtx, JsonObject jsonInsertDiff) {
@@ -176,16 +209,12 @@ public final class JsonDiffSerializer {
     jsonInsertDiff.addProperty("insertPosition", insertPosition);
   }
 
-  private JsonObject createMetaInfo(final String databaseName, final String resourceName, final int oldRevision,
-      final int newRevision) {
-    final var json = new JsonObject();
-    json.addProperty("database", databaseName);
-    json.addProperty("resource", resourceName);
-    json.addProperty("old-revision", oldRevision);
-    json.addProperty("new-revision", newRevision);
-    final var diffsArray = new JsonArray();
-    json.add("diffs", diffsArray);
-    return json;
+  private void writeMetaInfo(final JsonWriter json, final String databaseName, final String resourceName,
+      final int oldRevision, final int newRevision) throws IOException {
+    json.name("database").value(databaseName);
+    json.name("resource").value(resourceName);
+    json.name("old-revision").value(oldRevision);
+    json.name("new-revision").value(newRevision);
   }
 
   private void addTypeAndDataProperties(int newRevision, JsonResourceManager resourceManager,
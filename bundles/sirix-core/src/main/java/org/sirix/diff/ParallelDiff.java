@@ -0,0 +1,201 @@
+package org.sirix.diff;
+
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.diff.DiffFactory.Builder;
+import org.sirix.diff.DiffFactory.DiffOptimized;
+import org.sirix.node.NodeKind;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Diffs two revisions in parallel. Starting at the start nodes, a pair of nodes with the same node
+ * key, whose hashes differ and whose children have the same node keys in both revisions, is split
+ * up: the nodes themselves are compared and the subtrees of the children are diffed in parallel on
+ * a fork-join pool. All other subtrees are diffed sequentially. The diffs found by the tasks are
+ * buffered and the observers are notified in document order on the calling thread, such that they
+ * don't have to be thread safe.
+ *
+ * @param <R> the type of the read-only transaction
+ * @param <W> the type of the read-write transaction
+ */
+final class ParallelDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> {
+
+  /** The default minimum number of descendants of a subtree to split it up. */
+  static final long DEFAULT_MIN_SUBTREE_SIZE = 1 << 12;
+
+  /** {@link Builder} reference. */
+  private final Builder<R, W> builder;
+
+  /** Creates the sequential diff implementation for a {@link Builder}. */
+  private final Function<Builder<R, W>, AbstractDiff<R, W>> diffFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param builder     {@link Builder} reference
+   * @param diffFactory creates the sequential diff implementation for a {@link Builder}
+   */
+  ParallelDiff(final Builder<R, W> builder, final Function<Builder<R, W>, AbstractDiff<R, W>> diffFactory) {
+    this.builder = checkNotNull(builder);
+    this.diffFactory = checkNotNull(diffFactory);
+  }
+
+  /**
+   * Do the diff.
+   */
+  void diffMovement() {
+    if (builder.mHashKind == HashType.NONE || builder.mKind == DiffOptimized.NO || builder.mOldMaxDepth > 0) {
+      // Subtrees can't be skipped, so there's no way to find the subtrees to split up.
+      diffFactory.apply(builder).diffMovement();
+      return;
+    }
+
+    final List<DiffTuple> diffs = builder.mPool.invoke(
+        new SubtreeDiff(builder.mNewStartKey, builder.mOldStartKey, builder.mNewDepth, builder.mOldDepth));
+
+    for (final DiffTuple diff : diffs) {
+      for (final DiffObserver observer : builder.mObservers) {
+        observer.diffListener(diff.getDiff(), diff.getNewNodeKey(), diff.getOldNodeKey(), diff.getDepth());
+      }
+    }
+    for (final DiffObserver observer : builder.mObservers) {
+      observer.diffDone();
+    }
+  }
+
+  /**
+   * Create a builder for a diff, which notifies the given observer only.
+   *
+   * @param newStartKey start node key in new revision
+   * @param oldStartKey start node key in old revision
+   * @param newDepth    depth of the start node in new revision
+   * @param oldDepth    depth of the start node in old revision
+   * @param observer    the observer to notify
+   * @return the builder
+   */
+  private Builder<R, W> subtreeBuilder(final long newStartKey, final long oldStartKey, final int newDepth,
+      final int oldDepth, final DiffObserver observer) {
+    final Builder<R, W> subtreeBuilder =
+        new Builder<>(builder.mResMgr, builder.mNewRev, builder.mOldRev, builder.mKind, Set.of(observer));
+    subtreeBuilder.mNewStartKey = newStartKey;
+    subtreeBuilder.mOldStartKey = oldStartKey;
+    subtreeBuilder.mNewDepth = newDepth;
+    subtreeBuilder.mOldDepth = oldDepth;
+    subtreeBuilder.mHashKind = builder.mHashKind;
+    subtreeBuilder.mIsGUI = builder.mIsGUI;
+    subtreeBuilder.mSkipSubtrees = builder.mSkipSubtrees;
+    return subtreeBuilder;
+  }
+
+  /**
+   * Diffs a pair of subtrees, splitting them up if possible.
+   */
+  private final class SubtreeDiff extends RecursiveTask<List<DiffTuple>> {
+
+    private static final long serialVersionUID = 6108251429470377531L;
+
+    private final long newStartKey;
+
+    private final long oldStartKey;
+
+    private final int newDepth;
+
+    private final int oldDepth;
+
+    SubtreeDiff(final long newStartKey, final long oldStartKey, final int newDepth, final int oldDepth) {
+      this.newStartKey = newStartKey;
+      this.oldStartKey = oldStartKey;
+      this.newDepth = newDepth;
+      this.oldDepth = oldDepth;
+    }
+
+    @Override
+    protected List<DiffTuple> compute() {
+      final List<Long> childKeys = new ArrayList<>();
+      final boolean isSplittable;
+      final NodeKind kind;
+
+      try (final R newRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mNewRev);
+           final R oldRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mOldRev)) {
+        isSplittable = isSplittable(newRtx, oldRtx) && collectChildKeys(newRtx, oldRtx, childKeys);
+        kind = oldRtx.moveTo(oldStartKey).hasMoved() ? oldRtx.getKind() : null;
+      }
+
+      if (!isSplittable) {
+        return diffSequentially(false);
+      }
+
+      final boolean isDocument = kind == NodeKind.XML_DOCUMENT || kind == NodeKind.JSON_DOCUMENT;
+      // The same as the depth counting of the sequential diff.
+      final int childDepth = isDocument || kind == NodeKind.OBJECT_KEY ? newDepth : newDepth + 1;
+
+      final List<DiffTuple> diffs = isDocument ? new ArrayList<>() : diffSequentially(true);
+
+      final List<SubtreeDiff> tasks = new ArrayList<>(childKeys.size());
+      for (final long childKey : childKeys) {
+        tasks.add(new SubtreeDiff(childKey, childKey, childDepth, childDepth));
+      }
+      invokeAll(tasks);
+
+      for (final SubtreeDiff task : tasks) {
+        diffs.addAll(task.join());
+      }
+      return diffs;
+    }
+
+    private boolean isSplittable(final R newRtx, final R oldRtx) {
+      return newStartKey == oldStartKey && newDepth == oldDepth && newRtx.moveTo(newStartKey).hasMoved()
+          && oldRtx.moveTo(oldStartKey).hasMoved() && newRtx.getKind() == oldRtx.getKind()
+          && !newRtx.getHash().equals(oldRtx.getHash())
+          && newRtx.getDescendantCount() >= builder.mMinParallelSubtreeSize;
+    }
+
+    private boolean collectChildKeys(final R newRtx, final R oldRtx, final List<Long> childKeys) {
+      boolean newMoved = newRtx.moveToFirstChild().hasMoved();
+      boolean oldMoved = oldRtx.moveToFirstChild().hasMoved();
+      while (newMoved && oldMoved) {
+        if (newRtx.getNodeKey() != oldRtx.getNodeKey()) {
+          return false;
+        }
+        childKeys.add(newRtx.getNodeKey());
+        newMoved = newRtx.moveToRightSibling().hasMoved();
+        oldMoved = oldRtx.moveToRightSibling().hasMoved();
+      }
+      return newMoved == oldMoved;
+    }
+
+    private List<DiffTuple> diffSequentially(final boolean startNodesOnly) {
+      final List<DiffTuple> diffs = new ArrayList<>();
+      final DiffObserver observer = new DiffObserver() {
+        @Override
+        public void diffListener(@Nonnull final DiffFactory.DiffType diffType, final long newNodeKey,
+            final long oldNodeKey, @Nonnull final DiffDepth depth) {
+          diffs.add(new DiffTuple(diffType, newNodeKey, oldNodeKey, depth));
+        }
+
+        @Override
+        public void diffDone() {
+        }
+      };
+
+      final AbstractDiff<R, W> diff =
+          diffFactory.apply(subtreeBuilder(newStartKey, oldStartKey, newDepth, oldDepth, observer));
+      if (startNodesOnly) {
+        diff.diffStartNodes();
+      } else {
+        diff.diffMovement();
+      }
+      return diffs;
+    }
+  }
+}
@@ -1,9 +1,8 @@
 package org.sirix.index;
 
-import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 
 public interface Filter {
 
-  <K extends Comparable<? super K>> boolean filter(AVLNode<K, NodeReferences> node);
+  <K extends Comparable<? super K>> boolean filter(IndexEntry<K, NodeReferences> entry);
 }
@@ -0,0 +1,24 @@
+package org.sirix.index;
+
+/**
+ * An index builder, which defers (some of) the index modifications until the traversal of the
+ * revision has finished, for instance to insert the entries sorted. The builder is closed once the
+ * index has been built, even if the traversal fails.
+ */
+public interface FinishableIndexBuilder extends AutoCloseable {
+
+  /**
+   * Called by {@link IndexBuilder} once all nodes have been visited.
+   *
+   * @throws org.sirix.exception.SirixIOException if an I/O error occurs
+   */
+  void finish();
+
+  /**
+   * Release the resources held by the builder, for instance spilled temporary files.
+   *
+   * @throws org.sirix.exception.SirixIOException if an I/O error occurs
+   */
+  @Override
+  void close();
+}
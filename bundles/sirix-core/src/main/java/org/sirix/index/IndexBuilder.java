@@ -26,11 +26,16 @@ public final class IndexBuilder {
     final long nodeKey = rtx.getNodeKey();
     rtx.moveToDocumentRoot();
 
-    for (@SuppressWarnings("unused")
-    final long key : new NonStructuralWrapperAxis(new DescendantAxis(rtx))) {
-      for (final XmlNodeVisitor builder : builders) {
-        rtx.acceptVisitor(builder);
+    try {
+      for (@SuppressWarnings("unused")
+      final long key : new NonStructuralWrapperAxis(new DescendantAxis(rtx))) {
+        for (final XmlNodeVisitor builder : builders) {
+          rtx.acceptVisitor(builder);
+        }
       }
+      finish(builders);
+    } finally {
+      close(builders);
     }
     rtx.moveTo(nodeKey);
   }
@@ -45,13 +50,49 @@ public final class IndexBuilder {
     final long nodeKey = rtx.getNodeKey();
     rtx.moveToDocumentRoot();
 
-    for (@SuppressWarnings("unused")
-    final long key : new DescendantAxis(rtx)) {
-      for (final JsonNodeVisitor builder : builders) {
-        rtx.acceptVisitor(builder);
+    try {
+      for (@SuppressWarnings("unused")
+      final long key : new DescendantAxis(rtx)) {
+        for (final JsonNodeVisitor builder : builders) {
+          rtx.acceptVisitor(builder);
+        }
       }
+      finish(builders);
+    } finally {
+      close(builders);
     }
     rtx.moveTo(nodeKey);
   }
 
+  private static void finish(final Set<?> builders) {
+    for (final Object builder : builders) {
+      if (builder instanceof FinishableIndexBuilder) {
+        ((FinishableIndexBuilder) builder).finish();
+      }
+    }
+  }
+
+  /**
+   * Close all builders, even if closing one of them fails, such that no temporary files are left
+   * behind.
+   */
+  private static void close(final Set<?> builders) {
+    RuntimeException failure = null;
+    for (final Object builder : builders) {
+      if (builder instanceof FinishableIndexBuilder) {
+        try {
+          ((FinishableIndexBuilder) builder).close();
+        } catch (final RuntimeException e) {
+          if (failure == null) {
+            failure = e;
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
 }
@@ -33,6 +33,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm STRUCTURE_ATTRIBUTE = new QNm("structure");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private IndexType type;
@@ -46,6 +48,9 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the data structure storing the index entries
+  private IndexStructure structure = IndexStructure.AVL_TREE;
+
   private final Set<Path<QNm>> paths = new HashSet<>();
 
   private final Set<QNm> excluded = new HashSet<>();
@@ -101,6 +106,11 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    // Omitted for AVL trees, such that index definitions stay readable by former versions.
+    if (structure != IndexStructure.AVL_TREE) {
+      tmp.attribute(STRUCTURE_ATTRIBUTE, new Una(structure.toString()));
+    }
+
     if (paths != null && !paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -165,7 +175,11 @@ public final class IndexDef implements Materializable {
 
     attribute = root.getAttribute(CONTENT_TYPE_ATTRIBUTE);
     if (attribute != null) {
-      contentType = (resolveType(attribute.getValue().stringValue()));
+      final String contentTypeName = attribute.getValue().stringValue();
+      contentType = resolveContentType(contentTypeName);
+      if (contentType == null) {
+        throw new DocumentException("Unknown content type type: '%s'", contentTypeName);
+      }
     }
 
     attribute = root.getAttribute(UNIQUE_ATTRIBUTE);
@@ -173,6 +187,11 @@ public final class IndexDef implements Materializable {
       unique = (Boolean.valueOf(attribute.getValue().stringValue()));
     }
 
+    attribute = root.getAttribute(STRUCTURE_ATTRIBUTE);
+    if (attribute != null) {
+      structure = IndexStructure.valueOf(attribute.getValue().stringValue());
+    }
+
     final Stream<? extends Node<?>> children = root.getChildren();
 
     try {
@@ -211,15 +230,21 @@ public final class IndexDef implements Materializable {
     }
   }
 
-  private static Type resolveType(final String s) throws DocumentException {
-    final QNm name = new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX,
-        s.substring(Namespaces.XS_PREFIX.length() + 1));
+  /**
+   * Resolve the built-in atomic type of a CAS index by its prefixed name, as it's stored with the
+   * index definition and with the keys of the index.
+   *
+   * @param s the prefixed name of the type, for instance {@code xs:string}
+   * @return the type or {@code null}, if there's no built-in type with the name
+   */
+  public static Type resolveContentType(final String s) {
+    final String localName = s.substring(Namespaces.XS_PREFIX.length() + 1);
     for (final Type type : Type.builtInTypes) {
-      if (type.getName().getLocalName().equals(name.getLocalName())) {
+      if (type.getName().getLocalName().equals(localName)) {
         return type;
       }
     }
-    throw new DocumentException("Unknown content type type: '%s'", name);
+    return null;
   }
 
   public boolean isNameIndex() {
@@ -246,6 +271,14 @@ public final class IndexDef implements Materializable {
     return type;
   }
 
+  public IndexStructure getStructure() {
+    return structure;
+  }
+
+  void setStructure(final IndexStructure structure) {
+    this.structure = checkNotNull(structure);
+  }
+
   public Set<Path<QNm>> getPaths() {
     return Collections.unmodifiableSet(paths);
   }
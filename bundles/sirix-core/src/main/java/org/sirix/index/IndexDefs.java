@@ -8,6 +8,8 @@ import org.sirix.page.PageConstants;
 
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * {@link IndexDef} factory.
  *
@@ -87,4 +89,16 @@ public final class IndexDefs {
         throw new IllegalStateException("Type " + type + " not known.");
     }
   }
+
+  /**
+   * Select the data structure, which stores the entries of an index.
+   *
+   * @param indexDef the {@link IndexDef}, which must not have been created yet
+   * @param structure the index structure
+   * @return the {@link IndexDef} instance
+   */
+  public static IndexDef withStructure(final IndexDef indexDef, final IndexStructure structure) {
+    checkNotNull(indexDef).setStructure(structure);
+    return indexDef;
+  }
 }
@@ -0,0 +1,24 @@
+package org.sirix.index;
+
+/**
+ * A key/value entry of an index, independent of the underlying index structure.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public interface IndexEntry<K extends Comparable<? super K>, V> {
+
+  /**
+   * Key to be indexed.
+   *
+   * @return key reference
+   */
+  K getKey();
+
+  /**
+   * Value to be indexed.
+   *
+   * @return value reference
+   */
+  V getValue();
+}
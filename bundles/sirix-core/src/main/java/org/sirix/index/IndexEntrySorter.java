@@ -0,0 +1,345 @@
+package org.sirix.index;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.avltree.keyvalue.CASValue;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+
+import javax.annotation.Nonnegative;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.sirix.node.Utils.getVarLong;
+import static org.sirix.node.Utils.putVarLong;
+
+/**
+ * Collects {@code (key, nodeKey)} pairs while an index is built and returns them sorted by key with
+ * all node keys of a key grouped. The pairs held in memory are weighed by their estimated size in
+ * bytes; if the memory budget is exceeded, the sorted pairs are spilled to a temporary run file and
+ * the runs are merged afterwards (external merge sort).
+ *
+ * @param <K> the key
+ */
+public final class IndexEntrySorter<K extends Comparable<? super K>> implements AutoCloseable {
+
+  /** The default memory budget in bytes: a sixteenth of the maximum heap size. */
+  public static final long DEFAULT_MAX_WEIGHT = Runtime.getRuntime().maxMemory() / 16;
+
+  /** Estimated size of a pair without its key in bytes, including its slot in the buffer. */
+  private static final int PAIR_WEIGHT = 32;
+
+  /** Estimated size of a boxed {@link Long} in bytes. */
+  private static final int LONG_WEIGHT = 16;
+
+  /** Estimated fixed overhead of a {@link String} or a byte array in bytes. */
+  private static final int ARRAY_OVERHEAD = 40;
+
+  /** Estimated fixed overhead of a {@link CASValue} and its atomic value in bytes. */
+  private static final int CAS_VALUE_OVERHEAD = 64;
+
+  /** The type of the index, which determines the type of the keys. */
+  private final IndexType indexType;
+
+  /** The memory budget in bytes. */
+  private final long maxWeight;
+
+  /** Comparator, which orders the pairs by key and node key. */
+  private final Comparator<KeyNodePair<K>> comparator;
+
+  /** The buffered pairs. */
+  private KeyNodePair<K>[] buffer;
+
+  /** Number of buffered pairs. */
+  private int size;
+
+  /** Estimated size of the buffered pairs in bytes. */
+  private long weight;
+
+  /** The spilled runs. */
+  private final List<Path> runs;
+
+  /** The readers of the spilled runs, which are merged. */
+  private final List<RunIterator> runIterators;
+
+  /** Determines if the sorted entries have already been requested. */
+  private boolean finished;
+
+  /**
+   * Constructor.
+   *
+   * @param indexType the type of the index
+   */
+  public IndexEntrySorter(final IndexType indexType) {
+    this(indexType, DEFAULT_MAX_WEIGHT);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param indexType the type of the index
+   * @param maxWeight the memory budget in bytes of the pairs held in memory
+   */
+  @SuppressWarnings("unchecked")
+  public IndexEntrySorter(final IndexType indexType, final @Nonnegative long maxWeight) {
+    checkArgument(maxWeight > 0, "maxWeight must be > 0!");
+    this.indexType = checkNotNull(indexType);
+    this.maxWeight = maxWeight;
+    comparator = Comparator.<KeyNodePair<K>, K>comparing(pair -> pair.key).thenComparingLong(pair -> pair.nodeKey);
+    buffer = new KeyNodePair[1 << 10];
+    runs = new ArrayList<>();
+    runIterators = new ArrayList<>();
+  }
+
+  /**
+   * Add a pair.
+   *
+   * @param key the key
+   * @param nodeKey the node key to index under the key
+   * @throws SirixIOException if the pairs have to be spilled and an I/O error occurs
+   */
+  public void add(final K key, final @Nonnegative long nodeKey) {
+    checkState(!finished, "The sorted entries have already been requested.");
+    final long pairWeight = weigh(indexType, checkNotNull(key));
+    if (size > 0 && weight + pairWeight > maxWeight) {
+      spill();
+    }
+    if (size == buffer.length) {
+      buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+    }
+    buffer[size++] = new KeyNodePair<>(key, nodeKey);
+    weight += pairWeight;
+  }
+
+  /**
+   * Estimate the in-memory size of a pair in bytes.
+   *
+   * @param indexType the type of the index, which determines the type of the key
+   * @param key the key of the pair
+   * @return the estimated size of the pair in bytes
+   */
+  static long weigh(final IndexType indexType, final Object key) {
+    switch (indexType) {
+      case PATH:
+        return PAIR_WEIGHT + LONG_WEIGHT;
+      case CAS:
+        final byte[] value = ((CASValue) key).getValue();
+        return PAIR_WEIGHT + CAS_VALUE_OVERHEAD + ARRAY_OVERHEAD + (value == null ? 0 : value.length);
+      case NAME:
+        final QNm name = (QNm) key;
+        return PAIR_WEIGHT + 3 * ARRAY_OVERHEAD + name.getNamespaceURI().length() + name.getPrefix().length()
+            + name.getLocalName().length();
+      default:
+        throw new IllegalStateException("Index type not known: " + indexType);
+    }
+  }
+
+  /**
+   * Get the number of spilled runs.
+   *
+   * @return number of spilled runs
+   */
+  public int getNumberOfRuns() {
+    return runs.size();
+  }
+
+  /**
+   * Get the entries sorted by key, whereas the node keys of equal keys are grouped. May only be called
+   * once all pairs have been added.
+   *
+   * @return the sorted entries
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public Iterator<IndexEntry<K, NodeReferences>> sortedEntries() {
+    checkState(!finished, "The sorted entries have already been requested.");
+    finished = true;
+    Arrays.parallelSort(buffer, 0, size, comparator);
+    final List<Iterator<KeyNodePair<K>>> sortedRuns = new ArrayList<>(runs.size() + 1);
+    for (final Path run : runs) {
+      final RunIterator runIterator = new RunIterator(run);
+      runIterators.add(runIterator);
+      sortedRuns.add(runIterator);
+    }
+    sortedRuns.add(Arrays.asList(buffer).subList(0, size).iterator());
+    return new GroupingIterator<>(Iterators.peekingIterator(Iterators.mergeSorted(sortedRuns, comparator)));
+  }
+
+  private void spill() {
+    Arrays.parallelSort(buffer, 0, size, comparator);
+    try {
+      final Path run = Files.createTempFile("sirix-index-run", ".tmp");
+      runs.add(run);
+      try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+        output.writeInt(size);
+        for (int i = 0; i < size; i++) {
+          IndexKeySerializer.write(output, indexType, buffer[i].key);
+          putVarLong(output, buffer[i].nodeKey);
+          buffer[i] = null;
+        }
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    size = 0;
+    weight = 0;
+  }
+
+  /**
+   * Close the readers of the spilled runs, which might not have been read completely, and delete the
+   * runs.
+   *
+   * @throws SirixIOException if a reader couldn't be closed or a run couldn't be deleted
+   */
+  @Override
+  public void close() {
+    SirixIOException failure = null;
+    for (final RunIterator runIterator : runIterators) {
+      try {
+        runIterator.close();
+      } catch (final IOException e) {
+        failure = addFailure(failure, e);
+      }
+    }
+    runIterators.clear();
+    for (final Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (final IOException e) {
+        failure = addFailure(failure, e);
+      }
+    }
+    runs.clear();
+    buffer = null;
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static SirixIOException addFailure(final SirixIOException failure, final IOException e) {
+    if (failure == null) {
+      return new SirixIOException(e);
+    }
+    failure.addSuppressed(e);
+    return failure;
+  }
+
+  /**
+   * A key and a node key.
+   */
+  private static final class KeyNodePair<K> {
+    private final K key;
+
+    private final long nodeKey;
+
+    KeyNodePair(final K key, final long nodeKey) {
+      this.key = key;
+      this.nodeKey = nodeKey;
+    }
+  }
+
+  /**
+   * Reads the pairs of a spilled run.
+   */
+  private final class RunIterator extends AbstractIterator<KeyNodePair<K>> {
+    private final DataInputStream input;
+
+    private int remaining;
+
+    RunIterator(final Path run) {
+      try {
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+      try {
+        remaining = input.readInt();
+      } catch (final IOException e) {
+        try {
+          input.close();
+        } catch (final IOException closeFailure) {
+          e.addSuppressed(closeFailure);
+        }
+        throw new SirixIOException(e);
+      }
+    }
+
+    /**
+     * Close the run, also if it hasn't been read completely.
+     *
+     * @throws IOException if the run couldn't be closed
+     */
+    void close() throws IOException {
+      input.close();
+    }
+
+    @Override
+    protected KeyNodePair<K> computeNext() {
+      try {
+        if (remaining == 0) {
+          input.close();
+          return endOfData();
+        }
+        remaining--;
+        @SuppressWarnings("unchecked")
+        final K key = (K) IndexKeySerializer.read(input, indexType);
+        return new KeyNodePair<>(key, getVarLong(input));
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Groups the node keys of consecutive equal keys.
+   */
+  private static final class GroupingIterator<K extends Comparable<? super K>>
+      extends AbstractIterator<IndexEntry<K, NodeReferences>> {
+    private final PeekingIterator<KeyNodePair<K>> pairs;
+
+    GroupingIterator(final PeekingIterator<KeyNodePair<K>> pairs) {
+      this.pairs = pairs;
+    }
+
+    @Override
+    protected IndexEntry<K, NodeReferences> computeNext() {
+      if (!pairs.hasNext()) {
+        return endOfData();
+      }
+      final KeyNodePair<K> first = pairs.next();
+      final Set<Long> nodeKeys = new HashSet<>();
+      nodeKeys.add(first.nodeKey);
+      while (pairs.hasNext() && pairs.peek().key.compareTo(first.key) == 0) {
+        nodeKeys.add(pairs.next().nodeKey);
+      }
+      final NodeReferences references = new NodeReferences(nodeKeys);
+      return new IndexEntry<>() {
+        @Override
+        public K getKey() {
+          return first.key;
+        }
+
+        @Override
+        public NodeReferences getValue() {
+          return references;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package org.sirix.index;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.xdm.Type;
+import org.sirix.index.avltree.keyvalue.CASValue;
+import org.sirix.settings.Constants;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static org.sirix.node.Utils.getVarLong;
+import static org.sirix.node.Utils.putVarLong;
+
+/**
+ * Serializes the keys of the different index types ({@link Long} path class records for path
+ * indexes, {@link CASValue}s for CAS indexes and {@link QNm}s for name indexes).
+ */
+public final class IndexKeySerializer {
+
+  /**
+   * Private constructor.
+   */
+  private IndexKeySerializer() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Read an index key.
+   *
+   * @param source the source to read from
+   * @param indexType the type of the index, which determines the type of the key
+   * @return the key
+   * @throws IOException if an I/O error occurs
+   */
+  public static Comparable<?> read(final DataInput source, final IndexType indexType) throws IOException {
+    switch (indexType) {
+      case PATH:
+        return getVarLong(source);
+      case CAS:
+        final byte[] value = new byte[source.readInt()];
+        source.readFully(value);
+        final byte[] type = new byte[source.readInt()];
+        source.readFully(type);
+        final String typeName = new String(type, Constants.DEFAULT_ENCODING);
+        final Type atomicType = IndexDef.resolveContentType(typeName);
+        if (atomicType == null) {
+          throw new IllegalStateException("Unknown content type: " + typeName);
+        }
+        final long pathNodeKey = getVarLong(source);
+        return new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey);
+      case NAME:
+        final byte[] nspBytes = new byte[source.readInt()];
+        source.readFully(nspBytes);
+        final byte[] prefixBytes = new byte[source.readInt()];
+        source.readFully(prefixBytes);
+        final byte[] localNameBytes = new byte[source.readInt()];
+        source.readFully(localNameBytes);
+        return new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
+            new String(prefixBytes, Constants.DEFAULT_ENCODING), new String(localNameBytes, Constants.DEFAULT_ENCODING));
+      default:
+        throw new IllegalStateException("Index type not known: " + indexType);
+    }
+  }
+
+  /**
+   * Write an index key.
+   *
+   * @param sink the sink to write to
+   * @param indexType the type of the index, which determines the type of the key
+   * @param key the key
+   * @throws IOException if an I/O error occurs
+   */
+  public static void write(final DataOutput sink, final IndexType indexType, final Object key)
+      throws IOException {
+    switch (indexType) {
+      case PATH:
+        putVarLong(sink, (Long) key);
+        break;
+      case CAS:
+        final CASValue casValue = (CASValue) key;
+        final byte[] value = casValue.getValue();
+        sink.writeInt(value.length);
+        sink.write(value);
+        final byte[] type = casValue.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(type.length);
+        sink.write(type);
+        putVarLong(sink, casValue.getPathNodeKey());
+        break;
+      case NAME:
+        final QNm name = (QNm) key;
+        final byte[] nspBytes = name.getNamespaceURI().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(nspBytes.length);
+        sink.write(nspBytes);
+        final byte[] prefixBytes = name.getPrefix().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(prefixBytes.length);
+        sink.write(prefixBytes);
+        final byte[] localNameBytes = name.getLocalName().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(localNameBytes.length);
+        sink.write(localNameBytes);
+        break;
+      default:
+        throw new IllegalStateException("Index type not known: " + indexType);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.sirix.index;
+
+import org.sirix.api.PageTrx;
+import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.index.bplustree.BPlusTreeWriter;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.UnorderedKeyValuePage;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * The data structure used to store the entries of an index.
+ */
+public enum IndexStructure {
+  /** Balanced binary search tree, which stores one index entry per record. */
+  AVL_TREE {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> createWriter(
+        final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type,
+        final @Nonnegative int index) {
+      return AVLTreeWriter.getInstance(pageWriteTrx, type, index);
+    }
+  },
+
+  /**
+   * B+-tree, which stores many sorted index entries per record and links the leaves for sequential
+   * range and prefix scans.
+   */
+  BPLUS_TREE {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> createWriter(
+        final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type,
+        final @Nonnegative int index) {
+      return BPlusTreeWriter.getInstance(pageWriteTrx, type, index);
+    }
+  };
+
+  /**
+   * Create a writer for an index, which creates the index tree if needed.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type type of index
+   * @param index the index number
+   * @return new index writer
+   */
+  public abstract <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> createWriter(
+      PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, IndexType type, @Nonnegative int index);
+}
@@ -0,0 +1,73 @@
+package org.sirix.index;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
+import org.sirix.index.avltree.interfaces.References;
+
+import javax.annotation.Nonnegative;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Writes the entries of an index, independent of the underlying {@link IndexStructure}.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ */
+public interface IndexTreeWriter<K extends Comparable<? super K>, V extends References> {
+
+  /**
+   * Checks if the specified token is already indexed; if yes, returns its reference. Otherwise,
+   * creates a new index entry and returns a reference of the indexed token.
+   *
+   * @param key token to be indexed
+   * @param value node key references
+   * @param move determines if the cursor must be moved to the document root or not (might be ignored
+   *        by index structures without a cursor)
+   * @return indexed node key references
+   * @throws SirixIOException if an I/O error occurs
+   */
+  V index(K key, V value, MoveCursor move);
+
+  /**
+   * Remove a node key from the value.
+   *
+   * @param key the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   * @throws SirixIOException if an I/O error occurs
+   */
+  boolean remove(K key, @Nonnegative long nodeKey);
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   *         value hasn't been found)
+   */
+  Optional<V> get(K key, SearchMode mode);
+
+  /**
+   * Index a sequence of entries, sorted by key without duplicate keys (for instance from an
+   * {@link IndexEntrySorter}). The node keys of an entry are added to the node keys already indexed
+   * under its key. Index structures which can be built bottom-up override this method.
+   *
+   * @param entries the sorted entries
+   * @throws SirixIOException if an I/O error occurs
+   */
+  default void bulkIndex(final Iterator<? extends IndexEntry<K, V>> entries) {
+    while (entries.hasNext()) {
+      final IndexEntry<K, V> entry = entries.next();
+      final Optional<V> references = get(entry.getKey(), SearchMode.EQUAL);
+      if (references.isPresent()) {
+        final V value = references.get();
+        entry.getValue().getNodeKeys().forEach(value::addNodeKey);
+        index(entry.getKey(), value, MoveCursor.NO_MOVE);
+      } else {
+        index(entry.getKey(), entry.getValue(), MoveCursor.NO_MOVE);
+      }
+    }
+  }
+}
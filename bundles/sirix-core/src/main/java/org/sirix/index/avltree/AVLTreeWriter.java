@@ -5,6 +5,7 @@ import org.sirix.api.NodeCursor;
 import org.sirix.api.PageTrx;
 import org.sirix.cache.PageContainer;
 import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.IndexType;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
@@ -34,7 +35,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @param <V> the value
  */
 public final class AVLTreeWriter<K extends Comparable<? super K>, V extends References>
-    extends AbstractForwardingNodeCursor {
+    extends AbstractForwardingNodeCursor implements IndexTreeWriter<K, V> {
   /** Logger. */
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(AVLTreeWriter.class));
 
@@ -110,6 +111,7 @@ public final class AVLTreeWriter<K extends Comparable<? super K>, V extends Refe
    * @return indexed node key references
    * @throws SirixIOException if an I/O error occurs
    */
+  @Override
   @SuppressWarnings("unchecked")
   public V index(final K key, final V value, final MoveCursor move) {
     if (move == MoveCursor.TO_DOCUMENT_ROOT) {
@@ -208,6 +210,7 @@ public final class AVLTreeWriter<K extends Comparable<? super K>, V extends Refe
    * @param nodeKey the nodeKey to remove from the value
    * @throws SirixIOException if an I/O error occured
    */
+  @Override
   public boolean remove(final K key, final @Nonnegative long nodeKey) {
     checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
     final Optional<V> searchedValue = mAVLTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
@@ -479,6 +482,7 @@ public final class AVLTreeWriter<K extends Comparable<? super K>, V extends Refe
    * @return {@link Optional} reference (with the found value, or a reference which indicates that the
    *         value hasn't been found)
    */
+  @Override
   public Optional<V> get(final K key, final SearchMode mode) {
     return mAVLTreeReader.get(checkNotNull(key), checkNotNull(mode));
   }
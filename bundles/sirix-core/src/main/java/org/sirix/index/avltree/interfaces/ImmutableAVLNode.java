@@ -1,17 +1,19 @@
 package org.sirix.index.avltree.interfaces;
 
+import org.sirix.index.IndexEntry;
 import org.sirix.node.interfaces.Node;
 
 /**
  * Immutable AVLNode.
  */
-public interface ImmutableAVLNode<K extends Comparable<? super K>, V> extends Node {
+public interface ImmutableAVLNode<K extends Comparable<? super K>, V> extends Node, IndexEntry<K, V> {
 
   /**
    * Key to be indexed.
    * 
    * @return key reference
    */
+  @Override
   public K getKey();
 
   /**
@@ -19,6 +21,7 @@ public interface ImmutableAVLNode<K extends Comparable<? super K>, V> extends No
    * 
    * @return key reference
    */
+  @Override
   public V getValue();
 
   /**
@@ -0,0 +1,198 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.index.IndexType;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Inner node of a {@link BPlusTreeWriter B+-tree}. The child at position {@code i} stores all keys
+ * which are greater than or equal to the separator key at position {@code i - 1} and smaller than
+ * the separator key at position {@code i}.
+ *
+ * @param <K> the key
+ */
+public final class BPlusInnerNode<K extends Comparable<? super K>> implements DataRecord {
+
+  /** The unique node key. */
+  private final long nodeKey;
+
+  /** The type of the index, which determines the type of the keys. */
+  private final IndexType indexType;
+
+  /** The sorted separator keys. */
+  private final List<K> keys;
+
+  /** The node keys of the children (one more than separator keys). */
+  private final List<Long> childKeys;
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey the unique node key
+   * @param indexType the type of the index
+   * @param keys the sorted separator keys
+   * @param childKeys the node keys of the children
+   */
+  public BPlusInnerNode(final @Nonnegative long nodeKey, final IndexType indexType, final List<K> keys,
+      final List<Long> childKeys) {
+    checkArgument(keys.size() + 1 == childKeys.size(), "Inner node must have one child more than keys!");
+    this.nodeKey = nodeKey;
+    this.indexType = checkNotNull(indexType);
+    this.keys = new ArrayList<>(keys);
+    this.childKeys = new ArrayList<>(childKeys);
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.BPLUSTREE_INNER;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  /**
+   * Get the type of the index.
+   *
+   * @return the type of the index
+   */
+  public IndexType getIndexType() {
+    return indexType;
+  }
+
+  /**
+   * Get the number of separator keys.
+   *
+   * @return the number of separator keys
+   */
+  public int getKeyCount() {
+    return keys.size();
+  }
+
+  public K getKey(final int position) {
+    return keys.get(position);
+  }
+
+  public long getChildKey(final int position) {
+    return childKeys.get(position);
+  }
+
+  /**
+   * Get the position of the child, which might store the given key.
+   *
+   * @param key the key to search for
+   * @return the position of the child
+   */
+  public int getChildPosition(final K key) {
+    int low = 0;
+    int high = keys.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (keys.get(mid).compareTo(key) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Get the position of the leftmost child, which might store keys greater than or equal to the given
+   * key with respect to a comparator, which must be consistent with the natural ordering of the keys
+   * (but may be coarser).
+   *
+   * @param key the key to search for
+   * @param comparator the comparator
+   * @return the position of the child
+   */
+  public int getLowerBoundChildPosition(final K key, final Comparator<? super K> comparator) {
+    int low = 0;
+    int high = keys.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (comparator.compare(keys.get(mid), key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Insert a separator key and the new right sibling of the child at the given position.
+   *
+   * @param childPosition the position of the child, which has been split
+   * @param separator the separator key (the smallest key of the new child)
+   * @param newChildKey the node key of the new child
+   */
+  public void insert(final int childPosition, final K separator, final long newChildKey) {
+    keys.add(childPosition, checkNotNull(separator));
+    childKeys.add(childPosition + 1, newChildKey);
+  }
+
+  /**
+   * Move the upper half of the separator keys and children to a new inner node. The separator key in
+   * the middle (at position {@code getKeyCount() / 2} before the split) is removed and has to be
+   * inserted into the parent.
+   *
+   * @param newNodeKey the node key of the new inner node
+   * @return the new inner node
+   */
+  public BPlusInnerNode<K> split(final @Nonnegative long newNodeKey) {
+    final int mid = keys.size() / 2;
+    final List<K> upperKeys = keys.subList(mid + 1, keys.size());
+    final List<Long> upperChildKeys = childKeys.subList(mid + 1, childKeys.size());
+    final BPlusInnerNode<K> newNode = new BPlusInnerNode<>(newNodeKey, indexType, upperKeys, upperChildKeys);
+    upperKeys.clear();
+    upperChildKeys.clear();
+    keys.remove(mid);
+    return newNode;
+  }
+
+  @Override
+  public long getRevision() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nodeKey);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof BPlusInnerNode) {
+      final BPlusInnerNode<?> other = (BPlusInnerNode<?>) obj;
+      return nodeKey == other.nodeKey;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("keys", keys)
+                      .add("children", childKeys)
+                      .toString();
+  }
+}
@@ -0,0 +1,230 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.index.IndexType;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Leaf of a {@link BPlusTreeWriter B+-tree}, which stores many index entries sorted by their keys
+ * in a single record. The leaves are doubly linked to support sequential scans.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public final class BPlusLeafNode<K extends Comparable<? super K>, V extends References> implements DataRecord {
+
+  /** The unique node key. */
+  private final long nodeKey;
+
+  /** The type of the index, which determines the type of the keys. */
+  private final IndexType indexType;
+
+  /** The sorted keys. */
+  private final List<K> keys;
+
+  /** The values, one for each key. */
+  private final List<V> values;
+
+  /** Node key of the previous leaf. */
+  private long previousLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  /** Node key of the next leaf. */
+  private long nextLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey the unique node key
+   * @param indexType the type of the index
+   * @param keys the sorted keys
+   * @param values the values, one for each key
+   */
+  public BPlusLeafNode(final @Nonnegative long nodeKey, final IndexType indexType, final List<K> keys,
+      final List<V> values) {
+    checkArgument(keys.size() == values.size(), "Number of keys and values must be equal!");
+    this.nodeKey = nodeKey;
+    this.indexType = checkNotNull(indexType);
+    this.keys = new ArrayList<>(keys);
+    this.values = new ArrayList<>(values);
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.BPLUSTREE_LEAF;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  /**
+   * Get the type of the index.
+   *
+   * @return the type of the index
+   */
+  public IndexType getIndexType() {
+    return indexType;
+  }
+
+  /**
+   * Get the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return keys.size();
+  }
+
+  public K getKey(final int position) {
+    return keys.get(position);
+  }
+
+  public V getValue(final int position) {
+    return values.get(position);
+  }
+
+  public void setValue(final int position, final V value) {
+    values.set(position, checkNotNull(value));
+  }
+
+  /**
+   * Search for a key.
+   *
+   * @param key the key to search for
+   * @return the position of the key, if it is stored in this leaf, otherwise
+   *         {@code (-(insertion point) - 1)}
+   */
+  public int search(final K key) {
+    return Collections.binarySearch(keys, key);
+  }
+
+  /**
+   * Get the position of the first key, which is greater than or equal to the given key with respect to
+   * a comparator, which must be consistent with the natural ordering of the keys (but may be coarser).
+   *
+   * @param key the key to search for
+   * @param comparator the comparator
+   * @return the position, which is {@link #size()}, if all keys are smaller
+   */
+  public int lowerBound(final K key, final Comparator<? super K> comparator) {
+    int low = 0;
+    int high = keys.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (comparator.compare(keys.get(mid), key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Insert an entry.
+   *
+   * @param position the position to insert the entry at
+   * @param key the key
+   * @param value the value
+   */
+  public void insert(final int position, final K key, final V value) {
+    keys.add(position, checkNotNull(key));
+    values.add(position, checkNotNull(value));
+  }
+
+  /**
+   * Remove an entry.
+   *
+   * @param position the position of the entry
+   */
+  public void remove(final int position) {
+    keys.remove(position);
+    values.remove(position);
+  }
+
+  /**
+   * Move the upper half of the entries to a new leaf. The leaf links are not adapted.
+   *
+   * @param newNodeKey the node key of the new leaf
+   * @return the new leaf
+   */
+  public BPlusLeafNode<K, V> split(final @Nonnegative long newNodeKey) {
+    final int mid = keys.size() / 2;
+    final List<K> upperKeys = keys.subList(mid, keys.size());
+    final List<V> upperValues = values.subList(mid, values.size());
+    final BPlusLeafNode<K, V> newLeaf = new BPlusLeafNode<>(newNodeKey, indexType, upperKeys, upperValues);
+    upperKeys.clear();
+    upperValues.clear();
+    return newLeaf;
+  }
+
+  public long getPreviousLeafKey() {
+    return previousLeafKey;
+  }
+
+  public void setPreviousLeafKey(final long previousLeafKey) {
+    this.previousLeafKey = previousLeafKey;
+  }
+
+  public boolean hasNextLeaf() {
+    return nextLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  public long getNextLeafKey() {
+    return nextLeafKey;
+  }
+
+  public void setNextLeafKey(final long nextLeafKey) {
+    this.nextLeafKey = nextLeafKey;
+  }
+
+  @Override
+  public long getRevision() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nodeKey);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof BPlusLeafNode) {
+      final BPlusLeafNode<?, ?> other = (BPlusLeafNode<?, ?>) obj;
+      return nodeKey == other.nodeKey;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("previous leaf", previousLeafKey)
+                      .add("next leaf", nextLeafKey)
+                      .add("keys", keys)
+                      .add("values", values)
+                      .toString();
+  }
+}
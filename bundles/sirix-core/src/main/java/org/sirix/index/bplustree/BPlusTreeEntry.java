@@ -0,0 +1,47 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.index.IndexEntry;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An entry of a {@link BPlusLeafNode}, as returned by scans of the {@link BPlusTreeReader}.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public final class BPlusTreeEntry<K extends Comparable<? super K>, V> implements IndexEntry<K, V> {
+
+  /** The key. */
+  private final K key;
+
+  /** The value. */
+  private final V value;
+
+  /**
+   * Constructor.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public BPlusTreeEntry(final K key, final V value) {
+    this.key = checkNotNull(key);
+    this.value = checkNotNull(value);
+  }
+
+  @Override
+  public K getKey() {
+    return key;
+  }
+
+  @Override
+  public V getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("key", key).add("value", value).toString();
+  }
+}
@@ -0,0 +1,353 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.collect.AbstractIterator;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.PageKind;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads a B+-tree index, whose records ({@link BPlusInnerNode} and {@link BPlusLeafNode}) each pack
+ * many keys. The root of the tree is the first child of the document root of the index. Point
+ * lookups descend from the root, whereas range and prefix scans descend once to their first key and
+ * afterwards iterate the linked leaves sequentially up to their last key.
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ */
+public final class BPlusTreeReader<K extends Comparable<? super K>, V extends References> {
+
+  /** {@link PageReadOnlyTrx} for persistent storage. */
+  final PageReadOnlyTrx pageReadTrx;
+
+  /** Page kind. */
+  final PageKind pageKind;
+
+  /** Index type. */
+  final IndexType indexType;
+
+  /** Index number. */
+  final int index;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type kind of index
+   * @param index the index number
+   */
+  private BPlusTreeReader(final PageReadOnlyTrx pageReadTrx, final IndexType type, final @Nonnegative int index) {
+    this.pageReadTrx = checkNotNull(pageReadTrx);
+    switch (type) {
+      case PATH:
+        pageKind = PageKind.PATHPAGE;
+        break;
+      case CAS:
+        pageKind = PageKind.CASPAGE;
+        break;
+      case NAME:
+        pageKind = PageKind.NAMEPAGE;
+        break;
+      default:
+        throw new IllegalStateException();
+    }
+    indexType = type;
+    this.index = index;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param <K> key instance which extends comparable
+   * @param <V> value
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type type of index
+   * @param index index
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadTrx, final IndexType type, final @Nonnegative int index) {
+    return new BPlusTreeReader<>(pageReadTrx, type, index);
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   *         value hasn't been found)
+   */
+  public Optional<V> get(final K key, final SearchMode mode) {
+    checkNotNull(key);
+    checkNotNull(mode);
+    if (mode == SearchMode.EQUAL) {
+      final BPlusLeafNode<K, V> leaf = getLeaf(key, null);
+      if (leaf == null) {
+        return Optional.empty();
+      }
+      final int position = leaf.search(key);
+      return position >= 0
+          ? Optional.of(leaf.getValue(position))
+          : Optional.empty();
+    }
+    if (mode == SearchMode.GREATER || mode == SearchMode.GREATER_OR_EQUAL) {
+      // The first entry after the key.
+      final Iterator<BPlusTreeEntry<K, V>> entries = iterator(key, mode == SearchMode.GREATER_OR_EQUAL, null, false);
+      return entries.hasNext() ? Optional.of(entries.next().getValue()) : Optional.empty();
+    }
+    // The first entry of the index, if it's less than the key.
+    final Iterator<BPlusTreeEntry<K, V>> entries = iterator();
+    if (entries.hasNext()) {
+      final BPlusTreeEntry<K, V> entry = entries.next();
+      if (mode.compare(key, entry.getKey()) == 0) {
+        return Optional.of(entry.getValue());
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Iterate over all entries in ascending key order.
+   *
+   * @return the iterator
+   */
+  public Iterator<BPlusTreeEntry<K, V>> iterator() {
+    final long rootKey = getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return Collections.emptyIterator();
+    }
+    DataRecord node = getRecord(rootKey);
+    while (node instanceof BPlusInnerNode) {
+      node = getRecord(((BPlusInnerNode<?>) node).getChildKey(0));
+    }
+    return new LeafIterator(node.getNodeKey(), 0, null, null, null, false);
+  }
+
+  /**
+   * Iterate in ascending key order over all entries, whose keys are greater than or equal to the given
+   * key (a range scan).
+   *
+   * @param fromKey the smallest key
+   * @return the iterator
+   */
+  public Iterator<BPlusTreeEntry<K, V>> iterator(final K fromKey) {
+    return iterator(checkNotNull(fromKey), true, null, false);
+  }
+
+  /**
+   * Iterate in ascending key order over all entries, whose keys are between two keys (a range scan).
+   * The iteration starts at the first key in range and stops at the first key after the range.
+   *
+   * @param fromKey the lower bound
+   * @param fromInclusive {@code true}, if the lower bound is included
+   * @param toKey the upper bound or {@code null}, if the range is unbounded
+   * @param toInclusive {@code true}, if the upper bound is included
+   * @return the iterator
+   */
+  public Iterator<BPlusTreeEntry<K, V>> iterator(final K fromKey, final boolean fromInclusive,
+      final @Nullable K toKey, final boolean toInclusive) {
+    checkNotNull(fromKey);
+    return seek(fromKey, lowerBoundComparator(fromInclusive), null, null, toKey, toInclusive);
+  }
+
+  /**
+   * Iterate in ascending key order over all entries, whose keys are equal to the given key with respect
+   * to a comparator, which must be consistent with the natural ordering of the keys but may be coarser,
+   * for instance comparing only by the path class record of CAS keys (a prefix scan).
+   *
+   * @param key the key
+   * @param comparator the comparator
+   * @return the iterator
+   */
+  public Iterator<BPlusTreeEntry<K, V>> prefixIterator(final K key, final Comparator<? super K> comparator) {
+    return prefixIterator(key, comparator, null, false, null, false);
+  }
+
+  /**
+   * Iterate in ascending key order over all entries, whose keys are equal to the given key with respect
+   * to a comparator (see {@link #prefixIterator(Comparable, Comparator)}) and are between two keys,
+   * which in turn must be equal to the given key with respect to the comparator. For instance, the
+   * entries of a path class record, whose values are in a range.
+   *
+   * @param key the key
+   * @param comparator the comparator
+   * @param fromKey the lower bound or {@code null}, if the range starts at the first key equal to the
+   *        given key
+   * @param fromInclusive {@code true}, if the lower bound is included
+   * @param toKey the upper bound or {@code null}, if the range ends at the last key equal to the given
+   *        key
+   * @param toInclusive {@code true}, if the upper bound is included
+   * @return the iterator
+   */
+  public Iterator<BPlusTreeEntry<K, V>> prefixIterator(final K key, final Comparator<? super K> comparator,
+      final @Nullable K fromKey, final boolean fromInclusive, final @Nullable K toKey, final boolean toInclusive) {
+    checkNotNull(key);
+    checkNotNull(comparator);
+    return fromKey == null
+        ? seek(key, comparator, key, comparator, toKey, toInclusive)
+        : seek(fromKey, lowerBoundComparator(fromInclusive), key, comparator, toKey, toInclusive);
+  }
+
+  /**
+   * Get the comparator to search the first key greater than or equal to (or greater than, if the key
+   * isn't included) a key with.
+   */
+  private Comparator<K> lowerBoundComparator(final boolean inclusive) {
+    return inclusive ? Comparator.naturalOrder() : (first, second) -> first.compareTo(second) <= 0 ? -1 : 1;
+  }
+
+  private Iterator<BPlusTreeEntry<K, V>> seek(final K key, final Comparator<? super K> comparator,
+      final @Nullable K prefix, final @Nullable Comparator<? super K> prefixComparator, final @Nullable K toKey,
+      final boolean toInclusive) {
+    final long rootKey = getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return Collections.emptyIterator();
+    }
+    DataRecord node = getRecord(rootKey);
+    while (node instanceof BPlusInnerNode) {
+      @SuppressWarnings("unchecked")
+      final BPlusInnerNode<K> inner = (BPlusInnerNode<K>) node;
+      node = getRecord(inner.getChildKey(inner.getLowerBoundChildPosition(key, comparator)));
+    }
+    @SuppressWarnings("unchecked")
+    final BPlusLeafNode<K, V> leaf = (BPlusLeafNode<K, V>) node;
+    return new LeafIterator(leaf.getNodeKey(), leaf.lowerBound(key, comparator), prefix, prefixComparator, toKey,
+        toInclusive);
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  public long size() {
+    return getDocumentRoot().getDescendantCount();
+  }
+
+  /**
+   * Get the leaf, which might store the given key.
+   *
+   * @param key the key to search for
+   * @param path if not {@code null}, the node keys of the inner nodes on the path from the root are
+   *        pushed
+   * @return the leaf or {@code null}, if the index is empty
+   */
+  BPlusLeafNode<K, V> getLeaf(final K key, final @Nullable Deque<Long> path) {
+    final long rootKey = getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return null;
+    }
+    DataRecord node = getRecord(rootKey);
+    while (node instanceof BPlusInnerNode) {
+      @SuppressWarnings("unchecked")
+      final BPlusInnerNode<K> inner = (BPlusInnerNode<K>) node;
+      if (path != null) {
+        path.push(inner.getNodeKey());
+      }
+      node = getRecord(inner.getChildKey(inner.getChildPosition(key)));
+    }
+    @SuppressWarnings("unchecked")
+    final BPlusLeafNode<K, V> leaf = (BPlusLeafNode<K, V>) node;
+    return leaf;
+  }
+
+  /**
+   * Get the document root of the index.
+   *
+   * @return the document root
+   */
+  StructNode getDocumentRoot() {
+    return (StructNode) getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+  }
+
+  private long getRootKey() {
+    return getDocumentRoot().getFirstChildKey();
+  }
+
+  /**
+   * Get a record of the index.
+   *
+   * @param nodeKey the node key of the record
+   * @return the record
+   */
+  DataRecord getRecord(final long nodeKey) {
+    final Optional<? extends DataRecord> record = pageReadTrx.getRecord(nodeKey, pageKind, index);
+    return record.orElseThrow(() -> new IllegalStateException("Node couldn't be fetched from persistent storage!"));
+  }
+
+  /**
+   * Iterates over the entries of the linked leaves.
+   */
+  private final class LeafIterator extends AbstractIterator<BPlusTreeEntry<K, V>> {
+
+    /** The current leaf. */
+    private BPlusLeafNode<K, V> leaf;
+
+    /** The position of the next entry in the current leaf. */
+    private int position;
+
+    /** If not {@code null}, the iteration stops at the first key, which isn't equal to this key. */
+    private final K prefix;
+
+    /** The comparator used to compare keys with the prefix. */
+    private final Comparator<? super K> comparator;
+
+    /** If not {@code null}, the iteration stops at the first key, which is greater than this key. */
+    private final K toKey;
+
+    /** {@code true}, if the iteration stops after a key equal to {@link #toKey}. */
+    private final boolean toInclusive;
+
+    @SuppressWarnings("unchecked")
+    LeafIterator(final long leafKey, final int position, final @Nullable K prefix,
+        final @Nullable Comparator<? super K> comparator, final @Nullable K toKey, final boolean toInclusive) {
+      leaf = (BPlusLeafNode<K, V>) getRecord(leafKey);
+      this.position = position;
+      this.prefix = prefix;
+      this.comparator = comparator;
+      this.toKey = toKey;
+      this.toInclusive = toInclusive;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected BPlusTreeEntry<K, V> computeNext() {
+      // Skip exhausted (or empty) leaves.
+      while (position >= leaf.size()) {
+        if (!leaf.hasNextLeaf()) {
+          return endOfData();
+        }
+        leaf = (BPlusLeafNode<K, V>) getRecord(leaf.getNextLeafKey());
+        position = 0;
+      }
+      final K key = leaf.getKey(position);
+      if (prefix != null && comparator.compare(key, prefix) != 0) {
+        return endOfData();
+      }
+      if (toKey != null) {
+        final int toKeyComparison = key.compareTo(toKey);
+        if (toKeyComparison > 0 || (toKeyComparison == 0 && !toInclusive)) {
+          return endOfData();
+        }
+      }
+      final V value = leaf.getValue(position);
+      position++;
+      return new BPlusTreeEntry<>(key, value);
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package org.sirix.index.bplustree;
+
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexEntry;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.CASPage;
+import org.sirix.page.NamePage;
+import org.sirix.page.PageReference;
+import org.sirix.page.PathPage;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a page-oriented, versioned B+-tree index. In contrast to the AVL tree, which stores one
+ * index entry per record, a leaf record stores up to {@link #MAX_ENTRIES} sorted entries and an
+ * inner record up to {@link #MAX_ENTRIES} separator keys, such that lookups touch only a few
+ * records (and record pages) and scans read the entries of a leaf sequentially. Records are
+ * modified through the page transaction and are thus copied on write and versioned like every other
+ * record.
+ *
+ * <p>Leaves which become empty are not merged; entries whose references are all removed are dropped
+ * from their leaf.</p>
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ */
+public final class BPlusTreeWriter<K extends Comparable<? super K>, V extends References>
+    implements IndexTreeWriter<K, V> {
+  /** Logger. */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(BPlusTreeWriter.class));
+
+  /** Maximum number of entries of a leaf and of separator keys of an inner node. */
+  static final int MAX_ENTRIES = 64;
+
+  /** {@link BPlusTreeReader} instance. */
+  private final BPlusTreeReader<K, V> reader;
+
+  /** {@link PageTrx} instance. */
+  private final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type type of index
+   * @param index the index number
+   */
+  private BPlusTreeWriter(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type,
+      final @Nonnegative int index) {
+    try {
+      final RevisionRootPage revisionRootPage = pageWriteTrx.getActualRevisionRootPage();
+      final PageReference reference;
+      switch (type) {
+        case PATH:
+          // Create path index tree if needed.
+          final PathPage pathPage = pageWriteTrx.getPathPage(revisionRootPage);
+          reference = revisionRootPage.getPathPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case CAS:
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageWriteTrx.getCASPage(revisionRootPage);
+          reference = revisionRootPage.getCASPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case NAME:
+          // Create name index tree if needed.
+          final NamePage namePage = pageWriteTrx.getNamePage(revisionRootPage);
+          reference = revisionRootPage.getNamePageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        default:
+          // Must not happen.
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    reader = BPlusTreeReader.getInstance(pageWriteTrx, type, index);
+    this.pageWriteTrx = pageWriteTrx;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type type of index
+   * @param index the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeWriter<K, V> getInstance(
+      final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type, final int index) {
+    return new BPlusTreeWriter<>(pageWriteTrx, type, index);
+  }
+
+  @Override
+  public V index(final K key, final V value, final MoveCursor move) {
+    checkNotNull(key);
+    checkNotNull(value);
+    final Deque<Long> path = new ArrayDeque<>();
+    final BPlusLeafNode<K, V> searchedLeaf = reader.getLeaf(key, path);
+
+    if (searchedLeaf == null) {
+      // Index is empty.. create root leaf.
+      final BPlusLeafNode<K, V> leaf = createLeaf(List.of(key), List.of(value));
+      final StructNode document = prepareDocumentRoot();
+      document.setFirstChildKey(leaf.getNodeKey());
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    final int position = searchedLeaf.search(key);
+    if (position >= 0) {
+      // Always prepare the leaf, as the value might have been modified in place.
+      final V oldValue = searchedLeaf.getValue(position);
+      prepareLeaf(searchedLeaf.getNodeKey()).setValue(position, value);
+      return oldValue;
+    }
+
+    final BPlusLeafNode<K, V> leaf = prepareLeaf(searchedLeaf.getNodeKey());
+    leaf.insert(-position - 1, key, value);
+    prepareDocumentRoot().incrementDescendantCount();
+
+    if (leaf.size() > MAX_ENTRIES) {
+      splitLeaf(leaf, path);
+    }
+    return value;
+  }
+
+  private void splitLeaf(final BPlusLeafNode<K, V> leaf, final Deque<Long> path) {
+    final BPlusLeafNode<K, V> newLeaf = leaf.split(getNewNodeKey());
+    pageWriteTrx.createEntry(newLeaf.getNodeKey(), newLeaf, reader.pageKind, reader.index);
+
+    // Link the new leaf.
+    newLeaf.setPreviousLeafKey(leaf.getNodeKey());
+    newLeaf.setNextLeafKey(leaf.getNextLeafKey());
+    if (leaf.hasNextLeaf()) {
+      prepareLeaf(leaf.getNextLeafKey()).setPreviousLeafKey(newLeaf.getNodeKey());
+    }
+    leaf.setNextLeafKey(newLeaf.getNodeKey());
+
+    insertIntoParent(path, leaf.getNodeKey(), newLeaf.getKey(0), newLeaf.getNodeKey());
+  }
+
+  private void insertIntoParent(final Deque<Long> path, final long leftChildKey, final K separator,
+      final long rightChildKey) {
+    if (path.isEmpty()) {
+      // The root has been split.. create a new root.
+      final BPlusInnerNode<K> root =
+          new BPlusInnerNode<>(getNewNodeKey(), reader.indexType, List.of(separator), List.of(leftChildKey, rightChildKey));
+      pageWriteTrx.createEntry(root.getNodeKey(), root, reader.pageKind, reader.index);
+      prepareDocumentRoot().setFirstChildKey(root.getNodeKey());
+      return;
+    }
+
+    @SuppressWarnings("unchecked")
+    final BPlusInnerNode<K> parent =
+        (BPlusInnerNode<K>) pageWriteTrx.prepareEntryForModification(path.pop(), reader.pageKind, reader.index);
+    parent.insert(parent.getChildPosition(separator), separator, rightChildKey);
+
+    if (parent.getKeyCount() > MAX_ENTRIES) {
+      final K promotedKey = parent.getKey(parent.getKeyCount() / 2);
+      final BPlusInnerNode<K> newNode = parent.split(getNewNodeKey());
+      pageWriteTrx.createEntry(newNode.getNodeKey(), newNode, reader.pageKind, reader.index);
+      insertIntoParent(path, parent.getNodeKey(), promotedKey, newNode.getNodeKey());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If the index is empty, the tree is built bottom-up: the leaves are filled completely from left
+   * to right and afterwards the inner levels are created, such that every record is written once.
+   * Otherwise the entries are inserted one by one.</p>
+   */
+  @Override
+  public void bulkIndex(final Iterator<? extends IndexEntry<K, V>> entries) {
+    checkNotNull(entries);
+    if (reader.getDocumentRoot().hasFirstChild()) {
+      IndexTreeWriter.super.bulkIndex(entries);
+      return;
+    }
+    if (!entries.hasNext()) {
+      return;
+    }
+
+    // Create the leaves.
+    final List<Long> childKeys = new ArrayList<>();
+    final List<K> firstKeys = new ArrayList<>();
+    long entryCount = 0;
+    BPlusLeafNode<K, V> previousLeaf = null;
+    while (entries.hasNext()) {
+      final List<K> keys = new ArrayList<>(MAX_ENTRIES);
+      final List<V> values = new ArrayList<>(MAX_ENTRIES);
+      while (entries.hasNext() && keys.size() < MAX_ENTRIES) {
+        final IndexEntry<K, V> entry = entries.next();
+        keys.add(entry.getKey());
+        values.add(entry.getValue());
+      }
+      final BPlusLeafNode<K, V> leaf = createLeaf(keys, values);
+      if (previousLeaf != null) {
+        previousLeaf.setNextLeafKey(leaf.getNodeKey());
+        leaf.setPreviousLeafKey(previousLeaf.getNodeKey());
+      }
+      previousLeaf = leaf;
+      childKeys.add(leaf.getNodeKey());
+      firstKeys.add(keys.get(0));
+      entryCount += keys.size();
+    }
+
+    // Create the inner levels, whereas the children are evenly distributed.
+    List<Long> levelChildKeys = childKeys;
+    List<K> levelFirstKeys = firstKeys;
+    while (levelChildKeys.size() > 1) {
+      final int children = levelChildKeys.size();
+      final int nodes = (children + MAX_ENTRIES) / (MAX_ENTRIES + 1);
+      final List<Long> parentKeys = new ArrayList<>(nodes);
+      final List<K> parentFirstKeys = new ArrayList<>(nodes);
+      int from = 0;
+      for (int i = 0; i < nodes; i++) {
+        final int to = from + (children - from) / (nodes - i);
+        final BPlusInnerNode<K> node = new BPlusInnerNode<>(getNewNodeKey(), reader.indexType,
+            levelFirstKeys.subList(from + 1, to), levelChildKeys.subList(from, to));
+        pageWriteTrx.createEntry(node.getNodeKey(), node, reader.pageKind, reader.index);
+        parentKeys.add(node.getNodeKey());
+        parentFirstKeys.add(levelFirstKeys.get(from));
+        from = to;
+      }
+      levelChildKeys = parentKeys;
+      levelFirstKeys = parentFirstKeys;
+    }
+
+    final StructNode document = prepareDocumentRoot();
+    document.setFirstChildKey(levelChildKeys.get(0));
+    document.incrementChildCount();
+    document.setDescendantCount(entryCount);
+  }
+
+  @Override
+  public boolean remove(final K key, final @Nonnegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final BPlusLeafNode<K, V> searchedLeaf = reader.getLeaf(checkNotNull(key), null);
+    if (searchedLeaf == null) {
+      return false;
+    }
+    final int position = searchedLeaf.search(key);
+    if (position < 0) {
+      return false;
+    }
+    final BPlusLeafNode<K, V> leaf = prepareLeaf(searchedLeaf.getNodeKey());
+    final V value = leaf.getValue(position);
+    final boolean removed = value.removeNodeKey(nodeKey);
+    if (removed && !value.hasNodeKeys()) {
+      leaf.remove(position);
+      prepareDocumentRoot().decrementDescendantCount();
+    }
+    return removed;
+  }
+
+  @Override
+  public Optional<V> get(final K key, final SearchMode mode) {
+    return reader.get(checkNotNull(key), checkNotNull(mode));
+  }
+
+  /**
+   * Get the {@link BPlusTreeReader} used to navigate.
+   *
+   * @return {@link BPlusTreeReader} reference
+   */
+  public BPlusTreeReader<K, V> getReader() {
+    return reader;
+  }
+
+  private BPlusLeafNode<K, V> createLeaf(final List<K> keys, final List<V> values) {
+    final BPlusLeafNode<K, V> leaf = new BPlusLeafNode<>(getNewNodeKey(), reader.indexType, keys, values);
+    pageWriteTrx.createEntry(leaf.getNodeKey(), leaf, reader.pageKind, reader.index);
+    return leaf;
+  }
+
+  @SuppressWarnings("unchecked")
+  private BPlusLeafNode<K, V> prepareLeaf(final long nodeKey) {
+    return (BPlusLeafNode<K, V>) pageWriteTrx.prepareEntryForModification(nodeKey, reader.pageKind, reader.index);
+  }
+
+  private StructNode prepareDocumentRoot() {
+    return (StructNode) pageWriteTrx.prepareEntryForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+        reader.pageKind, reader.index);
+  }
+
+  /**
+   * Get the new maximum node key.
+   *
+   * @return maximum node key
+   * @throws SirixIOException If any I/O operation fails
+   */
+  private long getNewNodeKey() {
+    final RevisionRootPage root = pageWriteTrx.getActualRevisionRootPage();
+    switch (reader.pageKind) {
+      case PATHPAGE:
+        return pageWriteTrx.getPathPage(root).getMaxNodeKey(reader.index) + 1;
+      case CASPAGE:
+        return pageWriteTrx.getCASPage(root).getMaxNodeKey(reader.index) + 1;
+      case NAMEPAGE:
+        return pageWriteTrx.getNamePage(root).getMaxNodeKey(reader.index) + 1;
+      // $CASES-OMITTED$
+      default:
+        throw new IllegalStateException();
+    }
+  }
+}
@@ -5,7 +5,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.Filter;
-import org.sirix.index.avltree.AVLNode;
+import org.sirix.index.IndexEntry;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.PCRCollector;
@@ -61,8 +61,28 @@ public final class CASFilterRange implements Filter {
     mIncMax = incMax;
   }
 
+  public Set<Long> getPCRs() {
+    return mPathFilter.getPCRs();
+  }
+
+  public Atomic getMin() {
+    return mMin;
+  }
+
+  public Atomic getMax() {
+    return mMax;
+  }
+
+  public boolean isMinIncluded() {
+    return mIncMin;
+  }
+
+  public boolean isMaxIncluded() {
+    return mIncMax;
+  }
+
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
+  public <K extends Comparable<? super K>> boolean filter(final IndexEntry<K, NodeReferences> node) {
     final K key = node.getKey();
     if (key instanceof CASValue) {
       final CASValue casValue = (CASValue) key;
@@ -8,12 +8,16 @@ import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexEntry;
 import org.sirix.index.IndexFilterAxis;
+import org.sirix.index.IndexStructure;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeEntry;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -30,6 +34,27 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
       IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getStructure() == IndexStructure.BPLUS_TREE) {
+      final BPlusTreeReader<CASValue, NodeReferences> reader =
+          BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+
+      if (filter.getPCRs().isEmpty()) {
+        return new IndexFilterAxis<>(reader.iterator(), Set.of(filter));
+      }
+
+      // Scan the range of each PCR only, in key order.
+      final Atomic min = filter.getMin();
+      final Atomic max = filter.getMax();
+      final Iterator<Iterator<BPlusTreeEntry<CASValue, NodeReferences>>> ranges =
+          filter.getPCRs().stream().sorted().map(pcr -> {
+            final CASValue value = new CASValue(min, min.type(), pcr);
+            return reader.prefixIterator(value, Comparator.comparingLong(CASValue::getPathNodeKey), value,
+                filter.isMinIncluded(), new CASValue(max, max.type(), pcr), filter.isMaxIncluded());
+          }).iterator();
+
+      return new IndexFilterAxis<>(Iterators.concat(ranges), Set.of(filter));
+    }
+
     final AVLTreeReader<CASValue, NodeReferences> reader =
         AVLTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
 
@@ -40,6 +65,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getStructure() == IndexStructure.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageReadTrx, indexDef, filter);
+    }
+
     final AVLTreeReader<CASValue, NodeReferences> reader =
         AVLTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
 
@@ -99,6 +128,59 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
   }
 
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef,
+      CASFilter filter) {
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+
+    // PCRs requested.
+    final Set<Long> pcrsRequested = filter == null ? Collections.emptySet() : filter.getPCRs();
+
+    if (pcrsRequested.size() == 1) {
+      final Atomic atomic = filter.getKey();
+      final long pcr = pcrsRequested.iterator().next();
+      final CASValue value = new CASValue(atomic, atomic != null ? atomic.type() : null, pcr);
+
+      if (atomic != null && filter.getMode() == SearchMode.EQUAL) {
+        // Point lookup by PCR and atomic value.
+        final Optional<NodeReferences> optionalReferences = reader.get(value, SearchMode.EQUAL);
+
+        return optionalReferences.isPresent()
+            ? Iterators.singletonIterator(optionalReferences.get())
+            : Collections.emptyIterator();
+      }
+
+      // Scan the adjacent entries of the PCR only, starting at or stopping at the key in greater or less
+      // searches.
+      final Comparator<CASValue> pcrComparator = Comparator.comparingLong(CASValue::getPathNodeKey);
+      final Iterator<? extends IndexEntry<CASValue, NodeReferences>> iter;
+      if (atomic == null) {
+        iter = reader.prefixIterator(value, pcrComparator);
+      } else {
+        switch (filter.getMode()) {
+          case GREATER:
+          case GREATER_OR_EQUAL:
+            iter = reader.prefixIterator(value, pcrComparator, value, filter.getMode() == SearchMode.GREATER_OR_EQUAL,
+                null, false);
+            break;
+          case LESS:
+          case LESS_OR_EQUAL:
+            iter = reader.prefixIterator(value, pcrComparator, null, false, value,
+                filter.getMode() == SearchMode.LESS_OR_EQUAL);
+            break;
+          default:
+            iter = reader.prefixIterator(value, pcrComparator);
+        }
+      }
+
+      return new IndexFilterAxis<>(iter, Set.of(filter));
+    }
+
+    final Set<CASFilter> setFilter = filter == null ? Collections.emptySet() : Set.of(filter);
+
+    return new IndexFilterAxis<>(reader.iterator(), setFilter);
+  }
+
   private Function<AVLNode<CASValue, NodeReferences>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
       CASFilter filter, AVLTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
     return node -> {
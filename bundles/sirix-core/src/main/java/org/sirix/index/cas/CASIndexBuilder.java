@@ -10,9 +10,9 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.IndexType;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -25,13 +25,12 @@ import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
-public final class CASIndexBuilder {
+public final class CASIndexBuilder implements AutoCloseable {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final AVLTreeWriter<CASValue, NodeReferences> mAVLTreeWriter;
+  private final IndexTreeWriter<CASValue, NodeReferences> mIndexWriter;
 
   private final PathSummaryReader mPathSummaryReader;
 
@@ -39,12 +38,16 @@ public final class CASIndexBuilder {
 
   private final Type mType;
 
-  public CASIndexBuilder(final AVLTreeWriter<CASValue, NodeReferences> avlTreeWriter,
+  /** Collects the node keys during the traversal, which are indexed sorted afterwards. */
+  private final IndexEntrySorter<CASValue> mSorter;
+
+  public CASIndexBuilder(final IndexTreeWriter<CASValue, NodeReferences> indexWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
     mPathSummaryReader = pathSummaryReader;
     mPaths = paths;
-    mAVLTreeWriter = avlTreeWriter;
+    mIndexWriter = indexWriter;
     mType = type;
+    mSorter = new IndexEntrySorter<>(IndexType.CAS);
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
@@ -75,13 +78,7 @@ public final class CASIndexBuilder {
         }
 
         if (isOfType) {
-          final CASValue value = new CASValue(strValue, mType, pathNodeKey);
-          final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(value, SearchMode.EQUAL);
-          if (textReferences.isPresent()) {
-            setNodeReferences(node, textReferences.get(), value);
-          } else {
-            setNodeReferences(node, new NodeReferences(), value);
-          }
+          mSorter.add(new CASValue(strValue, mType, pathNodeKey), node.getNodeKey());
         }
       }
     } catch (final PathException | SirixIOException e) {
@@ -90,8 +87,23 @@ public final class CASIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
-      throws SirixIOException {
-    mAVLTreeWriter.index(value, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  /**
+   * Index the collected node keys. Must be called once the traversal has finished.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void finish() {
+    mIndexWriter.bulkIndex(mSorter.sortedEntries());
+  }
+
+  /**
+   * Delete the spilled runs of the collected node keys. Must be called once the index has been built
+   * or the traversal has failed.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public void close() {
+    mSorter.close();
   }
 }
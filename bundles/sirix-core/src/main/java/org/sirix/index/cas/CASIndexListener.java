@@ -10,7 +10,7 @@ import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -21,15 +21,15 @@ import java.util.Set;
 
 public final class CASIndexListener {
 
-  private final AVLTreeWriter<CASValue, NodeReferences> mAVLTreeWriter;
+  private final IndexTreeWriter<CASValue, NodeReferences> mIndexWriter;
   private final PathSummaryReader mPathSummaryReader;
   private final Set<Path<QNm>> mPaths;
   private final Type mType;
 
   public CASIndexListener(final PathSummaryReader pathSummaryReader,
-      final AVLTreeWriter<CASValue, NodeReferences> avlTreeWriter, final Set<Path<QNm>> paths, final Type type) {
+      final IndexTreeWriter<CASValue, NodeReferences> indexWriter, final Set<Path<QNm>> paths, final Type type) {
     mPathSummaryReader = pathSummaryReader;
-    mAVLTreeWriter = avlTreeWriter;
+    mIndexWriter = indexWriter;
     mPaths = paths;
     mType = type;
   }
@@ -44,7 +44,7 @@ public final class CASIndexListener {
         break;
       case DELETE:
         if (mPathSummaryReader.getPCRsForPaths(mPaths, false).contains(pathNodeKey)) {
-          mAVLTreeWriter.remove(new CASValue(value, mType, pathNodeKey), node.getNodeKey());
+          mIndexWriter.remove(new CASValue(value, mType, pathNodeKey), node.getNodeKey());
         }
         break;
       default:
@@ -61,7 +61,7 @@ public final class CASIndexListener {
 
     if (isOfType) {
       final CASValue indexValue = new CASValue(value, mType, pathNodeKey);
-      final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(indexValue, SearchMode.EQUAL);
+      final Optional<NodeReferences> textReferences = mIndexWriter.get(indexValue, SearchMode.EQUAL);
       if (textReferences.isPresent()) {
         setNodeReferences(node, new NodeReferences(textReferences.get().getNodeKeys()), indexValue);
       } else {
@@ -71,6 +71,6 @@ public final class CASIndexListener {
   }
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue indexValue) {
-    mAVLTreeWriter.index(indexValue, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    mIndexWriter.index(indexValue, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
   }
 }
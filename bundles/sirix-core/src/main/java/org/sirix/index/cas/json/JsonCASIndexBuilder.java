@@ -3,6 +3,7 @@ package org.sirix.index.cas.json;
 import org.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.FinishableIndexBuilder;
 import org.sirix.index.cas.CASIndexBuilder;
 import org.sirix.node.immutable.json.*;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -13,7 +14,7 @@ import org.sirix.node.interfaces.immutable.ImmutableNode;
  * @author Johannes Lichtenberger
  *
  */
-final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor {
+final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor implements FinishableIndexBuilder {
 
   private final CASIndexBuilder mIndexBuilderDelegate;
 
@@ -82,4 +83,13 @@ final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor {
     return pcr;
   }
 
+  @Override
+  public void finish() {
+    mIndexBuilderDelegate.finish();
+  }
+
+  @Override
+  public void close() {
+    mIndexBuilderDelegate.close();
+  }
 }
@@ -2,7 +2,7 @@ package org.sirix.index.name;
 
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.index.Filter;
-import org.sirix.index.avltree.AVLNode;
+import org.sirix.index.IndexEntry;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 
 import java.util.Collections;
@@ -30,7 +30,7 @@ public final class NameFilter implements Filter {
   }
 
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
+  public <K extends Comparable<? super K>> boolean filter(final IndexEntry<K, NodeReferences> node) {
     if (!(node.getKey() instanceof QNm))
       throw new IllegalStateException("Key is not of type QNm!");
 
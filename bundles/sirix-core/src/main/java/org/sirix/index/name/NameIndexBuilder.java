@@ -1,30 +1,29 @@
 package org.sirix.index.name;
 
-import java.util.Optional;
 import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.IndexType;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
-import org.sirix.utils.LogWrapper;
-import org.slf4j.LoggerFactory;
-
-public final class NameIndexBuilder {
-  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(NameIndexBuilder.class));
 
+public final class NameIndexBuilder implements AutoCloseable {
   public Set<QNm> mIncludes;
   public Set<QNm> mExcludes;
-  public AVLTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  public IndexTreeWriter<QNm, NodeReferences> mIndexWriter;
+
+  /** Collects the node keys during the traversal, which are indexed sorted afterwards. */
+  private final IndexEntrySorter<QNm> mSorter;
 
   public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-      final AVLTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexTreeWriter<QNm, NodeReferences> indexWriter) {
     mIncludes = includes;
     mExcludes = excludes;
-    mAVLTreeWriter = avlTreeWriter;
+    mIndexWriter = indexWriter;
+    mSorter = new IndexEntrySorter<>(IndexType.NAME);
   }
 
   public VisitResultType build(QNm name, ImmutableNode node) {
@@ -35,19 +34,28 @@ public final class NameIndexBuilder {
       return VisitResultType.CONTINUE;
     }
 
-    final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
-
-    try {
-      textReferences.ifPresentOrElse(nodeReferences -> setNodeReferences(node, nodeReferences, name),
-          () -> setNodeReferences(node, new NodeReferences(), name));
-    } catch (final SirixIOException e) {
-      LOGGER.error(e.getMessage(), e);
-    }
+    mSorter.add(name, node.getNodeKey());
 
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  /**
+   * Index the collected node keys. Must be called once the traversal has finished.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void finish() {
+    mIndexWriter.bulkIndex(mSorter.sortedEntries());
+  }
+
+  /**
+   * Delete the spilled runs of the collected node keys. Must be called once the index has been built
+   * or the traversal has failed.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public void close() {
+    mSorter.close();
   }
 }
@@ -7,7 +7,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
@@ -15,13 +15,13 @@ public final class NameIndexListener {
 
   private final Set<QNm> mIncludes;
   private final Set<QNm> mExcludes;
-  private final AVLTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  private final IndexTreeWriter<QNm, NodeReferences> mIndexWriter;
 
   public NameIndexListener(final Set<QNm> includes, final Set<QNm> excludes,
-      final AVLTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexTreeWriter<QNm, NodeReferences> indexWriter) {
     mIncludes = includes;
     mExcludes = excludes;
-    mAVLTreeWriter = avlTreeWriter;
+    mIndexWriter = indexWriter;
   }
 
   public void listen(ChangeType type, @Nonnull ImmutableNode node, QNm name) {
@@ -34,7 +34,7 @@ public final class NameIndexListener {
 
     switch (type) {
       case INSERT:
-        final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
+        final Optional<NodeReferences> textReferences = mIndexWriter.get(name, SearchMode.EQUAL);
         if (textReferences.isPresent()) {
           setNodeReferences(node, textReferences.get(), name);
         } else {
@@ -42,14 +42,14 @@ public final class NameIndexListener {
         }
         break;
       case DELETE:
-        mAVLTreeWriter.remove(name, node.getNodeKey());
+        mIndexWriter.remove(name, node.getNodeKey());
         break;
       default:
     }
   }
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    mIndexWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
   }
 
 }
@@ -1,6 +1,5 @@
 package org.sirix.index.path;
 
-import java.util.Optional;
 import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
@@ -8,16 +7,16 @@ import org.brackit.xquery.util.path.PathException;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.IndexType;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-public final class PathIndexBuilder {
+public final class PathIndexBuilder implements AutoCloseable {
 
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(PathIndexBuilder.class));
 
@@ -25,25 +24,24 @@ public final class PathIndexBuilder {
 
   private final PathSummaryReader pathSummaryReader;
 
-  private final AVLTreeWriter<Long, NodeReferences> avlTreeWriter;
+  private final IndexTreeWriter<Long, NodeReferences> indexWriter;
 
-  public PathIndexBuilder(final AVLTreeWriter<Long, NodeReferences> avlTreeWriter,
+  /** Collects the node keys during the traversal, which are indexed sorted afterwards. */
+  private final IndexEntrySorter<Long> sorter;
+
+  public PathIndexBuilder(final IndexTreeWriter<Long, NodeReferences> indexWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.avlTreeWriter = avlTreeWriter;
+    this.indexWriter = indexWriter;
+    this.sorter = new IndexEntrySorter<>(IndexType.PATH);
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
     try {
       final long PCR = pathNodeKey;
       if (pathSummaryReader.getPCRsForPaths(paths, true).contains(PCR) || paths.isEmpty()) {
-        final Optional<NodeReferences> textReferences = avlTreeWriter.get(PCR, SearchMode.EQUAL);
-        if (textReferences.isPresent()) {
-          setNodeReferences(node, textReferences.get(), PCR);
-        } else {
-          setNodeReferences(node, new NodeReferences(), PCR);
-        }
+        sorter.add(PCR, node.getNodeKey());
       }
     } catch (final PathException | SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
@@ -51,9 +49,24 @@ public final class PathIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-      throws SirixIOException {
-    avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  /**
+   * Index the collected node keys. Must be called once the traversal has finished.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void finish() {
+    indexWriter.bulkIndex(sorter.sortedEntries());
+  }
+
+  /**
+   * Delete the spilled runs of the collected node keys. Must be called once the index has been built
+   * or the traversal has failed.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public void close() {
+    sorter.close();
   }
 
 }
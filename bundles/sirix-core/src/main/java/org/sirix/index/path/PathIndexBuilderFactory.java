@@ -4,7 +4,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
-import org.sirix.index.avltree.AVLTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
@@ -17,9 +16,9 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = checkNotNull(pathSummaryReader);
     final var paths = checkNotNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var avlTreeWriter =
-        AVLTreeWriter.<Long, NodeReferences>getInstance(pageWriteTrx, indexDef.getType(), indexDef.getID());
+    final var indexWriter = indexDef.getStructure()
+        .<Long, NodeReferences>createWriter(pageWriteTrx, indexDef.getType(), indexDef.getID());
 
-    return new PathIndexBuilder(avlTreeWriter, pathSummary, paths);
+    return new PathIndexBuilder(indexWriter, pathSummary, paths);
   }
 }
@@ -5,11 +5,11 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.api.*;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
-import java.math.BigInteger;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -59,7 +59,7 @@ public abstract class AbstractForwardingPathSummaryReader extends ForwardingObje
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return delegate().getHash();
   }
 
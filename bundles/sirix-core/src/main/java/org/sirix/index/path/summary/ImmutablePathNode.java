@@ -1,6 +1,7 @@
 package org.sirix.index.path.summary;
 
 import org.brackit.xquery.atomic.QNm;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -9,7 +10,6 @@ import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.node.interfaces.immutable.ImmutableStructNode;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * Wraps a {@link PathNode} to provide immutability.
@@ -52,12 +52,12 @@ public class ImmutablePathNode implements ImmutableNameNode, ImmutableStructNode
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return node.computeHash();
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return node.getHash();
   }
 
@@ -14,6 +14,7 @@ import org.sirix.axis.filter.FilterAxis;
 import org.sirix.axis.filter.PathNameFilter;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.NullNode;
 import org.sirix.node.SirixDeweyID;
@@ -31,10 +32,11 @@ import org.sirix.settings.Fixed;
 import org.sirix.utils.NamePageHash;
 
 import javax.annotation.Nonnegative;
-import java.math.BigInteger;
+import javax.annotation.Nullable;
 import java.time.Instant;
 import java.util.*;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -65,60 +67,63 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   private boolean isClosed;
 
   /**
-   * Mapping of a path node key to the path node/document root node.
+   * Mapping of a path node key to the path node/document root node (shared and unmodifiable, if the
+   * reader is not bound to a write transaction).
    */
   private final Map<Long, StructNode> pathNodeMapping;
 
   /**
-   * Mapping of a {@link QNm} to a set of path nodes.
+   * Mapping of a {@link QNm} to a set of path nodes (shared and unmodifiable, if the reader is not
+   * bound to a write transaction).
    */
   private final Map<QNm, Set<PathNode>> qnmMapping;
 
+  /**
+   * The node keys of the path nodes, which have been inserted or modified by the write transaction
+   * (empty, if the reader is not bound to a write transaction).
+   */
+  private final Set<Long> modifiedPathNodeKeys;
+
   /**
    * The path cache.
    */
   private final Map<Path<QNm>, Set<Long>> pathCache;
 
-  private boolean mInit = true;
-
   /**
    * Private constructor.
    *
    * @param pageReadTrx     page reader
    * @param resourceManager {@link ResourceManager} reference
+   * @param snapshot        the snapshot of the path summary of the revision the page reader is bound
+   *                        to, or {@code null}, if it has to be created
    */
   private PathSummaryReader(final PageReadOnlyTrx pageReadTrx,
-      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final @Nullable PathSummarySnapshot snapshot) {
     pathCache = new HashMap<>();
     this.pageReadTrx = pageReadTrx;
     isClosed = false;
     this.resourceManager = resourceManager;
 
-    final Optional<? extends DataRecord> node =
-        this.pageReadTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), PageKind.PATHSUMMARYPAGE, 0);
-    if (node.isPresent()) {
-      currentNode = (StructNode) node.get();
+    final PathSummarySnapshot pathSummarySnapshot =
+        snapshot == null ? PathSummarySnapshot.create(pageReadTrx) : snapshot;
+
+    if (pageReadTrx instanceof PageTrx) {
+      // The writer keeps the mappings up-to-date, thus they must be private copies.
+      pathNodeMapping = new HashMap<>(pathSummarySnapshot.getPathNodeMapping());
+      qnmMapping = new HashMap<>();
+      pathSummarySnapshot.getQNmMapping().forEach((name, pathNodes) -> qnmMapping.put(name, new HashSet<>(pathNodes)));
+      modifiedPathNodeKeys = new HashSet<>();
     } else {
-      throw new IllegalStateException("Node couldn't be fetched from persistent storage!");
+      pathNodeMapping = pathSummarySnapshot.getPathNodeMapping();
+      qnmMapping = pathSummarySnapshot.getQNmMapping();
+      modifiedPathNodeKeys = Collections.emptySet();
     }
 
-    pathNodeMapping = new HashMap<>();
-    qnmMapping = new HashMap<>();
-    boolean first = true;
-    for (final long nodeKey : new DescendantAxis(this, IncludeSelf.YES)) {
-      pathNodeMapping.put(nodeKey, this.getStructuralNode());
-
-      if (first) {
-        first = false;
-      } else {
-        final Set<PathNode> pathNodes =
-            qnmMapping.get(this.getName()) == null ? new HashSet<>() : qnmMapping.get(this.getName());
-        pathNodes.add(this.getPathNode());
-        qnmMapping.put(this.getName(), pathNodes);
-      }
+    currentNode = pathNodeMapping.get(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+    if (currentNode == null) {
+      throw new IllegalStateException("Node couldn't be fetched from persistent storage!");
     }
-
-    mInit = false;
   }
 
   @Override
@@ -145,16 +150,80 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
       final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager));
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), null);
+  }
+
+  /**
+   * Get a new path summary reader instance, which is based on a snapshot of the path summary instead
+   * of traversing the path summary.
+   *
+   * @param pageReadTrx     the {@link PageReadOnlyTrx} instance
+   * @param resourceManager the {@link ResourceManager} instance
+   * @param snapshot        the snapshot of the path summary of the revision the page transaction is
+   *                        bound to
+   * @return new path summary reader instance
+   * @throws IllegalArgumentException if the snapshot belongs to another revision
+   */
+  public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final PathSummarySnapshot snapshot) {
+    checkArgument(snapshot.getRevision() == pageReadTrx.getRevisionNumber(),
+        "The snapshot must belong to the revision of the page transaction!");
+    return new PathSummaryReader(pageReadTrx, checkNotNull(resourceManager), snapshot);
+  }
+
+  /**
+   * Create the snapshot of the path summary including the modifications of the write transaction.
+   * Only the inserted or modified path nodes are copied, all other nodes are shared with the
+   * snapshot the reader has been created from.
+   *
+   * @param revision the revision, which the write transaction is going to commit
+   * @return the snapshot
+   */
+  PathSummarySnapshot createSnapshot(final @Nonnegative int revision) {
+    assertNotClosed();
+    final Map<Long, StructNode> snapshotPathNodeMapping = new HashMap<>(pathNodeMapping);
+    final Map<QNm, Set<PathNode>> snapshotQnmMapping = new HashMap<>(qnmMapping.size());
+    qnmMapping.forEach((name, pathNodes) -> {
+      final Set<PathNode> unmodifiedPathNodes = new HashSet<>();
+      for (final PathNode pathNode : pathNodes) {
+        if (!modifiedPathNodeKeys.contains(pathNode.getNodeKey())) {
+          unmodifiedPathNodes.add(pathNode);
+        }
+      }
+      if (!unmodifiedPathNodes.isEmpty()) {
+        snapshotQnmMapping.put(name, unmodifiedPathNodes);
+      }
+    });
+
+    // The names of modified path nodes might have changed, too.
+    for (final long pathNodeKey : modifiedPathNodeKeys) {
+      final StructNode node = pathNodeMapping.get(pathNodeKey);
+      if (node != null) {
+        final StructNode copy = PathSummarySnapshot.copy(node, pageReadTrx);
+        snapshotPathNodeMapping.put(pathNodeKey, copy);
+        if (copy instanceof PathNode) {
+          snapshotQnmMapping.computeIfAbsent(PathSummarySnapshot.getName((PathNode) copy, pageReadTrx),
+                                             name -> new HashSet<>()).add((PathNode) copy);
+        }
+      }
+    }
+
+    return new PathSummarySnapshot(revision, snapshotPathNodeMapping, snapshotQnmMapping);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putMapping(final @Nonnegative long pathNodeKey, final StructNode node) {
     pathNodeMapping.put(pathNodeKey, node);
+    modifiedPathNodeKeys.add(pathNodeKey);
+    if (currentNode != null && currentNode.getNodeKey() == pathNodeKey) {
+      currentNode = node;
+    }
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   StructNode removeMapping(final @Nonnegative long pathNodeKey) {
+    modifiedPathNodeKeys.remove(pathNodeKey);
     return pathNodeMapping.remove(pathNodeKey);
   }
 
@@ -171,7 +240,8 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     if (pathNodes.size() == 1) {
       qnmMapping.remove(name);
     } else {
-      pathNodes.remove(node);
+      // The set might contain another instance of the path node.
+      pathNodes.removeIf(pathNode -> pathNode.getNodeKey() == node.getNodeKey());
     }
   }
 
@@ -366,13 +436,11 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   public Move<? extends PathSummaryReader> moveTo(final long nodeKey) {
     assertNotClosed();
 
-    if (!mInit) {
-      final PathNode node = getPathNodeForPathNodeKey(nodeKey);
+    final PathNode node = getPathNodeForPathNodeKey(nodeKey);
 
-      if (node != null) {
-        currentNode = node;
-        return Move.moved(this);
-      }
+    if (node != null) {
+      currentNode = node;
+      return Move.moved(this);
     }
 
     // Remember old node and fetch new one.
@@ -868,7 +936,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     throw new UnsupportedOperationException();
   }
 
@@ -0,0 +1,181 @@
+package org.sirix.index.path.summary;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.exception.SirixIOException;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.RecordPersister;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.PageKind;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable in-memory image of the path summary of a revision, that is the mapping of path node
+ * keys to the path nodes (and the document root node) and of names to path nodes. A snapshot is
+ * shared by all {@link PathSummaryReader}s of a revision. The nodes of a snapshot are detached
+ * copies, which are never modified, neither by readers nor by write transactions.
+ *
+ * <p>A write transaction starts from the snapshot of its revision (if it is cached) and derives the
+ * snapshot of the revision it commits by copying only the path nodes it has changed.</p>
+ */
+public final class PathSummarySnapshot {
+
+  /** The revision of the path summary. */
+  private final int revision;
+
+  /** Mapping of a path node key to the path node/document root node. */
+  private final Map<Long, StructNode> pathNodeMapping;
+
+  /** Mapping of a {@link QNm} to a set of path nodes. */
+  private final Map<QNm, Set<PathNode>> qnmMapping;
+
+  /**
+   * Constructor.
+   *
+   * @param revision the revision of the path summary
+   * @param pathNodeMapping mapping of a path node key to the path node/document root node (the nodes
+   *        must not be modified afterwards)
+   * @param qnmMapping mapping of a {@link QNm} to a set of path nodes, which must be the nodes of
+   *        {@code pathNodeMapping}
+   */
+  PathSummarySnapshot(final @Nonnegative int revision, final Map<Long, StructNode> pathNodeMapping,
+      final Map<QNm, Set<PathNode>> qnmMapping) {
+    this.revision = revision;
+    this.pathNodeMapping = Collections.unmodifiableMap(pathNodeMapping);
+    final Map<QNm, Set<PathNode>> unmodifiableQnmMapping = new HashMap<>(qnmMapping.size());
+    qnmMapping.forEach((name, pathNodes) -> unmodifiableQnmMapping.put(name, Collections.unmodifiableSet(pathNodes)));
+    this.qnmMapping = Collections.unmodifiableMap(unmodifiableQnmMapping);
+  }
+
+  /**
+   * Create a snapshot by traversing the path summary of the revision the page transaction is bound
+   * to.
+   *
+   * @param pageReadTrx the page transaction
+   * @return the snapshot
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static PathSummarySnapshot create(final PageReadOnlyTrx pageReadTrx) {
+    checkNotNull(pageReadTrx);
+    final Map<Long, StructNode> pathNodeMapping = new HashMap<>();
+    final Map<QNm, Set<PathNode>> qnmMapping = new HashMap<>();
+    final Deque<Long> nodeKeys = new ArrayDeque<>();
+    nodeKeys.push(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+
+    // Preorder traversal, which doesn't need to move back up.
+    while (!nodeKeys.isEmpty()) {
+      final StructNode node = copy(getRecord(pageReadTrx, nodeKeys.pop()), pageReadTrx);
+      pathNodeMapping.put(node.getNodeKey(), node);
+      if (node instanceof PathNode) {
+        qnmMapping.computeIfAbsent(getName((PathNode) node, pageReadTrx), name -> new HashSet<>())
+                  .add((PathNode) node);
+      }
+      if (node.hasRightSibling()) {
+        nodeKeys.push(node.getRightSiblingKey());
+      }
+      if (node.hasFirstChild()) {
+        nodeKeys.push(node.getFirstChildKey());
+      }
+    }
+
+    return new PathSummarySnapshot(pageReadTrx.getRevisionNumber(), pathNodeMapping, qnmMapping);
+  }
+
+  /**
+   * Get the revision of the path summary.
+   *
+   * @return the revision
+   */
+  public int getRevision() {
+    return revision;
+  }
+
+  /**
+   * Get the number of path nodes (including the document root node).
+   *
+   * @return the number of path nodes
+   */
+  public int size() {
+    return pathNodeMapping.size();
+  }
+
+  /**
+   * Get the unmodifiable mapping of path node keys to the path nodes (and the document root node).
+   *
+   * @return the mapping
+   */
+  Map<Long, StructNode> getPathNodeMapping() {
+    return pathNodeMapping;
+  }
+
+  /**
+   * Get the unmodifiable mapping of names to path nodes.
+   *
+   * @return the mapping
+   */
+  Map<QNm, Set<PathNode>> getQNmMapping() {
+    return qnmMapping;
+  }
+
+  /**
+   * Get the name of a path node, the way {@link PathSummaryReader#getName()} computes it.
+   *
+   * @param node the path node
+   * @param pageReadTrx the page transaction to read the names
+   * @return the name
+   */
+  static QNm getName(final PathNode node, final PageReadOnlyTrx pageReadTrx) {
+    final int uriKey = node.getURIKey();
+    final String uri = uriKey == -1 || pageReadTrx.getResourceManager() instanceof JsonResourceManager
+        ? ""
+        : pageReadTrx.getName(uriKey, NodeKind.NAMESPACE);
+    final int prefixKey = node.getPrefixKey();
+    final String prefix = prefixKey == -1 ? "" : pageReadTrx.getName(prefixKey, node.getPathKind());
+    final int localNameKey = node.getLocalNameKey();
+    final String localName = localNameKey == -1 ? "" : pageReadTrx.getName(localNameKey, node.getPathKind());
+    return new QNm(uri, prefix, localName);
+  }
+
+  /**
+   * Create a detached copy of a node, which is not shared with any page.
+   *
+   * @param node the node to copy
+   * @param pageReadTrx the page transaction to (de)serialize the node
+   * @return the copy
+   * @throws SirixIOException if the node can't be copied
+   */
+  static StructNode copy(final StructNode node, final PageReadOnlyTrx pageReadTrx) {
+    final RecordPersister persister = node.getKind();
+    final ByteArrayDataOutput output = ByteStreams.newDataOutput();
+    try {
+      persister.serialize(output, node, pageReadTrx);
+      return (StructNode) persister.deserialize(ByteStreams.newDataInput(output.toByteArray()), node.getNodeKey(), null,
+          pageReadTrx);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static StructNode getRecord(final PageReadOnlyTrx pageReadTrx, final long nodeKey) {
+    final DataRecord record = pageReadTrx.getRecord(nodeKey, PageKind.PATHSUMMARYPAGE, 0)
+                                         .orElseThrow(() -> new IllegalStateException(
+                                             "Path node " + nodeKey + " couldn't be fetched from persistent storage!"));
+    return (StructNode) record;
+  }
+}
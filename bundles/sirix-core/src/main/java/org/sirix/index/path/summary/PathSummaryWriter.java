@@ -2,6 +2,7 @@ package org.sirix.index.path.summary;
 
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.Utils;
+import org.sirix.access.trx.node.InternalResourceManager;
 import org.sirix.access.trx.node.NodeFactory;
 import org.sirix.access.trx.node.xml.InsertPos;
 import org.sirix.api.Axis;
@@ -9,7 +10,6 @@ import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
 import org.sirix.api.PageTrx;
-import org.sirix.api.ResourceManager;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.axis.ChildAxis;
@@ -101,9 +101,12 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
    * @param rtx the read-only trx
    */
   public PathSummaryWriter(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
-      final ResourceManager<R, ? extends NodeTrx> resMgr, final NodeFactory nodeFactory, final R rtx) {
+      final InternalResourceManager<R, ? extends NodeTrx> resMgr, final NodeFactory nodeFactory, final R rtx) {
     this.pageWriteTrx = checkNotNull(pageWriteTrx);
-    pathSummaryReader = PathSummaryReader.getInstance(pageWriteTrx, resMgr);
+    // Start from the cached snapshot of the revision, if possible.
+    pathSummaryReader = resMgr.getPathSummarySnapshot(pageWriteTrx.getRevisionNumber())
+                              .map(snapshot -> PathSummaryReader.getInstance(pageWriteTrx, resMgr, snapshot))
+                              .orElseGet(() -> PathSummaryReader.getInstance(pageWriteTrx, resMgr));
     nodeRtx = checkNotNull(rtx);
     this.nodeFactory = checkNotNull(nodeFactory);
   }
@@ -117,6 +120,16 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     return pathSummaryReader;
   }
 
+  /**
+   * Create the snapshot of the path summary of the revision, which is going to be committed. Must be
+   * called before the page transaction is committed.
+   *
+   * @return the snapshot
+   */
+  public PathSummarySnapshot createSnapshot() {
+    return pathSummaryReader.createSnapshot(pageWriteTrx.getUberPage().getRevisionNumber());
+  }
+
   /**
    * Insert a new path node or increment the counter of an existing node and return the path node key.
    *
@@ -146,7 +159,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
       axis.next();
       retVal = pathSummaryReader.getNodeKey();
       final PathNode pathNode =
-          (PathNode) pageWriteTrx.prepareEntryForModification(retVal, PageKind.PATHSUMMARYPAGE, 0);
+          prepareForModification(retVal);
       pathNode.incrementReferenceCount();
     } else {
       assert nodeKey == pathSummaryReader.getNodeKey();
@@ -214,7 +227,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     if (newNode instanceof StructNode) {
       final StructNode strucNode = (StructNode) newNode;
       final StructNode parent =
-          (StructNode) pageWriteTrx.prepareEntryForModification(newNode.getParentKey(), pageKind, 0);
+          prepareForModification(newNode.getParentKey());
       parent.incrementChildCount();
       if (insertPos == InsertPos.ASFIRSTCHILD) {
         parent.setFirstChildKey(newNode.getNodeKey());
@@ -222,17 +235,31 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
 
       if (strucNode.hasRightSibling()) {
         final StructNode rightSiblingNode =
-            (StructNode) pageWriteTrx.prepareEntryForModification(strucNode.getRightSiblingKey(), pageKind, 0);
+            prepareForModification(strucNode.getRightSiblingKey());
         rightSiblingNode.setLeftSiblingKey(newNode.getNodeKey());
       }
       if (strucNode.hasLeftSibling()) {
         final StructNode leftSiblingNode =
-            (StructNode) pageWriteTrx.prepareEntryForModification(strucNode.getLeftSiblingKey(), pageKind, 0);
+            prepareForModification(strucNode.getLeftSiblingKey());
         leftSiblingNode.setRightSiblingKey(newNode.getNodeKey());
       }
     }
   }
 
+  /**
+   * Prepare a path node (or the document root node) for modification and keep the mapping of the path
+   * summary reader up-to-date.
+   *
+   * @param pathNodeKey the key of the path node
+   * @return the path node to modify
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends StructNode> T prepareForModification(final long pathNodeKey) {
+    final T node = (T) pageWriteTrx.prepareEntryForModification(pathNodeKey, PageKind.PATHSUMMARYPAGE, 0);
+    pathSummaryReader.putMapping(pathNodeKey, node);
+    return node;
+  }
+
   /**
    * Adapt path summary either for moves or {@code setQName(QName)}.
    *
@@ -275,8 +302,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
           /* The path summary just needs to be updated for the new renamed node. */
           pathSummaryReader.moveTo(oldPathNodeKey);
           final PathNode pathNode =
-              (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                  PageKind.PATHSUMMARYPAGE, 0);
+              prepareForModification(pathSummaryReader.getNodeKey());
           pathNode.setPrefixKey(prefixKey);
           pathNode.setLocalNameKey(localNameKey);
           pathNode.setURIKey(uriKey);
@@ -422,8 +448,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     nodeRtx.moveTo(oldNodeKey);
 
     // Set new reference count of the root.
-    final PathNode currNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                  PageKind.PATHSUMMARYPAGE, 0);
+    final PathNode currNode = prepareForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(currNode.getReferences() + 1);
     currNode.setLocalNameKey(localNameKey);
     currNode.setPrefixKey(prefixKey);
@@ -549,15 +574,13 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
   }
 
   private void setReferenceCountToOne() {
-    final PathNode currNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                  PageKind.PATHSUMMARYPAGE, 0);
+    final PathNode currNode = prepareForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(1);
   }
 
   private void increaseReferenceCount() {
     // Set new reference count.
-    final PathNode currNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                  PageKind.PATHSUMMARYPAGE, 0);
+    final PathNode currNode = prepareForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(currNode.getReferences() + 1);
   }
 
@@ -616,22 +639,19 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     // Adapt left sibling node if there is one.
     if (pathSummaryReader.hasLeftSibling()) {
       final StructNode leftSibling =
-          (StructNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getLeftSiblingKey(),
-                                                                PageKind.PATHSUMMARYPAGE, 0);
+          prepareForModification(pathSummaryReader.getLeftSiblingKey());
       leftSibling.setRightSiblingKey(pathSummaryReader.getRightSiblingKey());
     }
 
     // Adapt right sibling node if there is one.
     if (pathSummaryReader.hasRightSibling()) {
       final StructNode rightSibling =
-          (StructNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getRightSiblingKey(),
-                                                                PageKind.PATHSUMMARYPAGE, 0);
+          prepareForModification(pathSummaryReader.getRightSiblingKey());
       rightSibling.setLeftSiblingKey(pathSummaryReader.getLeftSiblingKey());
     }
 
     // Adapt parent. If node has no left sibling it is a first child.
-    StructNode parent = (StructNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getParentKey(),
-                                                                              PageKind.PATHSUMMARYPAGE, 0);
+    StructNode parent = prepareForModification(pathSummaryReader.getParentKey());
     if (!pathSummaryReader.hasLeftSibling()) {
       parent.setFirstChildKey(pathSummaryReader.getRightSiblingKey());
     }
@@ -649,8 +669,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
       if (pathSummaryReader.getReferences() == 1) {
         removePathSummaryNode(RemoveSubtreePath.NO);
       } else {
-        final PathNode pathNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                      PageKind.PATHSUMMARYPAGE, 0);
+        final PathNode pathNode = prepareForModification(pathSummaryReader.getNodeKey());
         pathNode.decrementReferenceCount();
       }
     }
@@ -673,8 +692,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         assert page.getCount(node.getLocalNameKey(), nodeKind, pageWriteTrx) != 0;
         if (pathSummaryReader.getReferences() > 1) {
           final PathNode pathNode =
-              (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                  PageKind.PATHSUMMARYPAGE, 0);
+              prepareForModification(pathSummaryReader.getNodeKey());
           pathNode.decrementReferenceCount();
         }
       }
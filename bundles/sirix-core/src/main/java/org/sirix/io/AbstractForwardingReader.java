@@ -7,6 +7,8 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Forwards all methods to the delegate.
@@ -24,6 +26,16 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().read(reference, pageReadTrx);
   }
 
+  @Override
+  public Page deserializePage(byte[] serializedPage, @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().deserializePage(serializedPage, pageReadTrx);
+  }
+
+  @Override
+  public List<Page> readAll(List<PageReference> references, @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().readAll(references, pageReadTrx);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -34,6 +46,11 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().readRevisionRootPage(revision, pageReadTrx);
   }
 
+  @Override
+  public Optional<Page> readIfChecksumMatches(PageReference reference, @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().readIfChecksumMatches(reference, pageReadTrx);
+  }
+
   @Override
   protected abstract Reader delegate();
 }
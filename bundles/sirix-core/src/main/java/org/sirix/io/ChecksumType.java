@@ -0,0 +1,69 @@
+package org.sirix.io;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
+
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The checksum algorithms of written pages. The checksum of a page is computed over the serialized
+ * page prefixed with its length, as it is written to the storage, and stored in the reference to the
+ * page.
+ */
+public enum ChecksumType {
+  /** CRC32C, which is computed with the hardware instructions of most processors. */
+  CRC32C {
+    @Override
+    public byte[] checksum(final byte[] serializedPage) {
+      final var crc = new CRC32C();
+      crc.update(Ints.toByteArray(serializedPage.length));
+      crc.update(serializedPage);
+      return Ints.toByteArray((int) crc.getValue());
+    }
+  },
+
+  /** A fast 64-bit non-cryptographic hash, which makes collisions less likely than CRC32C. */
+  FARM_HASH_64 {
+    @Override
+    public byte[] checksum(final byte[] serializedPage) {
+      return hash(Hashing.farmHashFingerprint64(), serializedPage);
+    }
+  },
+
+  /** SHA-256, if cryptographic integrity is wanted, which has been used by all resources before. */
+  SHA256 {
+    @Override
+    public byte[] checksum(final byte[] serializedPage) {
+      return hash(Hashing.sha256(), serializedPage);
+    }
+  };
+
+  private static byte[] hash(final HashFunction hashFunction, final byte[] serializedPage) {
+    return hashFunction.newHasher(serializedPage.length + Integer.BYTES)
+                       .putBytes(Ints.toByteArray(serializedPage.length))
+                       .putBytes(serializedPage)
+                       .hash()
+                       .asBytes();
+  }
+
+  /**
+   * Compute the checksum of a serialized page.
+   *
+   * @param serializedPage the serialized page without its length
+   * @return the checksum
+   */
+  public abstract byte[] checksum(byte[] serializedPage);
+
+  /**
+   * Determines if a serialized page matches a checksum.
+   *
+   * @param serializedPage the serialized page without its length
+   * @param checksum       the checksum
+   * @return {@code true}, if the checksum of the page equals the given checksum
+   */
+  public boolean matches(final byte[] serializedPage, final byte[] checksum) {
+    return Arrays.equals(checksum(serializedPage), checksum);
+  }
+}
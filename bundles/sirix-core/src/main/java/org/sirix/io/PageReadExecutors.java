@@ -0,0 +1,41 @@
+package org.sirix.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the thread pools, which storages use to read multiple pages (the fragments of a record page)
+ * concurrently. The reads block on I/O, thus they don't run in the common fork-join pool, which is used
+ * for CPU bound work.
+ */
+public final class PageReadExecutors {
+
+  /** The maximum number of pages of a storage, which are read in parallel. */
+  private static final int MAX_PARALLEL_READS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  /** Utility methods. */
+  private PageReadExecutors() {
+    throw new AssertionError("May not be instantiated!");
+  }
+
+  /**
+   * Create a bounded thread pool to read pages. Its threads are terminated, once they have been idle
+   * for a while, such that storages of resources, which are not read, don't keep any threads. The
+   * owner has to shut it down once the storage is closed.
+   *
+   * @return the thread pool
+   */
+  public static ExecutorService newExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(MAX_PARALLEL_READS, MAX_PARALLEL_READS, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+          final Thread thread = new Thread(runnable, "sirix-page-reader");
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
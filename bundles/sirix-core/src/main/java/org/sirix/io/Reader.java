@@ -29,6 +29,10 @@ import org.sirix.page.delegates.BitmapReferencesPage;
 import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * Interface for reading the stored pages in every backend.
@@ -57,6 +61,46 @@ public interface Reader extends AutoCloseable {
    */
   Page read(PageReference key, @Nullable PageReadOnlyTrx pageReadTrx) throws SirixIOException;
 
+  /**
+   * Deserialize a page, which has been serialized by {@link Writer#serializePage(PageReference)}.
+   *
+   * @param serializedPage the serialized page
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the deserialized page
+   * @throws SirixIOException if the page couldn't be deserialized
+   */
+  Page deserializePage(byte[] serializedPage, @Nullable PageReadOnlyTrx pageReadTrx) throws SirixIOException;
+
+  /**
+   * Read the pages for the given references, for instance the page fragments of a record page.
+   * Implementations, which are able to read concurrently, might issue the reads in parallel.
+   *
+   * @param references the references of the pages to read
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the pages in the order of the given references
+   * @throws SirixIOException if something bad happens during read
+   */
+  default List<Page> readAll(List<PageReference> references, @Nullable PageReadOnlyTrx pageReadTrx)
+      throws SirixIOException {
+    return references.stream().map(reference -> read(reference, pageReadTrx)).collect(toList());
+  }
+
+  /**
+   * Read the page a reference points to, if it matches the checksum stored in the reference,
+   * regardless of whether checksums are verified on read. The page is read once, its checksum is
+   * verified and afterwards it's deserialized.
+   *
+   * @param reference the reference of the page
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the page, or an empty optional, if its checksum doesn't match the checksum stored in the
+   *         reference
+   * @throws SirixIOException if something bad happens during read
+   */
+  default Optional<Page> readIfChecksumMatches(PageReference reference, @Nullable PageReadOnlyTrx pageReadTrx)
+      throws SirixIOException {
+    return Optional.of(read(reference, pageReadTrx));
+  }
+
   /**
    * Closing the storage.
    *
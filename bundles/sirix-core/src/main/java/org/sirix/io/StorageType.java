@@ -21,9 +21,11 @@
 package org.sirix.io;
 
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.file.FileStorage;
+import org.sirix.io.filechannel.FileChannelStorage;
 import org.sirix.io.ram.RAMStorage;
 
 /**
@@ -48,6 +50,14 @@ public enum StorageType {
     public IOStorage getInstance(final ResourceConfiguration resourceConf) {
       return new FileStorage(resourceConf);
     }
+  },
+
+  /** {@link FileChannel} backend, which uses positional reads and writes. */
+  FILE_CHANNEL {
+    @Override
+    public IOStorage getInstance(final ResourceConfiguration resourceConf) {
+      return new FileChannelStorage(resourceConf);
+    }
   };
 
   /**
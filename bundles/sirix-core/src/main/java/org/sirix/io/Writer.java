@@ -40,6 +40,28 @@ public interface Writer extends Reader {
    */
   Writer write(PageReference pageReference) throws SirixIOException;
 
+  /**
+   * Serialize the page related to the reference and pass it through the byte handler pipeline, without
+   * writing anything. May be called concurrently for different pages, such that the pages can be
+   * serialized in parallel and appended sequentially with {@link #write(PageReference, byte[])}.
+   *
+   * @param pageReference that points to a page
+   * @throws SirixIOException if the page couldn't be serialized
+   * @return the serialized page
+   */
+  byte[] serializePage(PageReference pageReference) throws SirixIOException;
+
+  /**
+   * Writing a page related to the reference, which has already been serialized by
+   * {@link #serializePage(PageReference)}.
+   *
+   * @param pageReference that points to a page
+   * @param serializedPage the serialized page
+   * @throws SirixIOException if an I/O error occured
+   * @return this writer instance
+   */
+  Writer write(PageReference pageReference, byte[] serializedPage) throws SirixIOException;
+
   /**
    * Write beacon for the first reference.
    *
@@ -49,6 +71,15 @@ public interface Writer extends Reader {
    */
   Writer writeUberPageReference(PageReference pageReference) throws SirixIOException;
 
+  /**
+   * Force all written pages (and the beacon for the first reference) to the storage device, such that
+   * they survive a crash of the operating system.
+   *
+   * @throws SirixIOException if an I/O error occured
+   * @return this writer instance
+   */
+  Writer force() throws SirixIOException;
+
   /**
    * Truncate to a specific revision.
    *
@@ -0,0 +1,58 @@
+package org.sirix.io.bytepipe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.UnaryOperator;
+
+/**
+ * Buffers all bytes written and writes them transformed as one block to the underlying stream on
+ * close, such that handlers, which work on blocks, also support the stream API of
+ * {@link ByteHandler}.
+ */
+final class BlockOutputStream extends OutputStream {
+
+  /** The underlying stream. */
+  private final OutputStream out;
+
+  /** Transforms the buffered block. */
+  private final UnaryOperator<byte[]> blockHandler;
+
+  /** The buffered bytes. */
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+  /** Determines if the stream has been closed. */
+  private boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param out          the underlying stream
+   * @param blockHandler transforms the buffered block
+   */
+  BlockOutputStream(final OutputStream out, final UnaryOperator<byte[]> blockHandler) {
+    this.out = out;
+    this.blockHandler = blockHandler;
+  }
+
+  @Override
+  public void write(final int b) {
+    buffer.write(b);
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) {
+    buffer.write(bytes, offset, length);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try (out) {
+      out.write(blockHandler.apply(buffer.toByteArray()));
+    }
+  }
+}
@@ -61,6 +61,30 @@ public final class ByteHandlePipeline implements ByteHandler {
     return pipeData;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The handlers are applied in reverse order, as the streams of {@link #serialize(OutputStream)}
+   * pass the bytes through the last handler first.</p>
+   */
+  @Override
+  public byte[] serialize(final byte[] toSerialize) {
+    byte[] pipeData = toSerialize;
+    for (int i = byteHandlers.size() - 1; i >= 0; i--) {
+      pipeData = byteHandlers.get(i).serialize(pipeData);
+    }
+    return pipeData;
+  }
+
+  @Override
+  public byte[] deserialize(final byte[] toDeserialize) {
+    byte[] pipeData = toDeserialize;
+    for (final ByteHandler part : byteHandlers) {
+      pipeData = part.deserialize(pipeData);
+    }
+    return pipeData;
+  }
+
   /**
    * Get byte handler components.
    *
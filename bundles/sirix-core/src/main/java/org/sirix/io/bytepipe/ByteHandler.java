@@ -1,8 +1,11 @@
 package org.sirix.io.bytepipe;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 /**
  * Interface for the decorator, representing any byte representation to be serialized or to
@@ -29,6 +32,40 @@ public interface ByteHandler {
    */
   InputStream deserialize(InputStream toDeserialize);
 
+  /**
+   * Serialize a whole byte-chunk at once. Handlers, which work on blocks, override this method to
+   * avoid the stream wrappers, the default implementation serializes through
+   * {@link #serialize(OutputStream)}.
+   *
+   * @param toSerialize the bytes to be serialized
+   * @return result of the serialization
+   */
+  default byte[] serialize(final byte[] toSerialize) {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(toSerialize.length);
+    try (final OutputStream handledOutput = serialize(output)) {
+      handledOutput.write(toSerialize);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Deserialize a whole byte-chunk at once. Handlers, which work on blocks, override this method to
+   * avoid the stream wrappers, the default implementation deserializes through
+   * {@link #deserialize(InputStream)}.
+   *
+   * @param toDeserialize the bytes to be deserialized
+   * @return result of the deserialization
+   */
+  default byte[] deserialize(final byte[] toDeserialize) {
+    try (final InputStream handledInput = deserialize(new ByteArrayInputStream(toDeserialize))) {
+      return handledInput.readAllBytes();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Method to retrieve a new instance.
    *
@@ -66,6 +66,33 @@ public enum ByteHandlerKind {
     }
   },
 
+  LZ4_COMPRESSOR(LZ4Compressor.class) {
+    @Override
+    public ByteHandler deserialize(JsonReader reader) {
+      return callDefaultConstructor(reader, LZ4Compressor.class.getName());
+    }
+
+    @Override
+    public void serialize(ByteHandler byteHandler, JsonWriter writer) throws IOException {
+      serializeDefaultConstructor(byteHandler, writer);
+    }
+  },
+
+  DICTIONARY_COMPRESSOR(DictionaryCompressor.class) {
+    @Override
+    public ByteHandler deserialize(JsonReader reader) throws IOException {
+      return new DictionaryCompressor(Paths.get(reader.nextString()));
+    }
+
+    @Override
+    public void serialize(ByteHandler byteHandler, JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name(byteHandler.getClass().getName());
+      writer.value(((DictionaryCompressor) byteHandler).getResourcePath().toString());
+      writer.endObject();
+    }
+  },
+
   ENCRYPTOR(Encryptor.class) {
     @Override
     public ByteHandler deserialize(JsonReader reader) {
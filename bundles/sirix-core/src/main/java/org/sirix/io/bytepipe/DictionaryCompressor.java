@@ -0,0 +1,325 @@
+package org.sirix.io.bytepipe;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import org.sirix.access.ResourceConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.Adler32;
+
+/**
+ * Zstandard compression/decompression of whole pages with a dictionary, which is trained from the
+ * first pages written to a resource. Pages of a resource share many byte sequences, for instance
+ * field names and the structure of the serialized records, which a dictionary provides to the
+ * compressor even for the first bytes of a page. Pages written before the dictionary has been
+ * trained are compressed without it and remain readable.
+ *
+ * <p>Each reader and writer has its own instance, so the dictionaries and the sampled pages are
+ * shared by all instances of a resource. Each dictionary is stored in its own file, named after its
+ * Adler-32 checksum, by which the compressed pages reference it. Dictionary files are never
+ * overwritten, such that pages compressed with any dictionary stay readable.</p>
+ *
+ * <p>A compressed page consists of the length of the uncompressed page, the id of the dictionary
+ * ({@code 0} if none has been used) and a Zstandard frame. Compression, decompression and the
+ * training of the dictionary are done by zstd-jni.</p>
+ */
+public final class DictionaryCompressor implements ByteHandler {
+
+  /** The prefix of the names of the dictionary files in the data folder of a resource. */
+  public static final String DICTIONARY_FILE_NAME = "compression-dictionary";
+
+  /** The maximum size of the dictionary. */
+  static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+  /** The number of pages, which are sampled to train the dictionary. */
+  static final int SAMPLE_COUNT = 64;
+
+  /** The maximum number of sampled bytes. */
+  private static final int MAX_SAMPLES_SIZE = 1 << 20;
+
+  /** The compression level. */
+  private static final int COMPRESSION_LEVEL = 3;
+
+  /** The size of the length and the dictionary id, which precede the compressed page. */
+  private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+  /** The id of pages, which are compressed without a dictionary. */
+  private static final int NO_DICTIONARY = 0;
+
+  /** The dictionaries of the resources by data folder. */
+  private static final Map<Path, Dictionaries> DICTIONARIES = new ConcurrentHashMap<>();
+
+  /** The dictionaries of a resource and the pages sampled to train its dictionary. */
+  private static final class Dictionaries {
+    /** The dictionaries read or trained so far by their ids. */
+    final Map<Integer, ZstdDictDecompress> dictionariesById = new HashMap<>();
+
+    /** The dictionary to compress pages with or {@code null}, if it hasn't been trained, yet. */
+    ZstdDictCompress current;
+
+    /** The id of the current dictionary. */
+    int currentId;
+
+    /** Trains the dictionary from the sampled pages, {@code null} if no pages are sampled. */
+    ZstdDictTrainer trainer;
+
+    /** The number of sampled pages. */
+    int sampleCount;
+  }
+
+  /** The path of the resource. */
+  private final Path resourcePath;
+
+  /** The dictionaries of the resource. */
+  private final Dictionaries dictionaries;
+
+  /**
+   * Constructor.
+   *
+   * @param resourcePath the path of the resource
+   */
+  public DictionaryCompressor(final Path resourcePath) {
+    this.resourcePath = Objects.requireNonNull(resourcePath);
+    dictionaries = DICTIONARIES.compute(getDataFolder(), (dataFolder, dictionaries) -> {
+      // The resource has been removed and created again, thus the dictionary file has been removed.
+      if (dictionaries == null || dictionaries.current != null && !Files.exists(
+          getDictionaryFile(dataFolder, dictionaries.currentId))) {
+        return loadDictionaries(dataFolder);
+      }
+      return dictionaries;
+    });
+  }
+
+  /**
+   * @return the resource path
+   */
+  public Path getResourcePath() {
+    return resourcePath;
+  }
+
+  private Path getDataFolder() {
+    return resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+  }
+
+  /**
+   * Get the file of a dictionary.
+   *
+   * @param dataFolder the data folder of the resource
+   * @param id         the id of the dictionary
+   * @return the file
+   */
+  static Path getDictionaryFile(final Path dataFolder, final int id) {
+    return dataFolder.resolve(DICTIONARY_FILE_NAME + "-" + Integer.toHexString(id));
+  }
+
+  @Override
+  public OutputStream serialize(final OutputStream toSerialize) {
+    return new BlockOutputStream(toSerialize, this::serialize);
+  }
+
+  @Override
+  public InputStream deserialize(final InputStream toDeserialize) {
+    try (toDeserialize) {
+      return new ByteArrayInputStream(deserialize(toDeserialize.readAllBytes()));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public byte[] serialize(final byte[] toSerialize) {
+    final int currentId;
+    final ZstdDictCompress currentDictionary;
+    synchronized (dictionaries) {
+      sample(toSerialize);
+      currentId = dictionaries.current == null ? NO_DICTIONARY : dictionaries.currentId;
+      currentDictionary = dictionaries.current;
+    }
+
+    final byte[] compressed = new byte[HEADER_SIZE + (int) Zstd.compressBound(toSerialize.length)];
+    ByteBuffer.wrap(compressed).putInt(toSerialize.length).putInt(currentId);
+    final long compressedLength = currentDictionary == null
+        ? Zstd.compressByteArray(compressed, HEADER_SIZE, compressed.length - HEADER_SIZE, toSerialize, 0,
+        toSerialize.length, COMPRESSION_LEVEL)
+        : Zstd.compressFastDict(compressed, HEADER_SIZE, toSerialize, 0, toSerialize.length, currentDictionary);
+    if (Zstd.isError(compressedLength)) {
+      throw new IllegalStateException("Page couldn't be compressed: " + Zstd.getErrorName(compressedLength));
+    }
+    return Arrays.copyOf(compressed, HEADER_SIZE + (int) compressedLength);
+  }
+
+  /**
+   * Sample a page, until enough pages have been sampled to train the dictionary. Must be called while
+   * holding the lock of the dictionaries.
+   *
+   * @param page the page to compress
+   */
+  private void sample(final byte[] page) {
+    if (dictionaries.trainer == null) {
+      return;
+    }
+
+    final boolean isSampled = dictionaries.trainer.addSample(page);
+    if (isSampled) {
+      dictionaries.sampleCount++;
+    }
+    if (!isSampled || dictionaries.sampleCount == SAMPLE_COUNT) {
+      final ZstdDictTrainer trainer = dictionaries.trainer;
+      dictionaries.trainer = null;
+
+      final byte[] trainedDictionary;
+      try {
+        trainedDictionary = trainer.trainSamples();
+      } catch (final RuntimeException e) {
+        // The samples are not suitable to train a dictionary, pages are compressed without one.
+        return;
+      }
+      final int id = storeDictionary(getDataFolder(), trainedDictionary);
+      dictionaries.dictionariesById.put(id, new ZstdDictDecompress(trainedDictionary));
+      dictionaries.current = new ZstdDictCompress(trainedDictionary, COMPRESSION_LEVEL);
+      dictionaries.currentId = id;
+    }
+  }
+
+  /**
+   * Use the dictionary stored by a former instance, if any, or sample pages to train one otherwise.
+   */
+  private static Dictionaries loadDictionaries(final Path dataFolder) {
+    final Dictionaries dictionaries = new Dictionaries();
+
+    Optional<Path> dictionaryFile = Optional.empty();
+    if (Files.isDirectory(dataFolder)) {
+      try (final Stream<Path> files = Files.list(dataFolder)) {
+        dictionaryFile = files.filter(file -> {
+          final String fileName = file.getFileName().toString();
+          return fileName.startsWith(DICTIONARY_FILE_NAME + "-") && !fileName.endsWith(".tmp");
+        }).min(Comparator.naturalOrder());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    if (dictionaryFile.isPresent()) {
+      final byte[] dictionary = readDictionary(dictionaryFile.get());
+      final int id = id(dictionary);
+      dictionaries.dictionariesById.put(id, new ZstdDictDecompress(dictionary));
+      dictionaries.current = new ZstdDictCompress(dictionary, COMPRESSION_LEVEL);
+      dictionaries.currentId = id;
+    } else {
+      dictionaries.trainer = new ZstdDictTrainer(MAX_SAMPLES_SIZE, MAX_DICTIONARY_SIZE);
+    }
+    return dictionaries;
+  }
+
+  private static byte[] readDictionary(final Path dictionaryFile) {
+    try {
+      return Files.readAllBytes(dictionaryFile);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Store a trained dictionary durably, before any page compressed with it is written. An existing
+   * dictionary file is never replaced.
+   *
+   * @return the id of the dictionary
+   */
+  private static int storeDictionary(final Path dataFolder, final byte[] trainedDictionary) {
+    final int id = id(trainedDictionary);
+    final Path dictionaryFile = getDictionaryFile(dataFolder, id);
+    if (Files.exists(dictionaryFile)) {
+      return id;
+    }
+
+    final Path tmpFile = dictionaryFile.resolveSibling(dictionaryFile.getFileName() + ".tmp");
+    try (final FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      channel.write(ByteBuffer.wrap(trainedDictionary));
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    try {
+      Files.move(tmpFile, dictionaryFile, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return id;
+  }
+
+  /** The Adler-32 checksum of a dictionary, which doesn't collide with the id of pages without one. */
+  private static int id(final byte[] dictionary) {
+    final Adler32 adler = new Adler32();
+    adler.update(dictionary);
+    final int id = (int) adler.getValue();
+    return id == NO_DICTIONARY ? 1 : id;
+  }
+
+  @Override
+  public byte[] deserialize(final byte[] toDeserialize) {
+    if (toDeserialize.length < HEADER_SIZE) {
+      throw new IllegalStateException("Malformed compressed page!");
+    }
+    final ByteBuffer header = ByteBuffer.wrap(toDeserialize);
+    final int length = header.getInt();
+    final int id = header.getInt();
+    if (length < 0) {
+      throw new IllegalStateException("Malformed compressed page!");
+    }
+
+    final byte[] decompressed = new byte[length];
+    final long decompressedLength = id == NO_DICTIONARY
+        ? Zstd.decompressByteArray(decompressed, 0, length, toDeserialize, HEADER_SIZE,
+        toDeserialize.length - HEADER_SIZE)
+        : Zstd.decompressFastDict(decompressed, 0, toDeserialize, HEADER_SIZE, toDeserialize.length - HEADER_SIZE,
+            getDictionary(id));
+    if (Zstd.isError(decompressedLength) || decompressedLength != length) {
+      throw new IllegalStateException("Malformed compressed page!");
+    }
+    return decompressed;
+  }
+
+  /**
+   * Get a dictionary by its id, which might have been superseded by the current one.
+   */
+  private ZstdDictDecompress getDictionary(final int id) {
+    synchronized (dictionaries) {
+      ZstdDictDecompress dictionary = dictionaries.dictionariesById.get(id);
+      if (dictionary == null) {
+        final Path dictionaryFile = getDictionaryFile(getDataFolder(), id);
+        if (!Files.exists(dictionaryFile)) {
+          throw new IllegalStateException("The compression dictionary of the page is missing!");
+        }
+        dictionary = new ZstdDictDecompress(readDictionary(dictionaryFile));
+        dictionaries.dictionariesById.put(id, dictionary);
+      }
+      return dictionary;
+    }
+  }
+
+  @Override
+  public ByteHandler getInstance() {
+    return new DictionaryCompressor(resourcePath);
+  }
+}
@@ -61,7 +61,7 @@ public final class Encryptor implements ByteHandler {
     }
   }
 
-  private StreamingAead getStreamingAead() throws GeneralSecurityException {
+  private synchronized StreamingAead getStreamingAead() throws GeneralSecurityException {
     if (mStreamingAead == null)
       mStreamingAead = StreamingAeadFactory.getPrimitive(getKeysetHandle());
     return mStreamingAead;
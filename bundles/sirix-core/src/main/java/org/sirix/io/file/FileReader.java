@@ -24,12 +24,23 @@ package org.sirix.io.file;
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
@@ -38,8 +49,6 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
@@ -60,8 +69,11 @@ public final class FileReader implements Reader {
   /** Inflater to decompress. */
   final ByteHandler byteHandler;
 
-  /** The hash function used to hash pages/page fragments. */
-  final HashFunction hashFunction;
+  /** The checksum algorithm used to checksum pages/page fragments. */
+  final ChecksumType checksumType;
+
+  /** Determines if the checksums of pages are verified on read. */
+  private final boolean verifyChecksums;
 
   /** Data file. */
   private final RandomAccessFile dataFile;
@@ -75,8 +87,13 @@ public final class FileReader implements Reader {
   /** Used to serialize/deserialze pages. */
   private final PagePersister pagePersiter;
 
+  /** Executes the reads of multiple pages concurrently, or {@code null} to read them one after another. */
+  @Nullable
+  private final Executor readExecutor;
+
   /**
-   * Constructor.
+   * Constructor, which uses {@link ChecksumType#SHA256} checksums, as stored by resources created before
+   * the checksum type has been configurable, and doesn't verify them on read.
    *
    * @param dataFile the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
@@ -86,7 +103,44 @@ public final class FileReader implements Reader {
   public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
       final ByteHandler handler, final SerializationType type,
       final PagePersister pagePersistenter) {
-    hashFunction = Hashing.sha256();
+    this(dataFile, revisionsOffsetFile, handler, type, pagePersistenter, ChecksumType.SHA256, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile the data file
+   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param handler {@link ByteHandler} instance
+   * @param checksumType the checksum algorithm of the pages
+   * @param verifyChecksums determines if the checksums of pages are verified on read
+   * @throws SirixIOException if something bad happens
+   */
+  public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
+      final ByteHandler handler, final SerializationType type,
+      final PagePersister pagePersistenter, final ChecksumType checksumType, final boolean verifyChecksums) {
+    this(dataFile, revisionsOffsetFile, handler, type, pagePersistenter, checksumType, verifyChecksums, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile the data file
+   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param handler {@link ByteHandler} instance
+   * @param checksumType the checksum algorithm of the pages
+   * @param verifyChecksums determines if the checksums of pages are verified on read
+   * @param readExecutor executes the reads of multiple pages concurrently, or {@code null} to read them
+   *        one after another
+   * @throws SirixIOException if something bad happens
+   */
+  public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
+      final ByteHandler handler, final SerializationType type,
+      final PagePersister pagePersistenter, final ChecksumType checksumType, final boolean verifyChecksums,
+      final @Nullable Executor readExecutor) {
+    this.readExecutor = readExecutor;
+    this.checksumType = checkNotNull(checksumType);
+    this.verifyChecksums = verifyChecksums;
     this.dataFile = checkNotNull(dataFile);
     this.revisionsOffsetFile = type == SerializationType.DATA
         ? checkNotNull(revisionsOffsetFile)
@@ -99,6 +153,23 @@ public final class FileReader implements Reader {
   @Override
   public Page read(final @Nonnull PageReference reference,
       final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final byte[] page = readPage(reference);
+
+    if (verifyChecksums && !hasValidChecksum(reference, page)) {
+      throw new SirixIOException("Checksum mismatch, the page at offset " + reference.getKey() + " is corrupt!");
+    }
+
+    return deserializePage(page, pageReadTrx);
+  }
+
+  @Override
+  public Optional<Page> readIfChecksumMatches(final @Nonnull PageReference reference,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final byte[] page = readPage(reference);
+    return hasValidChecksum(reference, page) ? Optional.of(deserializePage(page, pageReadTrx)) : Optional.empty();
+  }
+
+  private byte[] readPage(final PageReference reference) {
     try {
       // Read page from file.
       switch (type) {
@@ -115,16 +186,98 @@ public final class FileReader implements Reader {
       final int dataLength = dataFile.readInt();
       reference.setLength(dataLength + FileReader.OTHER_BEACON);
       final byte[] page = new byte[dataLength];
-      dataFile.read(page);
+      dataFile.readFully(page);
+      return page;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The serialized pages are read concurrently through positional reads on the channel of the data
+   * file, which don't move its file pointer. The pages are deserialized by the calling thread, as page
+   * reading transactions are not thread safe.</p>
+   */
+  @Override
+  public List<Page> readAll(final @Nonnull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    if (readExecutor == null || references.size() < 2) {
+      return Reader.super.readAll(references, pageReadTrx);
+    }
 
+    final FileChannel dataFileChannel = dataFile.getChannel();
+    final List<CompletableFuture<byte[]>> serializedPages = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      final long position = type == SerializationType.DATA ? reference.getKey() : reference.getPersistentLogKey();
+      serializedPages.add(CompletableFuture.supplyAsync(() -> readPage(dataFileChannel, position), readExecutor));
+    }
+
+    final List<Page> pages = new ArrayList<>(references.size());
+    for (int i = 0; i < references.size(); i++) {
+      final PageReference reference = references.get(i);
+      final byte[] page = join(serializedPages.get(i));
+      reference.setLength(page.length + FileReader.OTHER_BEACON);
+
+      if (verifyChecksums && !hasValidChecksum(reference, page)) {
+        throw new SirixIOException("Checksum mismatch, the page at offset " + reference.getKey() + " is corrupt!");
+      }
+
+      pages.add(deserializePage(page, pageReadTrx));
+    }
+    return pages;
+  }
+
+  private static byte[] readPage(final FileChannel dataFileChannel, final long position) {
+    try {
+      final ByteBuffer dataLength = ByteBuffer.allocate(Integer.BYTES);
+      readFully(dataFileChannel, dataLength, position);
+      final ByteBuffer page = ByteBuffer.allocate(dataLength.flip().getInt());
+      readFully(dataFileChannel, page, position + Integer.BYTES);
+      return page.array();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) == -1) {
+        throw new EOFException();
+      }
+    }
+  }
+
+  private static byte[] join(final CompletableFuture<byte[]> serializedPage) {
+    try {
+      return serializedPage.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof SirixIOException) {
+        throw (SirixIOException) e.getCause();
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  private boolean hasValidChecksum(final PageReference reference, final byte[] page) {
+    return type != SerializationType.DATA || reference.getHash() == null
+        || checksumType.matches(page, reference.getHash());
+  }
+
+  @Override
+  public Page deserializePage(final byte[] page, final @Nullable PageReadOnlyTrx pageReadTrx) {
+    try {
       // Perform byte operations.
-      final DataInputStream input =
-          new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+      final DataInputStream input = new DataInputStream(new ByteArrayInputStream(byteHandler.deserialize(page)));
 
       // Return reader required to instantiate and deserialize page.
       return pagePersiter.deserializePage(input, pageReadTrx, type);
     } catch (final IOException e) {
       throw new SirixIOException(e);
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
     }
   }
 
@@ -155,13 +308,14 @@ public final class FileReader implements Reader {
       dataFile.read(page);
 
       // Perform byte operations.
-      final DataInputStream input =
-          new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+      final DataInputStream input = new DataInputStream(new ByteArrayInputStream(byteHandler.deserialize(page)));
 
       // Return reader required to instantiate and deserialize page.
       return (RevisionRootPage) pagePersiter.deserializePage(input, pageReadTrx, type);
     } catch (IOException e) {
       throw new SirixIOException(e);
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
     }
   }
 
@@ -23,8 +23,10 @@ package org.sirix.io.file;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.IOStorage;
+import org.sirix.io.PageReadExecutors;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -35,9 +37,12 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
 
 /**
- * Factory to provide File access as a backend.
+ * Factory to provide File access as a backend. Multiple pages (the fragments of a record page) are
+ * read concurrently in a bounded thread pool, which is owned by the storage and shut down once the
+ * storage is closed.
  *
  * @author Sebastian Graf, University of Konstanz.
  *
@@ -56,6 +61,15 @@ public final class FileStorage implements IOStorage {
   /** Byte handler pipeline. */
   private final ByteHandlePipeline byteHandlerPipeline;
 
+  /** The checksum algorithm of the pages. */
+  private final ChecksumType checksumType;
+
+  /** Determines if the checksums of pages are verified on read. */
+  private final boolean verifyChecksums;
+
+  /** The shared thread pool to read multiple pages concurrently. */
+  private final ExecutorService readExecutor;
+
   /**
    * Constructor.
    *
@@ -65,6 +79,9 @@ public final class FileStorage implements IOStorage {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    checksumType = resourceConfig.checksumType;
+    verifyChecksums = resourceConfig.verifyChecksumsOnRead;
+    readExecutor = PageReadExecutors.newExecutor();
   }
 
   @Override
@@ -75,7 +92,8 @@ public final class FileStorage implements IOStorage {
 
       return new FileReader(new RandomAccessFile(dataFilePath.toFile(), "r"),
           new RandomAccessFile(revisionsOffsetFilePath.toFile(), "r"),
-          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+          checksumType, verifyChecksums, readExecutor);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -100,7 +118,8 @@ public final class FileStorage implements IOStorage {
 
       return new FileWriter(new RandomAccessFile(dataFilePath.toFile(), "rw"),
           new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw"),
-          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+          checksumType, verifyChecksums, readExecutor);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -108,7 +127,7 @@ public final class FileStorage implements IOStorage {
 
   @Override
   public void close() {
-    // not used over here
+    readExecutor.shutdown();
   }
 
   /**
@@ -28,8 +28,11 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -66,7 +69,8 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
   private final PagePersister pagePersister;
 
   /**
-   * Constructor.
+   * Constructor, which uses {@link ChecksumType#SHA256} checksums, as stored by resources created before
+   * the checksum type has been configurable, and doesn't verify them on read.
    *
    * @param dataFile the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
@@ -77,14 +81,52 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
   public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
       final ByteHandler handler, final SerializationType serializationType,
       final PagePersister pagePersister) {
+    this(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister, ChecksumType.SHA256, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile the data file
+   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param handler the byte handler
+   * @param serializationType the serialization type (for the transaction log or the data file)
+   * @param pagePersister transforms in-memory pages into byte-arrays and back
+   * @param checksumType the checksum algorithm of the pages
+   * @param verifyChecksums determines if the checksums of pages are verified on read
+   */
+  public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
+      final ByteHandler handler, final SerializationType serializationType,
+      final PagePersister pagePersister, final ChecksumType checksumType, final boolean verifyChecksums) {
+    this(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister, checksumType, verifyChecksums,
+        null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile the data file
+   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param handler the byte handler
+   * @param serializationType the serialization type (for the transaction log or the data file)
+   * @param pagePersister transforms in-memory pages into byte-arrays and back
+   * @param checksumType the checksum algorithm of the pages
+   * @param verifyChecksums determines if the checksums of pages are verified on read
+   * @param readExecutor executes the reads of multiple pages concurrently, or {@code null} to read them
+   *        one after another
+   */
+  public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
+      final ByteHandler handler, final SerializationType serializationType,
+      final PagePersister pagePersister, final ChecksumType checksumType, final boolean verifyChecksums,
+      final @Nullable Executor readExecutor) {
     this.dataFile = checkNotNull(dataFile);
     type = checkNotNull(serializationType);
     this.revisionsOffsetFile = type == SerializationType.DATA
         ? checkNotNull(revisionsOffsetFile)
         : null;
     this.pagePersister = checkNotNull(pagePersister);
-    reader =
-        new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+    reader = new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister,
+        checksumType, verifyChecksums, readExecutor);
   }
 
   @Override
@@ -115,21 +157,35 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
    */
   @Override
   public FileWriter write(final PageReference pageReference) throws SirixIOException {
+    return write(pageReference, serializePage(pageReference));
+  }
+
+  @Override
+  public byte[] serializePage(final PageReference pageReference) throws SirixIOException {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final DataOutputStream dataOutput = new DataOutputStream(output)) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+
+      // Perform byte operations on the whole page at once.
+      return reader.byteHandler.serialize(output.toByteArray());
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  @Override
+  public FileWriter write(final PageReference pageReference, final byte[] serializedPage) throws SirixIOException {
     // Perform byte operations.
     try {
-      // Serialize page.
+      // The serialized pages of the transaction intent log might be written without the page itself.
       final Page page = pageReference.getPage();
-      assert page != null;
-
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-          final DataOutputStream dataOutput =
-              new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
+      assert page != null || type == SerializationType.TRANSACTION_INTENT_LOG;
 
       final byte[] writtenPage = new byte[serializedPage.length + FileReader.OTHER_BEACON];
       final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
@@ -168,7 +224,7 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
       }
 
       pageReference.setLength(writtenPage.length);
-      pageReference.setHash(reader.hashFunction.hashBytes(writtenPage).asBytes());
+      pageReference.setHash(reader.checksumType.checksum(serializedPage));
 
       if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
         revisionsOffsetFile.seek(revisionsOffsetFile.length());
@@ -211,6 +267,20 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     }
   }
 
+  @Override
+  public Writer force() throws SirixIOException {
+    try {
+      dataFile.getChannel().force(false);
+
+      if (revisionsOffsetFile != null)
+        revisionsOffsetFile.getChannel().force(false);
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   @Override
   protected Reader delegate() {
     return reader;
@@ -0,0 +1,292 @@
+package org.sirix.io.filechannel;
+
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
+import org.sirix.io.Reader;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reader, which uses positional reads on a {@link FileChannel}. As no file pointer is involved, the
+ * underlying channels can be shared between all readers of a resource and pages can be read
+ * concurrently. Multiple pages, for instance the fragments of a record page, are thus read in
+ * parallel through {@link #readAll(List, PageReadOnlyTrx)}. As an interrupted thread closes a channel
+ * for all threads, the channels are reopened on demand (see {@link SharedFileChannels}).
+ */
+public final class FileChannelReader implements Reader {
+
+  /** Beacon of first references. */
+  final static int FIRST_BEACON = 12;
+
+  /** Beacon of the other references. */
+  final static int OTHER_BEACON = 4;
+
+  /** Inflater to decompress. */
+  final ByteHandler byteHandler;
+
+  /** The checksum algorithm used to checksum pages/page fragments. */
+  final ChecksumType checksumType;
+
+  /** Determines if the checksums of pages are verified on read. */
+  private final boolean verifyChecksums;
+
+  /** The data file and revisions offset file channels. */
+  private final SharedFileChannels channels;
+
+  /** The type of data to serialize. */
+  private final SerializationType type;
+
+  /** Used to serialize/deserialze pages. */
+  private final PagePersister pagePersister;
+
+  /** Executes the reads of multiple pages concurrently. */
+  private final Executor readExecutor;
+
+  /**
+   * Constructor.
+   *
+   * @param channels the data file channel and the file channel, which holds pointers to the
+   *        revision root pages
+   * @param handler {@link ByteHandler} instance
+   * @param type the serialization type (for the transaction log or the data file)
+   * @param pagePersister transforms in-memory pages into byte-arrays and back
+   * @param readExecutor executes the reads of multiple pages concurrently
+   * @param checksumType the checksum algorithm of the pages
+   * @param verifyChecksums determines if the checksums of pages are verified on read
+   */
+  FileChannelReader(final SharedFileChannels channels, final ByteHandler handler, final SerializationType type,
+      final PagePersister pagePersister, final Executor readExecutor, final ChecksumType checksumType,
+      final boolean verifyChecksums) {
+    this.checksumType = checkNotNull(checksumType);
+    this.verifyChecksums = verifyChecksums;
+    this.channels = checkNotNull(channels);
+    byteHandler = checkNotNull(handler);
+    this.type = checkNotNull(type);
+    this.pagePersister = checkNotNull(pagePersister);
+    this.readExecutor = checkNotNull(readExecutor);
+  }
+
+  @Override
+  public Page read(final @Nonnull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final byte[] page = readPage(getPosition(reference));
+    reference.setLength(page.length + OTHER_BEACON);
+    verifyChecksum(reference, page);
+    return deserializePage(page, pageReadTrx);
+  }
+
+  @Override
+  public Optional<Page> readIfChecksumMatches(final @Nonnull PageReference reference,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final byte[] page = readPage(getPosition(reference));
+    reference.setLength(page.length + OTHER_BEACON);
+    if (type == SerializationType.DATA && reference.getHash() != null
+        && !checksumType.matches(page, reference.getHash())) {
+      return Optional.empty();
+    }
+    return Optional.of(deserializePage(page, pageReadTrx));
+  }
+
+  private void verifyChecksum(final PageReference reference, final byte[] page) {
+    if (verifyChecksums && type == SerializationType.DATA && reference.getHash() != null
+        && !checksumType.matches(page, reference.getHash())) {
+      throw new SirixIOException("Checksum mismatch, the page at offset " + reference.getKey() + " is corrupt!");
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The serialized pages are read concurrently, whereas the pages are deserialized by the calling
+   * thread, as page reading transactions are not thread safe.</p>
+   */
+  @Override
+  public List<Page> readAll(final @Nonnull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    if (references.size() < 2) {
+      return Reader.super.readAll(references, pageReadTrx);
+    }
+
+    final List<CompletableFuture<byte[]>> serializedPages = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      final long position = getPosition(reference);
+      serializedPages.add(CompletableFuture.supplyAsync(() -> readPage(position), readExecutor));
+    }
+
+    final List<Page> pages = new ArrayList<>(references.size());
+    for (int i = 0; i < references.size(); i++) {
+      final byte[] page = join(serializedPages.get(i));
+      references.get(i).setLength(page.length + OTHER_BEACON);
+      verifyChecksum(references.get(i), page);
+      pages.add(deserializePage(page, pageReadTrx));
+    }
+    return pages;
+  }
+
+  private static byte[] join(final CompletableFuture<byte[]> serializedPage) {
+    try {
+      return serializedPage.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof SirixIOException) {
+        throw (SirixIOException) e.getCause();
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  private long getPosition(final PageReference reference) {
+    switch (type) {
+      case DATA:
+        return reference.getKey();
+      case TRANSACTION_INTENT_LOG:
+        return reference.getPersistentLogKey();
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  @Override
+  public PageReference readUberPageReference() {
+    final PageReference uberPageReference = new PageReference();
+    try {
+      // Read primary beacon.
+      final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+      readFully(false, buffer, 0);
+      uberPageReference.setKey(buffer.flip().getLong());
+
+      final UberPage page = (UberPage) read(uberPageReference, null);
+      uberPageReference.setPage(page);
+      return uberPageReference;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
+    try {
+      final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+      readFully(true, buffer, (long) revision * Long.BYTES);
+      final byte[] page = readPage(buffer.flip().getLong());
+      return (RevisionRootPage) deserializePage(page, pageReadTrx);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Read the length prefixed, serialized page at the given position.
+   *
+   * @param position the position of the page in the data file
+   * @return the serialized page
+   */
+  private byte[] readPage(final long position) {
+    try {
+      final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+      readFully(false, lengthBuffer, position);
+      final int dataLength = lengthBuffer.flip().getInt();
+
+      final ByteBuffer pageBuffer = ByteBuffer.allocate(dataLength);
+      readFully(false, pageBuffer, position + OTHER_BEACON);
+      return pageBuffer.array();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public Page deserializePage(final byte[] page, final @Nullable PageReadOnlyTrx pageReadTrx)
+      throws SirixIOException {
+    try {
+      // Perform byte operations.
+      final DataInputStream input = new DataInputStream(new ByteArrayInputStream(byteHandler.deserialize(page)));
+
+      // Return reader required to instantiate and deserialize page.
+      return pagePersister.deserializePage(input, pageReadTrx, type);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  /**
+   * Fill the buffer from one of the shared channels, starting at the given position. If another thread
+   * has been interrupted and thus closed the channel, the read is retried on the reopened channel.
+   * The read of an interrupted thread fails, but the channel is reopened for the other threads
+   * nonetheless.
+   *
+   * @param fromRevisionsOffsetFile {@code true} to read from the revisions offset file, {@code false}
+   *        to read from the data file
+   * @param buffer the buffer to fill
+   * @param position the file position at which the transfer is to begin
+   * @throws IOException if an I/O error occurs or the end of the file is reached prematurely
+   */
+  private void readFully(final boolean fromRevisionsOffsetFile, final ByteBuffer buffer, final long position)
+      throws IOException {
+    while (true) {
+      final FileChannel channel = fromRevisionsOffsetFile
+          ? channels.getRevisionsOffsetFileChannel()
+          : channels.getDataFileChannel();
+      try {
+        readFully(channel, buffer, position);
+        return;
+      } catch (final ClosedByInterruptException e) {
+        throw e;
+      } catch (final ClosedChannelException e) {
+        buffer.clear();
+      }
+    }
+  }
+
+  /**
+   * Fill the buffer from the channel, starting at the given position, without touching the
+   * position of the channel itself.
+   *
+   * @param channel the channel to read from
+   * @param buffer the buffer to fill
+   * @param position the file position at which the transfer is to begin
+   * @throws IOException if an I/O error occurs or the end of the file is reached prematurely
+   */
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+      throws IOException {
+    long currentPosition = position;
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, currentPosition);
+      if (read == -1) {
+        throw new EOFException("Unexpected end of file at position " + currentPosition + ".");
+      }
+      currentPosition += read;
+    }
+  }
+
+  @Override
+  public void close() {
+    // The channels are shared between all readers and writers and closed by the storage.
+  }
+}
@@ -0,0 +1,151 @@
+package org.sirix.io.filechannel;
+
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
+import org.sirix.io.IOStorage;
+import org.sirix.io.PageReadExecutors;
+import org.sirix.io.Reader;
+import org.sirix.io.Writer;
+import org.sirix.io.bytepipe.ByteHandlePipeline;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Factory to provide {@link FileChannel} access as a backend. In contrast to the
+ * {@link org.sirix.io.file.FileStorage} all readers and writers of a resource share the same two
+ * channels, which are reopened, if an interrupted thread closed them, and are closed once the
+ * storage is closed. Multiple pages (the fragments of a record page) are read concurrently in a
+ * bounded thread pool, which is owned by the storage and shut down once the storage is closed.
+ */
+public final class FileChannelStorage implements IOStorage {
+
+  /** Data file name. */
+  private static final String FILENAME = "sirix.data";
+
+  /** Revisions file name. */
+  private static final String REVISIONS_FILENAME = "sirix.revisions";
+
+  /** Instance to storage. */
+  private final Path file;
+
+  /** Byte handler pipeline. */
+  private final ByteHandlePipeline byteHandlerPipeline;
+
+  /** The checksum algorithm of the pages. */
+  private final ChecksumType checksumType;
+
+  /** Determines if the checksums of pages are verified on read. */
+  private final boolean verifyChecksums;
+
+  /** The shared data file and revisions offset file channels. */
+  private SharedFileChannels channels;
+
+  /** The shared thread pool to read multiple pages concurrently. */
+  private final ExecutorService readExecutor;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the resource configuration
+   */
+  public FileChannelStorage(final ResourceConfiguration resourceConfig) {
+    assert resourceConfig != null : "resourceConfig must not be null!";
+    file = resourceConfig.resourcePath;
+    byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    checksumType = resourceConfig.checksumType;
+    verifyChecksums = resourceConfig.verifyChecksumsOnRead;
+    readExecutor = PageReadExecutors.newExecutor();
+  }
+
+  @Override
+  public Reader createReader() {
+    openChannels();
+
+    return new FileChannelReader(channels, new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA,
+        new PagePersister(), readExecutor, checksumType, verifyChecksums);
+  }
+
+  @Override
+  public Writer createWriter() {
+    openChannels();
+
+    return new FileChannelWriter(channels, new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA,
+        new PagePersister(), readExecutor, checksumType, verifyChecksums);
+  }
+
+  private synchronized void openChannels() {
+    if (channels != null && !channels.isClosed()) {
+      return;
+    }
+
+    try {
+      channels = new SharedFileChannels(createDirectoriesAndFile(), getRevisionFilePath());
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private Path createDirectoriesAndFile() throws IOException {
+    final Path concreteStorage = getDataFilePath();
+
+    if (!Files.exists(concreteStorage)) {
+      Files.createDirectories(concreteStorage.getParent());
+      Files.createFile(concreteStorage);
+    }
+
+    return concreteStorage;
+  }
+
+  @Override
+  public synchronized void close() {
+    readExecutor.shutdown();
+    try {
+      if (channels != null) {
+        channels.close();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Getting path for data file.
+   *
+   * @return the path for this data file
+   */
+  private Path getDataFilePath() {
+    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
+  }
+
+  /**
+   * Getting concrete storage for this file.
+   *
+   * @return the concrete storage for this database
+   */
+  private Path getRevisionFilePath() {
+    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(REVISIONS_FILENAME);
+  }
+
+  @Override
+  public boolean exists() {
+    final Path storage = getDataFilePath();
+    try {
+      return Files.exists(storage) && Files.size(storage) > 0;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public ByteHandler getByteHandler() {
+    return byteHandlerPipeline;
+  }
+}
@@ -0,0 +1,233 @@
+package org.sirix.io.filechannel;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.ChecksumType;
+import org.sirix.io.Reader;
+import org.sirix.io.Writer;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.Page;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writer, which uses positional writes on a {@link FileChannel}. The on-disk layout is the same as
+ * the one of the {@link org.sirix.io.file.FileWriter}.
+ */
+public final class FileChannelWriter extends AbstractForwardingReader implements Writer {
+
+  private static final short REVISION_ROOT_PAGE_BYTE_ALIGN = 256;
+
+  private static final byte PAGE_FRAGMENT_BYTE_ALIGN = 8;
+
+  /** The data file and revisions offset file channels. */
+  private final SharedFileChannels channels;
+
+  /** {@link FileChannelReader} reference for this writer. */
+  private final FileChannelReader reader;
+
+  private final SerializationType type;
+
+  private final PagePersister pagePersister;
+
+  /**
+   * Constructor.
+   *
+   * @param channels the data file channel and the file channel, which holds pointers to the
+   *        revision root pages
+   * @param handler the byte handler
+   * @param serializationType the serialization type (for the transaction log or the data file)
+   * @param pagePersister transforms in-memory pages into byte-arrays and back
+   * @param readExecutor executes the reads of multiple pages concurrently
+   * @param checksumType the checksum algorithm of the pages
+   * @param verifyChecksums determines if the checksums of pages are verified on read
+   */
+  FileChannelWriter(final SharedFileChannels channels, final ByteHandler handler,
+      final SerializationType serializationType, final PagePersister pagePersister, final Executor readExecutor,
+      final ChecksumType checksumType, final boolean verifyChecksums) {
+    this.channels = checkNotNull(channels);
+    type = checkNotNull(serializationType);
+    this.pagePersister = checkNotNull(pagePersister);
+    reader = new FileChannelReader(channels, handler, serializationType, pagePersister, readExecutor, checksumType,
+        verifyChecksums);
+  }
+
+  @Override
+  public Writer truncateTo(final int revision) {
+    UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
+
+    while (uberPage.getRevisionNumber() != revision) {
+      uberPage = (UberPage) reader.read(new PageReference().setKey(uberPage.getPreviousUberPageKey()), null);
+      if (uberPage.getRevisionNumber() == revision) {
+        try {
+          channels.getDataFileChannel().truncate(uberPage.getPreviousUberPageKey());
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+        break;
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Write page contained in page reference to storage.
+   *
+   * @param pageReference page reference to write
+   * @throws SirixIOException if errors during writing occur
+   */
+  @Override
+  public FileChannelWriter write(final PageReference pageReference) throws SirixIOException {
+    return write(pageReference, serializePage(pageReference));
+  }
+
+  @Override
+  public byte[] serializePage(final PageReference pageReference) throws SirixIOException {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final DataOutputStream dataOutput = new DataOutputStream(output)) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+
+      // Perform byte operations on the whole page at once.
+      return reader.byteHandler.serialize(output.toByteArray());
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  @Override
+  public FileChannelWriter write(final PageReference pageReference, final byte[] serializedPage)
+      throws SirixIOException {
+    // Perform byte operations.
+    try {
+      // The serialized pages of the transaction intent log might be written without the page itself.
+      final Page page = pageReference.getPage();
+      assert page != null || type == SerializationType.TRANSACTION_INTENT_LOG;
+
+      final ByteBuffer buffer = ByteBuffer.allocate(serializedPage.length + FileChannelReader.OTHER_BEACON);
+      buffer.putInt(serializedPage.length);
+      buffer.put(serializedPage);
+      buffer.flip();
+
+      // Getting actual offset and appending to the end of the current file.
+      final FileChannel dataFileChannel = channels.getDataFileChannel();
+      final long fileSize = dataFileChannel.size();
+      long offset = fileSize == 0
+          ? FileChannelReader.FIRST_BEACON
+          : fileSize;
+      if (type == SerializationType.DATA) {
+        if (page instanceof RevisionRootPage) {
+          if (offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
+            offset += REVISION_ROOT_PAGE_BYTE_ALIGN - (offset % REVISION_ROOT_PAGE_BYTE_ALIGN);
+          }
+        } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
+          offset += PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN);
+        }
+      }
+      writeFully(dataFileChannel, buffer, offset);
+
+      // Remember page coordinates.
+      switch (type) {
+        case DATA:
+          pageReference.setKey(offset);
+          break;
+        case TRANSACTION_INTENT_LOG:
+          pageReference.setPersistentLogKey(offset);
+          break;
+        default:
+          // Must not happen.
+      }
+
+      pageReference.setLength(buffer.capacity());
+      pageReference.setHash(reader.checksumType.checksum(serializedPage));
+
+      if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
+        final ByteBuffer offsetBuffer = ByteBuffer.allocate(Long.BYTES).putLong(offset).flip();
+        final FileChannel revisionsOffsetFileChannel = channels.getRevisionsOffsetFileChannel();
+        writeFully(revisionsOffsetFileChannel, offsetBuffer, revisionsOffsetFileChannel.size());
+      }
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public Writer writeUberPageReference(final PageReference pageReference) throws SirixIOException {
+    try {
+      write(pageReference);
+      final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(pageReference.getKey()).flip();
+      writeFully(channels.getDataFileChannel(), buffer, 0);
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+      throws IOException {
+    long currentPosition = position;
+    while (buffer.hasRemaining()) {
+      currentPosition += channel.write(buffer, currentPosition);
+    }
+  }
+
+  @Override
+  public Writer force() throws SirixIOException {
+    try {
+      channels.getDataFileChannel().force(false);
+
+      if (type == SerializationType.DATA)
+        channels.getRevisionsOffsetFileChannel().force(false);
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected Reader delegate() {
+    return reader;
+  }
+
+  @Override
+  public Writer truncate() {
+    try {
+      channels.getDataFileChannel().truncate(0);
+
+      if (type == SerializationType.DATA)
+        channels.getRevisionsOffsetFileChannel().truncate(0);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public void close() {
+    // The channels are shared between all readers and writers and closed by the storage.
+  }
+}
@@ -0,0 +1,123 @@
+package org.sirix.io.filechannel;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The data file channel and the revisions offset file channel of a resource, which are shared
+ * between all readers and writers. A thread, which is interrupted during an I/O operation on a
+ * {@link FileChannel}, closes the channel for all threads. Thus, the channels are reopened on the
+ * next access, until they are closed for good.
+ */
+final class SharedFileChannels {
+
+  /** The data file. */
+  private final Path dataFile;
+
+  /** The revisions offset file. */
+  private final Path revisionsOffsetFile;
+
+  /** The data file channel. */
+  private volatile FileChannel dataFileChannel;
+
+  /** The revisions offset file channel. */
+  private volatile FileChannel revisionsOffsetFileChannel;
+
+  /** Determines if the channels have been closed for good. */
+  private volatile boolean closed;
+
+  /**
+   * Open the channels.
+   *
+   * @param dataFile the data file, which must exist
+   * @param revisionsOffsetFile the revisions offset file, which is created, if it doesn't exist
+   * @throws IOException if an I/O error occurs
+   */
+  SharedFileChannels(final Path dataFile, final Path revisionsOffsetFile) throws IOException {
+    this.dataFile = checkNotNull(dataFile);
+    this.revisionsOffsetFile = checkNotNull(revisionsOffsetFile);
+    dataFileChannel = openDataFileChannel();
+    revisionsOffsetFileChannel = openRevisionsOffsetFileChannel();
+  }
+
+  private FileChannel openDataFileChannel() throws IOException {
+    return FileChannel.open(dataFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  private FileChannel openRevisionsOffsetFileChannel() throws IOException {
+    return FileChannel.open(revisionsOffsetFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE);
+  }
+
+  /**
+   * Get the data file channel, which is reopened, if it has been closed by an interrupt.
+   *
+   * @return the data file channel
+   * @throws ClosedChannelException if the channels have been closed for good
+   * @throws IOException if the channel couldn't be reopened
+   */
+  FileChannel getDataFileChannel() throws IOException {
+    final FileChannel channel = dataFileChannel;
+    if (channel.isOpen()) {
+      return channel;
+    }
+    reopen();
+    return dataFileChannel;
+  }
+
+  /**
+   * Get the revisions offset file channel, which is reopened, if it has been closed by an interrupt.
+   *
+   * @return the revisions offset file channel
+   * @throws ClosedChannelException if the channels have been closed for good
+   * @throws IOException if the channel couldn't be reopened
+   */
+  FileChannel getRevisionsOffsetFileChannel() throws IOException {
+    final FileChannel channel = revisionsOffsetFileChannel;
+    if (channel.isOpen()) {
+      return channel;
+    }
+    reopen();
+    return revisionsOffsetFileChannel;
+  }
+
+  private synchronized void reopen() throws IOException {
+    if (closed) {
+      throw new ClosedChannelException();
+    }
+    if (!dataFileChannel.isOpen()) {
+      dataFileChannel = openDataFileChannel();
+    }
+    if (!revisionsOffsetFileChannel.isOpen()) {
+      revisionsOffsetFileChannel = openRevisionsOffsetFileChannel();
+    }
+  }
+
+  /**
+   * Determines if the channels have been closed for good.
+   *
+   * @return {@code true}, if the channels have been closed, {@code false} otherwise
+   */
+  boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Close the channels for good.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  synchronized void close() throws IOException {
+    closed = true;
+    try {
+      dataFileChannel.close();
+    } finally {
+      revisionsOffsetFileChannel.close();
+    }
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Storage backend based on positional reads and writes of {@link java.nio.channels.FileChannel}s,
+ * which are shared between all readers and writers of a resource.
+ */
+package org.sirix.io.filechannel;
@@ -120,6 +120,11 @@ public final class RAMStorage implements IOStorage {
       return mResourceFileStorage.get(reference.getKey());
     }
 
+    @Override
+    public Page deserializePage(final byte[] serializedPage, final @Nullable PageReadOnlyTrx pageReadTrx) {
+      throw new UnsupportedOperationException("The pages are stored in-memory.");
+    }
+
     @Override
     public PageReference readUberPageReference() {
       final Page page = mResourceFileStorage.get(mUberPageKey.get(-1));
@@ -131,6 +136,17 @@ public final class RAMStorage implements IOStorage {
 
     @Override
     public Writer write(final PageReference pageReference) throws SirixIOException {
+      return write(pageReference, serializePage(pageReference));
+    }
+
+    @Override
+    public byte[] serializePage(final PageReference pageReference) throws SirixIOException {
+      // The pages are stored in-memory, there's nothing to serialize.
+      return new byte[0];
+    }
+
+    @Override
+    public Writer write(final PageReference pageReference, final byte[] serializedPage) throws SirixIOException {
       final Page page = pageReference.getPage();
       pageReference.setKey(mPageKey);
       mResourceFileStorage.put(mPageKey++, page);
@@ -148,6 +164,11 @@ public final class RAMStorage implements IOStorage {
       return this;
     }
 
+    @Override
+    public Writer force() throws SirixIOException {
+      return this;
+    }
+
     @Override
     public void close() throws SirixIOException {}
 
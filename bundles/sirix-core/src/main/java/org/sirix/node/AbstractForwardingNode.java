@@ -6,7 +6,6 @@ import org.sirix.node.interfaces.Node;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * Skeletal implementation of {@link Node} interface.
@@ -38,7 +37,7 @@ public abstract class AbstractForwardingNode extends ForwardingObject implements
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return delegate().computeHash();
   }
 
@@ -68,12 +67,12 @@ public abstract class AbstractForwardingNode extends ForwardingObject implements
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return delegate().getHash();
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
+  public void setHash(final Hash128 hash) {
     delegate().setHash(hash);
   }
 
@@ -0,0 +1,227 @@
+package org.sirix.node;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable 128 bit node hash, which is stored in two {@code long}s. All arithmetic is done
+ * modulo {@code 2^128 - 1} (which is the modulus formerly used by {@code BigInteger} based hashes,
+ * so existing hashes stay valid), that is, carries out of the 128 bits are simply added to the
+ * lowest bit. Values are always kept in the canonical range {@code [0, 2^128 - 2]}.
+ */
+public final class Hash128 {
+
+  /** The hash with the value {@code 0}. */
+  public static final Hash128 ZERO = new Hash128(0, 0);
+
+  /** The hash with the value {@code 1}. */
+  public static final Hash128 ONE = new Hash128(0, 1);
+
+  /** Number of bytes of a hash. */
+  public static final int BYTES = 2 * Long.BYTES;
+
+  /** The upper 64 bits. */
+  private final long high;
+
+  /** The lower 64 bits. */
+  private final long low;
+
+  private Hash128(final long high, final long low) {
+    this.high = high;
+    this.low = low;
+  }
+
+  /**
+   * Get the hash for the given 128 bits.
+   *
+   * @param high the upper 64 bits
+   * @param low the lower 64 bits
+   * @return the hash
+   */
+  public static Hash128 of(final long high, final long low) {
+    if ((high == -1L && low == -1L) || (high == 0 && low == 0)) {
+      // 2^128 - 1 is congruent to 0.
+      return ZERO;
+    }
+    return new Hash128(high, low);
+  }
+
+  /**
+   * Get the hash of an unsigned big-endian number of arbitrary length (for instance the output of a
+   * hash function), reduced modulo {@code 2^128 - 1}.
+   *
+   * @param bytes the unsigned big-endian bytes
+   * @return the hash
+   */
+  public static Hash128 fromBytes(final byte[] bytes) {
+    checkNotNull(bytes);
+    Hash128 hash = ZERO;
+    // As 2^128 is congruent to 1, the 128 bit chunks (from the end) are simply added.
+    for (int end = bytes.length; end > 0; end -= BYTES) {
+      long chunkHigh = 0;
+      long chunkLow = 0;
+      for (int i = Math.max(0, end - BYTES); i < end; i++) {
+        chunkHigh = (chunkHigh << 8) | (chunkLow >>> 56);
+        chunkLow = (chunkLow << 8) | (bytes[i] & 0xFF);
+      }
+      hash = add(hash.high, hash.low, chunkHigh, chunkLow);
+    }
+    return hash;
+  }
+
+  /**
+   * Get the hash of a {@link BigInteger}, reduced modulo {@code 2^128 - 1}.
+   *
+   * @param value the non-negative value
+   * @return the hash
+   */
+  public static Hash128 fromBigInteger(final BigInteger value) {
+    checkNotNull(value);
+    if (value.signum() < 0) {
+      throw new IllegalArgumentException("The value must not be negative.");
+    }
+    return fromBytes(value.toByteArray());
+  }
+
+  /**
+   * Get the upper 64 bits.
+   *
+   * @return the upper 64 bits
+   */
+  public long getHigh() {
+    return high;
+  }
+
+  /**
+   * Get the lower 64 bits.
+   *
+   * @return the lower 64 bits
+   */
+  public long getLow() {
+    return low;
+  }
+
+  /**
+   * Determines if the hash is {@code 0}.
+   *
+   * @return {@code true}, if the hash is {@code 0}, {@code false} otherwise
+   */
+  public boolean isZero() {
+    return high == 0 && low == 0;
+  }
+
+  /**
+   * Add a hash.
+   *
+   * @param other the hash to add
+   * @return the sum modulo {@code 2^128 - 1}
+   */
+  public Hash128 add(final Hash128 other) {
+    return add(high, low, other.high, other.low);
+  }
+
+  /**
+   * Subtract a hash.
+   *
+   * @param other the hash to subtract
+   * @return the difference modulo {@code 2^128 - 1}
+   */
+  public Hash128 subtract(final Hash128 other) {
+    // The bitwise complement is the additive inverse modulo 2^128 - 1.
+    return add(high, low, ~other.high, ~other.low);
+  }
+
+  /**
+   * Multiply by an unsigned 64 bit factor.
+   *
+   * @param factor the unsigned factor
+   * @return the product modulo {@code 2^128 - 1}
+   */
+  public Hash128 multiply(final long factor) {
+    final long productLow = low * factor;
+    final long carry = unsignedMultiplyHigh(low, factor);
+    final long middle = high * factor;
+    final long productHigh = middle + carry;
+    final long overflow = unsignedMultiplyHigh(high, factor) + (Long.compareUnsigned(productHigh, middle) < 0
+        ? 1
+        : 0);
+    // The bits above 2^128 are congruent to the value shifted down by 128 bits.
+    return add(productHigh, productLow, 0, overflow);
+  }
+
+  private static Hash128 add(final long firstHigh, final long firstLow, final long secondHigh,
+      final long secondLow) {
+    long low = firstLow + secondLow;
+    final long partialHigh = firstHigh + secondHigh;
+    long high = partialHigh + (Long.compareUnsigned(low, firstLow) < 0
+        ? 1
+        : 0);
+    if (Long.compareUnsigned(partialHigh, firstHigh) < 0 || Long.compareUnsigned(high, partialHigh) < 0) {
+      // 2^128 is congruent to 1 (can't overflow again, as both summands are at most 2^128 - 1).
+      low++;
+      if (low == 0) {
+        high++;
+      }
+    }
+    return of(high, low);
+  }
+
+  private static long unsignedMultiplyHigh(final long first, final long second) {
+    return Math.multiplyHigh(first, second) + ((first >> 63) & second) + ((second >> 63) & first);
+  }
+
+  /**
+   * Get the unsigned big-endian bytes of the hash without leading zero bytes.
+   *
+   * @return the bytes (empty, if the hash is {@code 0})
+   */
+  public byte[] toByteArray() {
+    final int leadingZeroBytes = (high == 0
+        ? Long.SIZE + Long.numberOfLeadingZeros(low)
+        : Long.numberOfLeadingZeros(high)) / Byte.SIZE;
+    final byte[] bytes = new byte[BYTES - leadingZeroBytes];
+    for (int i = bytes.length - 1, shift = 0; i >= 0; i--, shift += Byte.SIZE) {
+      bytes[i] = (byte) (shift < Long.SIZE
+          ? low >>> shift
+          : high >>> (shift - Long.SIZE));
+    }
+    return bytes;
+  }
+
+  /**
+   * Get the hash as a {@link BigInteger}.
+   *
+   * @return the hash as a non-negative {@link BigInteger}
+   */
+  public BigInteger toBigInteger() {
+    return new BigInteger(1, toByteArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(high) * 31 + Long.hashCode(low);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof Hash128) {
+      final Hash128 other = (Hash128) obj;
+      return high == other.high && low == other.low;
+    }
+    return false;
+  }
+
+  /**
+   * Get the decimal representation of the hash.
+   *
+   * @return the decimal representation
+   */
+  @Override
+  @Nonnull
+  public String toString() {
+    return toBigInteger().toString();
+  }
+}
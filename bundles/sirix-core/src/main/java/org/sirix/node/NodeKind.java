@@ -25,15 +25,20 @@ import com.google.common.collect.HashBiMap;
 import com.google.common.hash.HashFunction;
 import org.brackit.xquery.atomic.Atomic;
 import org.brackit.xquery.atomic.QNm;
-import org.brackit.xquery.module.Namespaces;
 import org.brackit.xquery.xdm.Type;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
 import org.sirix.index.AtomicUtil;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexKeySerializer;
+import org.sirix.index.IndexType;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusInnerNode;
+import org.sirix.index.bplustree.BPlusLeafNode;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
@@ -48,6 +53,7 @@ import org.sirix.page.UnorderedKeyValuePage;
 import org.sirix.service.xml.xpath.AtomicValue;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
+import org.sirix.utils.SymbolTable;
 
 import javax.annotation.Nonnegative;
 import java.io.DataInput;
@@ -76,7 +82,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -120,7 +126,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ElementNode node = (ElementNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
           pageReadTrx.getResourceManager().getResourceConfig());
@@ -145,7 +151,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -154,10 +160,7 @@ public enum NodeKind implements NodePersistenter {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       final String uri = pageReadTrx.getName(nameDel.getURIKey(), NodeKind.NAMESPACE);
       final int prefixKey = nameDel.getPrefixKey();
@@ -176,7 +179,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final AttributeNode node = (AttributeNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
@@ -190,7 +193,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -214,7 +217,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final NamespaceNode node = (NamespaceNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
     }
@@ -227,16 +230,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -252,7 +252,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final TextNode node = (TextNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       final StructNodeDelegate del = node.getStructNodeDelegate();
@@ -269,7 +269,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -282,10 +282,7 @@ public enum NodeKind implements NodePersistenter {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Returning an instance.
       return new PINode(hashCode, structDel, nameDel, valDel, pageReadTrx);
@@ -296,7 +293,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final PINode node = (PINode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
           pageReadTrx.getResourceManager().getResourceConfig());
@@ -312,16 +309,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -337,7 +331,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final CommentNode node = (CommentNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       final StructNodeDelegate del = node.getStructNodeDelegate();
@@ -605,7 +599,11 @@ public enum NodeKind implements NodePersistenter {
           nodeKeys.add(key);
         }
       }
-      final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+      final String typeName = new String(type, Constants.DEFAULT_ENCODING);
+      final Type atomicType = IndexDef.resolveContentType(typeName);
+      if (atomicType == null) {
+        throw new IllegalStateException("Unknown content type: " + typeName);
+      }
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
@@ -671,17 +669,6 @@ public enum NodeKind implements NodePersistenter {
         ResourceConfiguration resourceConfig) throws IOException {
       throw new UnsupportedOperationException();
     }
-
-    private Type resolveType(final String s) {
-      final QNm name = new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX,
-          s.substring(Namespaces.XS_PREFIX.length() + 1));
-      for (final Type type : Type.builtInTypes) {
-        if (type.getName().getLocalName().equals(name.getLocalName())) {
-          return type;
-        }
-      }
-      throw new IllegalStateException("Unknown content type: " + name);
-    }
   },
 
   /**
@@ -811,6 +798,103 @@ public enum NodeKind implements NodePersistenter {
     }
   },
 
+  /**
+   * Node kind is a B+-tree leaf of a CAS, path or name index.
+   */
+  BPLUSTREE_LEAF((byte) 34, BPlusLeafNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final IndexType indexType = IndexType.values()[source.readByte()];
+      final int size = source.readInt();
+      final List<Comparable<?>> keys = new ArrayList<>(size);
+      final List<NodeReferences> values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        keys.add(IndexKeySerializer.read(source, indexType));
+        values.add(readNodeReferences(source));
+      }
+      @SuppressWarnings({ "unchecked", "rawtypes" })
+      final BPlusLeafNode<?, NodeReferences> node = new BPlusLeafNode(recordID, indexType, keys, values);
+      node.setPreviousLeafKey(getVarLong(source));
+      node.setNextLeafKey(getVarLong(source));
+      return node;
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final BPlusLeafNode<?, NodeReferences> node = (BPlusLeafNode<?, NodeReferences>) record;
+      sink.writeByte(node.getIndexType().ordinal());
+      sink.writeInt(node.size());
+      for (int i = 0; i < node.size(); i++) {
+        IndexKeySerializer.write(sink, node.getIndexType(), node.getKey(i));
+        writeNodeReferences(sink, node.getValue(i));
+      }
+      putVarLong(sink, node.getPreviousLeafKey());
+      putVarLong(sink, node.getNextLeafKey());
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+    }
+  },
+
+  /**
+   * Node kind is a B+-tree inner node of a CAS, path or name index.
+   */
+  BPLUSTREE_INNER((byte) 35, BPlusInnerNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final IndexType indexType = IndexType.values()[source.readByte()];
+      final int keyCount = source.readInt();
+      final List<Comparable<?>> keys = new ArrayList<>(keyCount);
+      for (int i = 0; i < keyCount; i++) {
+        keys.add(IndexKeySerializer.read(source, indexType));
+      }
+      final List<Long> childKeys = new ArrayList<>(keyCount + 1);
+      for (int i = 0; i <= keyCount; i++) {
+        childKeys.add(getVarLong(source));
+      }
+      @SuppressWarnings({ "unchecked", "rawtypes" })
+      final BPlusInnerNode<?> node = new BPlusInnerNode(recordID, indexType, keys, childKeys);
+      return node;
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      final BPlusInnerNode<?> node = (BPlusInnerNode<?>) record;
+      sink.writeByte(node.getIndexType().ordinal());
+      sink.writeInt(node.getKeyCount());
+      for (int i = 0; i < node.getKeyCount(); i++) {
+        IndexKeySerializer.write(sink, node.getIndexType(), node.getKey(i));
+      }
+      for (int i = 0; i <= node.getKeyCount(); i++) {
+        putVarLong(sink, node.getChildKey(i));
+      }
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) throws IOException {
+    }
+  },
+
   /** Node includes a deweyID &lt;=&gt; nodeKey mapping. */
   DEWEYIDMAPPING((byte) 23, DeweyIDMappingNode.class) {
     @Override
@@ -844,7 +928,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -862,7 +946,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectNode node = (ObjectNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE) {
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       }
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
@@ -889,7 +973,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       final long pathNodeKey = source.readLong();
 
@@ -909,7 +993,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ArrayNode node = (ArrayNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       sink.writeLong(node.getPathNodeKey());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
@@ -936,7 +1020,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       final int nameKey = source.readInt();
       final long pathNodeKey = getVarLong(source);
@@ -961,7 +1045,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectKeyNode node = (ObjectKeyNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       sink.writeInt(node.getNameKey());
       putVarLong(sink, node.getPathNodeKey());
       serializeDelegate(node.getNodeDelegate(), sink);
@@ -989,16 +1073,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDelegate = new StructNodeDelegate(nodeDel,
@@ -1014,7 +1095,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectStringNode node = (ObjectStringNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
     }
@@ -1039,7 +1120,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       final boolean boolValue = source.readBoolean();
       // Node delegate.
@@ -1059,7 +1140,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectBooleanNode node = (ObjectBooleanNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       sink.writeBoolean(node.getValue());
       serializeDelegate(node.getNodeDelegate(), sink);
     }
@@ -1084,7 +1165,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
       final byte valueType = source.readByte();
       final Number number;
 
@@ -1136,7 +1217,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectNumberNode node = (ObjectNumberNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       final Number number = node.getValue();
 
       if (number instanceof Double) {
@@ -1193,7 +1274,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -1212,7 +1293,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectNullNode node = (ObjectNullNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
     }
 
@@ -1236,16 +1317,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDel = deserializeStructDel(this, nodeDel, source,
@@ -1260,7 +1338,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final StringNode node = (StringNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
@@ -1287,7 +1365,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       final boolean boolValue = source.readBoolean();
       // Node delegate.
@@ -1306,7 +1384,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final BooleanNode node = (BooleanNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       sink.writeBoolean(node.getValue());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
@@ -1333,7 +1411,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
       final byte valueType = source.readByte();
       final Number number;
 
@@ -1384,7 +1462,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final NumberNode node = (NumberNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       final Number number = node.getValue();
 
       if (number instanceof Double) {
@@ -1443,7 +1521,7 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hashCode = getHash(source, pageReadTrx);
 
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
@@ -1461,7 +1539,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final NullNode node = (NullNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getHash() == null ? Hash128.ZERO : node.getHash());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
           pageReadTrx.getResourceManager().getResourceConfig());
@@ -1612,6 +1690,15 @@ public enum NodeKind implements NodePersistenter {
    */
   private final Class<? extends DataRecord> mClass;
 
+  /** A value, which is stored uncompressed. */
+  private static final byte UNCOMPRESSED_VALUE = 0;
+
+  /** A value, which has been compressed with Deflate. */
+  private static final byte COMPRESSED_VALUE = 1;
+
+  /** A value, which has been encoded with the symbol table of the resource. */
+  private static final byte ENCODED_VALUE = 2;
+
   /**
    * Mapping of keys -> nodes.
    */
@@ -1731,9 +1818,9 @@ public enum NodeKind implements NodePersistenter {
     }
   }
 
-  private static final BigInteger getHash(final DataInput source, final PageReadOnlyTrx pageReadTrx)
+  private static final Hash128 getHash(final DataInput source, final PageReadOnlyTrx pageReadTrx)
       throws IOException {
-    final BigInteger hashCode;
+    final Hash128 hashCode;
     if (pageReadTrx.getResourceManager().getResourceConfig().hashType == HashType.NONE)
       hashCode = null;
     else
@@ -1859,32 +1946,74 @@ public enum NodeKind implements NodePersistenter {
    */
   private static final void serializeValDelegate(final ValueNodeDelegate valueDel, final DataOutput sink)
       throws IOException {
-    final boolean isCompressed = valueDel.isCompressed();
-    sink.writeByte(isCompressed ? (byte) 1 : (byte) 0);
-    final byte[] value = isCompressed ? valueDel.getCompressed() : valueDel.getRawValue();
+    final byte encoding = valueDel.isCompressed()
+        ? COMPRESSED_VALUE
+        : valueDel.isEncoded() ? ENCODED_VALUE : UNCOMPRESSED_VALUE;
+    sink.writeByte(encoding);
+    final byte[] value = encoding == UNCOMPRESSED_VALUE ? valueDel.getRawValue() : valueDel.getCompressed();
     sink.writeInt(value.length);
     sink.write(value);
   }
 
-  private static BigInteger readHash(final DataInput source) throws IOException {
+  /**
+   * Deserializing a {@link ValueNodeDelegate} instance.
+   *
+   * @param nodeDel     the node delegate
+   * @param source      input source
+   * @param pageReadTrx {@link PageReadOnlyTrx} instance
+   * @return the value delegate
+   */
+  private static ValueNodeDelegate deserializeValDelegate(final NodeDelegate nodeDel, final DataInput source,
+      final PageReadOnlyTrx pageReadTrx) throws IOException {
+    final byte encoding = source.readByte();
+    final byte[] vals = new byte[source.readInt()];
+    source.readFully(vals, 0, vals.length);
+
+    if (encoding == ENCODED_VALUE) {
+      final SymbolTable symbolTable = pageReadTrx.getResourceManager().getValueDictionary().getSymbolTable();
+      if (symbolTable == null) {
+        throw new SirixIOException("The symbol table of the resource is missing!");
+      }
+      return new ValueNodeDelegate(nodeDel, vals, symbolTable);
+    }
+    return new ValueNodeDelegate(nodeDel, vals, encoding == COMPRESSED_VALUE);
+  }
+
+  private static Hash128 readHash(final DataInput source) throws IOException {
+    // Hashes written by former versions may have an additional leading sign byte.
     final byte[] hashBytes = new byte[source.readByte()];
     source.readFully(hashBytes);
-    return new BigInteger(1, hashBytes);
+    return Hash128.fromBytes(hashBytes);
   }
 
-  private static void writeHash(final DataOutput sink, final BigInteger hashCode) throws IOException {
-    final byte[] bigIntegerBytes = hashCode.toByteArray();
-    final List<Byte> bytes = new ArrayList<>();
-    final int maxLength = Math.min(bigIntegerBytes.length, 17);
+  private static void writeHash(final DataOutput sink, final Hash128 hashCode) throws IOException {
+    final byte[] hashBytes = hashCode.toByteArray();
+    sink.writeByte(hashBytes.length);
+    sink.write(hashBytes);
+  }
 
-    for (int i = 1; i < maxLength; i++) {
-      bytes.add(bigIntegerBytes[i]);
+  private static NodeReferences readNodeReferences(final DataInput source) throws IOException {
+    final int size = source.readInt();
+    final Set<Long> nodeKeys = new HashSet<>(size);
+    long nodeKey = 0;
+    for (int i = 0; i < size; i++) {
+      nodeKey += getVarLong(source);
+      nodeKeys.add(nodeKey);
     }
+    return new NodeReferences(nodeKeys);
+  }
 
-    assert bytes.size() < 17;
-
-    sink.writeByte(bigIntegerBytes.length);
-    sink.write(bigIntegerBytes);
+  private static void writeNodeReferences(final DataOutput sink, final NodeReferences references)
+      throws IOException {
+    // Sort the node keys to store the (small) differences.
+    final List<Long> nodeKeys = new ArrayList<>(references.getNodeKeys());
+    Collections.sort(nodeKeys);
+    sink.writeInt(nodeKeys.size());
+    long previousNodeKey = 0;
+    for (final long nodeKey : nodeKeys) {
+      putVarLong(sink, nodeKey - previousNodeKey);
+      previousNodeKey = nodeKey;
+    }
   }
 
   /**
@@ -28,7 +28,6 @@ import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.settings.Fixed;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -54,7 +53,7 @@ public final class NullNode implements StructNode {
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     throw new UnsupportedOperationException();
   }
 
@@ -79,12 +78,12 @@ public final class NullNode implements StructNode {
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
+  public void setHash(final Hash128 hash) {
     throw new UnsupportedOperationException();
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     throw new UnsupportedOperationException();
   }
 
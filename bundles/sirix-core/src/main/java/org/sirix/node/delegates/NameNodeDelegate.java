@@ -29,13 +29,13 @@ import com.google.common.hash.Funnel;
 import com.google.common.hash.PrimitiveSink;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.NameNode;
 import org.sirix.node.interfaces.Node;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * Delegate method for all nodes containing naming-data. That means that different fixed defined
@@ -102,7 +102,7 @@ public class NameNodeDelegate extends AbstractForwardingNode implements NameNode
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     final Funnel<NameNode> nodeFunnel = (NameNode node, PrimitiveSink into) -> {
       into.putInt(node.getURIKey())
           .putInt(node.getPrefixKey())
@@ -110,17 +110,16 @@ public class NameNodeDelegate extends AbstractForwardingNode implements NameNode
           .putLong(node.getPathNodeKey());
     };
 
-    return Node.to128BitsAtMaximumBigInteger(
-        new BigInteger(1, mDelegate.getHashFunction().hashObject(this, nodeFunnel).asBytes()));
+    return Hash128.fromBytes(mDelegate.getHashFunction().hashObject(this, nodeFunnel).asBytes());
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     throw new UnsupportedOperationException();
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
+  public void setHash(final Hash128 hash) {
     throw new UnsupportedOperationException();
   }
 
@@ -25,6 +25,7 @@ import com.google.common.base.Objects;
 import com.google.common.hash.Funnel;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.PrimitiveSink;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -33,7 +34,6 @@ import org.sirix.utils.NamePageHash;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * Delegate method for all nodes. That means that all nodes stored in Sirix are represented by an
@@ -56,7 +56,7 @@ public class NodeDelegate implements Node {
   private long parentKey;
 
   /** Hash of the parent node. */
-  private final BigInteger hashCode;
+  private final Hash128 hashCode;
 
   /**
    * TypeKey of the parent node. Can be referenced later on over special pages.
@@ -83,7 +83,7 @@ public class NodeDelegate implements Node {
    * @param deweyID optional DeweyID
    */
   public NodeDelegate(final @Nonnegative long nodeKey, final long parentKey, final HashFunction hashFunction,
-      final BigInteger hashCode, final @Nonnegative long revision, final SirixDeweyID deweyID) {
+      final Hash128 hashCode, final @Nonnegative long revision, final SirixDeweyID deweyID) {
     assert nodeKey >= 0 : "nodeKey must be >= 0!";
     assert parentKey >= Fixed.NULL_NODE_KEY.getStandardProperty();
     this.nodeKey = nodeKey;
@@ -121,19 +121,19 @@ public class NodeDelegate implements Node {
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     final Funnel<Node> nodeFunnel = (Node node, PrimitiveSink into) -> into.putLong(node.getNodeKey()).putLong(node.getParentKey()).putByte(node.getKind().getId());
 
-    return Node.to128BitsAtMaximumBigInteger(new BigInteger(1, mHashFunction.hashObject(this, nodeFunnel).asBytes()));
+    return Hash128.fromBytes(mHashFunction.hashObject(this, nodeFunnel).asBytes());
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     throw new UnsupportedOperationException();
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
+  public void setHash(final Hash128 hash) {
     throw new UnsupportedOperationException();
   }
 
@@ -25,6 +25,7 @@ import com.google.common.base.Objects;
 import com.google.common.hash.Funnel;
 import com.google.common.hash.PrimitiveSink;
 import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.StructNode;
@@ -32,7 +33,6 @@ import org.sirix.settings.Fixed;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * Delegate method for all nodes building up the structure. That means that all nodes representing
@@ -158,25 +158,23 @@ public class StructNodeDelegate extends AbstractForwardingNode implements Struct
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     final Funnel<StructNode> nodeFunnel = (StructNode node, PrimitiveSink into) ->
     {
       into.putLong(node.getChildCount()).putLong(node.getDescendantCount()).putLong(node.getLeftSiblingKey()).putLong(
           node.getRightSiblingKey()).putLong(node.getFirstChildKey());
     };
 
-    final BigInteger hash = new BigInteger(1, nodeDelegate.getHashFunction().hashObject(this, nodeFunnel).asBytes());
-
-    return Node.to128BitsAtMaximumBigInteger(hash);
+    return Hash128.fromBytes(nodeDelegate.getHashFunction().hashObject(this, nodeFunnel).asBytes());
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     throw new UnsupportedOperationException();
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
+  public void setHash(final Hash128 hash) {
     throw new UnsupportedOperationException();
   }
 
@@ -20,16 +20,16 @@
  */
 package org.sirix.node.delegates;
 
-import java.math.BigInteger;
 import java.util.Arrays;
-import java.util.zip.Deflater;
 import javax.annotation.Nullable;
 import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.ValueNode;
 import org.sirix.settings.Constants;
 import org.sirix.utils.Compression;
+import org.sirix.utils.SymbolTable;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 
@@ -51,6 +51,12 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
   /** Determines if input has been compressed. */
   private boolean mCompressed;
 
+  /** The symbol table of the resource, if the value is encoded with it, {@code null} otherwise. */
+  private SymbolTable mSymbolTable;
+
+  /** Determines if the value has been encoded with the symbol table. */
+  private boolean mEncoded;
+
   /**
    * Constructor
    *
@@ -66,50 +72,123 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
     mCompressed = compressed;
   }
 
+  /**
+   * Constructor for a value encoded with the symbol table of the resource.
+   *
+   * @param nodeDel {@link NodeDelegate} reference
+   * @param encodedVal the encoded value
+   * @param symbolTable the symbol table, with which the value has been encoded
+   */
+  public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] encodedVal, final SymbolTable symbolTable) {
+    this(nodeDel, encodedVal, false);
+    assert symbolTable != null : "symbolTable must not be null!";
+    mSymbolTable = symbolTable;
+    mEncoded = true;
+  }
+
+  /**
+   * Create a delegate, whose value is encoded with the symbol table of the resource, if the value
+   * gets shorter.
+   *
+   * @param nodeDel {@link NodeDelegate} reference
+   * @param value the value
+   * @param symbolTable the symbol table or {@code null}, if the value has to be stored uncompressed
+   * @return the delegate
+   */
+  public static ValueNodeDelegate encode(final NodeDelegate nodeDel, final byte[] value,
+      final @Nullable SymbolTable symbolTable) {
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, value, false);
+    valDel.mSymbolTable = symbolTable;
+    valDel.setValue(value);
+    return valDel;
+  }
+
   @Override
-  public BigInteger computeHash() {
-    return Node.to128BitsAtMaximumBigInteger(new BigInteger(1, mDelegate.getHashFunction().hashBytes(getRawValue()).asBytes()));
+  public Hash128 computeHash() {
+    return Hash128.fromBytes(mDelegate.getHashFunction().hashBytes(getRawValue()).asBytes());
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     throw new UnsupportedOperationException();
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
+  public void setHash(final Hash128 hash) {
     throw new UnsupportedOperationException();
   }
 
   @Override
   public byte[] getRawValue() {
-    return mCompressed
-        ? Compression.decompress(mValue)
+    if (mCompressed) {
+      return Compression.decompress(mValue);
+    }
+    return mEncoded
+        ? mSymbolTable.decode(mValue)
         : mValue;
   }
 
+  /**
+   * Determines if the value equals the given value. A value encoded with the symbol table is
+   * compared without decoding it.
+   *
+   * @param value the value to compare with
+   * @return {@code true}, if the values are equal, {@code false} otherwise
+   */
+  @Override
+  public boolean valueEquals(final byte[] value) {
+    return valueEquals(value, null, null);
+  }
+
+  @Override
+  public boolean valueEquals(final byte[] value, final @Nullable SymbolTable symbolTable,
+      final @Nullable byte[] encodedValue) {
+    if (mEncoded) {
+      return Arrays.equals(mValue, mSymbolTable == symbolTable ? encodedValue : mSymbolTable.encode(value));
+    }
+    return Arrays.equals(getRawValue(), value);
+  }
+
   @Override
   public String getValue() {
     return new String(getRawValue(), Constants.DEFAULT_ENCODING);
   }
 
   /**
-   * Get value which might be compressed.
+   * Get value which might be compressed or encoded.
    *
-   * @return {@code value} which might be compressed
+   * @return {@code value} which might be compressed or encoded
    */
   public byte[] getCompressed() {
     return mValue;
   }
 
+  /**
+   * Set the value, which is encoded with the given symbol table, if the value gets shorter. Values
+   * read back uncompressed don't know the table of the resource, thus it has to be passed, once
+   * the value is modified.
+   *
+   * @param value the value
+   * @param symbolTable the symbol table or {@code null}, if the value has to be stored uncompressed
+   */
+  public void setValue(final byte[] value, final @Nullable SymbolTable symbolTable) {
+    mSymbolTable = symbolTable;
+    setValue(value);
+  }
+
   @Override
   public void setValue(final byte[] value) {
-    mCompressed = new String(value).length() > 10
-        ? true
-        : false;
-    mValue = mCompressed
-        ? Compression.compress(value, Deflater.DEFAULT_COMPRESSION)
-        : value;
+    mCompressed = false;
+    mEncoded = false;
+    mValue = value;
+
+    if (mSymbolTable != null) {
+      final byte[] encodedValue = mSymbolTable.encode(value);
+      if (encodedValue.length < value.length) {
+        mEncoded = true;
+        mValue = encodedValue;
+      }
+    }
   }
 
   /**
@@ -121,6 +200,15 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
     return mCompressed;
   }
 
+  /**
+   * Determine if the value has been encoded with the symbol table of the resource.
+   *
+   * @return {@code true}, if it has been encoded, {@code false} otherwise
+   */
+  public boolean isEncoded() {
+    return mEncoded;
+  }
+
   /**
    * Set compression.
    *
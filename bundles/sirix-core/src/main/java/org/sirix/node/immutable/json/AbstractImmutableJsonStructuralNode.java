@@ -1,5 +1,6 @@
 package org.sirix.node.immutable.json;
 
+import org.sirix.node.Hash128;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.StructNode;
@@ -7,7 +8,6 @@ import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.interfaces.immutable.ImmutableStructNode;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 public abstract class AbstractImmutableJsonStructuralNode implements ImmutableStructNode, ImmutableJsonNode {
 
@@ -64,7 +64,7 @@ public abstract class AbstractImmutableJsonStructuralNode implements ImmutableSt
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return structDelegate().getHash();
   }
 
@@ -2,13 +2,12 @@ package org.sirix.node.immutable.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.json.ArrayNode;
 import org.sirix.node.xml.ElementNode;
 
-import java.math.BigInteger;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -66,7 +65,7 @@ public final class ImmutableArrayNode extends AbstractImmutableJsonStructuralNod
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return node.computeHash();
   }
 }
@@ -1,9 +1,9 @@
 package org.sirix.node.immutable.json;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.json.JsonDocumentRootNode;
@@ -53,7 +53,7 @@ public final class ImmutableJsonDocumentRootNode extends AbstractImmutableJsonSt
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return mNode.computeHash();
   }
 }
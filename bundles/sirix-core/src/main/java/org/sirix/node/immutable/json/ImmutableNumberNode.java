@@ -2,12 +2,11 @@ package org.sirix.node.immutable.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.json.NumberNode;
 
-import java.math.BigInteger;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -59,7 +58,7 @@ public final class ImmutableNumberNode extends AbstractImmutableJsonStructuralNo
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return node.computeHash();
   }
 }
@@ -2,14 +2,13 @@ package org.sirix.node.immutable.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.json.ObjectBooleanNode;
 import org.sirix.node.json.StringNode;
 import org.sirix.node.xml.TextNode;
 
-import java.math.BigInteger;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -61,7 +60,7 @@ public final class ImmutableObjectBooleanNode extends AbstractImmutableJsonStruc
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return node.computeHash();
   }
 }
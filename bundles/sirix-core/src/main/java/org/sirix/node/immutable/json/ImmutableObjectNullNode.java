@@ -2,14 +2,13 @@ package org.sirix.node.immutable.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.json.NullNode;
 import org.sirix.node.json.ObjectNullNode;
 import org.sirix.node.xml.ElementNode;
 
-import java.math.BigInteger;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -58,7 +57,7 @@ public final class ImmutableObjectNullNode extends AbstractImmutableJsonStructur
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return mNode.computeHash();
   }
 }
@@ -2,6 +2,7 @@ package org.sirix.node.immutable.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -10,7 +11,6 @@ import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.node.json.ObjectStringNode;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -149,7 +149,7 @@ public final class ImmutableObjectStringNode extends AbstractImmutableJsonStruct
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return node.computeHash();
   }
 
@@ -3,6 +3,7 @@ package org.sirix.node.immutable.xml;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -14,7 +15,6 @@ import org.sirix.node.xml.AttributeNode;
 import org.sirix.settings.Constants;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -64,7 +64,7 @@ public final class ImmutableAttributeNode implements ImmutableValueNode, Immutab
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return node.getHash();
   }
 
@@ -118,6 +118,11 @@ public final class ImmutableAttributeNode implements ImmutableValueNode, Immutab
     return node.getRawValue();
   }
 
+  @Override
+  public boolean valueEquals(final byte[] value) {
+    return node.valueEquals(value);
+  }
+
   @Override
   public SirixDeweyID getDeweyID() {
     return node.getDeweyID();
@@ -149,7 +154,7 @@ public final class ImmutableAttributeNode implements ImmutableValueNode, Immutab
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return node.computeHash();
   }
 }
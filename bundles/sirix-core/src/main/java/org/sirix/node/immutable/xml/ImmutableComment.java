@@ -1,11 +1,11 @@
 package org.sirix.node.immutable.xml;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -60,7 +60,7 @@ public final class ImmutableComment implements ImmutableValueNode, ImmutableStru
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mNode.getHash();
   }
 
@@ -160,7 +160,7 @@ public final class ImmutableComment implements ImmutableValueNode, ImmutableStru
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return mNode.computeHash();
   }
 }
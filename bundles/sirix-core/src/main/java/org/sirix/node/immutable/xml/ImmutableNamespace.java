@@ -1,12 +1,12 @@
 package org.sirix.node.immutable.xml;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -60,7 +60,7 @@ public class ImmutableNamespace implements ImmutableNameNode, ImmutableXmlNode {
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mNode.getHash();
   }
 
@@ -135,7 +135,7 @@ public class ImmutableNamespace implements ImmutableNameNode, ImmutableXmlNode {
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return mNode.computeHash();
   }
 }
@@ -1,11 +1,11 @@
 package org.sirix.node.immutable.xml;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -14,6 +14,7 @@ import org.sirix.node.interfaces.immutable.ImmutableStructNode;
 import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.node.interfaces.immutable.ImmutableXmlNode;
 import org.sirix.node.xml.TextNode;
+import org.sirix.utils.SymbolTable;
 
 /**
  * Immutable text node wrapper.
@@ -60,7 +61,7 @@ public class ImmutableText implements ImmutableValueNode, ImmutableStructNode, I
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mNode.getHash();
   }
 
@@ -134,6 +135,17 @@ public class ImmutableText implements ImmutableValueNode, ImmutableStructNode, I
     return mNode.getRawValue();
   }
 
+  @Override
+  public boolean valueEquals(final byte[] value) {
+    return mNode.valueEquals(value);
+  }
+
+  @Override
+  public boolean valueEquals(final byte[] value, final @Nullable SymbolTable symbolTable,
+      final @Nullable byte[] encodedValue) {
+    return mNode.valueEquals(value, symbolTable, encodedValue);
+  }
+
   @Override
   public String getValue() {
     return mNode.getValue();
@@ -160,7 +172,7 @@ public class ImmutableText implements ImmutableValueNode, ImmutableStructNode, I
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     return mNode.computeHash();
   }
 }
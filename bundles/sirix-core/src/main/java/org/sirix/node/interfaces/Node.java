@@ -21,7 +21,7 @@
 
 package org.sirix.node.interfaces;
 
-import java.math.BigInteger;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -32,9 +32,6 @@ import org.sirix.node.interfaces.immutable.ImmutableNode;
  * </p>
  */
 public interface Node extends ImmutableNode {
-  // 2^128-1.
-  BigInteger MAX_POSITIVE_VALUE_128_BIT = new BigInteger("340282366920938463463374607431768211455");
-
   @Override
   NodeKind getKind();
 
@@ -58,7 +55,7 @@ public interface Node extends ImmutableNode {
    *
    * @param hash hash for this node
    */
-  void setHash(BigInteger hash);
+  void setHash(Hash128 hash);
 
   /**
    * Set the parent key.
@@ -66,8 +63,4 @@ public interface Node extends ImmutableNode {
    * @param nodeKey the parent nodeKey
    */
   void setParentKey(long nodeKey);
-
-  static BigInteger to128BitsAtMaximumBigInteger(BigInteger hash) {
-    return hash.mod(MAX_POSITIVE_VALUE_128_BIT);
-  }
 }
@@ -23,13 +23,18 @@
  */
 package org.sirix.node.interfaces;
 
+import org.sirix.node.interfaces.immutable.ImmutableValueNode;
+import org.sirix.utils.SymbolTable;
+
+import javax.annotation.Nullable;
+
 /**
  * Interface for nodes which incorporate values.
  * 
  * @author Sebastian Graf, University of Konstanz
  * 
  */
-public interface ValueNode extends Node {
+public interface ValueNode extends Node, ImmutableValueNode {
   /**
    * Return a byte array representation of the item's value.
    * 
@@ -44,5 +49,16 @@ public interface ValueNode extends Node {
    */
   void setValue(byte[] value);
 
+  /**
+   * Setting the value, which is encoded with the symbol table of the resource, if the value gets
+   * shorter. Nodes, whose values are never encoded, ignore the table.
+   *
+   * @param value the value to be set
+   * @param symbolTable the symbol table or {@code null}, if the value has to be stored uncompressed
+   */
+  default void setValue(byte[] value, @Nullable SymbolTable symbolTable) {
+    setValue(value);
+  }
+
   String getValue();
 }
@@ -1,7 +1,7 @@
 package org.sirix.node.interfaces.immutable;
 
-import java.math.BigInteger;
 import javax.annotation.Nullable;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.DataRecord;
@@ -29,13 +29,13 @@ public interface ImmutableNode extends DataRecord {
    * Getting the stored hash.
    * @return the hash code
    */
-  BigInteger getHash();
+  Hash128 getHash();
 
   /**
    * Compute the hash code.
    * @return the computed hash code
    */
-  BigInteger computeHash();
+  Hash128 computeHash();
 
   /**
    * Gets key of the context item's parent.
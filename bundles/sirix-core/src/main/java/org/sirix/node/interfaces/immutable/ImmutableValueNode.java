@@ -1,5 +1,10 @@
 package org.sirix.node.interfaces.immutable;
 
+import org.sirix.utils.SymbolTable;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
 /**
  * Immutable value node (for instance text-, attribute-node...).
  * 
@@ -20,4 +25,29 @@ public interface ImmutableValueNode {
    * @return the string value of the node
    */
   String getValue();
+
+  /**
+   * Determines if the value of the node equals the given value, which might be done without
+   * decoding the stored value.
+   *
+   * @param value the value to compare with
+   * @return {@code true}, if the values are equal, {@code false} otherwise
+   */
+  default boolean valueEquals(byte[] value) {
+    return Arrays.equals(getRawValue(), value);
+  }
+
+  /**
+   * Determines if the value of the node equals the given value, which has already been encoded
+   * with a symbol table. If the stored value is encoded with the same table, the encoded values are
+   * compared, such that the value isn't encoded again for each node.
+   *
+   * @param value the value to compare with
+   * @param symbolTable the symbol table, with which the value has been encoded, or {@code null}
+   * @param encodedValue the value encoded with the symbol table or {@code null}
+   * @return {@code true}, if the values are equal, {@code false} otherwise
+   */
+  default boolean valueEquals(byte[] value, @Nullable SymbolTable symbolTable, @Nullable byte[] encodedValue) {
+    return valueEquals(value);
+  }
 }
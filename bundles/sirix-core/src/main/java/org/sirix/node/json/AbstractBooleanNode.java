@@ -2,22 +2,20 @@ package org.sirix.node.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableBooleanNode;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
 
-import java.math.BigInteger;
-
 public abstract class AbstractBooleanNode extends AbstractStructForwardingNode implements ImmutableJsonNode {
 
   private StructNodeDelegate structNodeDelegate;
 
   private boolean boolValue;
 
-  private BigInteger hashCode;
+  private Hash128 hashCode;
 
   public AbstractBooleanNode(StructNodeDelegate structNodeDelegate, final boolean boolValue) {
     this.structNodeDelegate = structNodeDelegate;
@@ -25,29 +23,25 @@ public abstract class AbstractBooleanNode extends AbstractStructForwardingNode i
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(structNodeDelegate.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(structNodeDelegate.getNodeDelegate().computeHash());
     if (structNodeDelegate.isNotEmpty()) {
-      result = BigInteger.valueOf(31).multiply(result).add(structNodeDelegate.computeHash());
+      result = result.multiply(31).add(structNodeDelegate.computeHash());
     }
-    result = BigInteger.valueOf(31).multiply(result).add(BigInteger.valueOf(Boolean.hashCode(boolValue)));
+    result = result.multiply(31).add(Hash128.of(0, Boolean.hashCode(boolValue)));
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public void setHash(final Hash128 hash) {
+    hashCode = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return hashCode;
   }
 
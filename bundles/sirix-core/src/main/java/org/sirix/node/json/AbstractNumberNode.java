@@ -3,21 +3,19 @@ package org.sirix.node.json;
 import com.google.common.hash.HashCode;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableNumberNode;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
 
-import java.math.BigInteger;
-
 public abstract class AbstractNumberNode extends AbstractStructForwardingNode implements ImmutableJsonNode {
 
   private StructNodeDelegate structNodeDelegate;
   private Number number;
 
-  private BigInteger hashCode;
+  private Hash128 hashCode;
 
   public AbstractNumberNode(StructNodeDelegate structNodeDel, Number number) {
     this.structNodeDelegate = structNodeDel;
@@ -25,33 +23,29 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     final HashCode valueHashCode = structNodeDelegate.getNodeDelegate().getHashFunction().hashInt(number.hashCode());
 
-    BigInteger result = BigInteger.ONE;
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(structNodeDelegate.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(structNodeDelegate.getNodeDelegate().computeHash());
 
     if (structNodeDelegate.isNotEmpty()) {
-      result = BigInteger.valueOf(31).multiply(result).add(structNodeDelegate.computeHash());
+      result = result.multiply(31).add(structNodeDelegate.computeHash());
     }
 
-    result = BigInteger.valueOf(31).multiply(result).add(new BigInteger(1, valueHashCode.asBytes()));
+    result = result.multiply(31).add(Hash128.fromBytes(valueHashCode.asBytes()));
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public void setHash(final Hash128 hash) {
+    hashCode = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return hashCode;
   }
 
@@ -1,15 +1,16 @@
 package org.sirix.node.json;
 
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.delegates.ValueNodeDelegate;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.ValueNode;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
 import org.sirix.settings.Constants;
+import org.sirix.utils.SymbolTable;
 
-import java.math.BigInteger;
+import javax.annotation.Nullable;
 
 public abstract class AbstractStringNode extends AbstractStructForwardingNode implements ValueNode, ImmutableJsonNode {
 
@@ -17,7 +18,7 @@ public abstract class AbstractStringNode extends AbstractStructForwardingNode im
 
   private final StructNodeDelegate structNodeDelegate;
 
-  private BigInteger hashCode;
+  private Hash128 hashCode;
 
   public AbstractStringNode(ValueNodeDelegate valueNodeDelegate, StructNodeDelegate structNodeDelegate) {
     this.valueNodeDelegate = valueNodeDelegate;
@@ -25,29 +26,25 @@ public abstract class AbstractStringNode extends AbstractStructForwardingNode im
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(structNodeDelegate.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(structNodeDelegate.getNodeDelegate().computeHash());
     if (structNodeDelegate.isNotEmpty()) {
-      result = BigInteger.valueOf(31).multiply(result).add(structNodeDelegate.computeHash());
+      result = result.multiply(31).add(structNodeDelegate.computeHash());
     }
-    result = BigInteger.valueOf(31).multiply(result).add(valueNodeDelegate.computeHash());
+    result = result.multiply(31).add(valueNodeDelegate.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public void setHash(final Hash128 hash) {
+    hashCode = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return hashCode;
   }
 
@@ -61,11 +58,27 @@ public abstract class AbstractStringNode extends AbstractStructForwardingNode im
     valueNodeDelegate.setValue(value);
   }
 
+  @Override
+  public void setValue(final byte[] value, final @Nullable SymbolTable symbolTable) {
+    valueNodeDelegate.setValue(value, symbolTable);
+  }
+
   @Override
   public String getValue() {
     return new String(valueNodeDelegate.getRawValue(), Constants.DEFAULT_ENCODING);
   }
 
+  @Override
+  public boolean valueEquals(final byte[] value) {
+    return valueNodeDelegate.valueEquals(value);
+  }
+
+  @Override
+  public boolean valueEquals(final byte[] value, final @Nullable SymbolTable symbolTable,
+      final @Nullable byte[] encodedValue) {
+    return valueNodeDelegate.valueEquals(value, symbolTable, encodedValue);
+  }
+
   @Override
   public StructNodeDelegate getStructNodeDelegate() {
     return structNodeDelegate;
@@ -27,14 +27,13 @@
  */
 package org.sirix.node.json;
 
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableArrayNode;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
 import com.google.common.base.MoreObjects;
@@ -51,7 +50,7 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
   /** The path node key. */
   private final long mPathNodeKey;
 
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor
@@ -71,7 +70,7 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
    * @param structDel {@link StructNodeDelegate} to be set
    * @param pathNodeKey the path node key
    */
-  public ArrayNode(final BigInteger hashCode, final StructNodeDelegate structDel, final long pathNodeKey) {
+  public ArrayNode(final Hash128 hashCode, final StructNodeDelegate structDel, final long pathNodeKey) {
     mHash = hashCode;
     assert structDel != null;
     mStructNodeDel = structDel;
@@ -84,22 +83,22 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.getNodeDelegate().computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.computeHash());
+    result = result.multiply(31).add(mStructNodeDel.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(mStructNodeDel.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
@@ -22,9 +22,9 @@
 package org.sirix.node.json;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
@@ -49,7 +49,7 @@ public final class BooleanNode extends AbstractBooleanNode {
    * @param boolValue the boolean value
    * @param structNodeDelegate delegate for {@link StructNode} implementation
    */
-  public BooleanNode(final BigInteger hashCode, final boolean boolValue, final StructNodeDelegate structNodeDelegate) {
+  public BooleanNode(final Hash128 hashCode, final boolean boolValue, final StructNodeDelegate structNodeDelegate) {
     super(structNodeDelegate, boolValue);
     setHash(hashCode);
   }
@@ -22,11 +22,11 @@
 package org.sirix.node.json;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
@@ -53,7 +53,7 @@ public final class JsonDocumentRootNode extends AbstractStructForwardingNode imp
   private final StructNodeDelegate mStructNodeDel;
 
   /** The hash code of the node. */
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor.
@@ -72,24 +72,24 @@ public final class JsonDocumentRootNode extends AbstractStructForwardingNode imp
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.getNodeDelegate().computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.computeHash());
+    result = result.multiply(31).add(mStructNodeDel.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(mStructNodeDel.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     if (mHash == null)
-      mHash = Node.to128BitsAtMaximumBigInteger(computeHash());
+      mHash = computeHash();
     return mHash;
   }
 
@@ -27,17 +27,15 @@
  */
 package org.sirix.node.json;
 
-import java.math.BigInteger;
-
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import org.sirix.node.immutable.json.ImmutableNullNode;
-import org.sirix.node.interfaces.Node;
 
 /**
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
@@ -49,7 +47,7 @@ public final class NullNode extends AbstractNullNode {
    *
    * @param structNodeDelegate {@link StructNodeDelegate} to be set
    */
-  public NullNode(final BigInteger hashCode, final StructNodeDelegate structNodeDelegate) {
+  public NullNode(final Hash128 hashCode, final StructNodeDelegate structNodeDelegate) {
     super(structNodeDelegate);
     setHash(hashCode);
   }
@@ -64,12 +62,12 @@ public final class NullNode extends AbstractNullNode {
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(getNodeDelegate().computeHash());
+    result = result.multiply(31).add(getNodeDelegate().computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
@@ -21,9 +21,9 @@
 
 package org.sirix.node.json;
 
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
@@ -49,7 +49,7 @@ public final class NumberNode extends AbstractNumberNode {
    * @param number the number value
    * @param structNodeDelegate delegate for {@link StructNode} implementation
    */
-  public NumberNode(final BigInteger hashCode, final Number number, final StructNodeDelegate structNodeDelegate) {
+  public NumberNode(final Hash128 hashCode, final Number number, final StructNodeDelegate structNodeDelegate) {
     super(structNodeDelegate, number);
     setHash(hashCode);
   }
@@ -23,14 +23,13 @@ package org.sirix.node.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableBooleanNode;
 import org.sirix.node.immutable.json.ImmutableObjectBooleanNode;
 import org.sirix.node.interfaces.StructNode;
 
-import java.math.BigInteger;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -48,7 +47,7 @@ public final class ObjectBooleanNode extends AbstractBooleanNode {
    * @param boolValue the boolean value
    * @param structNodeDelegate delegate for {@link StructNode} implementation
    */
-  public ObjectBooleanNode(final BigInteger hashCode, final boolean boolValue, final StructNodeDelegate structNodeDelegate) {
+  public ObjectBooleanNode(final Hash128 hashCode, final boolean boolValue, final StructNodeDelegate structNodeDelegate) {
     super(structNodeDelegate, boolValue);
     setHash(hashCode);
   }
@@ -27,14 +27,13 @@
  */
 package org.sirix.node.json;
 
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableObjectNode;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
 import com.google.common.base.MoreObjects;
@@ -47,14 +46,14 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
 
   /** {@link StructNodeDelegate} reference. */
   private final StructNodeDelegate mStructNodeDel;
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor
    *
    * @param structDel {@link StructNodeDelegate} to be set
    */
-  public ObjectNode(final BigInteger hashCode, final StructNodeDelegate structDel) {
+  public ObjectNode(final Hash128 hashCode, final StructNodeDelegate structDel) {
     mHash = hashCode;
     assert structDel != null;
     mStructNodeDel = structDel;
@@ -76,24 +75,22 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.getNodeDelegate().computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.computeHash());
+    result = result.multiply(31).add(mStructNodeDel.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(mStructNodeDel.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-
-    assert mHash.toByteArray().length <= 17;
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
@@ -31,11 +31,10 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.StructNodeDelegate;
 
-import java.math.BigInteger;
-
 /**
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  */
@@ -46,7 +45,7 @@ public final class ObjectNullNode extends AbstractNullNode {
    *
    * @param structNodeDelegate {@link StructNodeDelegate} to be set
    */
-  public ObjectNullNode(final BigInteger hashCode, final StructNodeDelegate structNodeDelegate) {
+  public ObjectNullNode(final Hash128 hashCode, final StructNodeDelegate structNodeDelegate) {
     super(structNodeDelegate);
     setHash(hashCode);
   }
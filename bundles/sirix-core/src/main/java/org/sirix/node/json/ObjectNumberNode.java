@@ -23,15 +23,13 @@ package org.sirix.node.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableNumberNode;
 import org.sirix.node.immutable.json.ImmutableObjectNumberNode;
 import org.sirix.node.interfaces.StructNode;
 
-import java.math.BigInteger;
-
-
 /**
  * <p>
  * Node representing a JSON number.
@@ -46,7 +44,7 @@ public final class ObjectNumberNode extends AbstractNumberNode {
    * @param number the number value
    * @param structNodeDelegate delegate for {@link StructNode} implementation
    */
-  public ObjectNumberNode(final BigInteger hashCode, final Number number, final StructNodeDelegate structNodeDelegate) {
+  public ObjectNumberNode(final Hash128 hashCode, final Number number, final StructNodeDelegate structNodeDelegate) {
     super(structNodeDelegate, number);
     setHash(hashCode);
   }
@@ -23,6 +23,7 @@ package org.sirix.node.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.delegates.ValueNodeDelegate;
@@ -31,8 +32,6 @@ import org.sirix.node.immutable.json.ImmutableStringNode;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.interfaces.ValueNode;
 
-import java.math.BigInteger;
-
 /**
  *
  * <p>
@@ -47,7 +46,7 @@ public final class ObjectStringNode extends AbstractStringNode {
    * @param valueNodeDelegate delegate for {@link ValueNode} implementation
    * @param structNodeDelegate delegate for {@link StructNode} implementation
    */
-  public ObjectStringNode(final BigInteger hashCode, final ValueNodeDelegate valueNodeDelegate, final StructNodeDelegate structNodeDelegate) {
+  public ObjectStringNode(final Hash128 hashCode, final ValueNodeDelegate valueNodeDelegate, final StructNodeDelegate structNodeDelegate) {
     super(valueNodeDelegate, structNodeDelegate);
     setHash(hashCode);
   }
@@ -22,9 +22,9 @@
 package org.sirix.node.json;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
@@ -51,7 +51,7 @@ public final class StringNode extends AbstractStringNode {
    * @param valueNodeDelegate delegate for {@link ValueNode} implementation
    * @param structNodeDelegate delegate for {@link StructNode} implementation
    */
-  public StringNode(final BigInteger hashCode, final ValueNodeDelegate valueNodeDelegate, final StructNodeDelegate structNodeDelegate) {
+  public StringNode(final Hash128 hashCode, final ValueNodeDelegate valueNodeDelegate, final StructNodeDelegate structNodeDelegate) {
     super(valueNodeDelegate, structNodeDelegate);
     setHash(hashCode);
   }
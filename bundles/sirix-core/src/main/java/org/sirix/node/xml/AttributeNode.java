@@ -28,6 +28,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
 import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NameNodeDelegate;
@@ -43,7 +44,6 @@ import org.sirix.settings.Constants;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * <p>
@@ -64,7 +64,7 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
   /** The qualified name. */
   private final QNm mQNm;
 
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Creating an attribute.
@@ -92,7 +92,7 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
    * @param nodeDel {@link StructNodeDelegate} to be set
    * @param valDel {@link ValueNodeDelegate} to be set
    */
-  public AttributeNode(final BigInteger hashCode, final NodeDelegate nodeDel, final NameNodeDelegate nameDel,
+  public AttributeNode(final Hash128 hashCode, final NodeDelegate nodeDel, final NameNodeDelegate nameDel,
       final ValueNodeDelegate valDel, final QNm qNm) {
     mHash = hashCode;
     assert nodeDel != null : "nodeDel must not be null!";
@@ -111,27 +111,27 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     final HashCode valueHashCode = mNodeDel.getHashFunction().hashBytes(getRawValue());
 
-    final BigInteger valueBigInteger = new BigInteger(1, valueHashCode.asBytes());
+    final Hash128 valueHash = Hash128.fromBytes(valueHashCode.asBytes());
 
-    BigInteger result = BigInteger.ONE;
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mNodeDel.computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mNameDel.computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(valueBigInteger);
+    result = result.multiply(31).add(mNodeDel.computeHash());
+    result = result.multiply(31).add(mNameDel.computeHash());
+    result = result.multiply(31).add(valueHash);
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public void setHash(Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
@@ -242,6 +242,11 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
     return new String(mValDel.getRawValue(), Constants.DEFAULT_ENCODING);
   }
 
+  @Override
+  public boolean valueEquals(final byte[] value) {
+    return mValDel.valueEquals(value);
+  }
+
   @Override
   public SirixDeweyID getDeweyID() {
     return mNodeDel.getDeweyID();
@@ -5,21 +5,21 @@ import com.google.common.base.Objects;
 import com.google.common.hash.HashCode;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.delegates.ValueNodeDelegate;
 import org.sirix.node.immutable.xml.ImmutableComment;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.interfaces.ValueNode;
 import org.sirix.node.interfaces.immutable.ImmutableXmlNode;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
+import org.sirix.utils.SymbolTable;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * Comment node implementation.
@@ -38,7 +38,7 @@ public final class CommentNode extends AbstractStructForwardingNode implements V
   /** Value of the node. */
   private byte[] mValue;
 
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor for TextNode.
@@ -46,7 +46,7 @@ public final class CommentNode extends AbstractStructForwardingNode implements V
    * @param valDel delegate for {@link ValueNode} implementation
    * @param structDel delegate for {@link StructNode} implementation
    */
-  public CommentNode(final BigInteger hashCode, final ValueNodeDelegate valDel, final StructNodeDelegate structDel) {
+  public CommentNode(final Hash128 hashCode, final ValueNodeDelegate valDel, final StructNodeDelegate structDel) {
     mHash = hashCode;
     assert valDel != null;
     mValDel = valDel;
@@ -73,27 +73,27 @@ public final class CommentNode extends AbstractStructForwardingNode implements V
   }
 
   @Override
-  public BigInteger computeHash() {
+  public Hash128 computeHash() {
     final HashCode valueHashCode = mStructNodeDel.getNodeDelegate().getHashFunction().hashBytes(getRawValue());
 
-    final BigInteger valueBigInteger = new BigInteger(1, valueHashCode.asBytes());
+    final Hash128 valueHash = Hash128.fromBytes(valueHashCode.asBytes());
 
-    BigInteger result = BigInteger.ONE;
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.getNodeDelegate().computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(valueBigInteger);
+    result = result.multiply(31).add(mStructNodeDel.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(mStructNodeDel.computeHash());
+    result = result.multiply(31).add(valueHash);
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
@@ -111,6 +111,12 @@ public final class CommentNode extends AbstractStructForwardingNode implements V
     mValDel.setValue(value);
   }
 
+  @Override
+  public void setValue(final byte[] value, final @Nullable SymbolTable symbolTable) {
+    mValue = null;
+    mValDel.setValue(value, symbolTable);
+  }
+
   @Override
   public long getFirstChildKey() {
     return Fixed.NULL_NODE_KEY.getStandardProperty();
@@ -27,6 +27,7 @@ import com.google.common.collect.BiMap;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NameNodeDelegate;
@@ -41,7 +42,6 @@ import org.sirix.utils.NamePageHash;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -73,7 +73,7 @@ public final class ElementNode extends AbstractStructForwardingNode implements N
   /** The qualified name. */
   private final QNm mQNm;
 
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor
@@ -84,7 +84,7 @@ public final class ElementNode extends AbstractStructForwardingNode implements N
    * @param attributes attribute nameKey / nodeKey mapping in both directions
    * @param namespaceKeys keys of namespaces to be set
    */
-  public ElementNode(final BigInteger hashCode, final StructNodeDelegate structDel, final NameNodeDelegate nameDel, final List<Long> attributeKeys,
+  public ElementNode(final Hash128 hashCode, final StructNodeDelegate structDel, final NameNodeDelegate nameDel, final List<Long> attributeKeys,
       final BiMap<Long, Long> attributes, final List<Long> namespaceKeys, final QNm qNm) {
     mHash = hashCode;
     assert structDel != null;
@@ -284,25 +284,23 @@ public final class ElementNode extends AbstractStructForwardingNode implements N
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.getNodeDelegate().computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mNameDel.computeHash());
+    result = result.multiply(31).add(mStructNodeDel.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(mStructNodeDel.computeHash());
+    result = result.multiply(31).add(mNameDel.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-
-    assert mHash.toByteArray().length <= 17;
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
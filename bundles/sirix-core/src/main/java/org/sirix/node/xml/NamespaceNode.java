@@ -27,6 +27,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
 import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NameNodeDelegate;
@@ -38,7 +39,6 @@ import org.sirix.node.interfaces.immutable.ImmutableXmlNode;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
-import java.math.BigInteger;
 
 /**
  * <p>
@@ -56,7 +56,7 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
   /** The qualified name. */
   private final QNm mQNm;
 
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor.
@@ -82,7 +82,7 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
    * @param nameDel {@link NameNodeDelegate} reference
    * @param qNm The qualified name.
    */
-  public NamespaceNode(final BigInteger hashCode, final NodeDelegate nodeDel, final NameNodeDelegate nameDel,
+  public NamespaceNode(final Hash128 hashCode, final NodeDelegate nodeDel, final NameNodeDelegate nameDel,
       final QNm qNm) {
     assert nodeDel != null;
     assert nameDel != null;
@@ -99,22 +99,22 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mNodeDel.computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mNameDel.computeHash());
+    result = result.multiply(31).add(mNodeDel.computeHash());
+    result = result.multiply(31).add(mNameDel.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
@@ -25,6 +25,7 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NodeDelegate;
@@ -37,9 +38,10 @@ import org.sirix.node.interfaces.ValueNode;
 import org.sirix.node.interfaces.immutable.ImmutableXmlNode;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
+import org.sirix.utils.SymbolTable;
 
 import javax.annotation.Nullable;
-import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * <p>
@@ -57,7 +59,7 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
   /** Value of the node. */
   private byte[] mValue;
 
-  private BigInteger mHash;
+  private Hash128 mHash;
 
   /**
    * Constructor for TextNode.
@@ -65,7 +67,7 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
    * @param valDel delegate for {@link ValueNode} implementation
    * @param structDel delegate for {@link StructNode} implementation
    */
-  public TextNode(final BigInteger hashCode, final ValueNodeDelegate valDel, final StructNodeDelegate structDel) {
+  public TextNode(final Hash128 hashCode, final ValueNodeDelegate valDel, final StructNodeDelegate structDel) {
     mHash = hashCode;
     assert structDel != null;
     mStructNodeDel = structDel;
@@ -87,23 +89,23 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
   }
 
   @Override
-  public BigInteger computeHash() {
-    BigInteger result = BigInteger.ONE;
+  public Hash128 computeHash() {
+    Hash128 result = Hash128.ONE;
 
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.getNodeDelegate().computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mStructNodeDel.computeHash());
-    result = BigInteger.valueOf(31).multiply(result).add(mValDel.computeHash());
+    result = result.multiply(31).add(mStructNodeDel.getNodeDelegate().computeHash());
+    result = result.multiply(31).add(mStructNodeDel.computeHash());
+    result = result.multiply(31).add(mValDel.computeHash());
 
-    return Node.to128BitsAtMaximumBigInteger(result);
+    return result;
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public void setHash(final Hash128 hash) {
+    mHash = hash;
   }
 
   @Override
-  public BigInteger getHash() {
+  public Hash128 getHash() {
     return mHash;
   }
 
@@ -126,6 +128,12 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
     mValDel.setValue(value);
   }
 
+  @Override
+  public void setValue(final byte[] value, final @Nullable SymbolTable symbolTable) {
+    mValue = null;
+    mValDel.setValue(value, symbolTable);
+  }
+
   @Override
   public long getFirstChildKey() {
     return Fixed.NULL_NODE_KEY.getStandardProperty();
@@ -208,6 +216,19 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
     return new String(mValDel.getRawValue(), Constants.DEFAULT_ENCODING);
   }
 
+  @Override
+  public boolean valueEquals(final byte[] value) {
+    return mValue != null ? Arrays.equals(mValue, value) : mValDel.valueEquals(value);
+  }
+
+  @Override
+  public boolean valueEquals(final byte[] value, final @Nullable SymbolTable symbolTable,
+      final @Nullable byte[] encodedValue) {
+    return mValue != null
+        ? Arrays.equals(mValue, value)
+        : mValDel.valueEquals(value, symbolTable, encodedValue);
+  }
+
   @Override
   public SirixDeweyID getDeweyID() {
     return mStructNodeDel.getNodeDelegate().getDeweyID();
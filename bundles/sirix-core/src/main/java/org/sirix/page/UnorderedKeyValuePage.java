@@ -41,11 +41,12 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.Consumer;
 
-import static java.util.stream.Collectors.toList;
 import static org.sirix.node.Utils.getVarLong;
 import static org.sirix.node.Utils.putVarLong;
 
@@ -63,25 +64,16 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   private boolean addedReferences;
 
-  /**
-   * References to overflow pages.
-   */
-  private final Map<Long, PageReference> references;
-
   /**
    * Key of record page. This is the base key of all contained nodes.
    */
   private final long recordPageKey;
 
   /**
-   * Records (must be a {@link LinkedHashMap} to provide consistent iteration order).
-   */
-  private final LinkedHashMap<Long, DataRecord> records;
-
-  /**
-   * Slots which have to be serialized.
+   * The records, slots and references of the page, indexed by the offset of the record key in the
+   * page (shared between a page and its copies).
    */
-  private final Map<Long, byte[]> slots;
+  private final Entries entries;
 
   /**
    * Dewey IDs which have to be serialized.
@@ -115,10 +107,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   public UnorderedKeyValuePage(final PageReadOnlyTrx pageTrx, final UnorderedKeyValuePage pageToClone) {
     addedReferences = pageToClone.addedReferences;
-    references = pageToClone.references;
     recordPageKey = pageToClone.recordPageKey;
-    records = pageToClone.records;
-    slots = pageToClone.slots;
+    entries = pageToClone.entries;
     deweyIDs = pageToClone.deweyIDs;
     pageReadTrx = pageTrx;
     pageKind = pageToClone.pageKind;
@@ -144,10 +134,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     assert recordPageKey >= 0 : "recordPageKey must not be negative!";
     assert pageReadTrx != null : "The page reading trx must not be null!";
 
-    references = new LinkedHashMap<>();
     this.recordPageKey = recordPageKey;
-    records = new LinkedHashMap<>();
-    slots = new LinkedHashMap<>();
+    entries = new Entries();
     this.pageReadTrx = pageReadTrx;
     this.pageKind = pageKind;
     resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
@@ -165,7 +153,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   }
 
   /**
-   * Constructor which reads the {@link UnorderedKeyValuePage} from the storage.
+   * Constructor which reads the {@link UnorderedKeyValuePage} from the storage. If the resource is
+   * configured to deserialize records lazily, only the raw bytes of the records are kept and a record
+   * is deserialized once it is requested for the first time.
    *
    * @param in          input bytes to read page from
    * @param pageReadTrx {@link PageReadOnlyTrx} implementation
@@ -176,14 +166,14 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
     recordPersister = resourceConfig.recordPersister;
     this.pageReadTrx = pageReadTrx;
-    slots = new LinkedHashMap<>();
+    final boolean deserializeLazily = resourceConfig.lazyRecordDeserialization;
+    entries = new Entries();
 
     if (resourceConfig.areDeweyIDsStored && recordPersister instanceof NodePersistenter) {
       deweyIDs = new LinkedHashMap<>();
       final NodePersistenter persistenter = (NodePersistenter) recordPersister;
       final int deweyIDSize = in.readInt();
 
-      records = new LinkedHashMap<>(deweyIDSize);
       SirixDeweyID optionalDeweyId = null;
 
       for (int index = 0; index < deweyIDSize; index++) {
@@ -195,7 +185,6 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       }
     } else {
       deweyIDs = Collections.emptyMap();
-      records = new LinkedHashMap<>();
     }
 
     final var entriesBitmap = SerializationType.deserializeBitSet(in);
@@ -206,25 +195,27 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     for (int index = 0; index < normalEntrySize; index++) {
       setBit = entriesBitmap.nextSetBit(setBit + 1);
       assert setBit >= 0;
-      final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
+      final long key = recordKey(setBit);
       final int dataSize = in.readInt();
       final byte[] data = new byte[dataSize];
       in.readFully(data);
-      final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key,
-          null, this.pageReadTrx);
-      records.put(key, record);
+      if (deserializeLazily) {
+        entries.putSerializedRecord(setBit, data);
+      } else {
+        final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key,
+            null, this.pageReadTrx);
+        entries.putRecord(setBit, record);
+      }
     }
 
     final int overlongEntrySize = in.readInt();
-    references = new LinkedHashMap<>(overlongEntrySize);
     setBit = -1;
     for (int index = 0; index < overlongEntrySize; index++) {
       setBit = overlongEntriesBitmap.nextSetBit(setBit + 1);
       assert setBit >= 0;
-      final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
       final PageReference reference = new PageReference();
       reference.setKey(in.readLong());
-      references.put(key, reference);
+      entries.putReference(setBit, reference);
     }
     assert pageReadTrx != null : "pageReadTrx must not be null!";
     final int previousReferences = in.readByte();
@@ -248,12 +239,32 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       in.readFully(data);
       final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key,
           deweyId, pageReadTrx);
-      records.put(key, record);
+      entries.putRecord(offset(key), record);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
+  /**
+   * Get the offset of a record in this page.
+   *
+   * @param key the record key
+   * @return the offset of the record in this page
+   */
+  private static int offset(final long key) {
+    return (int) (key & (Constants.NDP_NODE_COUNT - 1));
+  }
+
+  /**
+   * Get the key of the record stored at the given offset in this page.
+   *
+   * @param offset the offset in this page
+   * @return the record key
+   */
+  private long recordKey(final int offset) {
+    return (recordPageKey << Constants.NDP_NODE_COUNT_EXPONENT) + offset;
+  }
+
   @Override
   public long getPageKey() {
     return recordPageKey;
@@ -261,14 +272,52 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public DataRecord getValue(final Long key) {
+    return getValue(key, pageReadTrx);
+  }
+
+  /**
+   * Get the record with the given key. As pages are shared between transactions, the transaction,
+   * which has read the page might already be closed. Thus, records which have not been deserialized
+   * so far, are deserialized with the given page reading transaction.
+   *
+   * @param key the record key
+   * @param currentPageReadTrx the page reading transaction of the caller
+   * @return the record or {@code null}, if the page doesn't contain the record
+   */
+  public DataRecord getValue(final Long key, final PageReadOnlyTrx currentPageReadTrx) {
     assert key != null : "key must not be null!";
-    DataRecord record = records.get(key);
+    final DataRecord record = entries.getRecord(offset(key));
     if (record == null) {
+      return loadRecord(key, currentPageReadTrx);
+    }
+    return record;
+  }
+
+  private DataRecord loadRecord(final long key, final PageReadOnlyTrx currentPageReadTrx) {
+    // The entries are shared between a page and its copies, thus they are used as the lock.
+    synchronized (entries) {
+      return loadRecordLocked(key, currentPageReadTrx);
+    }
+  }
+
+  private DataRecord loadRecordLocked(final long key, final PageReadOnlyTrx currentPageReadTrx) {
+    final int offset = offset(key);
+    DataRecord record = entries.records[offset];
+    if (record != null) {
+      return record;
+    }
+
+    final byte[] serializedRecord = entries.removeSerializedRecord(offset);
+    if (serializedRecord != null) {
+      // The record may be modified, so it has to be serialized again once the page is written.
+      addedReferences = false;
+      record = deserializeRecord(key, serializedRecord, currentPageReadTrx);
+    } else {
       byte[] data;
       try {
-        final PageReference reference = references.get(key);
+        final PageReference reference = entries.getReference(offset);
         if (reference != null && reference.getKey() != Constants.NULL_ID_LONG) {
-          data = ((OverflowPage) pageReadTrx.getReader().read(reference, pageReadTrx)).getData();
+          data = ((OverflowPage) currentPageReadTrx.getReader().read(reference, currentPageReadTrx)).getData();
         } else {
           return null;
         }
@@ -281,16 +330,47 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       } catch (final IOException e) {
         return null;
       }
-      records.put(key, record);
     }
+    entries.putRecord(offset, record);
     return record;
   }
 
+  private DataRecord deserializeRecord(final long key, final byte[] data, final PageReadOnlyTrx currentPageReadTrx) {
+    try {
+      return recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key, null,
+          currentPageReadTrx);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Deserialize all records, which have not been deserialized so far.
+   *
+   * @param currentPageReadTrx the page reading transaction of the caller
+   */
+  private void deserializeAllRecords(final PageReadOnlyTrx currentPageReadTrx) {
+    synchronized (entries) {
+      if (entries.serializedRecordCount == 0) {
+        return;
+      }
+      addedReferences = false;
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        final byte[] serializedRecord = entries.removeSerializedRecord(offset);
+        if (serializedRecord != null) {
+          entries.putRecord(offset, deserializeRecord(recordKey(offset), serializedRecord, currentPageReadTrx));
+        }
+      }
+    }
+  }
+
   @Override
   public void setEntry(final Long key, @Nonnull final DataRecord value) {
     assert value != null : "record must not be null!";
     addedReferences = false;
-    records.put(key, value);
+    final int offset = offset(key);
+    entries.removeSerializedRecord(offset);
+    entries.putRecord(offset, value);
   }
 
   @Override
@@ -323,39 +403,35 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       }
     }
 
+    // The slots are indexed by their offsets, thus they are already sorted by their keys.
     final var entriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-    final var entriesSortedByKey = slots.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-    for (final Entry<Long, byte[]> entry : entriesSortedByKey) {
-      final var pageOffset = pageReadTrx.recordPageOffset(entry.getKey());
-      entriesBitmap.set(pageOffset);
-    }
-    SerializationType.serializeBitSet(out, entriesBitmap);
-
     final var overlongEntriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-    final var overlongEntriesSortedByKey = references.entrySet()
-                                                     .stream()
-                                                     .sorted(Entry.comparingByKey())
-                                                     .collect(toList());
-    for (final Map.Entry<Long, PageReference> entry : overlongEntriesSortedByKey) {
-      final var pageOffset = pageReadTrx.recordPageOffset(entry.getKey());
-      overlongEntriesBitmap.set(pageOffset);
+    for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+      if (entries.getSlot(offset) != null) {
+        entriesBitmap.set(offset);
+      }
+      if (entries.getReference(offset) != null) {
+        overlongEntriesBitmap.set(offset);
+      }
     }
+    SerializationType.serializeBitSet(out, entriesBitmap);
     SerializationType.serializeBitSet(out, overlongEntriesBitmap);
 
     // Write normal entries.
-    out.writeInt(entriesSortedByKey.size());
-    for (final var entry : entriesSortedByKey) {
-      final byte[] data = entry.getValue();
+    out.writeInt(entries.slotCount);
+    for (int offset = entriesBitmap.nextSetBit(0); offset >= 0; offset = entriesBitmap.nextSetBit(offset + 1)) {
+      final byte[] data = entries.getSlot(offset);
       final int length = data.length;
       out.writeInt(length);
       out.write(data);
     }
 
     // Write overlong entries.
-    out.writeInt(overlongEntriesSortedByKey.size());
-    for (final var entry : overlongEntriesSortedByKey) {
+    out.writeInt(entries.referenceCount);
+    for (int offset = overlongEntriesBitmap.nextSetBit(0); offset >= 0;
+        offset = overlongEntriesBitmap.nextSetBit(offset + 1)) {
       // Write key in persistent storage.
-      out.writeLong(entry.getValue().getKey());
+      out.writeLong(entries.getReference(offset).getKey());
     }
 
     // Write previous reference if it has any reference.
@@ -379,41 +455,102 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   private void serializeDeweyRecord(SirixDeweyID id, DataOutput out) throws IOException {
     final long recordKey = deweyIDs.get(id);
     putVarLong(out, recordKey);
-    final byte[] data = slots.get(recordKey);
+    final int offset = offset(recordKey);
+    final byte[] data = entries.getSlot(offset);
     final int length = data.length;
     out.writeInt(length);
     out.write(data);
-    slots.remove(recordKey);
+    entries.removeSlot(offset);
   }
 
   @Override
   public String toString() {
+    deserializeAllRecords(pageReadTrx);
     final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this).add("pagekey", recordPageKey);
-    for (final DataRecord record : records.values()) {
-      helper.add("record", record);
+    for (final DataRecord record : entries.records) {
+      if (record != null) {
+        helper.add("record", record);
+      }
     }
-    for (final PageReference reference : references.values()) {
-      helper.add("reference", reference);
+    for (final Entry<Long, PageReference> reference : referenceEntrySet()) {
+      helper.add("reference", reference.getValue());
     }
     return helper.toString();
   }
 
   @Override
   public Set<Entry<Long, DataRecord>> entrySet() {
-    return records.entrySet();
+    return entrySet(pageReadTrx);
+  }
+
+  @Override
+  public Set<Entry<Long, DataRecord>> entrySet(final PageReadOnlyTrx currentPageReadTrx) {
+    deserializeAllRecords(currentPageReadTrx);
+    return new OffsetEntrySet<>(entries.records, entries.recordCount);
+  }
+
+  /**
+   * Add the records and references of an older version of this page, whose keys are not stored in
+   * this page, yet. Records of the older version, which have not been deserialized so far, are added
+   * without deserializing them.
+   *
+   * @param page an older version of this page
+   * @return {@code true}, if this page is full afterwards
+   */
+  @Override
+  public boolean addMissingEntries(final KeyValuePage<Long, DataRecord> page) {
+    if (!(page instanceof UnorderedKeyValuePage)) {
+      return KeyValuePage.super.addMissingEntries(page);
+    }
+
+    final Entries olderEntries = ((UnorderedKeyValuePage) page).entries;
+    // The older version may be shared with other transactions, which deserialize its records.
+    synchronized (olderEntries) {
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        if (entries.contains(offset) || olderEntries.getReference(offset) != null) {
+          // Records stored in overflow pages are added with their references.
+          continue;
+        }
+        final DataRecord record = olderEntries.records[offset];
+        final byte[] serializedRecord = olderEntries.getSerializedRecord(offset);
+        if (record != null) {
+          entries.putRecord(offset, record);
+        } else if (serializedRecord != null) {
+          entries.putSerializedRecord(offset, serializedRecord);
+        } else {
+          continue;
+        }
+        if (size() == Constants.NDP_NODE_COUNT) {
+          return true;
+        }
+      }
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        final PageReference reference = olderEntries.getReference(offset);
+        if (reference != null && entries.getReference(offset) == null) {
+          entries.putReference(offset, reference);
+          if (size() == Constants.NDP_NODE_COUNT) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(recordPageKey, records, references);
+    deserializeAllRecords(pageReadTrx);
+    return Objects.hashCode(recordPageKey, Arrays.hashCode(entries.records), Arrays.hashCode(entries.references));
   }
 
   @Override
   public boolean equals(final @Nullable Object obj) {
     if (obj instanceof UnorderedKeyValuePage) {
       final UnorderedKeyValuePage other = (UnorderedKeyValuePage) obj;
-      return recordPageKey == other.recordPageKey && Objects.equal(records, other.records) && Objects.equal(references,
-          other.references);
+      deserializeAllRecords(pageReadTrx);
+      other.deserializeAllRecords(other.pageReadTrx);
+      return recordPageKey == other.recordPageKey && Arrays.equals(entries.records, other.entries.records)
+          && Arrays.equals(entries.references, other.entries.references);
     }
     return false;
   }
@@ -426,6 +563,19 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   @Override
   public <K extends Comparable<? super K>, V extends DataRecord, S extends KeyValuePage<K, V>> void commit(
       @Nonnull PageTrx<K, V, S> pageWriteTrx) {
+    serializeRecords();
+
+    for (final Entry<Long, PageReference> entry : referenceEntrySet()) {
+      final PageReference reference = entry.getValue();
+      if (!(reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
+          && reference.getLogKey() == Constants.NULL_ID_LONG)) {
+        pageWriteTrx.commit(reference);
+      }
+    }
+  }
+
+  @Override
+  public boolean serializeRecords() {
     if (!addedReferences) {
       try {
         addReferences();
@@ -433,24 +583,18 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         throw new SirixIOException(e);
       }
     }
-
-    for (final PageReference reference : references.values()) {
-      if (!(reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
-          && reference.getLogKey() == Constants.NULL_ID_LONG)) {
-        pageWriteTrx.commit(reference);
-      }
-    }
+    return entries.referenceCount > 0;
   }
 
   // Add references to OverflowPages.
   private void addReferences() throws IOException {
     final var storeDeweyIDs = pageReadTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
 
-    final var entries = sort();
-    for (final var entry : entries) {
-      final var record = entry.getValue();
+    final var records = sort();
+    for (final var record : records) {
       final var recordID = record.getNodeKey();
-      if (slots.get(recordID) == null) {
+      final int offset = offset(recordID);
+      if (entries.getSlot(offset) == null) {
         // Must be either a normal record or one which requires an
         // Overflow page.
         final var output = new ByteArrayOutputStream();
@@ -460,13 +604,23 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         if (data.length > PageConstants.MAX_RECORD_SIZE) {
           final var reference = new PageReference();
           reference.setPage(new OverflowPage(data));
-          references.put(recordID, reference);
+          entries.putReference(offset, reference);
         } else {
           if (storeDeweyIDs && recordPersister instanceof NodePersistenter && record.getDeweyID() != null
               && record.getNodeKey() != 0) {
             deweyIDs.put(record.getDeweyID(), record.getNodeKey());
           }
-          slots.put(recordID, data);
+          entries.putSlot(offset, data);
+        }
+      }
+    }
+
+    // Records, which have never been deserialized, are written as is.
+    if (entries.serializedRecordCount > 0) {
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        final byte[] serializedRecord = entries.getSerializedRecord(offset);
+        if (serializedRecord != null && entries.getSlot(offset) == null) {
+          entries.putSlot(offset, serializedRecord);
         }
       }
     }
@@ -474,15 +628,20 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     addedReferences = true;
   }
 
-  private List<Entry<Long, DataRecord>> sort() {
+  private List<DataRecord> sort() {
     // Sort entries which have deweyIDs according to their byte-length.
-    final List<Map.Entry<Long, DataRecord>> entries = new ArrayList<>(records.entrySet());
+    final List<DataRecord> records = new ArrayList<>(entries.recordCount);
+    for (final DataRecord record : entries.records) {
+      if (record != null) {
+        records.add(record);
+      }
+    }
     final boolean storeDeweyIDs = pageReadTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
     if (storeDeweyIDs && recordPersister instanceof NodePersistenter) {
-      entries.sort((a, b) -> {
-        if (a.getValue() instanceof ImmutableNode && b.getValue() instanceof ImmutableNode) {
-          final SirixDeweyID first = a.getValue().getDeweyID();
-          final SirixDeweyID second = b.getValue().getDeweyID();
+      records.sort((a, b) -> {
+        if (a instanceof ImmutableNode && b instanceof ImmutableNode) {
+          final SirixDeweyID first = a.getDeweyID();
+          final SirixDeweyID second = b.getDeweyID();
 
           // Document node has no DeweyID.
           if (first == null && second != null)
@@ -501,12 +660,19 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       });
     }
 
-    return entries;
+    return records;
   }
 
   @Override
   public Collection<DataRecord> values() {
-    return records.values();
+    deserializeAllRecords(pageReadTrx);
+    final List<DataRecord> values = new ArrayList<>(entries.recordCount);
+    for (final DataRecord record : entries.records) {
+      if (record != null) {
+        values.add(record);
+      }
+    }
+    return values;
   }
 
   @Override
@@ -538,24 +704,38 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public int size() {
-    return records.size() + references.size();
+    return entries.recordCount + entries.serializedRecordCount + entries.referenceCount;
+  }
+
+  /**
+   * Get the number of records, which have been deserialized so far. Records read lazily are kept
+   * serialized until they are requested for the first time, thus the number grows while the page
+   * is read.
+   *
+   * @return the number of deserialized records
+   */
+  public int getDeserializedRecordCount() {
+    return entries.recordCount;
   }
 
   @Override
   public void setPageReference(final Long key, @Nonnull final PageReference reference) {
     assert key != null;
-    references.put(key, reference);
+    entries.putReference(offset(key), reference);
   }
 
   @Override
   public Set<Entry<Long, PageReference>> referenceEntrySet() {
-    return references.entrySet();
+    if (entries.references == null) {
+      return Collections.emptySet();
+    }
+    return new OffsetEntrySet<>(entries.references, entries.referenceCount);
   }
 
   @Override
   public PageReference getPageReference(final Long key) {
     assert key != null;
-    return references.get(key);
+    return entries.getReference(offset(key));
   }
 
   @Override
@@ -568,4 +748,173 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     return revision;
   }
 
-}
\ No newline at end of file
+  /**
+   * The records, serialized slots and overflow references of a page. Each kind is stored in an array
+   * of size {@link Constants#NDP_NODE_COUNT}, which is indexed by the offset of the record key in the
+   * page, to avoid boxing the keys and hashing on each lookup. Only the records are allocated upfront,
+   * the other arrays are allocated once their first entry is added.
+   */
+  private static final class Entries {
+    /**
+     * Publishes the records, such that records deserialized lazily by one thread are safely read by
+     * other threads without locking.
+     */
+    private static final VarHandle RECORDS = MethodHandles.arrayElementVarHandle(DataRecord[].class);
+
+    /**
+     * Deserialized records.
+     */
+    private final DataRecord[] records = new DataRecord[Constants.NDP_NODE_COUNT];
+
+    /**
+     * Slots which have to be serialized ({@code null} if there are none).
+     */
+    private byte[][] slots;
+
+    /**
+     * Serialized records, which have been read from the storage but have not been deserialized so far
+     * ({@code null} if there are none).
+     */
+    private byte[][] serializedRecords;
+
+    /**
+     * References to overflow pages ({@code null} if there are none).
+     */
+    private PageReference[] references;
+
+    private int recordCount;
+
+    private int slotCount;
+
+    private int serializedRecordCount;
+
+    private int referenceCount;
+
+    private DataRecord getRecord(final int offset) {
+      return (DataRecord) RECORDS.getAcquire(records, offset);
+    }
+
+    private void putRecord(final int offset, final DataRecord record) {
+      if (records[offset] == null) {
+        recordCount++;
+      }
+      RECORDS.setRelease(records, offset, record);
+    }
+
+    private boolean contains(final int offset) {
+      return records[offset] != null || getSerializedRecord(offset) != null || getReference(offset) != null;
+    }
+
+    private byte[] getSlot(final int offset) {
+      return slots == null ? null : slots[offset];
+    }
+
+    private void putSlot(final int offset, final byte[] data) {
+      if (slots == null) {
+        slots = new byte[Constants.NDP_NODE_COUNT][];
+      }
+      if (slots[offset] == null) {
+        slotCount++;
+      }
+      slots[offset] = data;
+    }
+
+    private void removeSlot(final int offset) {
+      if (getSlot(offset) != null) {
+        slotCount--;
+        slots[offset] = null;
+      }
+    }
+
+    private byte[] getSerializedRecord(final int offset) {
+      return serializedRecords == null ? null : serializedRecords[offset];
+    }
+
+    private void putSerializedRecord(final int offset, final byte[] data) {
+      if (serializedRecords == null) {
+        serializedRecords = new byte[Constants.NDP_NODE_COUNT][];
+      }
+      if (serializedRecords[offset] == null) {
+        serializedRecordCount++;
+      }
+      serializedRecords[offset] = data;
+    }
+
+    private byte[] removeSerializedRecord(final int offset) {
+      if (serializedRecords == null) {
+        return null;
+      }
+      final byte[] data = serializedRecords[offset];
+      if (data != null) {
+        serializedRecordCount--;
+        serializedRecords[offset] = null;
+      }
+      return data;
+    }
+
+    private PageReference getReference(final int offset) {
+      return references == null ? null : references[offset];
+    }
+
+    private void putReference(final int offset, final PageReference reference) {
+      if (references == null) {
+        references = new PageReference[Constants.NDP_NODE_COUNT];
+      }
+      if (references[offset] == null) {
+        referenceCount++;
+      }
+      references[offset] = reference;
+    }
+  }
+
+  /**
+   * A read-only view of the non-null values of an offset-indexed array as map entries, whose keys are
+   * the record keys. The entries are iterated in ascending key order.
+   *
+   * @param <V> the value type
+   */
+  private final class OffsetEntrySet<V> extends AbstractSet<Entry<Long, V>> {
+    private final V[] values;
+
+    private final int size;
+
+    private OffsetEntrySet(final V[] values, final int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    @Override
+    public Iterator<Entry<Long, V>> iterator() {
+      return new Iterator<>() {
+        private int offset = nextOffset(0);
+
+        private int nextOffset(int from) {
+          while (from < values.length && values[from] == null) {
+            from++;
+          }
+          return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+          return offset < values.length;
+        }
+
+        @Override
+        public Entry<Long, V> next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          final Entry<Long, V> entry = new AbstractMap.SimpleImmutableEntry<>(recordKey(offset), values[offset]);
+          offset = nextOffset(offset + 1);
+          return entry;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
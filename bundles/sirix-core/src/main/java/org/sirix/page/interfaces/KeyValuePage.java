@@ -10,6 +10,7 @@ import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.PageKind;
 import org.sirix.page.PageReference;
+import org.sirix.settings.Constants;
 
 /**
  * Key/Value page.
@@ -26,6 +27,45 @@ public interface KeyValuePage<K extends Comparable<? super K>, V extends DataRec
    */
   Set<Entry<K, V>> entrySet();
 
+  /**
+   * Entry set of all nodes in the page. As pages are shared between transactions, records which have
+   * not been deserialized so far are deserialized with the given page reading transaction.
+   *
+   * @param pageReadTrx the page reading transaction of the caller
+   * @return an entry set
+   */
+  default Set<Entry<K, V>> entrySet(PageReadOnlyTrx pageReadTrx) {
+    return entrySet();
+  }
+
+  /**
+   * Add the records and references of an older version of this page, whose keys are not stored in
+   * this page, yet, to reconstruct a page from its fragments.
+   *
+   * @param page an older version of this page
+   * @return {@code true}, if this page is full afterwards, such that no older versions have to be
+   *         added
+   */
+  default boolean addMissingEntries(KeyValuePage<K, V> page) {
+    for (final Entry<K, V> entry : page.entrySet()) {
+      if (getValue(entry.getKey()) == null) {
+        setEntry(entry.getKey(), entry.getValue());
+        if (size() == Constants.NDP_NODE_COUNT) {
+          return true;
+        }
+      }
+    }
+    for (final Entry<K, PageReference> entry : page.referenceEntrySet()) {
+      if (getPageReference(entry.getKey()) == null) {
+        setPageReference(entry.getKey(), entry.getValue());
+        if (size() == Constants.NDP_NODE_COUNT) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   /**
    * All available records.
    *
@@ -59,6 +99,15 @@ public interface KeyValuePage<K extends Comparable<? super K>, V extends DataRec
 
   Set<Entry<K, PageReference>> referenceEntrySet();
 
+  /**
+   * Serialize the records of the page, before the page is committed and serialized itself. Might be
+   * called concurrently for different pages, but not concurrently to other methods of the same page.
+   *
+   * @return {@code true}, if the page references overflow pages, which have to be committed before the
+   *         page is serialized, {@code false} otherwise
+   */
+  boolean serializeRecords();
+
   /**
    * Store or overwrite a single reference associated with a key for overlong entries. That is
    * entries which are larger than a predefined threshold are written to OverflowPages and thus are
@@ -7,6 +7,8 @@ import org.sirix.api.json.JsonResourceManager;
 import org.sirix.diff.*;
 
 import javax.annotation.Nonnull;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,6 +54,24 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
   @Override
   public String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
       long startNodeKey, long maxDepth) {
+    final var out = new StringWriter();
+    generateDiff(resourceManager, oldRevisionNumber, newRevisionNumber, startNodeKey, maxDepth, out);
+    return out.toString();
+  }
+
+  /**
+   * Diff two revisions and write the differences to a writer, diff by diff.
+   *
+   * @param resourceManager   the resource manager to use
+   * @param oldRevisionNumber the revision number of the older revision
+   * @param newRevisionNumber the revision number of the newer revision
+   * @param startNodeKey      the start node key
+   * @param maxDepth          the maximum depth
+   * @param out               the writer to write the JSON-String describing the differences to
+   */
+  @Override
+  public void generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
+      long startNodeKey, long maxDepth, Writer out) {
     diffs.clear();
 
     DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
@@ -62,7 +82,7 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
                                                                       .oldStartKey(startNodeKey)
                                                                       .oldMaxDepth(maxDepth));
 
-    return new JsonDiffSerializer(resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true);
+    new JsonDiffSerializer(resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true, out);
   }
 
   @Override
@@ -66,7 +66,7 @@ public enum VersioningType {
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getPageKind(), List.of(), pageReadTrx));
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getPageKind(), List.of(), pageReadTrx));
 
-      for (final Map.Entry<K, V> entry : pages.get(0).entrySet()) {
+      for (final Map.Entry<K, V> entry : pages.get(0).entrySet(pageReadTrx)) {
         returnVal.get(0).setEntry(entry.getKey(), entry.getValue());
         returnVal.get(1).setEntry(entry.getKey(), entry.getValue());
       }
@@ -100,31 +100,12 @@ public enum VersioningType {
       assert latest.getPageKey() == recordPageKey;
       assert fullDump.getPageKey() == recordPageKey;
 
-      for (final Map.Entry<K, V> entry : latest.entrySet()) {
-        returnVal.setEntry(entry.getKey(), entry.getValue());
-      }
-      for (final Map.Entry<K, PageReference> entry : latest.referenceEntrySet()) {
-        returnVal.setPageReference(entry.getKey(), entry.getValue());
-      }
+      // Records, which have not been deserialized so far, are merged as is.
+      returnVal.addMissingEntries(latest);
 
       // Skip full dump if not needed (fulldump equals latest page).
       if (pages.size() == 2) {
-        for (final Entry<K, V> entry : fullDump.entrySet()) {
-          if (returnVal.getValue(entry.getKey()) == null) {
-            returnVal.setEntry(entry.getKey(), entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              break;
-            }
-          }
-        }
-        for (final Entry<K, PageReference> entry : fullDump.referenceEntrySet()) {
-          if (returnVal.getPageReference(entry.getKey()) == null) {
-            returnVal.setPageReference(entry.getKey(), entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              break;
-            }
-          }
-        }
+        returnVal.addMissingEntries(fullDump);
       }
       return returnVal;
     }
@@ -148,7 +129,7 @@ public enum VersioningType {
       final boolean isFullDump = revision % revToRestore == 0;
 
       // Iterate through all nodes of the latest revision.
-      for (final Map.Entry<K, V> entry : latest.entrySet()) {
+      for (final Map.Entry<K, V> entry : latest.entrySet(pageReadTrx)) {
         returnVal.get(0).setEntry(entry.getKey(), entry.getValue());
         returnVal.get(1).setEntry(entry.getKey(), entry.getValue());
       }
@@ -161,7 +142,7 @@ public enum VersioningType {
       // If not all entries are filled.
       if (latest.size() != Constants.NDP_NODE_COUNT) {
         // Iterate through the full dump.
-        for (final Map.Entry<K, V> entry : fullDump.entrySet()) {
+        for (final Map.Entry<K, V> entry : fullDump.entrySet(pageReadTrx)) {
           if (returnVal.get(0).getValue(entry.getKey()) == null) {
             returnVal.get(0).setEntry(entry.getKey(), entry.getValue());
           }
@@ -230,28 +211,8 @@ public enum VersioningType {
         if (filledPage) {
           break;
         }
-        for (final Entry<K, V> entry : page.entrySet()) {
-          final K recordKey = entry.getKey();
-          if (returnVal.getValue(recordKey) == null) {
-            returnVal.setEntry(recordKey, entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              filledPage = true;
-              break;
-            }
-          }
-        }
-        if (!filledPage) {
-          for (final Entry<K, PageReference> entry : page.referenceEntrySet()) {
-            final K recordKey = entry.getKey();
-            if (returnVal.getPageReference(recordKey) == null) {
-              returnVal.setPageReference(recordKey, entry.getValue());
-              if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-                filledPage = true;
-                break;
-              }
-            }
-          }
-        }
+        // Records, which have not been deserialized so far, are merged as is.
+        filledPage = returnVal.addMissingEntries(page);
       }
 
       return returnVal;
@@ -283,7 +244,7 @@ public enum VersioningType {
           break;
         }
 
-        for (final Entry<K, V> entry : page.entrySet()) {
+        for (final Entry<K, V> entry : page.entrySet(pageReadTrx)) {
           // Caching the complete page.
           final K key = entry.getKey();
           assert key != null;
@@ -365,28 +326,8 @@ public enum VersioningType {
         if (filledPage) {
           break;
         }
-        for (final Entry<K, V> entry : page.entrySet()) {
-          final K recordKey = entry.getKey();
-          if (returnVal.getValue(recordKey) == null) {
-            returnVal.setEntry(recordKey, entry.getValue());
-            if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-              filledPage = true;
-              break;
-            }
-          }
-        }
-        if (!filledPage) {
-          for (final Entry<K, PageReference> entry : page.referenceEntrySet()) {
-            final K recordKey = entry.getKey();
-            if (returnVal.getPageReference(recordKey) == null) {
-              returnVal.setPageReference(recordKey, entry.getValue());
-              if (returnVal.size() == Constants.NDP_NODE_COUNT) {
-                filledPage = true;
-                break;
-              }
-            }
-          }
-        }
+        // Records, which have not been deserialized so far, are merged as is.
+        filledPage = returnVal.addMissingEntries(page);
       }
 
       return returnVal;
@@ -420,7 +361,7 @@ public enum VersioningType {
 
         final boolean pageToSerialize = (i == pages.size() - 1 && revToRestore == pages.size());
 
-        for (final Entry<K, V> entry : page.entrySet()) {
+        for (final Entry<K, V> entry : page.entrySet(pageReadTrx)) {
           // Caching the complete page.
           final K key = entry.getKey();
           assert key != null;
@@ -3,8 +3,10 @@ package org.sirix.utils;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 
 /**
@@ -38,4 +40,39 @@ public final class SirixFiles {
       throw new UncheckedIOException(e);
     }
   }
+
+  /**
+   * Force the content and the metadata of a file to the storage device.
+   *
+   * @param file {@link Path} to the file
+   * @throws UncheckedIOException if any I/O operation fails
+   * @throws NullPointerException if any of the arguments are {@code null}
+   */
+  public static void sync(final Path file) {
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Force the entries of a directory to the storage device, such that files created in or deleted from
+   * the directory survive a crash. Directories can't be opened on Windows, where the entries are made
+   * durable by the file system itself, thus nothing is done there.
+   *
+   * @param directory {@link Path} to the directory
+   * @throws UncheckedIOException if any I/O operation fails
+   * @throws NullPointerException if any of the arguments are {@code null}
+   */
+  public static void syncDirectory(final Path directory) {
+    if (System.getProperty("os.name").startsWith("Windows")) {
+      return;
+    }
+    try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -0,0 +1,230 @@
+package org.sirix.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A symbol table to compress short strings, similar to FSST (Fast Static Symbol Table): up to 255
+ * frequent byte sequences of up to 8 bytes are replaced by one-byte codes, all other bytes are
+ * escaped. Other than {@link Compression}, each string is decoded by table lookups only, and as
+ * the encoding is deterministic, encoded strings are equal if and only if the strings are equal.
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class SymbolTable {
+
+  /** The maximum length of a symbol. */
+  public static final int MAX_SYMBOL_LENGTH = 8;
+
+  /** The maximum number of symbols. */
+  public static final int MAX_SYMBOLS = 255;
+
+  /** The code, which is followed by an escaped byte. */
+  private static final int ESCAPE = 255;
+
+  /** The number of training rounds, in which longer symbols are built from shorter ones. */
+  private static final int TRAINING_ROUNDS = 5;
+
+  /** The symbols by code. */
+  private final byte[][] symbols;
+
+  /** The codes of the symbols by their first byte, longer symbols first. */
+  private final int[][] codesByFirstByte;
+
+  private SymbolTable(final byte[][] symbols) {
+    this.symbols = symbols;
+
+    final List<List<Integer>> codes = new ArrayList<>(256);
+    for (int i = 0; i < 256; i++) {
+      codes.add(new ArrayList<>());
+    }
+    for (int code = 0; code < symbols.length; code++) {
+      codes.get(symbols[code][0] & 0xFF).add(code);
+    }
+    codesByFirstByte = new int[256][];
+    for (int i = 0; i < 256; i++) {
+      codesByFirstByte[i] = codes.get(i)
+                                 .stream()
+                                 .sorted(Comparator.comparingInt(code -> -symbols[code].length))
+                                 .mapToInt(Integer::intValue)
+                                 .toArray();
+    }
+  }
+
+  /**
+   * Train a symbol table from sample strings.
+   *
+   * @param samples the sample strings
+   * @return the symbol table
+   */
+  public static SymbolTable train(final List<byte[]> samples) {
+    checkNotNull(samples);
+
+    SymbolTable table = new SymbolTable(new byte[0][]);
+    for (int round = 0; round < TRAINING_ROUNDS; round++) {
+      table = table.improve(samples);
+    }
+    return table;
+  }
+
+  /**
+   * Encode the samples with this table and count the symbols as well as the concatenations of
+   * adjacent symbols. The symbols with the highest gain form the next table.
+   */
+  private SymbolTable improve(final List<byte[]> samples) {
+    // The bytes of the candidates are mapped one-to-one to the characters of the keys.
+    final Map<String, Integer> frequencies = new HashMap<>();
+
+    for (final byte[] sample : samples) {
+      int previousOffset = -1;
+      int previousLength = 0;
+      for (int offset = 0; offset < sample.length; ) {
+        final int code = findCode(sample, offset);
+        final int length = code == ESCAPE ? 1 : symbols[code].length;
+
+        frequencies.merge(new String(sample, offset, length, StandardCharsets.ISO_8859_1), 1, Integer::sum);
+        if (previousOffset >= 0 && previousLength + length <= MAX_SYMBOL_LENGTH) {
+          frequencies.merge(new String(sample, previousOffset, previousLength + length, StandardCharsets.ISO_8859_1),
+              1, Integer::sum);
+        }
+
+        previousOffset = offset;
+        previousLength = length;
+        offset += length;
+      }
+    }
+
+    final byte[][] bestSymbols = frequencies.entrySet()
+                                            .stream()
+                                            .filter(entry -> entry.getValue() > 1)
+                                            .sorted(Comparator.<Map.Entry<String, Integer>>comparingLong(
+                                                entry -> (long) entry.getValue() * entry.getKey().length())
+                                                .reversed()
+                                                .thenComparing(Map.Entry::getKey))
+                                            .limit(MAX_SYMBOLS)
+                                            .map(entry -> entry.getKey().getBytes(StandardCharsets.ISO_8859_1))
+                                            .toArray(byte[][]::new);
+    return new SymbolTable(bestSymbols);
+  }
+
+  /**
+   * Find the code of the longest symbol at an offset.
+   *
+   * @return the code or {@link #ESCAPE}, if no symbol matches
+   */
+  private int findCode(final byte[] value, final int offset) {
+    for (final int code : codesByFirstByte[value[offset] & 0xFF]) {
+      final byte[] symbol = symbols[code];
+      if (symbol.length <= value.length - offset
+          && Arrays.equals(symbol, 0, symbol.length, value, offset, offset + symbol.length)) {
+        return code;
+      }
+    }
+    return ESCAPE;
+  }
+
+  /**
+   * Encode a string.
+   *
+   * @param value the string
+   * @return the encoded string
+   */
+  public byte[] encode(final byte[] value) {
+    final ByteArrayOutputStream encoded = new ByteArrayOutputStream(value.length);
+    for (int offset = 0; offset < value.length; ) {
+      final int code = findCode(value, offset);
+      encoded.write(code);
+      if (code == ESCAPE) {
+        encoded.write(value[offset]);
+        offset++;
+      } else {
+        offset += symbols[code].length;
+      }
+    }
+    return encoded.toByteArray();
+  }
+
+  /**
+   * Decode a string.
+   *
+   * @param encoded the encoded string
+   * @return the string
+   * @throws IllegalStateException if the encoded string is malformed
+   */
+  public byte[] decode(final byte[] encoded) {
+    byte[] value = new byte[encoded.length * 2];
+    int length = 0;
+    for (int offset = 0; offset < encoded.length; offset++) {
+      if (value.length - length < MAX_SYMBOL_LENGTH) {
+        value = Arrays.copyOf(value, value.length * 2 + MAX_SYMBOL_LENGTH);
+      }
+      final int code = encoded[offset] & 0xFF;
+      if (code == ESCAPE) {
+        if (++offset == encoded.length) {
+          throw new IllegalStateException("Malformed encoded string!");
+        }
+        value[length++] = encoded[offset];
+      } else if (code < symbols.length) {
+        final byte[] symbol = symbols[code];
+        System.arraycopy(symbol, 0, value, length, symbol.length);
+        length += symbol.length;
+      } else {
+        throw new IllegalStateException("Unknown symbol code " + code + "!");
+      }
+    }
+    return Arrays.copyOf(value, length);
+  }
+
+  /**
+   * Get the number of symbols.
+   *
+   * @return the number of symbols
+   */
+  public int size() {
+    return symbols.length;
+  }
+
+  /**
+   * Serialize the symbol table.
+   *
+   * @param sink the output to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void serialize(final DataOutput sink) throws IOException {
+    sink.writeByte(symbols.length);
+    for (final byte[] symbol : symbols) {
+      sink.writeByte(symbol.length);
+      sink.write(symbol);
+    }
+  }
+
+  /**
+   * Deserialize a symbol table.
+   *
+   * @param source the input to read from
+   * @return the symbol table
+   * @throws IOException if an I/O error occurs
+   */
+  public static SymbolTable deserialize(final DataInput source) throws IOException {
+    final byte[][] symbols = new byte[source.readUnsignedByte()][];
+    for (int code = 0; code < symbols.length; code++) {
+      final int length = source.readUnsignedByte();
+      checkArgument(length > 0 && length <= MAX_SYMBOL_LENGTH, "Invalid symbol length: %s", length);
+      symbols[code] = new byte[length];
+      source.readFully(symbols[code]);
+    }
+    return new SymbolTable(symbols);
+  }
+}
@@ -0,0 +1,30 @@
+package org.sirix.access;
+
+import org.junit.Test;
+import org.sirix.io.Writer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class DurabilityModeTest {
+
+  @Test
+  public void testSyncForcesWriter() {
+    final Writer writer = mock(Writer.class);
+
+    DurabilityMode.SYNC.force(writer);
+
+    verify(writer, times(1)).force();
+  }
+
+  @Test
+  public void testNoSyncDoesNotForceWriter() {
+    final Writer writer = mock(Writer.class);
+
+    DurabilityMode.NO_SYNC.force(writer);
+
+    verify(writer, never()).force();
+  }
+}
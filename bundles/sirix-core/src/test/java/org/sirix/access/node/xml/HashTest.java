@@ -23,7 +23,6 @@ package org.sirix.access.node.xml;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import java.math.BigInteger;
 import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
 import org.junit.Before;
@@ -32,15 +31,21 @@ import org.junit.Test;
 import org.sirix.XmlTestHelper;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.api.Movement;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
 import org.sirix.exception.SirixException;
+import org.sirix.node.Hash128;
 
 public class HashTest {
 
   private final static String NAME1 = "a";
   private final static String NAME2 = "b";
 
+  private final static String DEFERRED_RESOURCE = "deferred";
+
   @Before
   public void setUp() throws SirixException {
     XmlTestHelper.deleteEverything();
@@ -82,6 +87,126 @@ public class HashTest {
     testSetter(wtx);
   }
 
+  @Test
+  public void testRollingDeferred() throws SirixException {
+    final XmlNodeTrx wtx = createWtx(HashType.ROLLING);
+    wtx.setDeferredHashing(true);
+
+    wtx.insertElementAsFirstChild(new QNm(NAME1));
+    final long rootKey = wtx.getNodeKey();
+    wtx.insertElementAsFirstChild(new QNm(NAME1));
+    wtx.insertElementAsFirstChild(new QNm(NAME1));
+    final long leafKey = wtx.getNodeKey();
+    wtx.insertElementAsRightSibling(new QNm(NAME1));
+    final long siblingKey = wtx.getNodeKey();
+    wtx.adaptDeferredHashes();
+
+    wtx.moveTo(rootKey);
+    assertEquals(3, wtx.getDescendantCount());
+    final Hash128 hashRoot1 = wtx.getHash();
+    assertFalse(hashRoot1.isZero());
+
+    // Ancestors are only adapted on demand.
+    wtx.moveTo(leafKey);
+    wtx.setName(new QNm(NAME2));
+    wtx.moveTo(rootKey);
+    assertEquals(hashRoot1, wtx.getHash());
+    wtx.adaptDeferredHashes();
+    final Hash128 hashRoot2 = wtx.getHash();
+    assertFalse(hashRoot1.equals(hashRoot2));
+
+    // Reverting the change results in the former hash.
+    wtx.moveTo(leafKey);
+    wtx.setName(new QNm(NAME1));
+    wtx.adaptDeferredHashes();
+    wtx.moveTo(rootKey);
+    assertEquals(hashRoot1, wtx.getHash());
+
+    // Descendant counts are adapted, too.
+    wtx.moveTo(siblingKey);
+    wtx.remove();
+    wtx.adaptDeferredHashes();
+    wtx.moveTo(rootKey);
+    assertEquals(2, wtx.getDescendantCount());
+    assertFalse(hashRoot1.equals(wtx.getHash()));
+
+    // Hashes are computed during a commit.
+    final Hash128 hashRoot3 = wtx.getHash();
+    wtx.moveTo(leafKey);
+    wtx.insertElementAsRightSibling(new QNm(NAME2));
+    wtx.commit();
+    wtx.moveTo(rootKey);
+    assertEquals(3, wtx.getDescendantCount());
+    assertFalse(hashRoot3.equals(wtx.getHash()));
+  }
+
+  @Test
+  public void testRollingDeferredEqualsImmediate() throws SirixException {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(new ResourceConfiguration.Builder(DEFERRED_RESOURCE).build());
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final XmlNodeTrx wtx = manager.beginNodeTrx();
+        final XmlResourceManager deferredManager = database.openResourceManager(DEFERRED_RESOURCE);
+        final XmlNodeTrx deferredWtx = deferredManager.beginNodeTrx()) {
+      deferredWtx.setDeferredHashing(true);
+
+      modify(wtx);
+      modify(deferredWtx);
+      deferredWtx.adaptDeferredHashes();
+
+      wtx.moveToDocumentRoot();
+      deferredWtx.moveToDocumentRoot();
+      final var axis = new DescendantAxis(wtx, IncludeSelf.YES);
+      final var deferredAxis = new DescendantAxis(deferredWtx, IncludeSelf.YES);
+      while (axis.hasNext()) {
+        assertEquals(axis.next(), deferredAxis.next());
+        assertEquals(wtx.getHash(), deferredWtx.getHash());
+        assertEquals(wtx.getDescendantCount(), deferredWtx.getDescendantCount());
+      }
+      assertFalse(deferredAxis.hasNext());
+    }
+  }
+
+  /**
+   * Inserts, updates, moves and removes nodes, among them nodes with pending changes if hashing is
+   * deferred.
+   */
+  private static void modify(final XmlNodeTrx wtx) {
+    wtx.insertElementAsFirstChild(new QNm(NAME1));
+    wtx.insertElementAsFirstChild(new QNm(NAME1));
+    final long childKey = wtx.getNodeKey();
+    wtx.insertAttribute(new QNm(NAME2), NAME1, Movement.TOPARENT);
+    wtx.insertElementAsFirstChild(new QNm(NAME2));
+    final long grandChildKey = wtx.getNodeKey();
+    wtx.insertTextAsFirstChild(NAME1);
+    final long textKey = wtx.getNodeKey();
+    wtx.moveTo(childKey);
+    wtx.insertElementAsRightSibling(new QNm(NAME2));
+    final long siblingKey = wtx.getNodeKey();
+    wtx.insertElementAsFirstChild(new QNm(NAME1));
+    wtx.adaptDeferredHashes();
+
+    wtx.moveTo(textKey);
+    wtx.setValue(NAME2);
+    wtx.moveTo(childKey);
+    wtx.setName(new QNm(NAME2));
+    wtx.moveToAttribute(0);
+    wtx.setValue(NAME2);
+    wtx.moveTo(grandChildKey);
+    wtx.insertElementAsRightSibling(new QNm(NAME1));
+    wtx.insertElementAsFirstChild(new QNm(NAME2));
+
+    wtx.moveTo(siblingKey);
+    wtx.moveSubtreeToFirstChild(childKey);
+    wtx.moveTo(textKey);
+    wtx.setValue(NAME1);
+    wtx.moveTo(grandChildKey);
+    wtx.remove();
+    wtx.moveTo(siblingKey);
+    wtx.insertElementAsRightSibling(new QNm(NAME1));
+  }
+
   /**
    * Inserting nodes and removing them.
    *
@@ -105,20 +230,20 @@ public class HashTest {
     // inserting a element as root
     wtx.insertElementAsFirstChild(new QNm(NAME1));
     final long rootKey = wtx.getNodeKey();
-    final BigInteger firstRootHash = wtx.getHash();
+    final Hash128 firstRootHash = wtx.getHash();
 
     // inserting a text as second child of root
     wtx.moveTo(rootKey);
     wtx.insertTextAsFirstChild(NAME1);
     wtx.moveToParent();
-    final BigInteger secondRootHash = wtx.getHash();
+    final Hash128 secondRootHash = wtx.getHash();
 
     // inserting a second element on level 2 under the only element
     wtx.moveToFirstChild();
     wtx.insertElementAsRightSibling(new QNm(NAME2));
-    wtx.insertAttribute(new QNm(NAME2), NAME1);
+    wtx.insertAttribute(new QNm(NAME2), NAME1, Movement.TOPARENT);
     wtx.moveTo(rootKey);
-    final BigInteger thirdRootHash = wtx.getHash();
+    final Hash128 thirdRootHash = wtx.getHash();
 
     // Checking that all hashes are different
     assertFalse(firstRootHash.equals(secondRootHash));
@@ -138,7 +263,7 @@ public class HashTest {
     wtx.insertAttribute(new QNm(NAME1), NAME2);
     wtx.moveToParent();
     wtx.insertElementAsFirstChild(new QNm(NAME1));
-    wtx.insertAttribute(new QNm(NAME2), NAME1);
+    wtx.insertAttribute(new QNm(NAME2), NAME1, Movement.TOPARENT);
 
     wtx.moveTo(rootKey);
     wtx.moveToFirstChild();
@@ -153,7 +278,7 @@ public class HashTest {
   private void testDeepTree(final XmlNodeTrx wtx) throws SirixException {
 
     wtx.insertElementAsFirstChild(new QNm(NAME1));
-    final BigInteger oldHash = wtx.getHash();
+    final Hash128 oldHash = wtx.getHash();
 
     wtx.insertElementAsFirstChild(new QNm(NAME1));
     wtx.insertElementAsFirstChild(new QNm(NAME2));
@@ -180,32 +305,32 @@ public class HashTest {
     wtx.insertElementAsFirstChild(new QNm(NAME1));
     wtx.moveToDocumentRoot();
     wtx.moveToFirstChild();
-    final BigInteger hashRoot1 = wtx.getHash();
+    final Hash128 hashRoot1 = wtx.getHash();
     wtx.moveToFirstChild();
     wtx.moveToFirstChild();
-    final BigInteger hashLeaf1 = wtx.getHash();
+    final Hash128 hashLeaf1 = wtx.getHash();
     wtx.setName(new QNm(NAME2));
-    final BigInteger hashLeaf2 = wtx.getHash();
+    final Hash128 hashLeaf2 = wtx.getHash();
     wtx.moveToDocumentRoot();
     wtx.moveToFirstChild();
-    final BigInteger hashRoot2 = wtx.getHash();
+    final Hash128 hashRoot2 = wtx.getHash();
     assertFalse(hashRoot1.equals(hashRoot2));
     assertFalse(hashLeaf1.equals(hashLeaf2));
     wtx.moveToFirstChild();
     wtx.moveToFirstChild();
     wtx.setName(new QNm(NAME1));
-    final BigInteger hashLeaf3 = wtx.getHash();
+    final Hash128 hashLeaf3 = wtx.getHash();
     assertEquals(hashLeaf1, hashLeaf3);
     wtx.moveToDocumentRoot();
     wtx.moveToFirstChild();
-    final BigInteger hashRoot3 = wtx.getHash();
+    final Hash128 hashRoot3 = wtx.getHash();
     assertEquals(hashRoot1, hashRoot3);
 
     // Testing root inheritance
     wtx.moveToDocumentRoot();
     wtx.moveToFirstChild();
     wtx.setName(new QNm(NAME2));
-    final BigInteger hashRoot4 = wtx.getHash();
+    final Hash128 hashRoot4 = wtx.getHash();
     assertFalse(hashRoot4.equals(hashRoot2));
     assertFalse(hashRoot4.equals(hashRoot1));
     assertFalse(hashRoot4.equals(hashRoot3));
@@ -0,0 +1,102 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.settings.Constants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+
+public final class RecordChangeHistoryTest {
+
+  /** A record in the record page with key 1. */
+  private static final long RECORD = 1L << Constants.NDP_NODE_COUNT_EXPONENT;
+
+  /** A record in the record page with key 2. */
+  private static final long OTHER_RECORD = 2L << Constants.NDP_NODE_COUNT_EXPONENT;
+
+  private Path file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempFile("record-changes", null);
+    Files.delete(file);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testUnchangedRevisionsAreSkipped() {
+    final RecordChangeHistory history = RecordChangeHistory.open(file, 0);
+    history.append(1, false, new long[] { 1, 2 });
+    history.append(2, false, new long[] { 2 });
+    history.append(3, false, new long[] { 2 });
+    history.append(4, false, new long[] { 1 });
+
+    assertEquals(1, history.nextChange(RECORD, 0));
+    assertEquals(4, history.nextChange(RECORD, 1));
+    // Not known yet.
+    assertEquals(5, history.nextChange(RECORD, 4));
+    assertEquals(2, history.nextChange(OTHER_RECORD, 1));
+    assertEquals(5, history.nextChange(OTHER_RECORD, 3));
+
+    assertEquals(1, history.previousChange(RECORD, 3));
+    assertEquals(4, history.previousChange(RECORD, 4));
+    assertEquals(3, history.previousChange(OTHER_RECORD, 3));
+  }
+
+  @Test
+  public void testRevisionsBeforeCreationAreConsideredChanged() {
+    final RecordChangeHistory history = RecordChangeHistory.open(file, 5);
+    history.append(6, false, new long[] { 2 });
+    history.append(7, false, new long[] { 2 });
+
+    assertEquals(3, history.nextChange(RECORD, 2));
+    assertEquals(6, history.nextChange(RECORD, 5));
+    assertEquals(8, history.nextChange(RECORD, 6));
+    assertEquals(5, history.previousChange(RECORD, 7));
+    assertEquals(4, history.previousChange(RECORD, 4));
+  }
+
+  @Test
+  public void testFullChangeRevisions() {
+    final RecordChangeHistory history = RecordChangeHistory.open(file, 0);
+    history.append(1, false, new long[] { 1 });
+    history.append(2, false, new long[] { 2 });
+    history.append(3, true, new long[] {});
+    history.append(4, false, new long[] { 2 });
+
+    assertEquals(3, history.nextChange(RECORD, 1));
+    assertEquals(3, history.previousChange(RECORD, 4));
+  }
+
+  @Test
+  public void testHistoryIsReopened() throws IOException {
+    final RecordChangeHistory history = RecordChangeHistory.open(file, 0);
+    history.append(1, false, new long[] { 1, 2 });
+    history.append(2, false, new long[] { 2 });
+    history.append(3, false, new long[] { 1 });
+
+    // An entry, which hasn't been written completely.
+    Files.write(file, new byte[] { 0, 0, 0, 4, 0 }, StandardOpenOption.APPEND);
+    final long length = Files.size(file);
+
+    final RecordChangeHistory reopenedHistory = RecordChangeHistory.open(file, 3);
+    assertEquals(3, reopenedHistory.nextChange(RECORD, 1));
+    assertEquals(1, reopenedHistory.previousChange(RECORD, 2));
+    assertEquals(length - 5, Files.size(file));
+
+    // Revision 3 is committed again, for instance after it has been truncated.
+    reopenedHistory.append(3, false, new long[] { 2 });
+    assertEquals(1, reopenedHistory.previousChange(RECORD, 3));
+    assertEquals(1, RecordChangeHistory.open(file, 3).previousChange(RECORD, 3));
+  }
+}
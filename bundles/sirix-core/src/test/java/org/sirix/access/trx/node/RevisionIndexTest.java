@@ -0,0 +1,107 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.access.User;
+import org.sirix.page.RevisionRootPage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RevisionIndexTest {
+
+  private static final User USER = new User("admin", UUID.randomUUID());
+
+  private Path directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("revision-index");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(directory.resolve(RevisionIndex.TIMESTAMPS_FILE_NAME));
+    Files.deleteIfExists(directory.resolve(RevisionIndex.COMMITS_FILE_NAME));
+    Files.deleteIfExists(directory);
+  }
+
+  private static RevisionRootPage revisionRootPage(final int revision) {
+    final RevisionRootPage revisionRootPage = mock(RevisionRootPage.class);
+    when(revisionRootPage.getRevision()).thenReturn(revision);
+    when(revisionRootPage.getRevisionTimestamp()).thenReturn(revision * 1000L);
+    when(revisionRootPage.getUser()).thenReturn(Optional.of(USER));
+    when(revisionRootPage.getCommitCredentials()).thenReturn(new CommitCredentials(USER, "read " + revision));
+    return revisionRootPage;
+  }
+
+  @Test
+  public void testPointInTimeLookups() {
+    final RevisionIndex index = RevisionIndex.open(directory, 0, RevisionIndexTest::revisionRootPage);
+    index.append(1, 1000, USER, "first");
+    index.append(2, 2000, USER, null);
+    index.append(3, 3000, USER, "third");
+
+    assertEquals(4, index.size());
+    assertEquals(2, index.binarySearch(2000));
+    assertEquals(-3, index.binarySearch(1500));
+    assertEquals(0, index.getNearestRevision(-10));
+    assertEquals(1, index.getNearestRevision(1400));
+    assertEquals(2, index.getNearestRevision(1600));
+    assertEquals(3, index.getNearestRevision(10_000));
+
+    assertEquals("first", index.getRevisionInfo(1).getCommitMessage().orElseThrow());
+    assertFalse(index.getRevisionInfo(2).getCommitMessage().isPresent());
+    assertEquals(USER, index.getRevisionInfo(2).getUser());
+    assertEquals(3000, index.getRevisionInfo(3).getRevisionTimestamp().toEpochMilli());
+  }
+
+  @Test
+  public void testMissingRevisionsAreRead() {
+    final RevisionIndex index = RevisionIndex.open(directory, 2, RevisionIndexTest::revisionRootPage);
+    assertEquals(3, index.size());
+    assertEquals(2000, index.getTimestamp(2));
+    assertEquals("read 1", index.getRevisionInfo(1).getCommitMessage().orElseThrow());
+
+    index.append(5, 5000, USER, "fifth");
+    assertEquals(6, index.size());
+    assertEquals(4000, index.getTimestamp(4));
+  }
+
+  @Test
+  public void testIndexIsReopened() throws IOException {
+    final RevisionIndex index = RevisionIndex.open(directory, 0, RevisionIndexTest::revisionRootPage);
+    index.append(1, 1100, USER, "first");
+    index.append(2, 2100, USER, "second");
+    index.append(3, 3100, USER, "third");
+
+    // An entry, which hasn't been written completely.
+    Files.write(directory.resolve(RevisionIndex.COMMITS_FILE_NAME), new byte[] { 0, 0, 0, 4, 1 },
+        StandardOpenOption.APPEND);
+
+    final RevisionIndex reopenedIndex = RevisionIndex.open(directory, 3, RevisionIndexTest::revisionRootPage);
+    assertEquals(4, reopenedIndex.size());
+    assertEquals(2100, reopenedIndex.getTimestamp(2));
+    assertEquals("third", reopenedIndex.getRevisionInfo(3).getCommitMessage().orElseThrow());
+
+    // Revision 2 is committed again, for instance after it has been truncated.
+    reopenedIndex.append(2, 2200, USER, "again");
+    assertEquals(3, reopenedIndex.size());
+
+    final RevisionIndex truncatedIndex = RevisionIndex.open(directory, 2, RevisionIndexTest::revisionRootPage);
+    assertEquals(3, truncatedIndex.size());
+    assertEquals(2200, truncatedIndex.getTimestamp(2));
+    assertEquals("again", truncatedIndex.getRevisionInfo(2).getCommitMessage().orElseThrow());
+    assertEquals("first", truncatedIndex.getRevisionInfo(1).getCommitMessage().orElseThrow());
+  }
+}
@@ -0,0 +1,131 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.node.json.AbstractStringNode;
+import org.sirix.page.PageKind;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public final class ValueDictionaryTest {
+
+  private Database<JsonResourceManager> database;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    Databases.createJsonDatabase(PATHS.PATH1.getConfig());
+    database = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+  }
+
+  @After
+  public void tearDown() {
+    database.close();
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testValuesAreEncodedOnceTheSymbolTableIsTrained() {
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).useTextCompression(true).build());
+
+    final List<String> values = new ArrayList<>();
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 2 * ValueDictionary.SAMPLE_COUNT; i++) {
+      final String value = "https://www.example.org/users/" + i;
+      values.add(value);
+      json.append(i == 0 ? "" : ",").append("{\"url\":\"").append(value).append("\"}");
+    }
+    json.append(']');
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json.toString()));
+    }
+
+    // Reopen the database, such that the values are read from the storage.
+    database.close();
+    database = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertTrue(Files.exists(manager.getResourceConfig()
+                                     .resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                                  .resolve(ValueDictionary.FILE_NAME)));
+      assertNotNull(manager.getValueDictionary().getSymbolTable());
+
+      final List<String> readValues = new ArrayList<>();
+      for (final var axis = new DescendantAxis(rtx); axis.hasNext(); ) {
+        axis.next();
+        if (rtx.isStringValue()) {
+          readValues.add(rtx.getValue());
+        }
+      }
+      assertEquals(values, readValues);
+    }
+  }
+
+  @Test
+  public void testValuesStoredBeforeTrainingAreEncodedOnceModified() {
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).useTextCompression(true).build());
+
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 2 * ValueDictionary.SAMPLE_COUNT; i++) {
+      json.append(i == 0 ? "" : ",").append("{\"url\":\"https://www.example.org/users/").append(i).append("\"}");
+    }
+    json.append(']');
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json.toString()));
+    }
+
+    // Reopen the database, such that the first value, which has been sampled, is read back uncompressed.
+    database.close();
+    database = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+
+    final long nodeKey;
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      final var axis = new DescendantAxis(wtx);
+      while (axis.hasNext()) {
+        axis.next();
+        if (wtx.isStringValue()) {
+          break;
+        }
+      }
+      nodeKey = wtx.getNodeKey();
+      assertFalse(((AbstractStringNode) wtx.getPageTrx().getRecord(nodeKey, PageKind.RECORDPAGE, -1).orElseThrow())
+          .getValNodeDelegate().isEncoded());
+
+      wtx.setStringValue("https://www.example.org/users/updated");
+      wtx.commit();
+    }
+
+    database.close();
+    database = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx()) {
+      rtx.moveTo(nodeKey);
+      assertEquals("https://www.example.org/users/updated", rtx.getValue());
+      assertTrue(((AbstractStringNode) rtx.getPageTrx().getRecord(nodeKey, PageKind.RECORDPAGE, -1).orElseThrow())
+          .getValNodeDelegate().isEncoded());
+    }
+  }
+}
@@ -3,14 +3,21 @@ package org.sirix.access.trx.page;
 import org.junit.Test;
 import org.sirix.access.trx.node.InternalResourceManager;
 import org.sirix.cache.BufferManager;
+import org.sirix.cache.IndexLogKey;
 import org.sirix.cache.TransactionIntentLog;
+import org.sirix.cache.UnorderedKeyValuePageCache;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
+import org.sirix.page.PageKind;
 import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.Page;
 import org.sirix.settings.Constants;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public final class NodePageReadOnlyTrxTest {
 
@@ -34,4 +41,21 @@ public final class NodePageReadOnlyTrxTest {
     assertEquals(1, trx.recordPageOffset(1));
     assertEquals(Constants.NDP_NODE_COUNT - 1, trx.recordPageOffset(1023));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testRecordPageFromUnorderedKeyValuePageCache() {
+    final var cache = new UnorderedKeyValuePageCache();
+    final var bufferManager = mock(BufferManager.class);
+    when(bufferManager.getUnorderedKeyValuePageCache()).thenReturn(cache);
+    final var reader = mock(Reader.class);
+
+    final var trx = new NodePageReadOnlyTrx(1, mock(InternalResourceManager.class), new UberPage(), 1, reader, null,
+        bufferManager, mock(RevisionRootPageReader.class));
+
+    final var page = mock(Page.class);
+    cache.put(new IndexLogKey(PageKind.RECORDPAGE, 3, 0, 1), page);
+
+    assertSame(page, trx.getRecordPage(new IndexLogKey(PageKind.RECORDPAGE, 3, 0, 1)).orElseThrow());
+    verifyNoInteractions(reader);
+  }
+}
@@ -0,0 +1,132 @@
+package org.sirix.access.trx.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Writer;
+import org.sirix.page.PageReference;
+import org.sirix.page.UberPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PageCommitPipelineTest {
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testPagesAreWrittenInOrder() {
+    final Writer writer = mock(Writer.class);
+    final List<PageReference> references = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      // Distinct keys, as references are compared by their keys.
+      final PageReference reference = new PageReference().setKey(i);
+      reference.setPage(new UberPage());
+      final byte[] serializedPage = { (byte) i };
+      final int delay = 16 - i;
+      // Later pages are serialized faster.
+      when(writer.serializePage(reference)).then(invocation -> {
+        Thread.sleep(delay);
+        return serializedPage;
+      });
+      references.add(reference);
+    }
+
+    final PageCommitPipeline pipeline = new PageCommitPipeline(writer, executor, 4);
+    for (int i = 0; i < references.size() - 1; i++) {
+      pipeline.writeAsync(references.get(i), () -> false, () -> {});
+    }
+    final PageReference parentReference = references.get(references.size() - 1);
+    pipeline.write(parentReference);
+
+    final InOrder inOrder = inOrder(writer);
+    for (int i = 0; i < references.size() - 1; i++) {
+      inOrder.verify(writer).write(references.get(i), new byte[] { (byte) i });
+    }
+    inOrder.verify(writer).write(parentReference);
+
+    for (final PageReference reference : references) {
+      assertNull(reference.getPage());
+    }
+  }
+
+  @Test
+  public void testReferencedPagesAreWrittenBeforePage() {
+    final Writer writer = mock(Writer.class);
+    final PageReference previousReference = new PageReference().setKey(0);
+    previousReference.setPage(new UberPage());
+    when(writer.serializePage(previousReference)).thenReturn(new byte[] { 0 });
+    final PageReference reference = new PageReference().setKey(1);
+    reference.setPage(new UberPage());
+    when(writer.serializePage(reference)).thenReturn(new byte[] { 1 });
+    final PageReference overflowReference = new PageReference().setKey(2);
+    overflowReference.setPage(new UberPage());
+
+    final PageCommitPipeline pipeline = new PageCommitPipeline(writer, executor, 4);
+    final Thread callingThread = Thread.currentThread();
+    final List<Thread> preparingThreads = new ArrayList<>();
+    pipeline.writeAsync(previousReference, () -> false, () -> {});
+    pipeline.writeAsync(reference, () -> {
+      synchronized (preparingThreads) {
+        preparingThreads.add(Thread.currentThread());
+      }
+      return true;
+    }, () -> pipeline.write(overflowReference));
+    pipeline.flush();
+
+    // The page is serialized once the referenced page has been written right before it.
+    final InOrder inOrder = inOrder(writer);
+    inOrder.verify(writer).write(previousReference, new byte[] { 0 });
+    inOrder.verify(writer).write(overflowReference);
+    inOrder.verify(writer).serializePage(reference);
+    inOrder.verify(writer).write(reference, new byte[] { 1 });
+
+    assertEquals(1, preparingThreads.size());
+    assertNotSame(callingThread, preparingThreads.get(0));
+    assertNull(overflowReference.getPage());
+  }
+
+  @Test
+  public void testSerializationFailureIsPropagated() {
+    final Writer writer = mock(Writer.class);
+    final PageReference reference = new PageReference();
+    reference.setPage(new UberPage());
+    final SirixIOException failure = new SirixIOException("serialization failed");
+    when(writer.serializePage(reference)).thenThrow(failure);
+
+    final PageCommitPipeline pipeline = new PageCommitPipeline(writer, executor, 4);
+    pipeline.writeAsync(reference, () -> false, () -> {});
+    try {
+      pipeline.flush();
+      fail();
+    } catch (final SirixIOException e) {
+      // Expected.
+    }
+    verify(writer, never()).write(any(PageReference.class), any(byte[].class));
+  }
+}
@@ -0,0 +1,130 @@
+package org.sirix.access.trx.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.io.ChecksumType;
+import org.sirix.utils.JsonDocumentCreator;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class PageScrubberTest {
+
+  private Database<JsonResourceManager> database;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    Databases.createJsonDatabase(PATHS.PATH1.getConfig());
+    database = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+  }
+
+  @After
+  public void tearDown() {
+    database.close();
+    JsonTestHelper.deleteEverything();
+  }
+
+  private void createResource(final ResourceConfiguration.Builder builder) {
+    database.createResource(builder.build());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      JsonDocumentCreator.create(wtx);
+      wtx.commit();
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("revision", new StringValue("second"));
+      wtx.commit();
+    }
+  }
+
+  /**
+   * Flip a byte of the root page of the record tree of the most recent revision and reopen the
+   * database, such that the page isn't cached anymore.
+   *
+   * @return the offset of the corrupted page
+   */
+  private long corruptPage() throws IOException {
+    final long offset;
+    final Path dataFile;
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var pageReadTrx = manager.beginPageReadOnlyTrx()) {
+      offset = pageReadTrx.getActualRevisionRootPage().getIndirectPageReference().getKey();
+      dataFile = manager.getResourceConfig()
+                        .resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                     .resolve("sirix.data");
+    }
+
+    try (final var file = new RandomAccessFile(dataFile.toFile(), "rw")) {
+      file.seek(offset + Integer.BYTES + 1);
+      final int value = file.read();
+      file.seek(offset + Integer.BYTES + 1);
+      file.write(~value);
+    }
+
+    database.close();
+    database = Databases.openJsonDatabase(PATHS.PATH1.getFile());
+    return offset;
+  }
+
+  @Test
+  public void testScrubWithoutCorruptPages() {
+    for (final ChecksumType checksumType : ChecksumType.values()) {
+      createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).checksumType(checksumType));
+
+      try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+        assertEquals(checksumType, manager.getResourceConfig().checksumType);
+        assertTrue(new PageScrubber(manager).call().isEmpty());
+      }
+
+      database.removeResource(JsonTestHelper.RESOURCE);
+    }
+  }
+
+  @Test
+  public void testScrubReportsCorruptPage() throws IOException {
+    createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE));
+    final long offset = corruptPage();
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final List<PageScrubber.CorruptPage> corruptPages = new PageScrubber(manager).call();
+      assertEquals(1, corruptPages.size());
+      assertEquals(offset, corruptPages.get(0).getOffset());
+    }
+  }
+
+  @Test
+  public void testVerifyOnRead() throws IOException {
+    createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).verifyChecksumsOnRead(true));
+    corruptPage();
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx()) {
+      for (final var axis = new DescendantAxis(rtx); axis.hasNext(); axis.next()) {
+        // Read all pages.
+      }
+      fail("The corrupt page has been read without verifying its checksum.");
+    } catch (final RuntimeException e) {
+      Throwable cause = e;
+      while (cause.getCause() != null && !String.valueOf(cause.getMessage()).startsWith("Checksum mismatch")) {
+        cause = cause.getCause();
+      }
+      assertTrue(String.valueOf(cause.getMessage()).startsWith("Checksum mismatch"));
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package org.sirix.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.page.PageKind;
+import org.sirix.page.PageReference;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.Page;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class GlobalBufferManagerTest {
+
+  private static final Path FIRST_RESOURCE = Paths.get("database", "data", "resource1");
+
+  private static final Path SECOND_RESOURCE = Paths.get("database", "data", "resource2");
+
+  private GlobalBufferManager globalBufferManager;
+
+  @Before
+  public void setUp() {
+    globalBufferManager = new GlobalBufferManager(1 << 20);
+  }
+
+  @Test
+  public void testResourcesAreIsolated() {
+    final Cache<PageReference, Page> firstCache =
+        globalBufferManager.getResourceBufferManager(FIRST_RESOURCE).getPageCache();
+    final Cache<PageReference, Page> secondCache =
+        globalBufferManager.getResourceBufferManager(SECOND_RESOURCE).getPageCache();
+
+    final Page page = new UberPage();
+    firstCache.put(new PageReference().setKey(12), page);
+
+    assertSame(page, firstCache.get(new PageReference().setKey(12)));
+    assertNull(secondCache.get(new PageReference().setKey(12)));
+    assertNull(globalBufferManager.getResourceBufferManager(FIRST_RESOURCE)
+                                  .getRecordPageCache()
+                                  .get(new PageReference().setKey(12)));
+  }
+
+  @Test
+  public void testStatistics() {
+    final Cache<PageReference, Page> cache =
+        globalBufferManager.getResourceBufferManager(FIRST_RESOURCE).getPageCache();
+
+    cache.put(new PageReference().setKey(12), new UberPage());
+    cache.get(new PageReference().setKey(12));
+    cache.get(new PageReference().setKey(12));
+    cache.get(new PageReference().setKey(24));
+
+    final BufferManagerStatistics statistics = globalBufferManager.getStatistics(FIRST_RESOURCE);
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+    assertEquals(0, globalBufferManager.getStatistics(SECOND_RESOURCE).getHitCount());
+  }
+
+  @Test
+  public void testRemoveResource() {
+    final Cache<PageReference, Page> firstCache =
+        globalBufferManager.getResourceBufferManager(FIRST_RESOURCE).getPageCache();
+    final Cache<PageReference, Page> secondCache =
+        globalBufferManager.getResourceBufferManager(SECOND_RESOURCE).getPageCache();
+
+    final PageReference reference = new PageReference().setKey(12);
+    final Page page = new UberPage();
+    reference.setPage(page);
+    firstCache.put(reference, page);
+    secondCache.put(new PageReference().setKey(12), page);
+
+    globalBufferManager.removeResource(FIRST_RESOURCE);
+
+    assertNull(firstCache.get(new PageReference().setKey(12)));
+    assertSame(page, secondCache.get(new PageReference().setKey(12)));
+  }
+
+  @Test
+  public void testPageIsWeighedOnce() {
+    final BufferManager bufferManager = globalBufferManager.getResourceBufferManager(FIRST_RESOURCE);
+    final PageReference reference = new PageReference().setKey(12);
+    final IndexLogKey indexLogKey = new IndexLogKey(PageKind.RECORDPAGE, 3, 0, 1);
+    final Page page = new UberPage();
+
+    bufferManager.getRecordPageCache().put(reference, page);
+    final long weight = globalBufferManager.getWeight();
+
+    bufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, page);
+    assertTrue(globalBufferManager.getWeight() < 2 * weight);
+    assertSame(page, bufferManager.getUnorderedKeyValuePageCache().get(indexLogKey));
+
+    // Once the page is removed, the entry referring to it is gone, too.
+    bufferManager.getRecordPageCache().remove(reference);
+    assertNull(bufferManager.getUnorderedKeyValuePageCache().get(indexLogKey));
+    assertEquals(0, globalBufferManager.getWeight());
+  }
+
+  @Test
+  public void testStatisticsAreKeptUntilBufferManagersAreClosed() {
+    final BufferManager bufferManager = globalBufferManager.getResourceBufferManager(FIRST_RESOURCE);
+    final BufferManagerStatistics statistics = globalBufferManager.getStatistics(FIRST_RESOURCE);
+
+    globalBufferManager.removeResource(FIRST_RESOURCE);
+    bufferManager.getPageCache().get(new PageReference().setKey(12));
+    assertSame(statistics, globalBufferManager.getStatistics(FIRST_RESOURCE));
+    assertEquals(1, statistics.getMissCount());
+
+    bufferManager.close();
+    assertTrue(globalBufferManager.getStatistics().isEmpty());
+  }
+}
@@ -7,17 +7,22 @@ import org.sirix.JsonTestHelper;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.SnappyCompressor;
 import org.sirix.io.file.FileWriter;
+import org.sirix.node.DeletedNode;
+import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.page.PageKind;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
 import org.sirix.page.SerializationType;
 import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.settings.Constants;
 
 import java.io.FileNotFoundException;
 import java.io.RandomAccessFile;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class TransactionIntentLogTest {
@@ -33,6 +38,71 @@ public class TransactionIntentLogTest {
 
   @Test
   public void integrationTest() throws FileNotFoundException {
+    testPutAndGet(0, trxIntentLog -> assertEquals(0, trxIntentLog.offHeapEntries()));
+  }
+
+  @Test
+  public void testOffHeapTier() throws FileNotFoundException {
+    testPutAndGet(1 << 20, trxIntentLog -> {
+      assertEquals(0, trxIntentLog.usedEntries());
+      assertEquals(2, trxIntentLog.offHeapEntries());
+      assertTrue(trxIntentLog.offHeapWeight() > 0);
+    });
+  }
+
+  @Test
+  public void testSpillingFromOffHeapTier() throws FileNotFoundException {
+    // Too small for any page container, which is thus spilled in its serialized form.
+    testPutAndGet(1, trxIntentLog -> assertEquals(0, trxIntentLog.offHeapEntries()));
+  }
+
+  @Test
+  public void testPagesFilledAfterPutAreMovedOffHeap() throws FileNotFoundException {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+      final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE);
+      final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
+      final RandomAccessFile file = new RandomAccessFile(JsonTestHelper.PATHS.PATH2.getFile().toFile(), "rw");
+
+      final FileWriter fileWriter =
+          new FileWriter(file, null, new ByteHandlePipeline(new ByteHandlePipeline(new SnappyCompressor())),
+                         SerializationType.TRANSACTION_INTENT_LOG, new PagePersister());
+
+      final var emptyPage = new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx);
+      final long emptyContainerWeight = 2L * GlobalBufferManager.weigh(emptyPage);
+
+      // Three empty page containers fit on-heap.
+      final var trxIntentLog =
+          new TransactionIntentLog(new PersistentFileCache(fileWriter), 3 * emptyContainerWeight, 1 << 20);
+
+      final var firstPageReference = new PageReference();
+      final var firstDeltaPage = new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx);
+      trxIntentLog.put(firstPageReference, PageContainer.getInstance(
+          new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx), firstDeltaPage));
+      trxIntentLog.put(new PageReference(), PageContainer.getInstance(
+          new UnorderedKeyValuePage(2, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx),
+          new UnorderedKeyValuePage(2, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx)));
+
+      // Records are added to a page after it has been put, as during a write transaction.
+      trxIntentLog.get(firstPageReference, pageReadOnlyTrx);
+      final int recordCount = 100;
+      for (int i = 0; i < recordCount; i++) {
+        final long recordKey = (1L << Constants.NDP_NODE_COUNT_EXPONENT) + i;
+        firstDeltaPage.setEntry(recordKey, new DeletedNode(new NodeDelegate(recordKey, -1, null, null, 0, null)));
+      }
+
+      trxIntentLog.put(new PageReference(), PageContainer.getInstance(
+          new UnorderedKeyValuePage(3, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx),
+          new UnorderedKeyValuePage(3, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx)));
+
+      assertEquals(1, trxIntentLog.usedEntries());
+      assertEquals(2, trxIntentLog.offHeapEntries());
+      assertEquals(recordCount,
+          ((UnorderedKeyValuePage) trxIntentLog.get(firstPageReference, pageReadOnlyTrx).getModified()).size());
+    }
+  }
+
+  private static void testPutAndGet(final long maxOffHeapWeight, final Consumer<TransactionIntentLog> afterPut)
+      throws FileNotFoundException {
     try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
       final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE);
       final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
@@ -43,7 +113,7 @@ public class TransactionIntentLogTest {
                          SerializationType.TRANSACTION_INTENT_LOG, new PagePersister());
 
       final var persistentCache = new PersistentFileCache(fileWriter);
-      final var trxIntentLog = new TransactionIntentLog(persistentCache, 1);
+      final var trxIntentLog = new TransactionIntentLog(persistentCache, 1, maxOffHeapWeight);
 
       final var firstCompletePage = new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx);
       final var firstDeltaPage = new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx);
@@ -60,6 +130,8 @@ public class TransactionIntentLogTest {
       trxIntentLog.put(firstPageReference, firstPageContainer);
       trxIntentLog.put(secondPageReference, secondPageContainer);
 
+      afterPut.accept(trxIntentLog);
+
       assertEquals(firstPageContainer, trxIntentLog.get(firstPageReference, pageReadOnlyTrx));
       assertEquals(secondPageContainer, trxIntentLog.get(secondPageReference, pageReadOnlyTrx));
     }
@@ -0,0 +1,109 @@
+package org.sirix.diff;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.diff.DiffFactory.DiffOptimized;
+import org.sirix.diff.DiffFactory.DiffType;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class ParallelDiffTest {
+
+  private ForkJoinPool pool;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+    pool = new ForkJoinPool(4);
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(10);
+      wtx.setStringValue("hallo");
+      wtx.moveTo(22);
+      wtx.setBooleanValue(true);
+      wtx.commit();
+    }
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdown();
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testParallelDiffEqualsSequentialDiff() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final List<String> sequentialDiffs = diff(manager, null);
+      final List<String> parallelDiffs = diff(manager, pool);
+
+      assertTrue(sequentialDiffs.contains(DiffType.UPDATED + " 10 10 2 2"));
+      assertTrue(sequentialDiffs.contains(DiffType.UPDATED + " 22 22 3 3"));
+      assertEquals(sequentialDiffs, parallelDiffs);
+    }
+  }
+
+  @Test
+  public void testConcurrentDiffs() throws Exception {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final List<String> expectedDiffs = diff(manager, null);
+
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        final List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+          futures.add(executor.submit(() -> diff(manager, null)));
+        }
+        for (final Future<List<String>> future : futures) {
+          assertEquals(expectedDiffs, future.get());
+        }
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  private static List<String> diff(final JsonResourceManager manager, final ForkJoinPool pool) {
+    final List<String> diffs = new ArrayList<>();
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(@Nonnull final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          @Nonnull final DiffDepth depth) {
+        diffs.add(diffType + " " + newNodeKey + " " + oldNodeKey + " " + depth.getNewDepth() + " "
+            + depth.getOldDepth());
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    final DiffFactory.Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder =
+        new DiffFactory.Builder<>(manager, 2, 1, DiffOptimized.HASHED, Set.of(observer));
+    if (pool != null) {
+      builder.parallel(pool).minParallelSubtreeSize(0);
+    }
+    DiffFactory.invokeJsonDiff(builder);
+    return diffs;
+  }
+}
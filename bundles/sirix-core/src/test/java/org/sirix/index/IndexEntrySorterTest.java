@@ -0,0 +1,107 @@
+package org.sirix.index;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.Test;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class IndexEntrySorterTest {
+
+  @Test
+  public void testSpilledRunsAreMerged() {
+    final Random random = new Random(42);
+    final Map<Long, Set<Long>> expected = new TreeMap<>();
+
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH,
+        100 * IndexEntrySorter.weigh(IndexType.PATH, 0L))) {
+      for (long nodeKey = 0; nodeKey < 10_000; nodeKey++) {
+        final long pathNodeKey = random.nextInt(500);
+        sorter.add(pathNodeKey, nodeKey);
+        expected.computeIfAbsent(pathNodeKey, key -> new HashSet<>()).add(nodeKey);
+      }
+      assertEquals(99, sorter.getNumberOfRuns());
+
+      assertEntries(expected, sorter.sortedEntries());
+    }
+  }
+
+  @Test
+  public void testNames() {
+    final Map<QNm, Set<Long>> expected = new TreeMap<>();
+
+    try (final IndexEntrySorter<QNm> sorter = new IndexEntrySorter<>(IndexType.NAME,
+        3 * IndexEntrySorter.weigh(IndexType.NAME, new QNm("ns", "p", "foo")))) {
+      final String[] localNames = { "foo", "bar", "baz", "foo", "bar", "foo", "qux" };
+      for (int i = 0; i < localNames.length; i++) {
+        final QNm name = new QNm("ns", "p", localNames[i]);
+        sorter.add(name, i);
+        expected.computeIfAbsent(name, key -> new HashSet<>()).add((long) i);
+      }
+      assertTrue(sorter.getNumberOfRuns() > 0);
+
+      assertEntries(expected, sorter.sortedEntries());
+    }
+  }
+
+  @Test
+  public void testInMemory() {
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH)) {
+      sorter.add(2L, 5);
+      sorter.add(1L, 7);
+      sorter.add(2L, 3);
+      assertEquals(0, sorter.getNumberOfRuns());
+
+      assertEntries(Map.of(1L, Set.of(7L), 2L, Set.of(3L, 5L)), sorter.sortedEntries());
+    }
+  }
+
+  @Test(expected = SirixIOException.class)
+  public void testAbandonedMergeClosesRuns() {
+    final Iterator<IndexEntry<Long, NodeReferences>> entries;
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH,
+        10 * IndexEntrySorter.weigh(IndexType.PATH, 0L))) {
+      for (long nodeKey = 0; nodeKey < 1_000; nodeKey++) {
+        sorter.add(nodeKey, nodeKey);
+      }
+      assertTrue(sorter.getNumberOfRuns() > 0);
+
+      entries = sorter.sortedEntries();
+      entries.next();
+    }
+
+    // The runs, which haven't been read completely, are closed.
+    while (entries.hasNext()) {
+      entries.next();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAddAfterSort() {
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH)) {
+      sorter.sortedEntries();
+      sorter.add(1L, 1);
+    }
+  }
+
+  private static <K extends Comparable<? super K>> void assertEntries(final Map<K, Set<Long>> expected,
+      final Iterator<IndexEntry<K, NodeReferences>> entries) {
+    for (final Map.Entry<K, Set<Long>> expectedEntry : new TreeMap<>(expected).entrySet()) {
+      assertTrue(entries.hasNext());
+      final IndexEntry<K, NodeReferences> entry = entries.next();
+      assertEquals(expectedEntry.getKey(), entry.getKey());
+      assertEquals(expectedEntry.getValue(), entry.getValue().getNodeKeys());
+    }
+    assertFalse(entries.hasNext());
+  }
+}
@@ -0,0 +1,211 @@
+package org.sirix.index.bplustree;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexStructure;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class BPlusTreeTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  private static final int NUMBER_OF_KEYS = 5_000;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testInsertLookupAndScan() {
+    final List<Long> keys = new ArrayList<>();
+    for (long key = 0; key < NUMBER_OF_KEYS; key++) {
+      keys.add(key * 2);
+    }
+    Collections.shuffle(keys, new Random(42));
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var trx = manager.beginNodeTrx()) {
+        final BPlusTreeWriter<Long, NodeReferences> writer =
+            BPlusTreeWriter.getInstance(trx.getPageWtx(), IndexType.PATH, 0);
+
+        for (final long key : keys) {
+          writer.index(key, new NodeReferences(new HashSet<>(Set.of(key, key + 1))), MoveCursor.NO_MOVE);
+        }
+
+        // Remove all references of one key and one reference of another key.
+        assertTrue(writer.remove(10L, 10));
+        assertTrue(writer.remove(10L, 11));
+        assertTrue(writer.remove(20L, 21));
+        assertFalse(writer.remove(21L, 21));
+
+        assertContents(writer.getReader());
+        trx.commit();
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertContents(BPlusTreeReader.getInstance(rtx.getPageTrx(), IndexType.PATH, 0));
+      }
+    }
+  }
+
+  @Test
+  public void testBulkIndex() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var trx = manager.beginNodeTrx()) {
+        final BPlusTreeWriter<Long, NodeReferences> writer =
+            BPlusTreeWriter.getInstance(trx.getPageWtx(), IndexType.PATH, 0);
+
+        // The first bulk load builds the tree bottom-up, the second one merges into the existing entries.
+        for (final long offset : new long[] { 0, 1 }) {
+          try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH, 32 << 10)) {
+            for (long key = NUMBER_OF_KEYS - 1; key >= 0; key--) {
+              sorter.add(key * 2, key * 2 + offset);
+            }
+            writer.bulkIndex(sorter.sortedEntries());
+          }
+        }
+
+        assertTrue(writer.remove(10L, 10));
+        assertTrue(writer.remove(10L, 11));
+        assertTrue(writer.remove(20L, 21));
+
+        assertContents(writer.getReader());
+        trx.commit();
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertContents(BPlusTreeReader.getInstance(rtx.getPageTrx(), IndexType.PATH, 0));
+      }
+    }
+  }
+
+  private static void assertContents(final BPlusTreeReader<Long, NodeReferences> reader) {
+    assertEquals(NUMBER_OF_KEYS - 1, reader.size());
+    assertFalse(reader.get(10L, SearchMode.EQUAL).isPresent());
+    assertFalse(reader.get(11L, SearchMode.EQUAL).isPresent());
+    assertEquals(Set.of(20L), reader.get(20L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+    assertEquals(Set.of(4000L, 4001L), reader.get(4000L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+
+    // Full scan in ascending order.
+    long expectedKey = 0;
+    long count = 0;
+    final Iterator<BPlusTreeEntry<Long, NodeReferences>> entries = reader.iterator();
+    while (entries.hasNext()) {
+      if (expectedKey == 10) {
+        expectedKey += 2;
+      }
+      assertEquals(expectedKey, (long) entries.next().getKey());
+      expectedKey += 2;
+      count++;
+    }
+    assertEquals(NUMBER_OF_KEYS - 1, count);
+
+    // Range scan starting between two keys.
+    final Iterator<BPlusTreeEntry<Long, NodeReferences>> range = reader.iterator(5_001L);
+    assertEquals(5_002L, (long) range.next().getKey());
+    assertEquals(5_004L, (long) range.next().getKey());
+
+    // Prefix scan with a coarser comparator (keys with the same value divided by 100).
+    final Iterator<BPlusTreeEntry<Long, NodeReferences>> prefix =
+        reader.prefixIterator(1_234L, (first, second) -> Long.compare(first / 100, second / 100));
+    final List<Long> prefixKeys = new ArrayList<>();
+    prefix.forEachRemaining(entry -> prefixKeys.add(entry.getKey()));
+    assertEquals(50, prefixKeys.size());
+    assertEquals(1_200L, (long) prefixKeys.get(0));
+    assertEquals(1_298L, (long) prefixKeys.get(49));
+
+    // Bounded range scans stop at the upper bound.
+    assertEquals(List.of(1_002L, 1_004L, 1_006L, 1_008L, 1_010L), keys(reader.iterator(1_000L, false, 1_010L, true)));
+    assertEquals(List.of(1_250L, 1_252L, 1_254L, 1_256L, 1_258L),
+        keys(reader.prefixIterator(1_234L, (first, second) -> Long.compare(first / 100, second / 100), 1_250L, true,
+            1_260L, false)));
+    assertEquals(List.of(1_200L, 1_202L),
+        keys(reader.prefixIterator(1_234L, (first, second) -> Long.compare(first / 100, second / 100), null, false,
+            1_202L, true)));
+
+    // Greater and less searches.
+    assertEquals(Set.of(4_002L, 4_003L), reader.get(4_000L, SearchMode.GREATER).orElseThrow().getNodeKeys());
+    assertEquals(Set.of(4_000L, 4_001L), reader.get(4_000L, SearchMode.GREATER_OR_EQUAL).orElseThrow().getNodeKeys());
+    assertEquals(Set.of(0L, 1L), reader.get(1L, SearchMode.LESS).orElseThrow().getNodeKeys());
+    assertFalse(reader.get(0L, SearchMode.LESS).isPresent());
+    assertFalse(reader.get(2L * NUMBER_OF_KEYS, SearchMode.GREATER).isPresent());
+  }
+
+  private static List<Long> keys(final Iterator<BPlusTreeEntry<Long, NodeReferences>> entries) {
+    final List<Long> keys = new ArrayList<>();
+    entries.forEachRemaining(entry -> keys.add(entry.getKey()));
+    return keys;
+  }
+
+  @Test
+  public void testNameIndexWithBPlusTreeStructure() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final var indexController = manager.getWtxIndexController(trx.getRevisionNumber() - 1);
+
+      final var allObjectKeyNames = IndexDefs.withStructure(
+          IndexDefs.createNameIdxDef(0, IndexDefs.NameIndexType.JSON), IndexStructure.BPLUS_TREE);
+      assertEquals(IndexStructure.BPLUS_TREE, allObjectKeyNames.getStructure());
+
+      indexController.createIndexes(Set.of(allObjectKeyNames), trx);
+
+      final var shredder = new JsonShredder.Builder(trx, JsonShredder.createFileReader(jsonPath),
+          InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var streetAddresses = indexController.openNameIndex(trx.getPageTrx(), allObjectKeyNames,
+          indexController.createNameFilter(Set.of("streetaddress")));
+
+      assertTrue(streetAddresses.hasNext());
+      assertEquals(53, streetAddresses.next().getNodeKeys().size());
+      assertFalse(streetAddresses.hasNext());
+
+      final var streetAddressesAndTwitterAccounts =
+          indexController.openNameIndex(trx.getPageTrx(), allObjectKeyNames,
+              indexController.createNameFilter(Set.of("streetaddress", "twitteraccount")));
+
+      assertTrue(streetAddressesAndTwitterAccounts.hasNext());
+      assertEquals(53, streetAddressesAndTwitterAccounts.next().getNodeKeys().size());
+      assertTrue(streetAddressesAndTwitterAccounts.hasNext());
+      assertEquals(53, streetAddressesAndTwitterAccounts.next().getNodeKeys().size());
+      assertFalse(streetAddressesAndTwitterAccounts.hasNext());
+
+      final BPlusTreeReader<QNm, NodeReferences> reader =
+          BPlusTreeReader.getInstance(trx.getPageTrx(), IndexType.NAME, allObjectKeyNames.getID());
+      assertTrue(reader.get(new QNm("streetaddress"), SearchMode.EQUAL).isPresent());
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package org.sirix.index.path.summary;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.InternalResourceManager;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.node.interfaces.StructNode;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class PathSummarySnapshotTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testSnapshotIsShared() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final int revision = manager.getMostRecentRevisionNumber();
+      final PathSummarySnapshot snapshot;
+      try (final var pathSummary = manager.openPathSummary(revision)) {
+        snapshot = getSnapshot(manager, revision);
+        assertEquals(revision, snapshot.getRevision());
+        assertTrue(pathSummary.moveTo(7).hasMoved());
+        assertEquals(new QNm("tada"), pathSummary.getName());
+      }
+      try (final var pathSummary = manager.openPathSummary(revision)) {
+        assertSame(snapshot, getSnapshot(manager, revision));
+        assertTrue(pathSummary.moveTo(8).hasMoved());
+        assertEquals(11L, pathSummary.getFirstChildKey());
+      }
+    }
+  }
+
+  @Test
+  public void testDerivedSnapshotMatchesTraversal() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        // Rename the first object key and remove the second one.
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.moveToFirstChild();
+        wtx.setObjectKeyName("renamed");
+        wtx.moveToRightSibling();
+        wtx.remove();
+        wtx.commit();
+      }
+
+      final int revision = manager.getMostRecentRevisionNumber();
+      final PathSummarySnapshot derived = getSnapshot(manager, revision);
+      try (final var pageReadTrx = manager.beginPageReadOnlyTrx(revision)) {
+        assertSameSnapshot(PathSummarySnapshot.create(pageReadTrx), derived);
+      }
+    }
+  }
+
+  private static PathSummarySnapshot getSnapshot(final JsonResourceManager manager, final int revision) {
+    return ((InternalResourceManager<?, ?>) manager).getPathSummarySnapshot(revision).orElseThrow();
+  }
+
+  private static void assertSameSnapshot(final PathSummarySnapshot expected, final PathSummarySnapshot actual) {
+    assertEquals(expected.getRevision(), actual.getRevision());
+    assertEquals(expected.getPathNodeMapping().keySet(), actual.getPathNodeMapping().keySet());
+    for (final Map.Entry<Long, StructNode> entry : expected.getPathNodeMapping().entrySet()) {
+      final StructNode expectedNode = entry.getValue();
+      final StructNode actualNode = actual.getPathNodeMapping().get(entry.getKey());
+      assertEquals(expectedNode.getKind(), actualNode.getKind());
+      assertEquals(expectedNode.getParentKey(), actualNode.getParentKey());
+      assertEquals(expectedNode.getFirstChildKey(), actualNode.getFirstChildKey());
+      assertEquals(expectedNode.getLeftSiblingKey(), actualNode.getLeftSiblingKey());
+      assertEquals(expectedNode.getRightSiblingKey(), actualNode.getRightSiblingKey());
+      assertEquals(expectedNode.getChildCount(), actualNode.getChildCount());
+      if (expectedNode instanceof PathNode) {
+        assertEquals(((PathNode) expectedNode).getReferences(), ((PathNode) actualNode).getReferences());
+        assertEquals(((PathNode) expectedNode).getLevel(), ((PathNode) actualNode).getLevel());
+      }
+    }
+    assertEquals(getNodeKeysByName(expected), getNodeKeysByName(actual));
+  }
+
+  private static Map<QNm, Set<Long>> getNodeKeysByName(final PathSummarySnapshot snapshot) {
+    return snapshot.getQNmMapping()
+                   .entrySet()
+                   .stream()
+                   .collect(Collectors.toMap(Map.Entry::getKey,
+                                             entry -> entry.getValue()
+                                                           .stream()
+                                                           .map(PathNode::getNodeKey)
+                                                           .collect(Collectors.toSet())));
+  }
+}
@@ -0,0 +1,203 @@
+package org.sirix.io.bytepipe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.access.ResourceConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class BufferCodecTest {
+
+  private Path resourcePath;
+
+  @Before
+  public void setUp() throws IOException {
+    resourcePath = Files.createTempDirectory("buffer-codec");
+    Files.createDirectory(resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (final Stream<Path> paths = Files.walk(resourcePath)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  private List<Path> dictionaryFiles() throws IOException {
+    try (final Stream<Path> files = Files.list(resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()))) {
+      return files.filter(file -> file.getFileName().toString().startsWith(DictionaryCompressor.DICTIONARY_FILE_NAME))
+                  .collect(Collectors.toList());
+    }
+  }
+
+  private static byte[] page(final Random random) {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      builder.append("{\"name\":\"user")
+             .append(random.nextInt(100_000))
+             .append("\",\"active\":")
+             .append(random.nextBoolean())
+             .append('}');
+    }
+    return builder.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testLZ4RoundTrip() {
+    final LZ4Compressor compressor = new LZ4Compressor();
+    final Random random = new Random(7);
+
+    final List<byte[]> pages = new ArrayList<>();
+    pages.add(new byte[0]);
+    pages.add(new byte[] { 1, 2, 3 });
+    pages.add(new byte[100_000]);
+    final byte[] randomBytes = new byte[70_000];
+    random.nextBytes(randomBytes);
+    pages.add(randomBytes);
+    pages.add(page(random));
+
+    for (final byte[] page : pages) {
+      assertArrayEquals(page, compressor.deserialize(compressor.serialize(page)));
+    }
+
+    assertTrue(compressor.serialize(new byte[100_000]).length < 1_000);
+  }
+
+  @Test
+  public void testLZ4RejectsMalformedBlock() {
+    final LZ4Compressor compressor = new LZ4Compressor();
+    final byte[] compressed = compressor.serialize(page(new Random(7)));
+    // The uncompressed length doesn't match the sequences anymore.
+    compressed[3]++;
+
+    try {
+      compressor.deserialize(compressed);
+      fail("A malformed block has been decompressed.");
+    } catch (final IllegalStateException expected) {
+    }
+  }
+
+  @Test
+  public void testPipelineBufferAndStreamAreEquivalent() throws IOException {
+    final ByteHandlePipeline pipeline = new ByteHandlePipeline(new LZ4Compressor(), new DeflateCompressor());
+    final byte[] page = page(new Random(7));
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (final OutputStream handledOutput = pipeline.serialize(output)) {
+      handledOutput.write(page);
+    }
+    assertArrayEquals(output.toByteArray(), pipeline.serialize(page));
+
+    try (final InputStream handledInput = pipeline.deserialize(new ByteArrayInputStream(output.toByteArray()))) {
+      assertArrayEquals(page, handledInput.readAllBytes());
+    }
+    assertArrayEquals(page, pipeline.deserialize(pipeline.serialize(page)));
+  }
+
+  @Test
+  public void testDictionaryIsTrainedAndReloaded() throws IOException {
+    final Random random = new Random(7);
+    final List<byte[]> pages = new ArrayList<>();
+    final List<byte[]> compressedPages = new ArrayList<>();
+
+    // Each transaction has its own instance.
+    DictionaryCompressor compressor = null;
+    for (int i = 0; i < 2 * DictionaryCompressor.SAMPLE_COUNT; i++) {
+      if (i % 10 == 0) {
+        compressor = new DictionaryCompressor(resourcePath);
+      }
+      final byte[] page = page(random);
+      pages.add(page);
+      compressedPages.add(compressor.serialize(page));
+    }
+
+    assertEquals(1, dictionaryFiles().size());
+
+    final DictionaryCompressor reader = new DictionaryCompressor(resourcePath);
+    for (int i = 0; i < pages.size(); i++) {
+      assertArrayEquals(pages.get(i), reader.deserialize(compressedPages.get(i)));
+    }
+
+    // The pages compressed with the dictionary are smaller than the ones compressed before.
+    final int before = compressedPages.get(0).length;
+    final int after = compressedPages.get(compressedPages.size() - 1).length;
+    assertTrue(after < before);
+  }
+
+  @Test
+  public void testRecreatedResourceTrainsNewDictionary() throws IOException {
+    final Random random = new Random(7);
+    final DictionaryCompressor compressor = new DictionaryCompressor(resourcePath);
+    for (int i = 0; i < DictionaryCompressor.SAMPLE_COUNT; i++) {
+      compressor.serialize(page(random));
+    }
+    assertEquals(1, dictionaryFiles().size());
+
+    // The resource is removed and created again.
+    for (final Path dictionaryFile : dictionaryFiles()) {
+      Files.delete(dictionaryFile);
+    }
+
+    final List<byte[]> pages = new ArrayList<>();
+    final List<byte[]> compressedPages = new ArrayList<>();
+    final DictionaryCompressor writer = new DictionaryCompressor(resourcePath);
+    for (int i = 0; i < 2 * DictionaryCompressor.SAMPLE_COUNT; i++) {
+      final byte[] page = page(random);
+      pages.add(page);
+      compressedPages.add(writer.serialize(page));
+    }
+    assertEquals(1, dictionaryFiles().size());
+
+    final DictionaryCompressor reader = new DictionaryCompressor(resourcePath);
+    for (int i = 0; i < pages.size(); i++) {
+      assertArrayEquals(pages.get(i), reader.deserialize(compressedPages.get(i)));
+    }
+  }
+
+  @Test
+  public void testInstancesShareTheDictionary() throws IOException {
+    final Random random = new Random(7);
+    final List<byte[]> pages = new ArrayList<>();
+    final List<byte[]> compressedPages = new ArrayList<>();
+
+    // For instance the writers of the data file and of the transaction intent log.
+    final DictionaryCompressor first = new DictionaryCompressor(resourcePath);
+    final DictionaryCompressor second = new DictionaryCompressor(resourcePath);
+    for (int i = 0; i < 3 * DictionaryCompressor.SAMPLE_COUNT; i++) {
+      final byte[] page = page(random);
+      pages.add(page);
+      compressedPages.add((i % 2 == 0 ? first : second).serialize(page));
+    }
+
+    // A single dictionary has been trained and stored.
+    final List<Path> dictionaryFiles = dictionaryFiles();
+    assertEquals(1, dictionaryFiles.size());
+    final byte[] dictionary = Files.readAllBytes(dictionaryFiles.get(0));
+
+    for (final DictionaryCompressor reader : List.of(first, second, new DictionaryCompressor(resourcePath))) {
+      for (int i = 0; i < pages.size(); i++) {
+        assertArrayEquals(pages.get(i), reader.deserialize(compressedPages.get(i)));
+      }
+    }
+    assertArrayEquals(dictionary, Files.readAllBytes(dictionaryFiles.get(0)));
+  }
+}
@@ -89,7 +89,10 @@ public final class ByteHandlerTest {
             new ByteHandlePipeline(new Encryptor(encryptionKeyPath), new DeflateCompressor()),
             new ByteHandlePipeline(new DeflateCompressor(), new Encryptor(encryptionKeyPath)),
             new ByteHandlePipeline(new Encryptor(encryptionKeyPath), new SnappyCompressor()),
-            new ByteHandlePipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath))}}};
+            new ByteHandlePipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath)),
+            new LZ4Compressor(), new DictionaryCompressor(encryptionKeyPath),
+            new ByteHandlePipeline(new LZ4Compressor(), new Encryptor(encryptionKeyPath)),
+            new ByteHandlePipeline(new Encryptor(encryptionKeyPath), new DictionaryCompressor(encryptionKeyPath))}}};
     return returnVal;
   }
 
@@ -0,0 +1,102 @@
+package org.sirix.io.filechannel;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.exception.SirixException;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.IOStorage;
+import org.sirix.io.IOTestHelper;
+import org.sirix.io.Reader;
+import org.sirix.io.StorageType;
+import org.sirix.utils.XmlDocumentCreator;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FileChannelTest {
+
+  private Database<XmlResourceManager> database;
+
+  @Before
+  public void setUp() throws SirixException {
+    XmlTestHelper.deleteEverything();
+    final Path file = XmlTestHelper.PATHS.PATH1.getFile();
+    Databases.createXmlDatabase(XmlTestHelper.PATHS.PATH1.getConfig());
+    database = Databases.openXmlDatabase(file);
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).storageType(StorageType.FILE_CHANNEL).build());
+  }
+
+  @Test
+  public void testFirstRef() throws SirixException {
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      IOTestHelper.testReadWriteFirstRef(manager.getResourceConfig());
+    }
+  }
+
+  @Test
+  public void testRevisions() throws SirixException {
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      XmlDocumentCreator.createVersioned(wtx);
+    }
+
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      assertEquals(3, manager.getMostRecentRevisionNumber());
+
+      for (int revision = 1; revision <= manager.getMostRecentRevisionNumber(); revision++) {
+        try (final var rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          assertTrue(rtx.moveToFirstChild().hasMoved());
+          assertEquals(revision, rtx.getRevisionNumber());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testReadAfterInterrupt() throws SirixException {
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      XmlDocumentCreator.createVersioned(wtx);
+    }
+
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      final IOStorage storage = StorageType.getStorage(manager.getResourceConfig());
+      try {
+        final Reader reader = storage.createReader();
+        final long uberPageKey = reader.readUberPageReference().getKey();
+
+        // The interrupted read fails and closes the shared channel.
+        Thread.currentThread().interrupt();
+        try {
+          reader.readUberPageReference();
+          fail("The read of an interrupted thread succeeded.");
+        } catch (final SirixIOException expected) {
+        } finally {
+          Thread.interrupted();
+        }
+
+        // All other reads use the reopened channel.
+        assertEquals(uberPageKey, reader.readUberPageReference().getKey());
+        assertEquals(uberPageKey, storage.createReader().readUberPageReference().getKey());
+      } finally {
+        storage.close();
+      }
+    }
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    database.close();
+    IOTestHelper.clean();
+  }
+}
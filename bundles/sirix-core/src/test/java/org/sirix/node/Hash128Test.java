@@ -0,0 +1,70 @@
+package org.sirix.node;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class Hash128Test {
+
+  private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+  @Test
+  public void testArithmeticMatchesBigInteger() {
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      final byte[] firstBytes = new byte[random.nextInt(33)];
+      random.nextBytes(firstBytes);
+      if (i % 7 == 0) {
+        Arrays.fill(firstBytes, (byte) -1);
+      }
+      final byte[] secondBytes = new byte[random.nextInt(17)];
+      random.nextBytes(secondBytes);
+
+      final BigInteger first = new BigInteger(1, firstBytes).mod(MODULUS);
+      final BigInteger second = new BigInteger(1, secondBytes).mod(MODULUS);
+      final Hash128 firstHash = Hash128.fromBytes(firstBytes);
+      final Hash128 secondHash = Hash128.fromBytes(secondBytes);
+
+      assertEquals(first, firstHash.toBigInteger());
+      assertEquals(second, secondHash.toBigInteger());
+      assertEquals(first.add(second).mod(MODULUS), firstHash.add(secondHash).toBigInteger());
+      assertEquals(first.subtract(second).mod(MODULUS), firstHash.subtract(secondHash).toBigInteger());
+
+      final long factor = i % 3 == 0 ? random.nextLong() : (i % 3 == 1 ? 77081 : 31);
+      assertEquals(first.multiply(new BigInteger(Long.toUnsignedString(factor))).mod(MODULUS),
+                   firstHash.multiply(factor).toBigInteger());
+
+      assertEquals(firstHash, Hash128.fromBytes(firstHash.toByteArray()));
+      assertEquals(firstHash, Hash128.fromBigInteger(first));
+      assertEquals(first.toString(), firstHash.toString());
+    }
+  }
+
+  @Test
+  public void testZero() {
+    assertTrue(Hash128.of(-1L, -1L).isZero());
+    assertTrue(Hash128.ONE.subtract(Hash128.ONE).isZero());
+    assertArrayEquals(new byte[0], Hash128.ZERO.toByteArray());
+  }
+
+  @Test
+  public void testFromFormerEncoding() {
+    // BigInteger#toByteArray() prepends a sign byte if the highest bit is set.
+    final BigInteger value = MODULUS.subtract(BigInteger.TWO);
+    assertEquals(17, value.toByteArray().length);
+    assertEquals(value, Hash128.fromBytes(value.toByteArray()).toBigInteger());
+    assertEquals(16, Hash128.fromBigInteger(value).toByteArray().length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeBigInteger() {
+    Hash128.fromBigInteger(BigInteger.ONE.negate());
+  }
+}
@@ -0,0 +1,107 @@
+package org.sirix.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.settings.VersioningType;
+import org.sirix.utils.XmlDocumentCreator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares a resource, whose records are deserialized lazily with a resource, whose records are
+ * deserialized once a page is read.
+ */
+public final class LazyRecordDeserializationTest {
+
+  private static final String LAZY_RESOURCE = "lazy";
+
+  private Database<XmlResourceManager> database;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    Databases.createXmlDatabase(XmlTestHelper.PATHS.PATH1.getConfig());
+    database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).build());
+    database.createResource(new ResourceConfiguration.Builder(LAZY_RESOURCE).lazyRecordDeserialization(true).build());
+
+    for (final String resource : new String[] { XmlTestHelper.RESOURCE, LAZY_RESOURCE }) {
+      try (final var manager = database.openResourceManager(resource); final var wtx = manager.beginNodeTrx()) {
+        XmlDocumentCreator.createVersionedWithUpdatesAndDeletes(wtx);
+      }
+    }
+  }
+
+  @After
+  public void tearDown() {
+    database.close();
+    XmlTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testAllRevisions() {
+    try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final var lazyManager = database.openResourceManager(LAZY_RESOURCE)) {
+      assertTrue(lazyManager.getResourceConfig().lazyRecordDeserialization);
+      assertEquals(manager.getMostRecentRevisionNumber(), lazyManager.getMostRecentRevisionNumber());
+
+      for (int revision = 1; revision <= manager.getMostRecentRevisionNumber(); revision++) {
+        try (final var rtx = manager.beginNodeReadOnlyTrx(revision);
+            final var lazyRtx = lazyManager.beginNodeReadOnlyTrx(revision)) {
+          assertSameNodes(rtx, lazyRtx);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testVersioningTypes() {
+    for (final VersioningType versioningType : VersioningType.values()) {
+      final String resource = LAZY_RESOURCE + "-" + versioningType.name().toLowerCase();
+      database.createResource(new ResourceConfiguration.Builder(resource).versioningApproach(versioningType)
+                                                                          .revisionsToRestore(2)
+                                                                          .lazyRecordDeserialization(true)
+                                                                          .build());
+      try (final var manager = database.openResourceManager(resource); final var wtx = manager.beginNodeTrx()) {
+        XmlDocumentCreator.createVersionedWithUpdatesAndDeletes(wtx);
+      }
+
+      try (final var manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+          final var lazyManager = database.openResourceManager(resource)) {
+        for (int revision = 1; revision <= manager.getMostRecentRevisionNumber(); revision++) {
+          try (final var rtx = manager.beginNodeReadOnlyTrx(revision);
+              final var lazyRtx = lazyManager.beginNodeReadOnlyTrx(revision)) {
+            assertSameNodes(rtx, lazyRtx);
+          }
+        }
+      }
+    }
+  }
+
+  private static void assertSameNodes(final XmlNodeReadOnlyTrx rtx, final XmlNodeReadOnlyTrx lazyRtx) {
+    final var axis = new DescendantAxis(rtx, IncludeSelf.YES);
+    final var lazyAxis = new DescendantAxis(lazyRtx, IncludeSelf.YES);
+
+    while (axis.hasNext()) {
+      assertTrue(lazyAxis.hasNext());
+      assertEquals(axis.next(), lazyAxis.next());
+      assertEquals(rtx.getKind(), lazyRtx.getKind());
+      assertEquals(rtx.getName(), lazyRtx.getName());
+      assertEquals(rtx.getValue(), lazyRtx.getValue());
+      assertEquals(rtx.getHash(), lazyRtx.getHash());
+    }
+
+    assertFalse(lazyAxis.hasNext());
+  }
+}
@@ -22,6 +22,7 @@
 package org.sirix.page;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -29,6 +30,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
@@ -38,12 +40,15 @@ import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.node.NodeKind.DumbNode;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.NameNode;
 import org.sirix.node.xml.ElementNode;
+import org.sirix.settings.Constants;
 import org.sirix.utils.NamePageHash;
 import com.google.common.collect.HashBiMap;
 import com.google.common.hash.Hashing;
@@ -121,4 +126,37 @@ public final class NodePageTest {
     assertEquals(7, ((NameNode) page2.getValue(0l)).getLocalNameKey());
     assertEquals(NamePageHash.generateHashForString("xs:untyped"), element.getTypeKey());
   }
+
+  @Test
+  public void testEntriesAreOrderedByKey() {
+    final UnorderedKeyValuePage page =
+        new UnorderedKeyValuePage(1L, PageKind.RECORDPAGE, List.of(), mPageReadTrx);
+    final long firstKey = 1L << Constants.NDP_NODE_COUNT_EXPONENT;
+    final long[] keys = { firstKey + 200, firstKey + 3, firstKey + 255, firstKey };
+    for (final long key : keys) {
+      page.setEntry(key, new DumbNode(key));
+    }
+    page.setEntry(firstKey + 3, new DumbNode(firstKey + 3));
+
+    assertEquals(4, page.size());
+    assertEquals(firstKey + 200, page.getValue(firstKey + 200).getNodeKey());
+    assertNull(page.getValue(firstKey + 1));
+
+    final List<Long> iteratedKeys = new ArrayList<>();
+    for (final Map.Entry<Long, DataRecord> entry : page.entrySet()) {
+      assertEquals(entry.getKey().longValue(), entry.getValue().getNodeKey());
+      iteratedKeys.add(entry.getKey());
+    }
+    assertEquals(List.of(firstKey, firstKey + 3, firstKey + 200, firstKey + 255), iteratedKeys);
+
+    // The page has no references to overflow pages so far.
+    assertEquals(0, page.referenceEntrySet().size());
+    assertNull(page.getPageReference(firstKey + 3));
+
+    final PageReference reference = new PageReference().setKey(42);
+    page.setPageReference(firstKey + 7, reference);
+    assertEquals(5, page.size());
+    assertEquals(reference, page.getPageReference(firstKey + 7));
+    assertEquals(1, page.referenceEntrySet().size());
+  }
 }
@@ -8,11 +8,13 @@ import org.sirix.access.trx.node.json.objectvalue.StringValue;
 import org.sirix.service.json.shredder.JsonShredder;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public final class BasicJsonDiffTest {
   private static final Path JSON = Paths.get("src", "test", "resources", "json");
@@ -50,6 +52,25 @@ public final class BasicJsonDiffTest {
     }
   }
 
+  @Test
+  public void test_whenDiffIsWrittenToWriter_thenSameAsString() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    assert database != null;
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(15);
+      wtx.insertObjectRecordAsRightSibling("hereIAm", new StringValue("<yeah>"));
+      wtx.commit();
+
+      final var out = new StringWriter();
+      new BasicJsonDiff().generateDiff(manager, 1, 2, 0, 0, out);
+      assertEquals(new BasicJsonDiff().generateDiff(manager, 1, 2), out.toString());
+      assertTrue(out.toString().contains("<yeah>"));
+    }
+  }
+
   @Test
   public void test_whenMultipleRevisionsExist_thenDiff2() throws IOException {
     JsonTestHelper.createTestDocument();
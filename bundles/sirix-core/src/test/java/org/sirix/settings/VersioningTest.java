@@ -37,6 +37,7 @@ import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.io.StorageType;
 
 /** Test revisioning. */
 public class VersioningTest {
@@ -166,6 +167,17 @@ public class VersioningTest {
     test2();
   }
 
+  @Test
+  public void testSlidingSnapshotWithFileChannelStorage() throws SirixException {
+    mDatabase.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                                 .storageType(StorageType.FILE_CHANNEL)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    test1();
+  }
+
   /**
    * Test revisioning.
    *
@@ -0,0 +1,90 @@
+package org.sirix.utils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SymbolTableTest {
+
+  private static final String[] CITIES = { "Berlin", "Konstanz", "Frankfurt am Main", "Hamburg", "Munich" };
+
+  private static List<byte[]> values(final int count) {
+    final Random random = new Random(5);
+    final List<byte[]> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      values.add((CITIES[random.nextInt(CITIES.length)] + " " + random.nextInt(1000)).getBytes(StandardCharsets.UTF_8));
+    }
+    return values;
+  }
+
+  @Test
+  public void testEncodeAndDecode() {
+    final List<byte[]> values = values(2000);
+    final SymbolTable symbolTable = SymbolTable.train(values.subList(0, 500));
+    assertTrue(symbolTable.size() > 0);
+    assertTrue(symbolTable.size() <= SymbolTable.MAX_SYMBOLS);
+
+    int length = 0;
+    int encodedLength = 0;
+    for (final byte[] value : values) {
+      final byte[] encoded = symbolTable.encode(value);
+      assertArrayEquals(value, symbolTable.decode(encoded));
+      length += value.length;
+      encodedLength += encoded.length;
+    }
+    assertTrue(encodedLength * 2 < length);
+
+    // Bytes without a symbol are escaped.
+    final byte[] randomBytes = new byte[1000];
+    new Random(5).nextBytes(randomBytes);
+    assertArrayEquals(randomBytes, symbolTable.decode(symbolTable.encode(randomBytes)));
+    assertArrayEquals(new byte[0], symbolTable.decode(symbolTable.encode(new byte[0])));
+  }
+
+  @Test
+  public void testEncodedValuesAreComparable() {
+    final SymbolTable symbolTable = SymbolTable.train(values(500));
+    final byte[] berlin = "Berlin 42".getBytes(StandardCharsets.UTF_8);
+    final byte[] hamburg = "Hamburg 42".getBytes(StandardCharsets.UTF_8);
+
+    assertArrayEquals(symbolTable.encode(berlin), symbolTable.encode(berlin.clone()));
+    assertFalse(Arrays.equals(symbolTable.encode(berlin), symbolTable.encode(hamburg)));
+  }
+
+  @Test
+  public void testSerializeAndDeserialize() throws IOException {
+    final List<byte[]> values = values(500);
+    final SymbolTable symbolTable = SymbolTable.train(values);
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    symbolTable.serialize(new DataOutputStream(output));
+    final SymbolTable deserializedSymbolTable =
+        SymbolTable.deserialize(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+
+    assertEquals(symbolTable.size(), deserializedSymbolTable.size());
+    for (final byte[] value : values) {
+      assertArrayEquals(symbolTable.encode(value), deserializedSymbolTable.encode(value));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMalformedEncodedValue() {
+    final SymbolTable symbolTable = SymbolTable.train(values(500));
+    // An escape without the escaped byte.
+    symbolTable.decode(new byte[] { (byte) 255 });
+  }
+}
@@ -18,6 +18,7 @@ import org.sirix.access.trx.node.HashType
 import org.sirix.api.Database
 import org.sirix.api.NodeTrx
 import org.sirix.api.ResourceManager
+import org.sirix.node.Hash128
 import java.math.BigInteger
 import java.nio.file.Files
 import java.nio.file.Path
@@ -134,7 +135,7 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
                             routingContext.fail(IllegalStateException("Hash code is missing in ETag HTTP-Header."))
                         }
 
-                        if (wtx.hash != BigInteger(hashCode)) {
+                        if (wtx.hash != Hash128.fromBigInteger(BigInteger(hashCode))) {
                             routingContext.fail(IllegalArgumentException("Someone might have changed the resource in the meantime."))
                         }
                     }
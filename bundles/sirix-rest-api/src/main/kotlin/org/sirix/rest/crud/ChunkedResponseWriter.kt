@@ -0,0 +1,116 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.Writer
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * Streams everything written to it as chunks of an HTTP response, such that serializers, which write to an
+ * [Appendable], send the first bytes right away instead of buffering the whole result.
+ *
+ * Characters are buffered until [chunkSize] is reached. If the write queue of the response is full, the writing
+ * (worker) thread blocks until it has been drained, so a serializer can't get ahead of a slow client. On an event
+ * loop thread it never blocks. Closing the writer ends the response. Use [writeAndClose] to reset the response if the
+ * serializer fails after the first chunk has been sent, such that a client doesn't take a truncated response for a
+ * complete one.
+ *
+ * The writer doesn't set a close handler on the response, which would replace a handler set by someone else. Whether
+ * the client has closed the connection is checked instead, while the writer waits for the write queue to be drained.
+ *
+ * As each chunk is encoded on its own, a high surrogate at the end of a chunk is held back until its low surrogate
+ * has been written (or the writer is closed), such that characters outside the BMP aren't split between chunks.
+ */
+class ChunkedResponseWriter(
+    private val response: HttpServerResponse,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : Writer() {
+    companion object {
+        const val DEFAULT_CHUNK_SIZE = 8192
+    }
+
+    private val buffer = StringBuilder(chunkSize)
+
+    init {
+        response.isChunked = true
+    }
+
+    /**
+     * Runs [write], which writes to this writer, and closes the writer afterwards, which ends the response. If
+     * [write] fails after the first chunk has been sent, the response is reset. Otherwise the response is left
+     * untouched, such that the failure handler of the route is able to send an error response.
+     */
+    fun <R> writeAndClose(write: () -> R): R {
+        try {
+            val result = write()
+            close()
+            return result
+        } catch (e: Throwable) {
+            if (response.headWritten() && !response.ended() && !response.closed())
+                response.reset()
+            throw e
+        }
+    }
+
+    override fun write(cbuf: CharArray, off: Int, len: Int) {
+        buffer.append(cbuf, off, len)
+        if (buffer.length >= chunkSize)
+            writeChunk()
+    }
+
+    override fun write(str: String, off: Int, len: Int) {
+        buffer.append(str, off, off + len)
+        if (buffer.length >= chunkSize)
+            writeChunk()
+    }
+
+    override fun flush() {
+        writeChunk()
+    }
+
+    override fun close() {
+        writeChunk(isLast = true)
+
+        if (!response.closed())
+            response.end()
+    }
+
+    private fun writeChunk(isLast: Boolean = false) {
+        val length =
+            if (!isLast && buffer.isNotEmpty() && Character.isHighSurrogate(buffer[buffer.length - 1]))
+                buffer.length - 1
+            else
+                buffer.length
+
+        if (length == 0)
+            return
+
+        awaitDrain()
+
+        response.write(Buffer.buffer(buffer.substring(0, length)))
+        buffer.delete(0, length)
+    }
+
+    private fun awaitDrain() {
+        if (response.closed())
+            throw IOException("The connection has been closed by the client.")
+
+        if (!response.writeQueueFull() || Context.isOnEventLoopThread())
+            return
+
+        val latch = CountDownLatch(1)
+        response.drainHandler { latch.countDown() }
+
+        // The queue might have been drained before the handler has been set, and a closed connection is never
+        // drained, so both are checked periodically.
+        while (response.writeQueueFull() && !response.closed()) {
+            latch.await(100, TimeUnit.MILLISECONDS)
+        }
+
+        if (response.closed())
+            throw IOException("The connection has been closed by the client.")
+    }
+}
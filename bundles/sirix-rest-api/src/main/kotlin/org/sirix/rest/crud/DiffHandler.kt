@@ -14,8 +14,6 @@ import org.sirix.api.Database
 import org.sirix.api.json.JsonNodeReadOnlyTrx
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.service.json.BasicJsonDiff
-import java.nio.charset.StandardCharsets
-import java.nio.file.Files
 import java.nio.file.Path
 import java.util.function.Consumer
 
@@ -37,21 +35,24 @@ class DiffHandler(private val location: Path) {
 
             resourceManager.use {
                 if (resourceManager is JsonResourceManager) {
-                    val diff = context.executeBlockingAwait<String> { resultPromise ->
-                        val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
-                        val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
+                    val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
+                    val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
 
-                        if (firstRevision == null || secondRevision == null) {
-                            ctx.fail(IllegalArgumentException("First and second revision must be specified."))
-                            return@executeBlockingAwait
-                        }
+                    if (firstRevision == null || secondRevision == null) {
+                        ctx.fail(IllegalArgumentException("First and second revision must be specified."))
+                        return ctx.currentRoute()
+                    }
 
+                    context.executeBlockingAwait { promise: Promise<Unit> ->
                         val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
                         val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
 
                         val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
                         val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
 
+                        ctx.response().setStatusCode(200)
+                            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+
                         if (resourceManager.resourceConfig.areDeweyIDsStored && secondRevision.toInt() - 1 == firstRevision.toInt()) {
                             if (startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
                                 val diffPath = resourceManager.getResourceConfig()
@@ -59,7 +60,7 @@ class DiffHandler(private val location: Path) {
                                     .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
                                     .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
 
-                                resultPromise.complete(Files.readString(diffPath))
+                                ctx.response().sendFile(diffPath.toString())
                             } else {
                                 val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
 
@@ -72,31 +73,27 @@ class DiffHandler(private val location: Path) {
                                         firstRevision,
                                         secondRevision,
                                         maxDepthAsLong,
-                                        resultPromise
+                                        ChunkedResponseWriter(ctx.response())
                                     )
                                 }
                             }
                         } else {
-                            resultPromise.complete(
+                            val out = ChunkedResponseWriter(ctx.response())
+
+                            out.writeAndClose {
                                 BasicJsonDiff().generateDiff(
                                     resourceManager,
                                     firstRevision.toInt(),
                                     secondRevision.toInt(),
                                     startNodeKeyAsLong,
-                                    maxDepthAsLong
+                                    maxDepthAsLong,
+                                    out
                                 )
-                            )
+                            }
                         }
-                    }
 
-                    ctx.response().setStatusCode(200)
-                        .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                        .putHeader(
-                            HttpHeaders.CONTENT_LENGTH,
-                            diff!!.toByteArray(StandardCharsets.UTF_8).size.toString()
-                        )
-                        .write(diff)
-                        .end()
+                        promise.complete(null)
+                    }
                 }
             }
         }
@@ -112,7 +109,7 @@ class DiffHandler(private val location: Path) {
         firstRevision: String,
         secondRevision: String,
         maxDepthAsLong: Long,
-        resultPromise: Promise<String>
+        out: ChunkedResponseWriter
     ) {
         rtx.moveTo(startNodeKeyAsLong)
         val metaInfo = createMetaInfo(
@@ -126,8 +123,7 @@ class DiffHandler(private val location: Path) {
         val updateOperations =
             rtx.getUpdateOperationsInSubtreeOfNode(rtx.deweyID, maxDepthAsLong)
         updateOperations.forEach { diffs.add(it) }
-        val json = metaInfo.toString()
-        resultPromise.complete(json)
+        out.writeAndClose { out.write(metaInfo.toString()) }
     }
 
     private fun openDatabase(databaseName: String): Database<*> {
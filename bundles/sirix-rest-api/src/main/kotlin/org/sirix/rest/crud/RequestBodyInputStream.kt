@@ -0,0 +1,123 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerRequest
+import java.io.IOException
+import java.io.InputStream
+import java.util.concurrent.LinkedBlockingQueue
+
+/**
+ * An [InputStream] over the body of an HTTP request, which is fed with the body buffers as they arrive, such that a
+ * (pull-based) parser on a worker thread can consume the body while it is still being uploaded.
+ *
+ * The event loop never blocks: if more than [maxQueuedBuffers] buffers have not been consumed yet, the request is
+ * paused and resumed once the reader has caught up. The request has to be paused when the stream is created and is
+ * resumed by the constructor.
+ */
+class RequestBodyInputStream(
+    private val request: HttpServerRequest,
+    private val context: Context,
+    private val maxQueuedBuffers: Int = DEFAULT_MAX_QUEUED_BUFFERS
+) : InputStream() {
+    companion object {
+        const val DEFAULT_MAX_QUEUED_BUFFERS = 16
+
+        /** Marks the end of the body. */
+        private val END_OF_BODY = Buffer.buffer()
+    }
+
+    private val buffers = LinkedBlockingQueue<Buffer>()
+
+    @Volatile
+    private var failure: Throwable? = null
+
+    /** Only modified on the event loop. */
+    @Volatile
+    private var isPaused = false
+
+    /** Determines if a resume has been scheduled on the event loop, but hasn't run yet. */
+    @Volatile
+    private var isResumeScheduled = false
+
+    private var currentBuffer: Buffer? = null
+
+    private var position = 0
+
+    private var isEndOfBody = false
+
+    init {
+        request.handler { buffer ->
+            // Paused before the buffer is added, such that the reader sees the flag once it has taken the buffer.
+            if (!isPaused && buffers.size + 1 >= maxQueuedBuffers) {
+                isPaused = true
+                request.pause()
+            }
+
+            buffers.add(buffer)
+        }
+        request.exceptionHandler { e ->
+            failure = e
+            buffers.add(END_OF_BODY)
+        }
+        request.endHandler { buffers.add(END_OF_BODY) }
+        request.resume()
+    }
+
+    override fun read(): Int {
+        val buffer = nextBuffer() ?: return -1
+        return buffer.getByte(position++).toInt() and 0xFF
+    }
+
+    override fun read(bytes: ByteArray, off: Int, len: Int): Int {
+        if (len == 0)
+            return 0
+
+        val buffer = nextBuffer() ?: return -1
+        val length = minOf(len, buffer.length() - position)
+        buffer.getBytes(position, position + length, bytes, off)
+        position += length
+        return length
+    }
+
+    override fun available(): Int {
+        val buffer = currentBuffer ?: return 0
+        return buffer.length() - position
+    }
+
+    private fun nextBuffer(): Buffer? {
+        while (!isEndOfBody) {
+            val buffer = currentBuffer
+
+            if (buffer != null && position < buffer.length())
+                return buffer
+
+            val nextBuffer = buffers.take()
+            resumeIfCaughtUp()
+
+            if (nextBuffer === END_OF_BODY) {
+                isEndOfBody = true
+                currentBuffer = null
+                failure?.let { throw IOException("Failed to receive the request body.", it) }
+            } else {
+                currentBuffer = nextBuffer
+                position = 0
+            }
+        }
+
+        return null
+    }
+
+    private fun resumeIfCaughtUp() {
+        if (isPaused && !isResumeScheduled && buffers.size <= maxQueuedBuffers / 2) {
+            isResumeScheduled = true
+            context.runOnContext {
+                isResumeScheduled = false
+                if (isPaused && buffers.size <= maxQueuedBuffers / 2) {
+                    isPaused = false
+                    request.resume()
+                }
+            }
+        }
+    }
+}
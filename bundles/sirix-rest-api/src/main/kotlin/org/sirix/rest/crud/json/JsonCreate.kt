@@ -1,17 +1,13 @@
 package org.sirix.rest.crud.json
 
+import com.google.gson.stream.JsonReader
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.file.OpenOptions
 import io.vertx.core.file.impl.FileResolver
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.ext.web.handler.BodyHandler
 import io.vertx.kotlin.core.executeBlockingAwait
-import io.vertx.kotlin.core.file.closeAwait
-import io.vertx.kotlin.core.file.deleteAwait
-import io.vertx.kotlin.core.file.openAwait
-import io.vertx.kotlin.core.http.pipeToAwait
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
@@ -21,14 +17,16 @@ import org.sirix.access.Databases
 import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.ChunkedResponseWriter
+import org.sirix.rest.crud.RequestBodyInputStream
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
-import java.io.StringWriter
+import java.io.InputStreamReader
+import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
-import java.util.*
 
 class JsonCreate(
     private val location: Path,
@@ -118,15 +116,9 @@ class JsonCreate(
         dispatcher: CoroutineDispatcher,
         ctx: RoutingContext
     ) {
+        // The body is shredded while it is received, without storing it in a temporary file first.
         ctx.request().pause()
-        val fileResolver = FileResolver()
-        val filePath = fileResolver.resolveFile(UUID.randomUUID().toString())
-        val file = ctx.vertx().fileSystem().openAwait(
-            filePath.toString(),
-            OpenOptions()
-        )
-        ctx.request().resume()
-        ctx.request().pipeToAwait(file)
+        val body = RequestBodyInputStream(ctx.request(), ctx.vertx().orCreateContext)
 
         withContext(Dispatchers.IO) {
             val sirixDBUser = SirixDBUser.create(ctx)
@@ -144,10 +136,10 @@ class JsonCreate(
                 val manager = database.openResourceManager(resPathName)
 
                 manager.use {
-                    val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
-
-                    ctx.vertx().fileSystem().deleteAwait(pathToFile.toAbsolutePath().toString())
+                    val maxNodeKey = insertJsonSubtreeAsFirstChild(
+                        manager,
+                        JsonShredder.createReader(InputStreamReader(body, StandardCharsets.UTF_8))
+                    )
 
                     if (maxNodeKey < 5000) {
                         serializeJson(manager, ctx)
@@ -164,7 +156,7 @@ class JsonCreate(
         routingCtx: RoutingContext
     ) {
         withContext(Dispatchers.IO) {
-            val out = StringWriter()
+            val out = ChunkedResponseWriter(routingCtx.response())
             val serializerBuilder = JsonSerializer.newBuilder(manager, out)
             val serializer = serializerBuilder.build()
 
@@ -215,11 +207,17 @@ class JsonCreate(
     private suspend fun insertJsonSubtreeAsFirstChild(
         manager: JsonResourceManager,
         resFileToStore: Path
+    ): Long {
+        return insertJsonSubtreeAsFirstChild(manager, JsonShredder.createFileReader(resFileToStore))
+    }
+
+    private suspend fun insertJsonSubtreeAsFirstChild(
+        manager: JsonResourceManager,
+        eventReader: JsonReader
     ): Long {
         return withContext(Dispatchers.IO) {
             val wtx = manager.beginNodeTrx()
             return@withContext wtx.use {
-                val eventReader = JsonShredder.createFileReader(resFileToStore)
                 eventReader.use {
                     wtx.insertSubtreeAsFirstChild(eventReader)
                 }
@@ -17,6 +17,7 @@ import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.exception.SirixUsageException
+import org.sirix.rest.crud.ChunkedResponseWriter
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.xml.XmlSessionDBStore
@@ -26,8 +27,6 @@ import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
-import java.io.StringWriter
-import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 class JsonGet(private val location: Path) {
@@ -83,7 +82,10 @@ class JsonGet(private val location: Path) {
                                 endRevisionTimestamp, manager, revision, revisionTimestamp
                             )
 
-                        serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                        vertxContext.executeBlockingAwait { promise: Promise<Nothing> ->
+                            serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                            promise.complete(null)
+                        }
                     }
                 }
             } catch (e: SirixUsageException) {
@@ -154,28 +156,22 @@ class JsonGet(private val location: Path) {
             queryCtx.use {
                 node.let { queryCtx.contextItem = node }
 
-                val out = StringBuilder()
-
-                executeQueryAndSerialize(
-                    xmlDBStore,
-                    jsonDBStore,
-                    out,
-                    startResultSeqIndex,
-                    query,
-                    queryCtx,
-                    endResultSeqIndex
-                )
-
-                val body = out.toString()
-
                 routingContext.response().setStatusCode(200)
                     .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                    .putHeader(
-                        HttpHeaders.CONTENT_LENGTH,
-                        body.toByteArray(StandardCharsets.UTF_8).size.toString()
+
+                val out = ChunkedResponseWriter(routingContext.response())
+
+                out.writeAndClose {
+                    executeQueryAndSerialize(
+                        xmlDBStore,
+                        jsonDBStore,
+                        out,
+                        startResultSeqIndex,
+                        query,
+                        queryCtx,
+                        endResultSeqIndex
                     )
-                    .write(body)
-                    .end()
+                }
             }
 
             promise.complete(null)
@@ -185,7 +181,7 @@ class JsonGet(private val location: Path) {
     private fun executeQueryAndSerialize(
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: StringBuilder,
+        out: Appendable,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext?,
@@ -212,7 +208,7 @@ class JsonGet(private val location: Path) {
         manager: JsonResourceManager, revisions: Array<Int>, nodeId: Long?,
         ctx: RoutingContext
     ) {
-        val out = StringWriter()
+        val out = ChunkedResponseWriter(ctx.response())
 
         val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions.toIntArray())
 
@@ -4,41 +4,35 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.ChunkedResponseWriter
 import org.sirix.service.json.serialize.JsonSerializer
-import java.io.StringWriter
-import java.nio.charset.StandardCharsets
 
 class JsonSerializeHelper {
     fun serialize(
         serializer: JsonSerializer,
-        out: StringWriter,
+        out: ChunkedResponseWriter,
         ctx: RoutingContext,
         manager: JsonResourceManager,
         nodeId: Long?
     ) {
-        serializer.call()
-
-        val body = out.toString()
-
+        // The headers have to be set before the first chunk is written.
         if (manager.resourceConfig.hashType == HashType.NONE) {
-            writeResponseWithoutHashValue(ctx, body)
+            writeResponseHeadersWithoutHashValue(ctx)
         } else {
-            writeResponseWithHashValue(manager, ctx, body, nodeId)
+            writeResponseHeadersWithHashValue(manager, ctx, nodeId)
         }
+
+        out.writeAndClose { serializer.call() }
     }
 
-    private fun writeResponseWithoutHashValue(ctx: RoutingContext, body: String) {
+    private fun writeResponseHeadersWithoutHashValue(ctx: RoutingContext) {
         ctx.response().setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-            .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
-            .write(body)
-            .end()
     }
 
-    private fun writeResponseWithHashValue(
+    private fun writeResponseHeadersWithHashValue(
         manager: JsonResourceManager,
         ctx: RoutingContext,
-        body: String,
         nodeId: Long?
     ) {
         val rtx = manager.beginNodeReadOnlyTrx()
@@ -51,10 +45,7 @@ class JsonSerializeHelper {
 
             ctx.response().setStatusCode(200)
                 .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
                 .putHeader(HttpHeaders.ETAG, hash.toString())
-                .write(body)
-                .end()
         }
     }
-}
\ No newline at end of file
+}
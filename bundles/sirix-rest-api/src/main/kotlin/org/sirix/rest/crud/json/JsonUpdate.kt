@@ -12,13 +12,14 @@ import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.access.trx.node.json.objectvalue.*
 import org.sirix.api.json.JsonNodeTrx
+import org.sirix.node.Hash128
+import org.sirix.rest.crud.ChunkedResponseWriter
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
 import org.sirix.service.json.JsonNumber
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
 import java.io.IOException
-import java.io.StringWriter
 import java.math.BigInteger
 import java.nio.file.Path
 
@@ -187,7 +188,7 @@ class JsonUpdate(private val location: Path) {
                                 ctx.fail(IllegalStateException("Hash code is missing in ETag HTTP-Header."))
                             }
 
-                            if (wtx.hash != BigInteger(hashCode)) {
+                            if (wtx.hash != Hash128.fromBigInteger(BigInteger(hashCode))) {
                                 ctx.fail(IllegalArgumentException("Someone might have changed the resource in the meantime."))
                             }
                         }
@@ -231,7 +232,7 @@ class JsonUpdate(private val location: Path) {
                             ctx.response().putHeader(HttpHeaders.ETAG, hash.toString()).end()
                         }
                     } else {
-                        val out = StringWriter()
+                        val out = ChunkedResponseWriter(ctx.response())
                         val serializerBuilder = JsonSerializer.newBuilder(manager, out)
                         val serializer = serializerBuilder.build()
 
@@ -8,6 +8,7 @@ import io.vertx.kotlin.core.executeBlockingAwait
 import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlNodeTrx
+import org.sirix.node.Hash128
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
@@ -96,7 +97,7 @@ class XmlUpdate(private val location: Path) {
                                 ctx.fail(IllegalStateException("Hash code is missing in ETag HTTP-Header."))
                             }
 
-                            if (wtx.hash != BigInteger(hashCode)) {
+                            if (wtx.hash != Hash128.fromBigInteger(BigInteger(hashCode))) {
                                 ctx.fail(IllegalArgumentException("Someone might have changed the resource in the meantime."))
                             }
                         }
@@ -1289,6 +1289,56 @@ class SirixVerticleJsonTest {
         }
     }
 
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing the serialization of a resource, which is streamed in multiple chunks, with characters outside the BMP")
+    fun testSerializeChunkedNonBmpCharacters(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                // Surrogate pairs at each offset, such that some of them span the boundaries of the chunks.
+                val json = (1..3000).joinToString(",", "[", "]") { "\"${"a".repeat(it % 3)}\uD83D\uDE00\"" }
+
+                val credentials = json {
+                    obj(
+                        "username" to "admin",
+                        "password" to "admin"
+                    )
+                }
+
+                val response = client.postAbs("$server/token").sendJsonAwait(credentials)
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                val user = response.bodyAsJsonObject()
+                accessToken = user.getString("access_token")
+
+                var httpResponse = client.putAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendBufferAwait(Buffer.buffer(json))
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                }
+
+                httpResponse = client.getAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertEquals(-1, httpResponse.bodyAsString().indexOf('\uFFFD'))
+                    JSONAssert.assertEquals(json, httpResponse.bodyAsString(), true)
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
     private suspend fun VertxTestContext.verifyCoroutine(block: suspend () -> Unit) = coroutineScope {
         launch(coroutineContext) {
             try {
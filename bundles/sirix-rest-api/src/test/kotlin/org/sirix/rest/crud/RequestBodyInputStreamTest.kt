@@ -0,0 +1,117 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Context
+import io.vertx.core.Handler
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerRequest
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentCaptor
+import org.mockito.ArgumentMatchers.any
+import org.mockito.Mockito.doAnswer
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import java.io.IOException
+
+@DisplayName("Reading a request body, which is still being received")
+class RequestBodyInputStreamTest {
+    private lateinit var request: HttpServerRequest
+
+    private lateinit var context: Context
+
+    private lateinit var input: RequestBodyInputStream
+
+    private lateinit var dataHandler: Handler<Buffer>
+
+    private lateinit var exceptionHandler: Handler<Throwable>
+
+    private lateinit var endHandler: Handler<Void?>
+
+    @BeforeEach
+    @Suppress("UNCHECKED_CAST")
+    fun setup() {
+        request = mock(HttpServerRequest::class.java)
+        context = mock(Context::class.java)
+
+        // Run the handlers scheduled on the event loop right away.
+        doAnswer { invocation ->
+            (invocation.arguments[0] as Handler<Void?>).handle(null)
+            null
+        }.`when`(context).runOnContext(any())
+
+        input = RequestBodyInputStream(request, context)
+
+        val dataHandlerCaptor = ArgumentCaptor.forClass(Handler::class.java) as ArgumentCaptor<Handler<Buffer>>
+        verify(request).handler(dataHandlerCaptor.capture())
+        dataHandler = dataHandlerCaptor.value
+
+        val exceptionHandlerCaptor = ArgumentCaptor.forClass(Handler::class.java) as ArgumentCaptor<Handler<Throwable>>
+        verify(request).exceptionHandler(exceptionHandlerCaptor.capture())
+        exceptionHandler = exceptionHandlerCaptor.value
+
+        val endHandlerCaptor = ArgumentCaptor.forClass(Handler::class.java) as ArgumentCaptor<Handler<Void?>>
+        verify(request).endHandler(endHandlerCaptor.capture())
+        endHandler = endHandlerCaptor.value
+
+        verify(request).resume()
+    }
+
+    @Test
+    @DisplayName("Pausing the request once too many buffers are queued and resuming it once the reader caught up")
+    fun testPauseAndResume() {
+        repeat(RequestBodyInputStream.DEFAULT_MAX_QUEUED_BUFFERS - 1) { dataHandler.handle(Buffer.buffer("a")) }
+        verify(request, never()).pause()
+
+        dataHandler.handle(Buffer.buffer("a"))
+        verify(request).pause()
+
+        // The request is resumed once half of the buffers have been consumed.
+        repeat(RequestBodyInputStream.DEFAULT_MAX_QUEUED_BUFFERS / 2 - 1) { assertEquals('a'.toInt(), input.read()) }
+        verify(context, never()).runOnContext(any())
+
+        assertEquals('a'.toInt(), input.read())
+        verify(context).runOnContext(any())
+        verify(request, times(2)).resume()
+
+        // Consuming further buffers doesn't schedule another resume.
+        repeat(RequestBodyInputStream.DEFAULT_MAX_QUEUED_BUFFERS / 2) { assertEquals('a'.toInt(), input.read()) }
+        verify(context).runOnContext(any())
+        verify(request, times(2)).resume()
+    }
+
+    @Test
+    @DisplayName("Reading the body up to its end")
+    fun testEndOfBody() {
+        dataHandler.handle(Buffer.buffer("ab"))
+        dataHandler.handle(Buffer.buffer("cde"))
+        endHandler.handle(null)
+
+        val bytes = ByteArray(8)
+        assertEquals(2, input.read(bytes, 0, bytes.size))
+        assertEquals(3, input.read(bytes, 2, bytes.size - 2))
+        assertEquals("abcde", String(bytes, 0, 5))
+        assertEquals(-1, input.read(bytes, 0, bytes.size))
+        assertEquals(-1, input.read())
+
+        verify(request, never()).pause()
+        verify(context, never()).runOnContext(any())
+    }
+
+    @Test
+    @DisplayName("Failing to read the body, once receiving it failed")
+    fun testFailure() {
+        val failure = IllegalStateException("Connection reset")
+        dataHandler.handle(Buffer.buffer("a"))
+        exceptionHandler.handle(failure)
+
+        assertEquals('a'.toInt(), input.read())
+        val exception = assertThrows(IOException::class.java) { input.read() }
+        assertSame(failure, exception.cause)
+    }
+}
@@ -78,9 +78,13 @@ public final class JNFun {
         new Future(Future.FUTURE, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
     Functions.predefine(new Future(Future.FUTURE, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM,
         new SequenceType(AtomicType.BOOL, Cardinality.One))));
+    Functions.predefine(new Future(Future.FUTURE, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM,
+        new SequenceType(AtomicType.BOOL, Cardinality.One), new SequenceType(AtomicType.BOOL, Cardinality.One))));
     Functions.predefine(new Past(Past.PAST, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
     Functions.predefine(new Past(Past.PAST, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM,
         new SequenceType(AtomicType.BOOL, Cardinality.One))));
+    Functions.predefine(new Past(Past.PAST, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM,
+        new SequenceType(AtomicType.BOOL, Cardinality.One), new SequenceType(AtomicType.BOOL, Cardinality.One))));
     Functions.predefine(new Next(Next.NEXT,
         new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM, Cardinality.ZeroOrOne), SequenceType.JSON_ITEM)));
     Functions.predefine(new Previous(Previous.PREVIOUS,
@@ -91,6 +95,8 @@ public final class JNFun {
         new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM, Cardinality.ZeroOrOne), SequenceType.JSON_ITEM)));
     Functions.predefine(
         new AllTimes(AllTimes.ALL_TIMES, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
+    Functions.predefine(new AllTimes(AllTimes.ALL_TIMES, new Signature(SequenceType.JSON_ITEM_SEQUENCE,
+        SequenceType.JSON_ITEM, new SequenceType(AtomicType.BOOL, Cardinality.One))));
 
     // store
     Functions.predefine(new Store(false));
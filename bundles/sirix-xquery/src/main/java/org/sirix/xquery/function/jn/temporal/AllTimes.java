@@ -12,8 +12,14 @@ import org.brackit.xquery.xdm.Iter;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Signature;
 import org.brackit.xquery.xdm.Stream;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.Versions;
+import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.function.jn.JNFun;
+import org.sirix.xquery.json.JsonDBItem;
 import org.sirix.xquery.json.TemporalJsonDBItem;
+import org.sirix.xquery.stream.json.TemporalSirixJsonItemStream;
 
 /**
  * <p>
@@ -23,6 +29,7 @@ import org.sirix.xquery.json.TemporalJsonDBItem;
  * </p>
  * <ul>
  * <li><code>jn:all-times($doc as json-item()) as json-item()*</code></li>
+ * <li><code>jn:all-times($doc as json-item(), $distinctVersions as xs:boolean?) as json-item()*</code></li>
  * </ul>
  *
  * @author Johannes Lichtenberger
@@ -46,6 +53,7 @@ public final class AllTimes extends AbstractFunction {
   @Override
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
+    final boolean distinctVersions = FunUtil.getBoolean(args, 1, "distinctVersions", false, false);
 
     return new LazySequence() {
       @Override
@@ -56,7 +64,15 @@ public final class AllTimes extends AbstractFunction {
           @Override
           public Item next() {
             if (s == null) {
-              s = item.getAllTimes();
+              if (distinctVersions) {
+                final JsonNodeReadOnlyTrx rtx = item.getTrx();
+                rtx.moveTo(item.getNodeKey());
+                s = new TemporalSirixJsonItemStream(
+                    new AllTimeAxis<>(rtx.getResourceManager(), rtx, Versions.DISTINCT),
+                    ((JsonDBItem) item).getCollection());
+              } else {
+                s = item.getAllTimes();
+              }
             }
             return (Item) s.next();
           }
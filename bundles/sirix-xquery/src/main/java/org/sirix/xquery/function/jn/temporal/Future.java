@@ -12,9 +12,15 @@ import org.brackit.xquery.xdm.Iter;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Signature;
 import org.brackit.xquery.xdm.Stream;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.axis.temporal.FutureAxis;
+import org.sirix.axis.temporal.Versions;
 import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.function.jn.JNFun;
+import org.sirix.xquery.json.JsonDBItem;
 import org.sirix.xquery.json.TemporalJsonDBItem;
+import org.sirix.xquery.stream.json.TemporalSirixJsonItemStream;
 
 /**
  * <p>
@@ -24,6 +30,7 @@ import org.sirix.xquery.json.TemporalJsonDBItem;
  * </p>
  * <ul>
  * <li><code>jn:future($doc as json-item(), $includeSelf as xs:boolean?) as json-item()*</code></li>
+ * <li><code>jn:future($doc as json-item(), $includeSelf as xs:boolean?, $distinctVersions as xs:boolean?) as json-item()*</code></li>
  * </ul>
  *
  * @author Johannes Lichtenberger
@@ -48,6 +55,7 @@ public final class Future extends AbstractFunction {
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
     final boolean includeSelf = FunUtil.getBoolean(args, 1, "includeSelf", false, false);
+    final boolean distinctVersions = FunUtil.getBoolean(args, 2, "distinctVersions", false, false);
 
     return new LazySequence() {
       @Override
@@ -58,7 +66,16 @@ public final class Future extends AbstractFunction {
           @Override
           public Item next() {
             if (s == null) {
-              s = item.getFuture(includeSelf);
+              if (distinctVersions) {
+                final JsonNodeReadOnlyTrx rtx = item.getTrx();
+                rtx.moveTo(item.getNodeKey());
+                final IncludeSelf include = includeSelf ? IncludeSelf.YES : IncludeSelf.NO;
+                s = new TemporalSirixJsonItemStream(
+                    new FutureAxis<>(rtx.getResourceManager(), rtx, include, Versions.DISTINCT),
+                    ((JsonDBItem) item).getCollection());
+              } else {
+                s = item.getFuture(includeSelf);
+              }
             }
             return (Item) s.next();
           }
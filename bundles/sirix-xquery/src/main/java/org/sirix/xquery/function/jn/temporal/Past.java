@@ -12,9 +12,15 @@ import org.brackit.xquery.xdm.Iter;
 import org.brackit.xquery.xdm.Sequence;
 import org.brackit.xquery.xdm.Signature;
 import org.brackit.xquery.xdm.Stream;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.Versions;
 import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.function.jn.JNFun;
+import org.sirix.xquery.json.JsonDBItem;
 import org.sirix.xquery.json.TemporalJsonDBItem;
+import org.sirix.xquery.stream.json.TemporalSirixJsonItemStream;
 
 /**
  * <p>
@@ -23,6 +29,7 @@ import org.sirix.xquery.json.TemporalJsonDBItem;
  * </p>
  * <ul>
  * <li><code>jn:past($doc as json-item(), $includeSelf as xs:boolean?) as json-item()*</code></li>
+ * <li><code>jn:past($doc as json-item(), $includeSelf as xs:boolean?, $distinctVersions as xs:boolean?) as json-item()*</code></li>
  * </ul>
  *
  * @author Johannes Lichtenberger
@@ -47,6 +54,7 @@ public final class Past extends AbstractFunction {
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
     final boolean includeSelf = FunUtil.getBoolean(args, 1, "includeSelf", false, false);
+    final boolean distinctVersions = FunUtil.getBoolean(args, 2, "distinctVersions", false, false);
 
     return new LazySequence() {
       @Override
@@ -57,7 +65,16 @@ public final class Past extends AbstractFunction {
           @Override
           public Item next() {
             if (s == null) {
-              s = item.getEarlier(includeSelf);
+              if (distinctVersions) {
+                final JsonNodeReadOnlyTrx rtx = item.getTrx();
+                rtx.moveTo(item.getNodeKey());
+                final IncludeSelf include = includeSelf ? IncludeSelf.YES : IncludeSelf.NO;
+                s = new TemporalSirixJsonItemStream(
+                    new PastAxis<>(rtx.getResourceManager(), rtx, include, Versions.DISTINCT),
+                    ((JsonDBItem) item).getCollection());
+              } else {
+                s = item.getEarlier(includeSelf);
+              }
             }
             return (Item) s.next();
           }
@@ -0,0 +1,130 @@
+package org.sirix.xquery.json;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.axis.ChildAxis;
+
+/**
+ * The node keys of the elements of a JSON array by their positions, such that an element is reached
+ * in constant time instead of by stepping through its left siblings. Indexes of arrays in read-only
+ * transactions are cached per revision, as the revision can't change anymore (a resource, which is
+ * recreated at the same path, has a new UUID and thus doesn't hit the indexes of the removed one).
+ */
+final class JsonArrayPositionIndex {
+
+  /** The minimum number of elements to build an index, smaller arrays are scanned instead. */
+  static final int MIN_CHILD_COUNT = 32;
+
+  /** The maximum number of elements in all cached indexes. */
+  private static final long MAX_CACHED_ELEMENTS = 1 << 22;
+
+  /** The cached indexes of arrays in read-only transactions. */
+  private static final Cache<NodeCacheKey, JsonArrayPositionIndex> CACHE =
+      Caffeine.newBuilder()
+              .maximumWeight(MAX_CACHED_ELEMENTS)
+              .<NodeCacheKey, JsonArrayPositionIndex>weigher((key, index) -> index.size())
+              .build();
+
+  /** The node keys of the elements in document order. */
+  private final long[] nodeKeys;
+
+  private JsonArrayPositionIndex(final long[] nodeKeys) {
+    this.nodeKeys = nodeKeys;
+  }
+
+  /**
+   * Get the index of the array the transaction is located at.
+   *
+   * @param rtx the transaction located at an array, which is located there again afterwards
+   * @return the index or {@code null}, if the array is modifiable or it has less than
+   *     {@link #MIN_CHILD_COUNT} elements
+   */
+  static JsonArrayPositionIndex of(final JsonNodeReadOnlyTrx rtx) {
+    if (rtx instanceof JsonNodeTrx || rtx.getChildCount() < MIN_CHILD_COUNT) {
+      return null;
+    }
+
+    return CACHE.get(NodeCacheKey.of(rtx), unused -> build(rtx));
+  }
+
+  private static JsonArrayPositionIndex build(final JsonNodeReadOnlyTrx rtx) {
+    final long arrayNodeKey = rtx.getNodeKey();
+    final int childCount = (int) rtx.getChildCount();
+    final long[] nodeKeys = new long[childCount];
+
+    int i = 0;
+    for (boolean moved = rtx.moveToFirstChild().hasMoved(); moved && i < childCount;
+        moved = rtx.moveToRightSibling().hasMoved()) {
+      nodeKeys[i++] = rtx.getNodeKey();
+    }
+    rtx.moveTo(arrayNodeKey);
+
+    return new JsonArrayPositionIndex(nodeKeys);
+  }
+
+  /**
+   * Get the number of elements.
+   *
+   * @return the number of elements
+   */
+  int size() {
+    return nodeKeys.length;
+  }
+
+  /**
+   * Get the node key of the element at the given position.
+   *
+   * @param position the position of the element
+   * @return the node key or {@code -1}, if the position is out of bounds
+   */
+  long getNodeKey(final int position) {
+    return position >= 0 && position < nodeKeys.length ? nodeKeys[position] : -1;
+  }
+
+  /**
+   * Looks up the index of an array once and moves to its elements, either by the index or, for small
+   * or modifiable arrays, by stepping through the children.
+   */
+  static final class Lookup {
+
+    /** The index, {@code null} if not looked up yet or for small or modifiable arrays. */
+    private JsonArrayPositionIndex index;
+
+    /** Determines if the index has been looked up. */
+    private boolean isLookedUp;
+
+    /**
+     * Move to the element at the given position.
+     *
+     * @param rtx the transaction located at the array
+     * @param position the position of the element
+     * @return {@code true}, if the transaction has been moved to the element, {@code false} if the
+     *     position is out of bounds
+     */
+    boolean moveToElement(final JsonNodeReadOnlyTrx rtx, final int position) {
+      if (!isLookedUp) {
+        index = JsonArrayPositionIndex.of(rtx);
+        isLookedUp = true;
+      }
+
+      if (index != null) {
+        final long elementNodeKey = index.getNodeKey(position);
+        return elementNodeKey != -1 && rtx.moveTo(elementNodeKey).hasMoved();
+      }
+
+      final var axis = new ChildAxis(rtx);
+
+      for (int i = 0; i < position && axis.hasNext(); i++)
+        axis.next();
+
+      if (axis.hasNext()) {
+        axis.next();
+        return true;
+      }
+
+      return false;
+    }
+  }
+}
@@ -18,7 +18,6 @@ import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
-import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
 import org.sirix.axis.temporal.FirstAxis;
@@ -56,6 +55,9 @@ public final class JsonDBArraySlice extends AbstractArray
 
   private final int toIndex;
 
+  /** Moves to the elements by their positions. */
+  private final JsonArrayPositionIndex.Lookup positionIndexLookup = new JsonArrayPositionIndex.Lookup();
+
 
   /**
    * Constructor.
@@ -326,18 +328,7 @@ public final class JsonDBArraySlice extends AbstractArray
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++)
-      axis.next();
-
-    if (axis.hasNext()) {
-      axis.next();
-
-      return jsonUtil.getSequence(rtx, collection);
-    }
-
-    return null;
+    return positionIndexLookup.moveToElement(rtx, index) ? jsonUtil.getSequence(rtx, collection) : null;
   }
 
   @Override
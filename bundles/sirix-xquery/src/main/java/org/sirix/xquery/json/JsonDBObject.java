@@ -59,6 +59,11 @@ public final class JsonDBObject extends AbstractItem
 
   private JsonItemFactory jsonUtil;
 
+  /** The key directory of wide objects, {@code null} if not built yet or for small or modifiable objects. */
+  private JsonObjectKeyDirectory keyDirectory;
+
+  /** Determines if the key directory has been looked up. */
+  private boolean isKeyDirectoryLookedUp;
 
   /**
    * Constructor.
@@ -301,10 +306,35 @@ public final class JsonDBObject extends AbstractItem
     throw new QueryException(ErrorCode.ERR_ITEM_HAS_NO_TYPED_VALUE, "The boolean value of record items is undefined");
   }
 
+  /**
+   * Get the key directory of this object. The transaction must be located at the object.
+   *
+   * @return the key directory or {@code null}, if the object is small or modifiable
+   */
+  private JsonObjectKeyDirectory getKeyDirectory() {
+    if (!isKeyDirectoryLookedUp) {
+      keyDirectory = JsonObjectKeyDirectory.of(rtx);
+      isKeyDirectoryLookedUp = true;
+    }
+    return keyDirectory;
+  }
+
   @Override
   public Sequence get(QNm field) {
     moveRtx();
 
+    final JsonObjectKeyDirectory directory = getKeyDirectory();
+
+    if (directory != null) {
+      final long objectKeyNodeKey = directory.getNodeKey(field);
+
+      if (objectKeyNodeKey == -1)
+        return null;
+
+      rtx.moveTo(objectKeyNodeKey);
+      return jsonUtil.getSequence(rtx.moveToFirstChild().trx(), collection);
+    }
+
     final var axis = new FilterAxis<JsonNodeReadOnlyTrx>(new ChildAxis(rtx), new JsonNameFilter(rtx, field));;
 
     if (axis.hasNext()) {
@@ -326,6 +356,18 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private Sequence getValueSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
+    final JsonObjectKeyDirectory directory = getKeyDirectory();
+
+    if (directory != null) {
+      final long objectKeyNodeKey = directory.getNodeKey(index);
+
+      if (objectKeyNodeKey == -1)
+        return null;
+
+      rtx.moveTo(objectKeyNodeKey);
+      return jsonUtil.getSequence(rtx.moveToFirstChild().trx(), collection);
+    }
+
     final var axis = new ChildAxis(rtx);
 
     for (int i = 0; i < index && axis.hasNext(); i++)
@@ -382,6 +424,11 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private QNm getNameAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
+    final JsonObjectKeyDirectory directory = getKeyDirectory();
+
+    if (directory != null)
+      return directory.getName(index);
+
     final var axis = new ChildAxis(rtx);
 
     try (final var stream = new SirixJsonStream(axis, collection)) {
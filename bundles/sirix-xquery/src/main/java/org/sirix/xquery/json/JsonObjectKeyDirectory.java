@@ -0,0 +1,123 @@
+package org.sirix.xquery.json;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The object keys of a JSON object in document order, such that fields are found by their name and
+ * by their position in constant time. Directories of objects in read-only transactions are cached
+ * per revision, as the revision can't change anymore (a resource, which is recreated at the same
+ * path, has a new UUID and thus doesn't hit the directories of the removed one).
+ */
+final class JsonObjectKeyDirectory {
+
+  /** The minimum number of object keys to build a directory, smaller objects are scanned instead. */
+  static final int MIN_CHILD_COUNT = 32;
+
+  /** The maximum number of object keys in all cached directories. */
+  private static final long MAX_CACHED_KEYS = 1 << 20;
+
+  /** The cached directories of objects in read-only transactions. */
+  private static final Cache<NodeCacheKey, JsonObjectKeyDirectory> CACHE =
+      Caffeine.newBuilder()
+              .maximumWeight(MAX_CACHED_KEYS)
+              .<NodeCacheKey, JsonObjectKeyDirectory>weigher((key, directory) -> directory.size())
+              .build();
+
+  /** The node keys of the object keys in document order. */
+  private final long[] nodeKeys;
+
+  /** The names of the object keys in document order. */
+  private final QNm[] names;
+
+  /** The positions of the object keys by their names (the first one for duplicate names). */
+  private final Map<QNm, Integer> positions;
+
+  private JsonObjectKeyDirectory(final long[] nodeKeys, final QNm[] names) {
+    this.nodeKeys = nodeKeys;
+    this.names = names;
+    positions = new HashMap<>((int) (names.length / 0.75f) + 1);
+    for (int i = 0; i < names.length; i++) {
+      positions.putIfAbsent(names[i], i);
+    }
+  }
+
+  /**
+   * Get the directory of the object the transaction is located at.
+   *
+   * @param rtx the transaction located at an object, which is located there again afterwards
+   * @return the directory or {@code null}, if the object is modifiable or it has less than
+   *     {@link #MIN_CHILD_COUNT} keys
+   */
+  static JsonObjectKeyDirectory of(final JsonNodeReadOnlyTrx rtx) {
+    if (rtx instanceof JsonNodeTrx || rtx.getChildCount() < MIN_CHILD_COUNT) {
+      return null;
+    }
+
+    return CACHE.get(NodeCacheKey.of(rtx), unused -> build(rtx));
+  }
+
+  private static JsonObjectKeyDirectory build(final JsonNodeReadOnlyTrx rtx) {
+    final long objectNodeKey = rtx.getNodeKey();
+    final int childCount = (int) rtx.getChildCount();
+    final long[] nodeKeys = new long[childCount];
+    final QNm[] names = new QNm[childCount];
+
+    int i = 0;
+    for (boolean moved = rtx.moveToFirstChild().hasMoved(); moved && i < childCount;
+        moved = rtx.moveToRightSibling().hasMoved()) {
+      nodeKeys[i] = rtx.getNodeKey();
+      names[i] = rtx.getName();
+      i++;
+    }
+    rtx.moveTo(objectNodeKey);
+
+    return new JsonObjectKeyDirectory(nodeKeys, names);
+  }
+
+  /**
+   * Get the number of object keys.
+   *
+   * @return the number of object keys
+   */
+  int size() {
+    return nodeKeys.length;
+  }
+
+  /**
+   * Get the node key of the object key with the given name.
+   *
+   * @param name the name of the object key
+   * @return the node key or {@code -1}, if the object has no such key
+   */
+  long getNodeKey(final QNm name) {
+    final Integer position = positions.get(name);
+    return position == null ? -1 : nodeKeys[position];
+  }
+
+  /**
+   * Get the node key of the object key at the given position.
+   *
+   * @param position the position of the object key
+   * @return the node key or {@code -1}, if the position is out of bounds
+   */
+  long getNodeKey(final int position) {
+    return position >= 0 && position < nodeKeys.length ? nodeKeys[position] : -1;
+  }
+
+  /**
+   * Get the name of the object key at the given position.
+   *
+   * @param position the position of the object key
+   * @return the name or {@code null}, if the position is out of bounds
+   */
+  QNm getName(final int position) {
+    return position >= 0 && position < names.length ? names[position] : null;
+  }
+}
@@ -0,0 +1,62 @@
+package org.sirix.xquery.json;
+
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifies a node in a revision of a resource, such that data derived from the node can be cached
+ * across transactions, as long as the revision is read-only. The resource is identified by its UUID
+ * in addition to its path and ID, as both are reused, if a database or resource is removed and
+ * created again.
+ */
+final class NodeCacheKey {
+
+  private final Path resource;
+
+  private final long resourceId;
+
+  private final UUID resourceUUID;
+
+  private final int revision;
+
+  private final long nodeKey;
+
+  private NodeCacheKey(final Path resource, final long resourceId, final UUID resourceUUID, final int revision,
+      final long nodeKey) {
+    this.resource = resource;
+    this.resourceId = resourceId;
+    this.resourceUUID = resourceUUID;
+    this.revision = revision;
+    this.nodeKey = nodeKey;
+  }
+
+  /**
+   * Create the key of the node the transaction is located at.
+   *
+   * @param rtx the read-only transaction
+   * @return the key of the current node
+   */
+  static NodeCacheKey of(final JsonNodeReadOnlyTrx rtx) {
+    final var resourceConfig = rtx.getResourceManager().getResourceConfig();
+    return new NodeCacheKey(resourceConfig.getResource(), resourceConfig.getID(), resourceConfig.getUUID(),
+        rtx.getRevisionNumber(), rtx.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof NodeCacheKey))
+      return false;
+
+    final NodeCacheKey otherKey = (NodeCacheKey) other;
+    return resourceId == otherKey.resourceId && revision == otherKey.revision && nodeKey == otherKey.nodeKey
+        && resource.equals(otherKey.resource) && resourceUUID.equals(otherKey.resourceUUID);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(resource, resourceId, resourceUUID, revision, nodeKey);
+  }
+}
@@ -0,0 +1,57 @@
+package org.sirix.xquery.stream.json;
+
+import com.google.common.base.MoreObjects;
+import org.brackit.xquery.xdm.Item;
+import org.brackit.xquery.xdm.Stream;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.axis.AbstractTemporalAxis;
+import org.sirix.xquery.json.JsonDBCollection;
+import org.sirix.xquery.json.JsonItemFactory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link Stream}, wrapping a temporal axis, which creates the item matching the kind of the node in
+ * each revision.
+ */
+public final class TemporalSirixJsonItemStream implements Stream<Item> {
+
+  /** Temporal axis. */
+  private final AbstractTemporalAxis<JsonNodeReadOnlyTrx, JsonNodeTrx> axis;
+
+  /** The {@link JsonDBCollection} reference. */
+  private final JsonDBCollection collection;
+
+  /** Creates the items. */
+  private final JsonItemFactory jsonUtil;
+
+  /**
+   * Constructor.
+   *
+   * @param axis       the temporal axis
+   * @param collection {@link JsonDBCollection} the items belong to
+   */
+  public TemporalSirixJsonItemStream(final AbstractTemporalAxis<JsonNodeReadOnlyTrx, JsonNodeTrx> axis,
+      final JsonDBCollection collection) {
+    this.axis = checkNotNull(axis);
+    this.collection = checkNotNull(collection);
+    jsonUtil = new JsonItemFactory();
+  }
+
+  @Override
+  public Item next() {
+    if (axis.hasNext()) {
+      return jsonUtil.getSequence(axis.next(), collection);
+    }
+    return null;
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("axis", axis).toString();
+  }
+}
@@ -27,4 +27,67 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
     final String openQuery = "for $i in jn:doc('mycol.jn','mydoc.jn')=>value=>key=>boolean return { \"bla\": $i, \"nodekey\": sdb:nodekey($i) }";
     test(storeQuery, indexQuery, openQuery,"{\"bla\":true,\"nodekey\":12}");
   }
+
+  @Test
+  public void testWideObjectFieldAccess() throws IOException {
+    final var json = new StringBuilder("{");
+    for (int i = 0; i < 40; i++) {
+      json.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":").append(i);
+    }
+    json.append("}");
+    final String storeQuery = "jn:store('mycol.jn','mydoc.jn','" + json + "')";
+    final String openQuery = "let $o := jn:doc('mycol.jn','mydoc.jn') return { \"first\": $o=>k0, \"last\": $o=>k39, \"middle\": $o=>k17 }";
+    test(storeQuery, openQuery, "{\"first\":0,\"last\":39,\"middle\":17}");
+  }
+
+  @Test
+  public void testWideObjectFieldAccessAfterRecreation() throws IOException {
+    final var json = new StringBuilder("{");
+    final var reversedJson = new StringBuilder("{");
+    for (int i = 0; i < 40; i++) {
+      json.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":").append(i);
+      reversedJson.append(i == 0 ? "" : ",").append("\"k").append(39 - i).append("\":").append(39 - i);
+    }
+    json.append("}");
+    reversedJson.append("}");
+    final String openQuery = "let $o := jn:doc('mycol.jn','mydoc.jn') return { \"first\": $o=>k0, \"last\": $o=>k39 }";
+    test("jn:store('mycol.jn','mydoc.jn','" + json + "')", openQuery, "{\"first\":0,\"last\":39}");
+
+    // The directory of the removed resource at the same path mustn't be used anymore.
+    setUp();
+    test("jn:store('mycol.jn','mydoc.jn','" + reversedJson + "')", openQuery, "{\"first\":0,\"last\":39}");
+  }
+
+  @Test
+  public void testLargeArrayElementAccess() throws IOException {
+    final var json = new StringBuilder("[");
+    for (int i = 0; i < 40; i++) {
+      json.append(i == 0 ? "" : ",").append(i == 20 ? "{\"k\":20}" : String.valueOf(i));
+    }
+    json.append("]");
+    final String storeQuery = "jn:store('mycol.jn','mydoc.jn','" + json + "')";
+    final String openQuery = "let $a := jn:doc('mycol.jn','mydoc.jn') return { \"first\": $a[[0]], \"last\": $a[[39]], \"object\": $a[[20]]=>k }";
+    test(storeQuery, openQuery, "{\"first\":0,\"last\":39,\"object\":20}");
+  }
+
+  @Test
+  public void testLargeArrayElementAccessAfterRecreation() throws IOException {
+    final var json = new StringBuilder("[");
+    final var shiftedJson = new StringBuilder("[{\"k\":0}");
+    for (int i = 0; i < 40; i++) {
+      json.append(i == 0 ? "" : ",").append(i);
+      if (i > 0) {
+        shiftedJson.append(",").append(i);
+      }
+    }
+    json.append("]");
+    shiftedJson.append("]");
+    final String openQuery = "let $a := jn:doc('mycol.jn','mydoc.jn') return { \"second\": $a[[1]], \"last\": $a[[39]] }";
+    test("jn:store('mycol.jn','mydoc.jn','" + json + "')", openQuery, "{\"second\":1,\"last\":39}");
+
+    // The index of the removed resource at the same path mustn't be used anymore, as the node keys
+    // of the elements are shifted by the object.
+    setUp();
+    test("jn:store('mycol.jn','mydoc.jn','" + shiftedJson + "')", openQuery, "{\"second\":1,\"last\":39}");
+  }
 }